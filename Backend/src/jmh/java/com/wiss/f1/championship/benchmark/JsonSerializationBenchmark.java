@@ -0,0 +1,82 @@
+package com.wiss.f1.championship.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.wiss.f1.championship.dto.LeaderboardDTO;
+import com.wiss.f1.championship.dto.RaceResponseDTO;
+import com.wiss.f1.championship.dto.StandingRowDTO;
+import com.wiss.f1.championship.entity.Race;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Benchmarks für die JSON-Serialisierung der größten Antworten
+ * (Leaderboard und Rennliste) mit demselben Jackson wie Spring MVC.
+ *
+ * Ausführen: mvn -Pbenchmarks test-compile exec:exec -Djmh.args="JsonSerializationBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"100", "10000"})
+    public int users;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private List<LeaderboardDTO> leaderboard;
+    private List<RaceResponseDTO> races;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SeasonGenerator.Season season = SeasonGenerator.generate(users, 11L);
+
+        leaderboard = new ArrayList<>(users);
+        List<StandingRowDTO> rows = season.standingRows();
+        for (int i = 0; i < rows.size(); i++) {
+            StandingRowDTO row = rows.get(i);
+            leaderboard.add(new LeaderboardDTO(row.username(), row.displayName(), row.points(), i + 1));
+        }
+
+        races = new ArrayList<>();
+        for (Race race : season.races()) {
+            races.add(new RaceResponseDTO(race.getId(), race.getName(), race.getDate(), race.getTrack(),
+                    race.getWeather(), race.getTyres(), race.getStatus(), race.getResultsOrder()));
+        }
+    }
+
+    @Benchmark
+    public byte[] leaderboard() {
+        return jsonMapper.writeValueAsBytes(leaderboard);
+    }
+
+    @Benchmark
+    public byte[] races() {
+        return jsonMapper.writeValueAsBytes(races);
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * JMH-Benchmarks für die Jackson-Serialisierung von LeaderboardDTO- und
+ * RaceResponseDTO-Listen auf synthetischen Saisons.
+ */
@@ -0,0 +1,106 @@
+package com.wiss.f1.championship.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.wiss.f1.championship.entity.AppUser;
+import com.wiss.f1.championship.security.JwtService;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Benchmarks für JwtService (läuft bei jedem Login bzw. jedem Request).
+ *
+ * - legacyExtractClaims: bisheriges Verhalten (Schlüssel und Parser pro Aufruf neu)
+ * - extractClaims: vorberechneter Schlüssel, wiederverwendeter Parser
+ * - rejectMalformed / rejectExpired: schnelle Ablehnung ohne Signaturprüfung
+ *
+ * Ausführen: mvn -Pbenchmarks test-compile exec:exec -Djmh.args="JwtBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    // Nur für Benchmarks, mindestens 256 Bit für HS256
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+
+    private JwtService jwtService;
+    private AppUser user;
+    private String token;
+    private String expiredToken;
+    private String malformedToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtService = new JwtService(SECRET);
+        user = SeasonGenerator.user(1L);
+        token = jwtService.generateToken(user);
+
+        long now = System.currentTimeMillis();
+        expiredToken = Jwts.builder()
+                .setSubject(user.getUsername())
+                .setIssuedAt(new Date(now - 2 * 86400000L))
+                .setExpiration(new Date(now - 86400000L))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+        malformedToken = "not-a-jwt";
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public Claims extractClaims() {
+        return jwtService.extractClaims(token);
+    }
+
+    /**
+     * Bisherige Implementierung von JwtService.extractClaims als Vergleichsbasis.
+     */
+    @Benchmark
+    public Claims legacyExtractClaims() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public boolean rejectMalformed() {
+        return jwtService.isWellFormed(malformedToken);
+    }
+
+    @Benchmark
+    public boolean rejectExpired() {
+        return jwtService.isWellFormed(expiredToken) && jwtService.isExpiredUnverified(expiredToken);
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * JMH-Benchmarks für JwtService: Token erzeugen, Claims lesen (vorher/nachher)
+ * und die schnelle Ablehnung kaputter bzw. abgelaufener Tokens.
+ */
@@ -0,0 +1,101 @@
+package com.wiss.f1.championship.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.wiss.f1.championship.dto.LeaderboardDTO;
+import com.wiss.f1.championship.repository.UserStandingRepository;
+import com.wiss.f1.championship.service.LeaderboardPage;
+import com.wiss.f1.championship.service.LeaderboardService;
+import com.wiss.f1.championship.service.LeaderboardSnapshot;
+import com.wiss.f1.championship.service.RankingMode;
+import com.wiss.f1.championship.service.ScoringEngine;
+
+/**
+ * Benchmarks für Punkteberechnung und Leaderboard.
+ *
+ * - scoreSeason: komplette Saison (N User × 24 Rennen × 10 Tipps) bewerten, wie beim Standings-Rebuild
+ * - buildSnapshot: Leaderboard-Snapshot aus den Standings-Zeilen aufbauen
+ * - fullLeaderboard / top50 / denseTop50: Lesepfade des LeaderboardControllers
+ *
+ * Ausführen: mvn -Pbenchmarks test-compile exec:exec -Djmh.args="LeaderboardBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LeaderboardBenchmark {
+
+    @Param({"1000", "10000"})
+    public int users;
+
+    private final ScoringEngine scoringEngine = new ScoringEngine();
+
+    private SeasonGenerator.Season season;
+    private UserStandingRepository standingRepository;
+    private LeaderboardService warmService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        season = SeasonGenerator.generate(users, 42L);
+        standingRepository = RepositoryStubs.stub(UserStandingRepository.class,
+                Map.of("findLeaderboardRows", args -> season.standingRows()));
+
+        warmService = new LeaderboardService(standingRepository, event -> { });
+        warmService.getSnapshot();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        warmService.invalidate();
+    }
+
+    @Benchmark
+    public Map<Long, Integer> scoreSeason() {
+        return scoringEngine.scoreSeason(season.results(), season.tips());
+    }
+
+    @Benchmark
+    public LeaderboardSnapshot buildSnapshot() {
+        // Neuer Service → erster Zugriff baut den Snapshot synchron
+        return new LeaderboardService(standingRepository, event -> { }).getSnapshot();
+    }
+
+    @Benchmark
+    public List<LeaderboardDTO> fullLeaderboard() {
+        return warmService.getLeaderboard();
+    }
+
+    @Benchmark
+    public LeaderboardPage top50() {
+        return warmService.getPage(null, 50, RankingMode.COMPETITION);
+    }
+
+    @Benchmark
+    public LeaderboardPage denseTop50() {
+        return warmService.getPage(null, 50, RankingMode.DENSE);
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * JMH-Benchmarks für ScoringEngine.scoreSeason und den LeaderboardService
+ * (Snapshot-Aufbau, volle Liste, Top-N) auf synthetischen Saisons.
+ */
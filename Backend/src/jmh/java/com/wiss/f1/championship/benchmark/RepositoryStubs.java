@@ -0,0 +1,43 @@
+package com.wiss.f1.championship.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Minimale Repository-Stubs für Benchmarks.
+ *
+ * Mockito würde pro Aufruf Invocation-Objekte aufzeichnen und damit die Messung
+ * verfälschen. Ein dynamischer Proxy beantwortet nur die benötigten Methoden
+ * (per Methodenname) und wirft bei allen anderen eine Exception.
+ */
+public final class RepositoryStubs {
+
+    private RepositoryStubs() {
+    }
+
+    /**
+     * @param type    Repository-Interface
+     * @param answers Methodenname → Antwort (bekommt die Argumente)
+     * @return Stub des Repositories
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            if (method.getName().equals("toString")) {
+                return "Stub(" + type.getSimpleName() + ")";
+            }
+            throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+        });
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * RepositoryStubs erzeugt leichte Proxy-Stubs für Spring-Data-Repositories,
+ * damit Service-Benchmarks nur die Service-Logik messen.
+ */
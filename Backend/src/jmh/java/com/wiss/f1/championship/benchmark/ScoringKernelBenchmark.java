@@ -0,0 +1,135 @@
+package com.wiss.f1.championship.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.wiss.f1.championship.service.RaceResultTable;
+import com.wiss.f1.championship.service.ScoringEngine;
+
+/**
+ * Vergleicht die Map-basierte Punkteberechnung (calculateRacePoints) mit dem
+ * primitiven Kernel (scoreTip + RaceResultTable).
+ *
+ * Ein "Tipp-Satz" sind die 10 Positionen eines Users für ein Rennen.
+ * Beide Varianten starten mit denselben Rohdaten (DriverIds pro Position),
+ * damit der Aufbau der HashMap pro Tipp-Satz mitgemessen wird – genau das
+ * passierte bisher pro User und Rennen.
+ *
+ * Ausführen: mvn -Pbenchmarks test-compile exec:exec -Djmh.args="ScoringKernelBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoringKernelBenchmark {
+
+    private static final int RACES = 24;
+    private static final int DRIVERS = 20;
+    private static final int POSITIONS = RaceResultTable.SCORED_POSITIONS;
+
+    @Param({"10000", "100000", "1000000"})
+    public int tipSets;
+
+    private final ScoringEngine scoringEngine = new ScoringEngine();
+
+    // Offizielle Ergebnisse pro Rennen in beiden Darstellungen
+    private List<Map<Integer, Long>> officialMaps;
+    private RaceResultTable[] officialTables;
+
+    // Tipp-Sätze: Rennen pro Satz, DriverIds flach (Satz * 10 + Position - 1)
+    private int[] tipRace;
+    private long[] tipDrivers;
+
+    // Wiederverwendeter Puffer für den Kernel
+    private long[] predicted;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(2024);
+
+        List<Long> driverIds = new ArrayList<>();
+        for (long id = 1; id <= DRIVERS; id++) {
+            driverIds.add(id);
+        }
+
+        officialMaps = new ArrayList<>(RACES);
+        officialTables = new RaceResultTable[RACES];
+        for (int race = 0; race < RACES; race++) {
+            Collections.shuffle(driverIds, random);
+            Map<Integer, Long> official = new HashMap<>();
+            for (int pos = 1; pos <= DRIVERS; pos++) {
+                official.put(pos, driverIds.get(pos - 1));
+            }
+            officialMaps.add(official);
+            officialTables[race] = RaceResultTable.of(official);
+        }
+
+        tipRace = new int[tipSets];
+        tipDrivers = new long[tipSets * POSITIONS];
+        for (int set = 0; set < tipSets; set++) {
+            tipRace[set] = random.nextInt(RACES);
+            Collections.shuffle(driverIds, random);
+            for (int pos = 0; pos < POSITIONS; pos++) {
+                tipDrivers[set * POSITIONS + pos] = driverIds.get(pos);
+            }
+        }
+
+        predicted = new long[POSITIONS + 1];
+    }
+
+    /**
+     * Bisherige Variante: HashMap pro Tipp-Satz, geboxte IDs, lineare Suche in values().
+     */
+    @Benchmark
+    public long mapBased() {
+        long total = 0;
+        for (int set = 0; set < tipSets; set++) {
+            Map<Integer, Long> predictedMap = new HashMap<>();
+            for (int pos = 1; pos <= POSITIONS; pos++) {
+                predictedMap.put(pos, tipDrivers[set * POSITIONS + pos - 1]);
+            }
+            total += scoringEngine.calculateRacePoints(predictedMap, officialMaps.get(tipRace[set]));
+        }
+        return total;
+    }
+
+    /**
+     * Neue Variante: primitiver Puffer und RaceResultTable, keine Allokation pro Tipp-Satz.
+     */
+    @Benchmark
+    public long primitiveKernel() {
+        long total = 0;
+        for (int set = 0; set < tipSets; set++) {
+            System.arraycopy(tipDrivers, set * POSITIONS, predicted, 1, POSITIONS);
+            total += scoringEngine.scoreTip(predicted, officialTables[tipRace[set]]);
+        }
+        return total;
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * JMH-Benchmark für die Punkteberechnung mit 10k/100k/1M Tipp-Sätzen:
+ * mapBased (bisherige HashMap-Variante) gegen primitiveKernel (scoreTip).
+ * Läuft nur im Maven-Profil "benchmarks".
+ */
@@ -0,0 +1,149 @@
+package com.wiss.f1.championship.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.wiss.f1.championship.dto.ResultRowDTO;
+import com.wiss.f1.championship.dto.StandingRowDTO;
+import com.wiss.f1.championship.dto.TipHistoryRowDTO;
+import com.wiss.f1.championship.dto.TipRowDTO;
+import com.wiss.f1.championship.entity.AppUser;
+import com.wiss.f1.championship.entity.Driver;
+import com.wiss.f1.championship.entity.Race;
+import com.wiss.f1.championship.entity.RaceStatus;
+import com.wiss.f1.championship.entity.Role;
+import com.wiss.f1.championship.service.ScoringEngine;
+
+/**
+ * Erzeugt reproduzierbare, synthetische Saisons für die Benchmarks.
+ *
+ * Eine Saison besteht aus N Usern × R Rennen × 10 Tipps, offiziellen Ergebnissen
+ * (alle Fahrer klassiert) und den daraus berechneten Standings. Gleicher Seed →
+ * gleiche Saison, damit Messungen zwischen Builds vergleichbar bleiben.
+ */
+public final class SeasonGenerator {
+
+    public static final int DEFAULT_RACES = 24;
+    public static final int DEFAULT_DRIVERS = 20;
+    public static final int TIPS_PER_RACE = 10;
+
+    private SeasonGenerator() {
+    }
+
+    /**
+     * Synthetische Saison.
+     *
+     * @param drivers      Fahrer mit IDs 1..D
+     * @param races        geschlossene Rennen mit IDs 1..R
+     * @param results      offizielle Ergebnisse als Projektionen
+     * @param tips         Tipps als Projektionen, sortiert nach userId, raceId
+     * @param standingRows Leaderboard-Zeilen, sortiert wie UserStandingRepository.findLeaderboardRows()
+     */
+    public record Season(List<Driver> drivers,
+                         List<Race> races,
+                         List<ResultRowDTO> results,
+                         List<TipRowDTO> tips,
+                         List<StandingRowDTO> standingRows) {
+    }
+
+    public static Season generate(int users, long seed) {
+        return generate(users, DEFAULT_RACES, DEFAULT_DRIVERS, seed);
+    }
+
+    /**
+     * @param users   Anzahl User
+     * @param races   Anzahl Rennen
+     * @param drivers Anzahl Fahrer (mindestens 10)
+     * @param seed    Zufalls-Seed
+     * @return generierte Saison
+     */
+    public static Season generate(int users, int races, int drivers, long seed) {
+        Random random = new Random(seed);
+
+        List<Driver> driverList = new ArrayList<>(drivers);
+        List<Long> driverIds = new ArrayList<>(drivers);
+        for (long id = 1; id <= drivers; id++) {
+            driverList.add(withId(new Driver("Driver " + id, "Team " + ((id + 1) / 2)), id));
+            driverIds.add(id);
+        }
+
+        List<Race> raceList = new ArrayList<>(races);
+        List<ResultRowDTO> results = new ArrayList<>(races * drivers);
+        for (long raceId = 1; raceId <= races; raceId++) {
+            Collections.shuffle(driverIds, random);
+            List<String> order = new ArrayList<>(drivers);
+            for (int pos = 1; pos <= drivers; pos++) {
+                long driverId = driverIds.get(pos - 1);
+                results.add(new ResultRowDTO(raceId, pos, driverId));
+                order.add("Driver " + driverId);
+            }
+            Race race = withId(new Race("Grand Prix " + raceId, LocalDate.of(2025, 3, 1).plusWeeks(raceId),
+                    "Track " + raceId, "sunny", RaceStatus.CLOSED), raceId);
+            race.setResultsOrder(order);
+            raceList.add(race);
+        }
+
+        List<TipRowDTO> tips = new ArrayList<>(users * races * TIPS_PER_RACE);
+        for (long userId = 1; userId <= users; userId++) {
+            for (long raceId = 1; raceId <= races; raceId++) {
+                Collections.shuffle(driverIds, random);
+                for (int pos = 1; pos <= TIPS_PER_RACE; pos++) {
+                    tips.add(new TipRowDTO(userId, raceId, pos, driverIds.get(pos - 1)));
+                }
+            }
+        }
+
+        Map<Long, Integer> totals = new ScoringEngine().scoreSeason(results, tips);
+        List<StandingRowDTO> standingRows = new ArrayList<>(users);
+        for (long userId = 1; userId <= users; userId++) {
+            standingRows.add(new StandingRowDTO(userId, "user" + userId, "User " + userId,
+                    totals.getOrDefault(userId, 0)));
+        }
+        standingRows.sort(Comparator.comparing(StandingRowDTO::points).reversed()
+                .thenComparing(StandingRowDTO::userId));
+
+        return new Season(driverList, raceList, results, tips, standingRows);
+    }
+
+    /**
+     * Erzeugt die Tipp-Historie eines Users für alle Rennen (für getAllTipsForUser),
+     * sortiert nach Rennen und Position wie TipRepository.findTipHistoryByUserId.
+     */
+    public static List<TipHistoryRowDTO> tipHistoryForUser(Season season, long seed) {
+        Random random = new Random(seed);
+        List<Driver> drivers = new ArrayList<>(season.drivers());
+        List<TipHistoryRowDTO> rows = new ArrayList<>(season.races().size() * TIPS_PER_RACE);
+        LocalDateTime now = LocalDateTime.now();
+        for (Race race : season.races()) {
+            Collections.shuffle(drivers, random);
+            for (int pos = 1; pos <= TIPS_PER_RACE; pos++) {
+                rows.add(new TipHistoryRowDTO(race.getId(), pos, drivers.get(pos - 1).getName(), now));
+            }
+        }
+        return rows;
+    }
+
+    public static AppUser user(long id) {
+        return withId(new AppUser("user" + id, "user" + id + "@example.com", "secret", Role.PLAYER), id);
+    }
+
+    // Entities haben keinen ID-Setter; wie in den Unit-Tests per Reflection setzen
+    private static <T> T withId(T entity, long id) {
+        ReflectionTestUtils.setField(entity, "id", id);
+        return entity;
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * SeasonGenerator liefert reproduzierbare Saisons (N User × 24 Rennen × 10 Tipps)
+ * als Projektionen, Entities und Leaderboard-Zeilen für alle JMH-Benchmarks.
+ */
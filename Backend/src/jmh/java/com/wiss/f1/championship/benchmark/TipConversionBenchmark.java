@@ -0,0 +1,94 @@
+package com.wiss.f1.championship.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.wiss.f1.championship.dto.TipHistoryRowDTO;
+import com.wiss.f1.championship.dto.TipResponseDTO;
+import com.wiss.f1.championship.entity.AppUser;
+import com.wiss.f1.championship.entity.Race;
+import com.wiss.f1.championship.entity.RaceStatus;
+import com.wiss.f1.championship.entity.Tip;
+import com.wiss.f1.championship.repository.DriverRepository;
+import com.wiss.f1.championship.repository.TipRepository;
+import com.wiss.f1.championship.service.DriverService;
+import com.wiss.f1.championship.service.TipService;
+
+/**
+ * Benchmarks für die Konvertierungslogik im TipService.
+ *
+ * - saveOrUpdateTip: 10 Fahrernamen → Tip-Entities (offenes Rennen, keine Neuberechnung)
+ * - getAllTipsForUser: 24 Rennen × 10 Tipp-Zeilen (Projektion) → TipResponseDTOs
+ *
+ * Die Repositories sind Proxy-Stubs ohne DB, gemessen wird nur die Service-Logik.
+ *
+ * Ausführen: mvn -Pbenchmarks test-compile exec:exec -Djmh.args="TipConversionBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TipConversionBenchmark {
+
+    private TipService tipService;
+    private AppUser user;
+    private Race openRace;
+    private List<String> driverNames;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SeasonGenerator.Season season = SeasonGenerator.generate(1, 7L);
+        user = SeasonGenerator.user(1L);
+        List<TipHistoryRowDTO> userTips = SeasonGenerator.tipHistoryForUser(season, 7L);
+
+        DriverRepository driverRepository = RepositoryStubs.stub(DriverRepository.class, Map.of(
+                "findAll", args -> season.drivers()));
+
+        TipRepository tipRepository = RepositoryStubs.stub(TipRepository.class, Map.of(
+                "deleteByUserIdAndRaceIdIn", args -> 0,
+                "insertAll", args -> ((List<?>) args[0]).size(),
+                "findTipHistoryByUserId", args -> userTips));
+
+        tipService = new TipService(tipRepository, new DriverService(driverRepository, event -> { }), event -> { });
+
+        openRace = season.races().getFirst();
+        openRace.setStatus(RaceStatus.TIPPABLE);
+
+        driverNames = new ArrayList<>();
+        for (int i = 0; i < SeasonGenerator.TIPS_PER_RACE; i++) {
+            driverNames.add(season.drivers().get(i).getName());
+        }
+    }
+
+    @Benchmark
+    public List<Tip> saveOrUpdateTip() {
+        return tipService.saveOrUpdateTip(user, openRace, driverNames);
+    }
+
+    @Benchmark
+    public List<TipResponseDTO> getAllTipsForUser() {
+        return tipService.getAllTipsForUser(user);
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * JMH-Benchmarks für TipService: Umwandlung von Fahrernamen in Tipps und
+ * Gruppierung aller Tipps eines Users in TipResponseDTOs.
+ */
@@ -0,0 +1,161 @@
+/* ============================================================
+   Lasttest: GET /api/leaderboard und GET /api/tips/user/{id}
+   ------------------------------------------------------------
+   Vergleicht Durchsatz und p99-Latenz zwischen Plattform-Threads
+   und virtuellen Threads (spring.threads.virtual.enabled).
+
+   Ablauf pro Modus:
+     VIRTUAL_THREADS=false mvn spring-boot:run   (bzw. true)
+     k6 run -e MODE=platform src/loadtest/k6/leaderboard-tips.js
+     k6 run -e MODE=virtual  src/loadtest/k6/leaderboard-tips.js
+
+   Optionen (-e NAME=wert):
+     BASE_URL   Backend-URL (Standard http://localhost:8080)
+     VUS        gleichzeitige virtuelle User (Standard 200)
+     DURATION   Dauer pro Szenario (Standard 60s)
+     USERS      Anzahl Test-User, werden bei Bedarf registriert (Standard 20)
+     MODE       Bezeichnung für die Auswertung (platform | virtual)
+
+   Ergebnis: Konsolen-Zusammenfassung plus results-<MODE>.json
+   ============================================================ */
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '200', 10);
+const DURATION = __ENV.DURATION || '60s';
+const USERS = parseInt(__ENV.USERS || '20', 10);
+const MODE = __ENV.MODE || 'unknown';
+const PASSWORD = 'loadtest123';
+
+// Beide Endpunkte laufen nacheinander mit gleicher Last, damit die Werte
+// pro Endpunkt vergleichbar bleiben (Tags "endpoint" in den Thresholds)
+export const options = {
+    scenarios: {
+        leaderboard: {
+            executor: 'constant-vus',
+            exec: 'leaderboard',
+            vus: VUS,
+            duration: DURATION,
+            tags: { endpoint: 'leaderboard' },
+        },
+        tips: {
+            executor: 'constant-vus',
+            exec: 'tips',
+            vus: VUS,
+            duration: DURATION,
+            startTime: DURATION,
+            tags: { endpoint: 'tips' },
+        },
+    },
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        // Nur zur Anzeige in der Zusammenfassung pro Endpunkt, keine harte Grenze
+        'http_req_duration{endpoint:leaderboard}': ['p(99)>=0'],
+        'http_req_duration{endpoint:tips}': ['p(99)>=0'],
+        'http_reqs{endpoint:leaderboard}': ['count>=0'],
+        'http_reqs{endpoint:tips}': ['count>=0'],
+        // 503 = Connection-Pool erschöpft (siehe GlobalExceptionHandler)
+        'http_req_failed': ['rate<0.01'],
+    },
+};
+
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+/**
+ * Loggt die Test-User ein (registriert sie beim ersten Lauf).
+ * @returns Liste von { id, token }
+ */
+export function setup() {
+    const users = [];
+    for (let i = 0; i < USERS; i++) {
+        const username = `loadtest${i}`;
+        let res = http.post(`${BASE_URL}/api/auth/login`,
+            JSON.stringify({ identifier: username, password: PASSWORD }), { headers: JSON_HEADERS });
+
+        if (res.status !== 200) {
+            res = http.post(`${BASE_URL}/api/auth/register`,
+                JSON.stringify({
+                    username,
+                    email: `${username}@example.com`,
+                    password: PASSWORD,
+                    displayName: `Loadtest ${i}`,
+                }), { headers: JSON_HEADERS });
+        }
+
+        check(res, { 'login/register ok': (r) => r.status === 200 || r.status === 201 });
+        const body = res.json();
+        users.push({ id: body.id, token: body.token });
+    }
+    return users;
+}
+
+function authHeaders(user) {
+    return { headers: { Authorization: `Bearer ${user.token}` } };
+}
+
+function pickUser(users) {
+    return users[(__VU + __ITER) % users.length];
+}
+
+export function leaderboard(users) {
+    const res = http.get(`${BASE_URL}/api/leaderboard`, authHeaders(pickUser(users)));
+    check(res, { 'leaderboard 200': (r) => r.status === 200 });
+}
+
+export function tips(users) {
+    const user = pickUser(users);
+    const res = http.get(`${BASE_URL}/api/tips/user/${user.id}`, authHeaders(user));
+    check(res, { 'tips 200': (r) => r.status === 200 });
+}
+
+/**
+ * Schreibt die Kennzahlen pro Endpunkt zusätzlich als JSON (results-<MODE>.json).
+ */
+export function handleSummary(data) {
+    const pick = (endpoint) => {
+        const duration = data.metrics[`http_req_duration{endpoint:${endpoint}}`];
+        const reqs = data.metrics[`http_reqs{endpoint:${endpoint}}`];
+        return {
+            requests: reqs ? reqs.values.count : 0,
+            throughputPerSecond: reqs ? reqs.values.count / parseDuration(DURATION) : 0,
+            p99Ms: duration ? duration.values['p(99)'] : null,
+            medianMs: duration ? duration.values.med : null,
+        };
+    };
+
+    const result = {
+        mode: MODE,
+        vus: VUS,
+        duration: DURATION,
+        failedRate: data.metrics.http_req_failed ? data.metrics.http_req_failed.values.rate : null,
+        leaderboard: pick('leaderboard'),
+        tips: pick('tips'),
+    };
+
+    return {
+        stdout: JSON.stringify(result, null, 2) + '\n',
+        [`results-${MODE}.json`]: JSON.stringify(result, null, 2),
+    };
+}
+
+// "60s" / "2m" → Sekunden
+function parseDuration(value) {
+    const match = /^(\d+)(s|m)$/.exec(value);
+    if (!match) {
+        return 1;
+    }
+    return parseInt(match[1], 10) * (match[2] === 'm' ? 60 : 1);
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (leaderboard-tips.js)
+   ------------------------------------------------------------
+   - k6-Lasttest für /api/leaderboard und /api/tips/user/{id}.
+   - Zwei Szenarien mit gleicher Last nacheinander, getaggt pro Endpunkt.
+   - setup() loggt Test-User ein bzw. registriert sie.
+   - handleSummary() liefert Requests, Durchsatz/s, Median und p99 pro
+     Endpunkt als results-<MODE>.json für den Vergleich
+     Plattform-Threads ↔ virtuelle Threads.
+   ============================================================ */
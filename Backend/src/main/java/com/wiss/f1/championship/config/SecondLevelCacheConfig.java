@@ -0,0 +1,97 @@
+package com.wiss.f1.championship.config;
+
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.wiss.f1.championship.entity.Driver;
+import com.wiss.f1.championship.entity.Race;
+
+/**
+ * Konfiguration des Second-Level-Caches von Hibernate.
+ *
+ * Provider ist Caffeine über die JCache-API, also ein lokaler Cache im Prozess.
+ * Alle Regionen werden hier fest angelegt (Hibernate legt mit missing_cache_strategy=fail
+ * keine eigenen, unbegrenzten Caches an) und zeichnen Statistiken auf, die
+ * GET /api/admin/caches ausgibt.
+ *
+ * Die Schalter für Hibernate selbst (Second-Level- und Query-Cache an, Region-Factory)
+ * stehen in application.properties; hier wird nur der CacheManager übergeben.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    // Region für gecachte Query-Ergebnisse (Hibernate-Standardname)
+    public static final String QUERY_RESULTS_REGION = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+
+    // Letzte Änderung pro Tabelle, entscheidet ob ein Query-Ergebnis noch gilt
+    public static final String UPDATE_TIMESTAMPS_REGION = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    // Alle Regionen, die der CacheManager enthält (Reihenfolge der Admin-Ausgabe)
+    public static final List<String> REGIONS =
+            List.of(Race.CACHE_REGION, Driver.CACHE_REGION, QUERY_RESULTS_REGION, UPDATE_TIMESTAMPS_REGION);
+
+    /**
+     * Eigener JCache-CacheManager mit begrenzten Regionen.
+     * Jeder Anwendungskontext bekommt eine eigene URI, damit sich z.B. mehrere
+     * Testkontexte in derselben JVM keine Caches teilen.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(
+            @Value("${second-level-cache.races.max-size:1000}") long racesMaxSize,
+            @Value("${second-level-cache.drivers.max-size:500}") long driversMaxSize,
+            @Value("${second-level-cache.query-results.max-size:1000}") long queryResultsMaxSize) {
+
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("f1-championship:second-level:" + UUID.randomUUID()),
+                        SecondLevelCacheConfig.class.getClassLoader());
+
+        cacheManager.createCache(Race.CACHE_REGION, region(OptionalLong.of(racesMaxSize)));
+        cacheManager.createCache(Driver.CACHE_REGION, region(OptionalLong.of(driversMaxSize)));
+        cacheManager.createCache(QUERY_RESULTS_REGION, region(OptionalLong.of(queryResultsMaxSize)));
+        // Ein Eintrag pro Tabelle; darf nie verdrängt werden, sonst gelten alte Query-Ergebnisse
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, region(OptionalLong.empty()));
+        return cacheManager;
+    }
+
+    /**
+     * Übergibt den CacheManager an Hibernate (statt einen eigenen aus der Default-URI zu holen).
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+
+    /**
+     * Konfiguration einer Region: optional größenbegrenzt, mit Caffeine-Statistiken
+     * (Treffer, Fehlgriffe, Verdrängungen) und JCache-Statistiken.
+     */
+    static CaffeineConfiguration<Object, Object> region(OptionalLong maximumSize) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maximumSize);
+        configuration.setNativeStatisticsEnabled(true);
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * SecondLevelCacheConfig legt den lokalen Second-Level-Cache von Hibernate an: ein
+ * Caffeine-JCache-CacheManager mit den Regionen "races", "drivers", Query-Ergebnissen
+ * (alle größenbegrenzt) und Update-Zeitstempeln (unbegrenzt), jeweils mit Statistiken.
+ * Hibernate bekommt den CacheManager über einen HibernatePropertiesCustomizer.
+ */
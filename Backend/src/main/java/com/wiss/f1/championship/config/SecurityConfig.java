@@ -2,6 +2,8 @@ package com.wiss.f1.championship.config;
 
 import java.util.Arrays;
 
+import jakarta.servlet.DispatcherType;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -45,6 +47,12 @@ public class SecurityConfig {
                         // OPTIONS-Requests erlauben (CORS Preflight)
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
+                        // SSE (/api/leaderboard/stream): Das Stream-Ende läuft als asynchroner
+                        // Dispatch, in dem der JWT-Filter nicht erneut authentifiziert. Der Request
+                        // wurde beim Öffnen bereits geprüft; ohne diese Regel scheitert der Abschluss
+                        // an der schon gesendeten Antwort. Gilt ebenso für die Export-Streams.
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Auth-Endpunkte (Login/Registrierung) offen lassen
                         .requestMatchers("/api/auth/**").permitAll()
 
@@ -69,6 +77,9 @@ public class SecurityConfig {
                         // Results: nur Admin
                         .requestMatchers("/api/results/**").hasRole("ADMIN")
 
+                        // Leaderboard-Export nur für Admin
+                        .requestMatchers(HttpMethod.GET, "/api/leaderboard/export").hasRole("ADMIN")
+
                         // Leaderboard, Tips, User-Profile: Nutzer müssen eingeloggt sein
                         .requestMatchers("/api/leaderboard/**").authenticated()
                         .requestMatchers("/api/tips/**").authenticated()
@@ -115,8 +126,9 @@ public class SecurityConfig {
         // Credentials wie Cookies und Authorization-Header erlauben
         configuration.setAllowCredentials(true);
 
-        // Sichtbare Response-Header
-        configuration.setExposedHeaders(Arrays.asList("Authorization", "Content-Type"));
+        // Sichtbare Response-Header (ETag für bedingte Requests, Paginierung am Leaderboard)
+        configuration.setExposedHeaders(Arrays.asList(
+                "Authorization", "Content-Type", "ETag", "X-Next-Cursor", "X-Total-Count"));
 
         // Preflight-Cache
         configuration.setMaxAge(3600L);
@@ -0,0 +1,45 @@
+package com.wiss.f1.championship.config;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import com.wiss.f1.championship.service.LeaderboardService;
+import com.wiss.f1.championship.service.ScoringJobService;
+
+/**
+ * Initialisiert die materialisierten Standings beim Start.
+ *
+ * Sind race_scores und user_standings noch leer (z.B. erster Start nach
+ * Einführung der Tabellen), werden sie einmalig aus Tipps und Ergebnissen
+ * aufgebaut. Danach pflegt der StandingsService sie inkrementell.
+ *
+ * Der Aufbau läuft über den ScoringJobService, damit er nicht gleichzeitig mit einem
+ * bereits eingereihten Job dieselben Tabellen schreibt.
+ */
+@Component
+public class StandingsInitializer implements ApplicationRunner {
+
+    private final ScoringJobService scoringJobService;
+    private final LeaderboardService leaderboardService;
+
+    public StandingsInitializer(ScoringJobService scoringJobService, LeaderboardService leaderboardService) {
+        this.scoringJobService = scoringJobService;
+        this.leaderboardService = leaderboardService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (scoringJobService.rebuildIfEmpty()) {
+            // Falls das Leaderboard schon vorher gelesen wurde
+            leaderboardService.invalidate();
+        }
+    }
+}
+
+/* ------------------------------------------------------------------------------------------
+   ZUSAMMENFASSUNG
+   ------------------------------------------------------------------------------------------
+   Der StandingsInitializer baut beim Start die Standings-Tabellen auf, falls sie leer sind.
+   Spätere Änderungen werden inkrementell pro Rennen vom StandingsService übernommen.
+------------------------------------------------------------------------------------------- */
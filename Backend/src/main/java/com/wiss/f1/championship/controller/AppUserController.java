@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.wiss.f1.championship.dto.LeaderboardDTO;
 import com.wiss.f1.championship.dto.UpdateProfileDTO;
 import com.wiss.f1.championship.dto.UserProfileDTO;
 import com.wiss.f1.championship.entity.AppUser;
@@ -52,20 +53,13 @@ public class AppUserController {
         // Aktuellen User aus dem SecurityContext laden
         AppUser currentUser = (AppUser) authentication.getPrincipal();
 
-        // Punkte für den User über das Leaderboard berechnen
-        int points = leaderboardService.calculateUserPoints(currentUser);
+        // Punkte und Rang per Index aus dem Leaderboard-Snapshot (keine DB-Abfrage)
+        LeaderboardDTO standing = leaderboardService.getEntryForUser(currentUser.getId());
 
         // Profil-Daten in DTO umwandeln
-        UserProfileDTO profile = new UserProfileDTO(
-                currentUser.getUsername(),
-                currentUser.getDisplayName(),
-                currentUser.getEmail(),
-                currentUser.getFavoriteTeam(),
-                currentUser.getCountry(),
-                currentUser.getBio(),
-                points,
-                currentUser.getRole().name()
-        );
+        UserProfileDTO profile = UserProfileDTO.of(currentUser,
+                standing != null ? standing.getPoints() : 0,
+                standing != null ? standing.getRank() : null);
 
         return ResponseEntity.ok(profile);
     }
@@ -99,20 +93,13 @@ public class AppUserController {
                 updateProfileDTO.getBio()
         );
 
-        // Punkte neu berechnen
-        int points = leaderboardService.calculateUserPoints(user);
+        // Punkte und Rang aus dem Leaderboard-Snapshot
+        LeaderboardDTO standing = leaderboardService.getEntryForUser(user.getId());
 
         // Aktualisiertes Profil als DTO zurückgeben
-        UserProfileDTO profile = new UserProfileDTO(
-                user.getUsername(),
-                user.getDisplayName(),
-                user.getEmail(),
-                user.getFavoriteTeam(),
-                user.getCountry(),
-                user.getBio(),
-                points,
-                user.getRole().name()
-        );
+        UserProfileDTO profile = UserProfileDTO.of(user,
+                standing != null ? standing.getPoints() : 0,
+                standing != null ? standing.getRank() : null);
 
         return ResponseEntity.ok(profile);
     }
@@ -129,5 +116,5 @@ public class AppUserController {
    - Eigenes Profil aktualisieren (/me, PUT)
 
    Eingeloggte Benutzer werden aus dem SecurityContext ausgelesen.
-   Zusätzlich werden die User-Punkte über den LeaderboardService berechnet und im Profil angezeigt.
+   Zusätzlich werden Punkte und Rang per Index aus dem Leaderboard-Snapshot gelesen und im Profil angezeigt.
 ------------------------------------------------------------------------------------------- */
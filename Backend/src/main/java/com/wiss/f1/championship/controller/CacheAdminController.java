@@ -0,0 +1,70 @@
+package com.wiss.f1.championship.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.wiss.f1.championship.dto.CacheStatsDTO;
+import com.wiss.f1.championship.security.PrincipalCache;
+import com.wiss.f1.championship.service.SecondLevelCacheService;
+
+@RestController
+@RequestMapping("/api/admin/caches")
+public class CacheAdminController {
+
+    // Cache für geprüfte JWTs und deren AppUser
+    private final PrincipalCache principalCache;
+
+    // Second-Level-Cache von Hibernate (Rennen, Fahrer, Query-Ergebnisse)
+    private final SecondLevelCacheService secondLevelCacheService;
+
+    public CacheAdminController(PrincipalCache principalCache, SecondLevelCacheService secondLevelCacheService) {
+        this.principalCache = principalCache;
+        this.secondLevelCacheService = secondLevelCacheService;
+    }
+
+    /**
+     * Liefert Kennzahlen aller In-Memory-Caches (Größe, Treffer, Fehlgriffe, Verdrängungen).
+     */
+    @GetMapping
+    public List<CacheStatsDTO> getCacheStats() {
+        List<CacheStatsDTO> stats = new ArrayList<>();
+        stats.add(principalCache.stats());
+        stats.addAll(secondLevelCacheService.stats());
+        return stats;
+    }
+
+    /**
+     * Leert den Principal-Cache. Alle Tokens werden beim nächsten Request neu geprüft.
+     */
+    @DeleteMapping("/" + PrincipalCache.NAME)
+    public ResponseEntity<Void> clearPrincipalCache() {
+        principalCache.invalidateAll();
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Leert den Second-Level-Cache. Rennen und Fahrer werden beim nächsten Zugriff neu geladen.
+     */
+    @DeleteMapping("/" + SecondLevelCacheService.NAME)
+    public ResponseEntity<Void> clearSecondLevelCache() {
+        secondLevelCacheService.invalidateAll();
+        return ResponseEntity.noContent().build();
+    }
+}
+
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (CacheAdminController.java)
+   ------------------------------------------------------------
+   - Admin-Endpunkte für In-Memory-Caches:
+       * GET    /api/admin/caches                → Kennzahlen aller Caches
+       * DELETE /api/admin/caches/jwt-principals → Principal-Cache leeren
+       * DELETE /api/admin/caches/second-level   → Hibernate-Second-Level-Cache leeren
+   - Geschützt über /api/admin/** (nur ADMIN)
+   ============================================================ */
@@ -0,0 +1,86 @@
+package com.wiss.f1.championship.controller;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.wiss.f1.championship.service.ResourceVersion;
+
+/**
+ * Bedingte GETs für die öffentlichen Lese-Endpunkte (Rennen, Fahrer).
+ *
+ * Passt If-None-Match bzw. If-Modified-Since zum aktuellen Versionsstand,
+ * wird 304 ohne Body geantwortet und der Supplier (Service-Aufruf) gar nicht
+ * erst ausgeführt.
+ */
+final class ConditionalGet {
+
+    // Öffentlich cachebar (auch von Proxies), aber vor jeder Nutzung beim Server revalidieren
+    static final CacheControl PUBLIC_REVALIDATE = CacheControl.noCache().cachePublic();
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * @param version         Versionsstand, vor dem Laden der Daten gelesen
+     * @param ifNoneMatch     Header If-None-Match (darf null sein)
+     * @param ifModifiedSince Header If-Modified-Since (darf null sein)
+     * @param body            lädt die Daten, nur wenn sich etwas geändert hat
+     * @return 304 ohne Body oder 200 mit Daten; beide mit ETag, Last-Modified und Cache-Control
+     */
+    static <T> ResponseEntity<T> respond(ResourceVersion version, String ifNoneMatch, String ifModifiedSince,
+                                         Supplier<T> body) {
+        return respond(version, ifNoneMatch, ifModifiedSince, response -> response.body(body.get()));
+    }
+
+    /**
+     * Für Einzelressourcen: Wie respond(…, Supplier), aber ein leeres Ergebnis wird
+     * zu 404 ohne ETag, Last-Modified und Cache-Control (nichts, was ein Cache
+     * für eine unbekannte ID aufbewahren sollte).
+     * @param body lädt die Ressource, nur wenn sich etwas geändert hat
+     * @return 304 ohne Body, 200 mit Daten oder 404
+     */
+    static <T> ResponseEntity<T> respondIfPresent(ResourceVersion version, String ifNoneMatch, String ifModifiedSince,
+                                                  Supplier<Optional<T>> body) {
+        if (version.isNotModified(ifNoneMatch, ifModifiedSince)) {
+            return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), version).build();
+        }
+        return body.get()
+                .map(found -> withValidators(ResponseEntity.ok(), version).body(found))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Wie respond(…, Supplier), aber die 200-Antwort baut der Aufrufer selbst
+     * (z.B. mit zusätzlichen Paginierungs-Headern).
+     * @param response erhält den Builder mit ETag, Last-Modified und Cache-Control
+     */
+    static <T> ResponseEntity<T> respond(ResourceVersion version, String ifNoneMatch, String ifModifiedSince,
+                                         Function<ResponseEntity.BodyBuilder, ResponseEntity<T>> response) {
+        if (version.isNotModified(ifNoneMatch, ifModifiedSince)) {
+            return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), version).build();
+        }
+        return response.apply(withValidators(ResponseEntity.ok(), version));
+    }
+
+    private static ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder response,
+                                                             ResourceVersion version) {
+        return response.eTag(version.getETag())
+                .lastModified(version.getLastModified())
+                .cacheControl(PUBLIC_REVALIDATE);
+    }
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (ConditionalGet.java)
+   ------------------------------------------------------------
+   - Hilfsklasse für ETag / Last-Modified / 304 Not Modified
+   - Wird von RaceController und DriverController genutzt
+   - Variante mit eigenem Builder für zusätzliche Header (Kalenderseiten)
+   - Variante für Einzelressourcen: unbekannte ID → 404 ohne Validatoren
+   - Cache-Control: public, no-cache (immer revalidieren)
+   ============================================================ */
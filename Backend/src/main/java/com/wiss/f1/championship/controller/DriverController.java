@@ -2,6 +2,9 @@ package com.wiss.f1.championship.controller;
 
 import com.wiss.f1.championship.entity.Driver;
 import com.wiss.f1.championship.service.DriverService;
+import com.wiss.f1.championship.service.ResourceVersionService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -13,26 +16,39 @@ public class DriverController {
     // Service zum Verwalten der Fahrer-Daten
     private final DriverService driverService;
 
-    public DriverController(DriverService driverService) {
+    // Versionsstand der Fahrer für ETag / Last-Modified
+    private final ResourceVersionService resourceVersionService;
+
+    public DriverController(DriverService driverService, ResourceVersionService resourceVersionService) {
         this.driverService = driverService;
+        this.resourceVersionService = resourceVersionService;
     }
 
     /**
      * Liefert alle verfügbaren Fahrer inklusive Team-Informationen.
      * Wird häufig im Frontend benötigt, z.B. für Tipps oder Anzeigen.
+     * Unverändert seit dem letzten Abruf (If-None-Match / If-Modified-Since) → 304 ohne Body.
      */
     @GetMapping
-    public List<Driver> getAllDrivers() {
-        return driverService.getAllDrivers();
+    public ResponseEntity<List<Driver>> getAllDrivers(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.IF_MODIFIED_SINCE, required = false) String ifModifiedSince) {
+        return ConditionalGet.respond(resourceVersionService.drivers(), ifNoneMatch, ifModifiedSince,
+                driverService::getAllDrivers);
     }
 
     /**
      * Holt einen Fahrer anhand seiner ID.
-     * Falls Fahrer nicht existiert: Rückgabe null (könnte später angepasst werden zu 404).
+     * Falls Fahrer nicht existiert: 404 ohne ETag/Cache-Control.
+     * Bedingte GETs wie bei der Liste.
      */
     @GetMapping("/{id}")
-    public Driver getDriverById(@PathVariable Long id) {
-        return driverService.getDriverById(id).orElse(null);
+    public ResponseEntity<Driver> getDriverById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.IF_MODIFIED_SINCE, required = false) String ifModifiedSince) {
+        return ConditionalGet.respondIfPresent(resourceVersionService.drivers(), ifNoneMatch, ifModifiedSince,
+                () -> driverService.getDriverById(id));
     }
 
     /**
@@ -74,5 +90,6 @@ public class DriverController {
        * POST /api/drivers       → Neuen Fahrer anlegen
        * PUT /api/drivers/{id}   → Fahrer aktualisieren
        * DELETE /api/drivers/{id}→ Fahrer löschen
+   - GET-Endpunkte mit ETag/Last-Modified → 304 Not Modified (ResourceVersionService).
    - Nutzt DriverService für alle Datenbankoperationen.
    ============================================================ */
@@ -1,10 +1,30 @@
 package com.wiss.f1.championship.controller;
 
 import com.wiss.f1.championship.dto.LeaderboardDTO;
+import com.wiss.f1.championship.dto.LeaderboardPositionDTO;
+import com.wiss.f1.championship.entity.AppUser;
+import com.wiss.f1.championship.service.ExportFormat;
+import com.wiss.f1.championship.service.LeaderboardExportService;
+import com.wiss.f1.championship.service.LeaderboardPage;
 import com.wiss.f1.championship.service.LeaderboardService;
+import com.wiss.f1.championship.service.LeaderboardSnapshot;
+import com.wiss.f1.championship.service.LiveUpdateService;
+import com.wiss.f1.championship.service.RankingMode;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -12,21 +32,151 @@ import java.util.List;
 @RequestMapping("/api/leaderboard")
 public class LeaderboardController {
 
-    // Service, der die Berechnung und Sortierung der Leaderboard-Daten übernimmt
+    // Seitengröße, wenn nur ?after= ohne ?limit= angegeben wird
+    private static final int DEFAULT_PAGE_SIZE = 50;
+
+    // Response-Header für die Paginierung
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    // Service, der den Leaderboard-Snapshot bereitstellt
     private final LeaderboardService leaderboardService;
 
-    public LeaderboardController(LeaderboardService leaderboardService) {
+    // Live-Stream (SSE) für Änderungen an der Rangliste
+    private final LiveUpdateService liveUpdateService;
+
+    // Gestreamter Export der kompletten Rangliste (nur Admin)
+    private final LeaderboardExportService leaderboardExportService;
+
+    public LeaderboardController(LeaderboardService leaderboardService, LiveUpdateService liveUpdateService,
+                                 LeaderboardExportService leaderboardExportService) {
         this.leaderboardService = leaderboardService;
+        this.liveUpdateService = liveUpdateService;
+        this.leaderboardExportService = leaderboardExportService;
     }
 
     /**
      * Liefert die aktuelle Rangliste aller Spieler mit Punkten.
      * Rückgabe ist eine Liste von LeaderboardDTOs:
      * [{username, displayName, points, rank}, ...]
+     *
+     * Optionale Parameter:
+     * - limit: nur die ersten N Einträge (Top-N) bzw. Seitengröße
+     * - after: Cursor aus X-Next-Cursor der Vorseite (Keyset-Paginierung)
+     * - ranking: competition (Standard, 1-2-2-4) oder dense (1-2-2-3)
+     *
+     * Bei Paginierung enthält X-Next-Cursor den Cursor der nächsten Seite
+     * (fehlt auf der letzten Seite) und X-Total-Count die Anzahl aller Spieler.
+     *
+     * Die Antwort trägt ETag und Last-Modified des Snapshots. Schickt der Client
+     * diese per If-None-Match bzw. If-Modified-Since zurück und hat sich nichts
+     * geändert, kommt 304 ohne Body.
      */
     @GetMapping
-    public List<LeaderboardDTO> getLeaderboard() {
-        return leaderboardService.getLeaderboard();
+    public ResponseEntity<List<LeaderboardDTO>> getLeaderboard(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "competition") String ranking,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.IF_MODIFIED_SINCE, required = false) String ifModifiedSince) {
+
+        RankingMode mode = RankingMode.fromParam(ranking);
+        LeaderboardSnapshot snapshot = leaderboardService.getSnapshot();
+
+        // Privat (pro User) cachebar, aber immer beim Server revalidieren
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+
+        if (snapshot.isNotModified(ifNoneMatch, ifModifiedSince)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.getETag())
+                    .lastModified(snapshot.getLastModified())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        // Ohne Paginierung: komplette Rangliste wie bisher
+        if (limit == null && after == null) {
+            return ResponseEntity.ok()
+                    .eTag(snapshot.getETag())
+                    .lastModified(snapshot.getLastModified())
+                    .cacheControl(cacheControl)
+                    .body(leaderboardService.getLeaderboard(mode));
+        }
+
+        LeaderboardPage page = leaderboardService.getPage(after, limit != null ? limit : DEFAULT_PAGE_SIZE, mode);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(page.eTag())
+                .lastModified(page.lastModified())
+                .cacheControl(cacheControl)
+                .header(TOTAL_COUNT_HEADER, String.valueOf(page.totalPlayers()));
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.entries());
+    }
+
+    /**
+     * Live-Stream der Rangliste (Server-Sent Events).
+     * - Event "snapshot": kompletter Stand beim Verbinden
+     * - Event "diff": nur geänderte Einträge und entfernte Usernames pro Aktualisierung
+     * Die Event-ID ist die Snapshot-Version. Response: 503, wenn die maximale Anzahl
+     * Abonnenten erreicht ist.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamLeaderboard() {
+        SseEmitter emitter = liveUpdateService.subscribeLeaderboard();
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        // Nginx & Co. sollen den Stream nicht puffern
+        return ResponseEntity.ok().header("X-Accel-Buffering", "no").body(emitter);
+    }
+
+    /**
+     * Exportiert die komplette Rangliste als Datei (nur Admin, z.B. für Preisauszahlungen).
+     * Beispiel: GET /api/leaderboard/export?format=csv
+     *
+     * Parameter:
+     * - format: csv (Standard, eine Spalte pro gewertetem Rennen) oder ndjson (ein JSON-Objekt pro Zeile)
+     * - ranking: competition (Standard) oder dense
+     *
+     * Die Zeilen werden direkt aus der Datenbank in den Response geschrieben; der Speicherbedarf
+     * hängt nicht von der Anzahl Spieler ab. Ungültige Parameter → 400, bevor gestreamt wird.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportLeaderboard(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "competition") String ranking) {
+
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        RankingMode mode = RankingMode.fromParam(ranking);
+
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("leaderboard." + exportFormat.getParamValue())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .cacheControl(CacheControl.noStore())
+                .body(out -> leaderboardExportService.export(exportFormat, mode, out));
+    }
+
+    /**
+     * Liefert die eigene Position mit bis zu N Spielern davor und danach.
+     * Beispiel: GET /api/leaderboard/me?neighbours=2 → 5 Einträge rund um den eigenen Rang
+     */
+    @GetMapping("/me")
+    public ResponseEntity<LeaderboardPositionDTO> getMyPosition(
+            @RequestParam(defaultValue = "2") int neighbours) {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AppUser)) {
+            return ResponseEntity.status(401).build();
+        }
+        AppUser currentUser = (AppUser) authentication.getPrincipal();
+
+        return ResponseEntity.ok(leaderboardService.getPositionWithNeighbours(currentUser.getId(), neighbours));
     }
 }
 
@@ -36,6 +186,11 @@ public class LeaderboardController {
    ------------------------------------------------------------
    - Stellt Endpunkt für das Leaderboard bereit:
        * GET /api/leaderboard → Liste aller Spieler nach Punkten sortiert
-   - Nutzt LeaderboardService, um Punkte zu berechnen und Ranglisten zu erstellen.
-   - Rückgabe erfolgt in DTOs (LeaderboardDTO).
+       * GET /api/leaderboard?limit=N&after=CURSOR&ranking=dense → Top-N / Keyset-Seite
+       * GET /api/leaderboard/me?neighbours=N → eigene Position mit N Nachbarn je Seite
+       * GET /api/leaderboard/stream → Live-Änderungen als Server-Sent Events
+       * GET /api/leaderboard/export?format=csv|ndjson → komplette Rangliste als Datei (Admin)
+   - Nutzt den Snapshot des LeaderboardService (kein Rechnen pro Anfrage).
+   - ETag/If-None-Match und Last-Modified/If-Modified-Since → 304 Not Modified für pollende Clients.
+   - Rückgabe erfolgt in DTOs (LeaderboardDTO); der Export wird gestreamt.
    ============================================================ */
@@ -1,15 +1,19 @@
 package com.wiss.f1.championship.controller;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.wiss.f1.championship.dto.OfficialResultDTO;
 import com.wiss.f1.championship.entity.Driver;
 import com.wiss.f1.championship.entity.OfficialResult;
 import com.wiss.f1.championship.entity.Race;
@@ -45,8 +49,30 @@ public class OfficialResultController {
         return resultService.getResultsForRace(race);
     }
 
+    /**
+     * Ersetzt die komplette Klassifizierung eines Rennens in einem Aufruf.
+     * Positionen und Fahrer müssen eindeutig, die Fahrer-IDs bekannt sein;
+     * geprüft wird vollständig vor dem Schreiben (sonst 400, unbekanntes Rennen 404).
+     * Das Rennen wird geschlossen und genau einmal neu gewertet.
+     * @param raceId ID des Rennens
+     * @param classification Einträge mit driverId und finalPosition
+     * @return die gespeicherten Ergebnisse nach Position sortiert
+     */
+    @PutMapping("/race/{raceId}")
+    public List<OfficialResultDTO> replaceResultsForRace(@PathVariable Long raceId,
+                                                         @RequestBody List<OfficialResultDTO> classification) {
+        List<OfficialResult> results = raceService.updateRaceClassification(raceId, classification);
+        List<OfficialResultDTO> response = new ArrayList<>(results.size());
+        for (OfficialResult result : results) {
+            response.add(convertToDTO(result));
+        }
+        return response;
+    }
+
     /**
      * Erstellt ein offizielles Rennergebnis für einen Fahrer.
+     * Für eine komplette Klassifizierung PUT /api/results/race/{raceId} verwenden
+     * (ein Aufruf statt einem pro Fahrer).
      * @param raceId ID des Rennens
      * @param driverId ID des Fahrers
      * @param finalPosition Endposition des Fahrers
@@ -74,6 +100,23 @@ public class OfficialResultController {
     public void deleteResultsForRace(@PathVariable Long raceId) {
         resultService.deleteResultsForRace(raceId);
     }
+
+    /**
+     * Hilfsmethode zur Umwandlung eines OfficialResult in ein OfficialResultDTO
+     */
+    private OfficialResultDTO convertToDTO(OfficialResult result) {
+        Race race = result.getRace();
+        Driver driver = result.getDriver();
+        return new OfficialResultDTO(
+                result.getId(),
+                race.getId(),
+                race.getName(),
+                driver.getId(),
+                driver.getName(),
+                driver.getTeam(),
+                result.getFinalPosition()
+        );
+    }
 }
 
 
@@ -82,6 +125,8 @@ public class OfficialResultController {
    ------------------------------------------------------------
    - Endpunkte für die Verwaltung offizieller Rennergebnisse:
        * GET /api/results/race/{raceId} → Ergebnisse abrufen
+       * PUT /api/results/race/{raceId} → komplette Klassifizierung ersetzen
+         (ein Batch, schliesst das Rennen, eine Neuberechnung)
        * POST /api/results → Ergebnis für Fahrer erstellen
        * DELETE /api/results/race/{raceId} → Alle Ergebnisse löschen
    - Nutzt Services: OfficialResultService, RaceService, DriverService
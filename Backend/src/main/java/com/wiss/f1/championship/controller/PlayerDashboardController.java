@@ -0,0 +1,58 @@
+package com.wiss.f1.championship.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.wiss.f1.championship.dto.PlayerDashboardDTO;
+import com.wiss.f1.championship.entity.AppUser;
+import com.wiss.f1.championship.service.PlayerDashboardService;
+
+@RestController
+@RequestMapping("/api/player")
+public class PlayerDashboardController {
+
+    // Service, der die Teile des Dashboards parallel lädt
+    private final PlayerDashboardService dashboardService;
+
+    public PlayerDashboardController(PlayerDashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    /**
+     * Liefert alle Daten der Spieler-Seiten in einem Request:
+     * Profil (mit Punkten und Rang), alle Rennen, eigene Tipps,
+     * eigene Position mit N Nachbarn und die Top-Spieler.
+     * Beispiel: GET /api/player/dashboard?neighbours=2
+     */
+    @GetMapping("/dashboard")
+    public ResponseEntity<PlayerDashboardDTO> getDashboard(
+            @RequestParam(defaultValue = "2") int neighbours) {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AppUser)) {
+            return ResponseEntity.status(401).build();
+        }
+        AppUser currentUser = (AppUser) authentication.getPrincipal();
+
+        // Persönliche Daten: nicht in geteilten Caches ablegen
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore().cachePrivate())
+                .body(dashboardService.getDashboard(currentUser, neighbours));
+    }
+}
+
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (PlayerDashboardController.java)
+   ------------------------------------------------------------
+   - GET /api/player/dashboard?neighbours=N → Profil, Rennen, eigene Tipps,
+     eigene Position und Top-Spieler in einer Antwort
+   - Ersetzt vier einzelne Requests der Spieler-Seiten
+   - Nutzt PlayerDashboardService (parallele Abfragen auf virtuellen Threads)
+   ============================================================ */
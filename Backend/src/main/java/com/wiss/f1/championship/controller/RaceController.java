@@ -1,45 +1,157 @@
 package com.wiss.f1.championship.controller;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.wiss.f1.championship.dto.RaceDTO;
 import com.wiss.f1.championship.dto.RaceResponseDTO;
 import com.wiss.f1.championship.entity.Race;
+import com.wiss.f1.championship.repository.RaceFilter;
+import com.wiss.f1.championship.service.LiveUpdateService;
+import com.wiss.f1.championship.service.RacePage;
 import com.wiss.f1.championship.service.RaceService;
+import com.wiss.f1.championship.service.RaceSort;
+import com.wiss.f1.championship.service.ResourceVersionService;
 
 @RestController
 @RequestMapping("/api/races")
 public class RaceController {
 
+    // Seitengröße, wenn Filter ohne ?limit= angegeben werden
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    // Anzahl Rennen für /upcoming ohne ?limit= (Startseite)
+    private static final int DEFAULT_UPCOMING = 3;
+
     private final RaceService raceService;
+    private final LiveUpdateService liveUpdateService;
+    private final ResourceVersionService resourceVersionService;
 
-    public RaceController(RaceService raceService) {
+    public RaceController(RaceService raceService, LiveUpdateService liveUpdateService,
+                          ResourceVersionService resourceVersionService) {
         this.raceService = raceService;
+        this.liveUpdateService = liveUpdateService;
+        this.resourceVersionService = resourceVersionService;
     }
 
     /**
-     * Gibt alle Rennen zurück.
+     * Gibt alle Rennen zurück (inkl. Ergebnisreihenfolge, eine Datenbankabfrage).
+     *
+     * Optionale Parameter (Kalender):
+     * - status: ein oder mehrere Status, z.B. status=OPEN,TIPPABLE (auch open/voting/closed)
+     * - from, to: Datumsbereich inklusive, Format JJJJ-MM-TT
+     * - sort: date (Standard, älteste zuerst) oder -date (neueste zuerst)
+     * - limit: Seitengröße (Standard 20, max. RaceService.MAX_PAGE_SIZE)
+     * - after: Cursor aus X-Next-Cursor der Vorseite (Keyset-Paginierung)
+     * Ist einer davon gesetzt, kommt eine Seite mit X-Total-Count (Anzahl aller passenden
+     * Rennen) und, falls es weitergeht, X-Next-Cursor. Ohne Parameter: alle Rennen wie bisher.
+     *
+     * Mit ETag und Last-Modified; passt If-None-Match bzw. If-Modified-Since,
+     * kommt 304 ohne Body, ohne dass Rennen geladen werden.
      */
     @GetMapping
-    public List<Race> getAllRaces() {
-        return raceService.getAllRaces();
+    public ResponseEntity<List<RaceResponseDTO>> getAllRaces(
+            @RequestParam(required = false) List<String> status,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.IF_MODIFIED_SINCE, required = false) String ifModifiedSince) {
+
+        // Ohne Kalender-Parameter: komplette Liste wie bisher
+        if (status == null && from == null && to == null && sort == null && limit == null && after == null) {
+            return ConditionalGet.respond(resourceVersionService.races(), ifNoneMatch, ifModifiedSince,
+                    raceService::getAllRaceResponses);
+        }
+
+        // Parameter vor dem 304-Check prüfen: ungültige Anfragen sind immer 400
+        RaceFilter filter = RaceFilter.fromParams(status, from, to);
+        RaceSort raceSort = RaceSort.fromParam(sort);
+        int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+
+        return ConditionalGet.respond(resourceVersionService.races(), ifNoneMatch, ifModifiedSince, response -> {
+            RacePage page = raceService.getRacePage(filter, raceSort, after, pageSize);
+            response.header(LeaderboardController.TOTAL_COUNT_HEADER, String.valueOf(page.totalRaces()));
+            if (page.nextCursor() != null) {
+                response.header(LeaderboardController.NEXT_CURSOR_HEADER, page.nextCursor());
+            }
+            return response.body(page.entries());
+        });
+    }
+
+    /**
+     * Die nächsten Rennen ab heute, die noch nicht geschlossen sind (geplant oder Voting), nach Datum.
+     * Beispiel: GET /api/races/upcoming?limit=3 (Startseite)
+     * Die Antwort hängt vom Datum ab; ETag und Last-Modified wechseln deshalb auch um Mitternacht.
+     */
+    @GetMapping("/upcoming")
+    public ResponseEntity<List<RaceResponseDTO>> getUpcomingRaces(
+            @RequestParam(defaultValue = "" + DEFAULT_UPCOMING) int limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.IF_MODIFIED_SINCE, required = false) String ifModifiedSince) {
+        LocalDate today = LocalDate.now();
+        return ConditionalGet.respond(resourceVersionService.races().forDay(today), ifNoneMatch, ifModifiedSince,
+                () -> raceService.getUpcomingRaces(limit, today));
+    }
+
+    /**
+     * Anzahl Rennen pro Status, z.B. {"open": 2, "voting": 1, "closed": 21}.
+     * Für die Kennzahlen auf Startseite und Dashboard, ohne die Rennen selbst zu laden.
+     */
+    @GetMapping("/counts")
+    public ResponseEntity<Map<String, Long>> getRaceCounts(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.IF_MODIFIED_SINCE, required = false) String ifModifiedSince) {
+        return ConditionalGet.respond(resourceVersionService.races(), ifNoneMatch, ifModifiedSince,
+                raceService::getRaceCounts);
+    }
+
+    /**
+     * Live-Stream der Statusänderungen (Server-Sent Events).
+     * Event "race": {raceId, status, type} nach jeder Änderung an einem Rennen.
+     * Response: 503, wenn die maximale Anzahl Abonnenten erreicht ist.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamRaceChanges() {
+        SseEmitter emitter = liveUpdateService.subscribeRaces();
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        // Nginx & Co. sollen den Stream nicht puffern
+        return ResponseEntity.ok().header("X-Accel-Buffering", "no").body(emitter);
     }
 
     /**
      * Gibt ein einzelnes Rennen anhand der ID zurück.
+     * Bedingte GETs wie bei der Liste (Version aller Rennen).
+     * Response: 404 ohne ETag/Cache-Control, wenn das Rennen nicht existiert.
      */
     @GetMapping("/{id}")
-    public Race getRaceById(@PathVariable Long id) {
-        return raceService.getRaceById(id).orElse(null);
+    public ResponseEntity<RaceResponseDTO> getRaceById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.IF_MODIFIED_SINCE, required = false) String ifModifiedSince) {
+        return ConditionalGet.respondIfPresent(resourceVersionService.races(), ifNoneMatch, ifModifiedSince,
+                () -> raceService.getRaceResponseById(id));
     }
 
     /**
@@ -105,11 +217,17 @@ public class RaceController {
    - Verwaltet CRUD-Operationen für Rennen (Races).
    - Endpunkte:
        GET /api/races → alle Rennen
+       GET /api/races?status=&from=&to=&sort=&limit=&after= → gefilterte Kalenderseite
+       GET /api/races/upcoming?limit=N → nächste nicht geschlossene Rennen ab heute
+       GET /api/races/counts → Anzahl Rennen pro Status
        GET /api/races/{id} → Rennen nach ID
+       GET /api/races/stream → Statusänderungen als Server-Sent Events
        POST /api/races → neues Rennen erstellen
        PUT /api/races/{id} → Rennen aktualisieren
        DELETE /api/races/{id} → Rennen löschen
        PUT /api/races/{id}/results → Ergebnisreihenfolge aktualisieren
+   - GET-Endpunkte mit ETag/Last-Modified → 304 Not Modified (ResourceVersionService).
+   - GET-Endpunkte liefern RaceResponseDTOs aus einer Projektionsabfrage (keine Entities).
    - Nutzt RaceService für die Business-Logik.
    - Enthält interne Methode zur Umwandlung von Race in RaceResponseDTO.
    ============================================================ */
@@ -0,0 +1,88 @@
+package com.wiss.f1.championship.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.wiss.f1.championship.dto.ScoringJobDTO;
+import com.wiss.f1.championship.dto.StandingsRebuildDTO;
+import com.wiss.f1.championship.service.LeaderboardService;
+import com.wiss.f1.championship.service.ScoringJobService;
+
+@RestController
+@RequestMapping("/api/admin/standings")
+public class StandingsAdminController {
+
+    // Service für die (Hintergrund-)Neuberechnung der materialisierten Punktestände
+    private final ScoringJobService scoringJobService;
+    private final LeaderboardService leaderboardService;
+
+    public StandingsAdminController(ScoringJobService scoringJobService, LeaderboardService leaderboardService) {
+        this.scoringJobService = scoringJobService;
+        this.leaderboardService = leaderboardService;
+    }
+
+    /**
+     * Baut alle RaceScores und Saisonstände aus Tipps und Ergebnissen neu auf.
+     * Für die Wiederherstellung, falls die materialisierten Daten abweichen.
+     * Danach wird der Leaderboard-Snapshot neu aufgebaut.
+     * @return Zusammenfassung des Rebuilds
+     */
+    @PostMapping("/rebuild")
+    public StandingsRebuildDTO rebuildStandings() {
+        StandingsRebuildDTO result = scoringJobService.rebuildAll();
+        leaderboardService.invalidate();
+        return result;
+    }
+
+    /**
+     * Liefert den Status der Neuberechnungs-Jobs aller Rennen.
+     * @return Job-Status pro Rennen
+     */
+    @GetMapping("/jobs")
+    public List<ScoringJobDTO> getScoringJobs() {
+        return scoringJobService.getJobs();
+    }
+
+    /**
+     * Liefert den Status des Neuberechnungs-Jobs eines Rennens.
+     * @param raceId ID des Rennens
+     * @return Job-Status oder 404, falls für das Rennen noch kein Job lief
+     */
+    @GetMapping("/jobs/{raceId}")
+    public ResponseEntity<ScoringJobDTO> getScoringJob(@PathVariable Long raceId) {
+        return scoringJobService.getJob(raceId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Berechnet die Punkte eines Rennens erneut im Hintergrund.
+     * Mehrfaches Auslösen ist unkritisch: ausstehende Läufe werden zusammengefasst.
+     * @param raceId ID des Rennens
+     * @return 202 Accepted mit dem aktuellen Job-Status
+     */
+    @PostMapping("/jobs/{raceId}")
+    public ResponseEntity<ScoringJobDTO> rescoreRace(@PathVariable Long raceId) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(scoringJobService.enqueue(raceId));
+    }
+}
+
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (StandingsAdminController.java)
+   ------------------------------------------------------------
+   - Admin-Endpunkt für die materialisierten Standings:
+       * POST /api/admin/standings/rebuild → kompletter Rebuild
+       * GET /api/admin/standings/jobs → Status aller Neuberechnungs-Jobs
+       * GET /api/admin/standings/jobs/{raceId} → Status eines Jobs
+       * POST /api/admin/standings/jobs/{raceId} → Rennen im Hintergrund neu werten
+   - Geschützt über /api/admin/** (nur ADMIN)
+   - Nutzt ScoringJobService, invalidiert nach dem Rebuild den Leaderboard-Snapshot
+   ============================================================ */
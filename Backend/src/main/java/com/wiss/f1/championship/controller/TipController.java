@@ -20,14 +20,23 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 @RestController
 @RequestMapping("/api/tips")
 public class TipController {
 
+    // Obergrenze für Rennen pro Batch-Request (eine Saison hat ~24 Rennen)
+    static final int MAX_BATCH_SIZE = 50;
+
     private final TipService tipService;
     private final AppUserService userService;
     private final RaceService raceService;
@@ -97,18 +106,62 @@ public class TipController {
 
         // Tipp speichern/aktualisieren
         try {
-            tipService.saveOrUpdateTip(currentUser, race, request.getOrder());
-
-            // Aktualisierten Tipp zurückgeben
-            List<String> order = tipService.getTipOrderForUserAndRace(currentUser, race);
-            LocalDateTime updatedAt = tipService.getTipUpdatedAtForUserAndRace(currentUser, race);
-            TipResponseDTO response = new TipResponseDTO(request.getRaceId(), order, updatedAt);
+            // Antwort direkt aus den gespeicherten Tipps (wie beim Batch), ohne erneutes Lesen
+            TipResponseDTO response = tipService.saveOrUpdateTips(currentUser, Map.of(race, request.getOrder()))
+                    .getFirst();
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build(); // ungültiger Tipp
         }
     }
 
+    /**
+     * Speichert oder aktualisiert Tipps für mehrere Rennen in einem Request.
+     * Entweder werden alle Tipps gespeichert oder keiner (eine Transaktion).
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<TipResponseDTO>> createOrUpdateTips(@RequestBody List<TipRequestDTO> requests) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !(authentication.getPrincipal() instanceof AppUser)) {
+            return ResponseEntity.status(401).build();
+        }
+
+        AppUser currentUser = (AppUser) authentication.getPrincipal();
+
+        // Validierung: nicht leer, begrenzt, jedes Rennen höchstens einmal
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Set<Long> raceIds = new LinkedHashSet<>();
+        for (TipRequestDTO request : requests) {
+            if (request == null || request.getRaceId() == null
+                    || request.getOrder() == null || request.getOrder().isEmpty()
+                    || !raceIds.add(request.getRaceId())) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+
+        // Alle Rennen mit einer Abfrage laden
+        Map<Long, Race> racesById = raceService.getRacesByIds(raceIds).stream()
+                .collect(Collectors.toMap(Race::getId, Function.identity()));
+        if (racesById.size() != raceIds.size()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Map<Race, List<String>> ordersByRace = new LinkedHashMap<>();
+        for (TipRequestDTO request : requests) {
+            ordersByRace.put(racesById.get(request.getRaceId()), request.getOrder());
+        }
+
+        try {
+            return ResponseEntity.ok(tipService.saveOrUpdateTips(currentUser, ordersByRace));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build(); // ungültiger Tipp
+        }
+    }
+
     /**
      * Aktualisiert einen Tipp (Alias für POST).
      */
@@ -140,6 +193,7 @@ public class TipController {
    - Endpunkte:
        GET /api/tips/race/{raceId} → Tipp des aktuellen Users für ein Rennen
        POST /api/tips → Tipp erstellen oder aktualisieren
+       POST /api/tips/batch → Tipps für mehrere Rennen in einem Request
        PUT /api/tips → Tipp aktualisieren (Alias für POST)
        GET /api/tips/user/{userId} → alle Tipps eines Users
    - Nutzt SecurityContext, um aktuell eingeloggten User zu ermitteln.
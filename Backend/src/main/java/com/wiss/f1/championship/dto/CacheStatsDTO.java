@@ -0,0 +1,56 @@
+package com.wiss.f1.championship.dto;
+
+/**
+ * DTO für Kennzahlen eines In-Memory-Caches.
+ *
+ * Wird von Admin-Endpunkten zurückgegeben, z.B. GET /api/admin/caches.
+ */
+public class CacheStatsDTO {
+
+    private String name;        // Name des Caches
+    private long size;          // Aktuelle Anzahl Einträge (geschätzt)
+    private long hits;          // Treffer seit Start
+    private long misses;        // Fehlgriffe seit Start
+    private double hitRate;     // hits / (hits + misses), 1.0 wenn noch keine Anfrage
+    private long evictions;     // Verdrängte bzw. abgelaufene Einträge
+
+    // Standardkonstruktor
+    public CacheStatsDTO() {
+    }
+
+    // Konstruktor mit allen Feldern
+    public CacheStatsDTO(String name, long size, long hits, long misses, double hitRate, long evictions) {
+        this.name = name;
+        this.size = size;
+        this.hits = hits;
+        this.misses = misses;
+        this.hitRate = hitRate;
+        this.evictions = evictions;
+    }
+
+    // Getter und Setter
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public long getSize() { return size; }
+    public void setSize(long size) { this.size = size; }
+
+    public long getHits() { return hits; }
+    public void setHits(long hits) { this.hits = hits; }
+
+    public long getMisses() { return misses; }
+    public void setMisses(long misses) { this.misses = misses; }
+
+    public double getHitRate() { return hitRate; }
+    public void setHitRate(double hitRate) { this.hitRate = hitRate; }
+
+    public long getEvictions() { return evictions; }
+    public void setEvictions(long evictions) { this.evictions = evictions; }
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (CacheStatsDTO.java)
+   ------------------------------------------------------------
+   - DTO für Cache-Kennzahlen (Größe, Treffer, Fehlgriffe, Trefferquote, Verdrängungen)
+   - Wird von Admin-Endpunkten für die Überwachung genutzt
+   ============================================================ */
@@ -0,0 +1,35 @@
+package com.wiss.f1.championship.dto;
+
+import java.util.List;
+
+/**
+ * Änderungen am Leaderboard zwischen zwei Snapshots (Live-Stream).
+ *
+ * Wird über GET /api/leaderboard/stream gepusht. Beim Verbindungsaufbau kommt
+ * einmal der komplette Stand (Event "snapshot", fromVersion 0), danach nur noch
+ * geänderte Einträge (Event "diff").
+ *
+ * Innerhalb einer Verbindung gehen keine Diffs verloren (kommt ein Client nicht
+ * nach, wird die Verbindung beendet und er erhält beim Neuverbinden wieder den
+ * kompletten Stand). Diffs ohne Änderung werden nicht gesendet, fromVersion kann
+ * daher grösser sein als die zuletzt empfangene Version. Diffs mit einer Version,
+ * die der Client schon hat, kann er ignorieren.
+ *
+ * @param fromVersion Version, auf die sich die Änderungen beziehen (0 = kompletter Stand)
+ * @param version     Version nach Anwenden der Änderungen
+ * @param changed     neue oder geänderte Einträge (Punkte, Rang oder Anzeigename)
+ * @param removed     Usernames, die nicht mehr in der Rangliste sind
+ */
+public record LeaderboardDiffDTO(long fromVersion,
+                                 long version,
+                                 List<LeaderboardDTO> changed,
+                                 List<String> removed) {
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (LeaderboardDiffDTO.java)
+   ------------------------------------------------------------
+   - Kompakte Änderungen am Leaderboard für den SSE-Stream
+   - Enthält nur geänderte Einträge und entfernte Usernames
+   - version erlaubt dem Client, bereits bekannte Stände zu überspringen
+   ============================================================ */
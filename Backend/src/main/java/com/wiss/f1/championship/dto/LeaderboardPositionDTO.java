@@ -0,0 +1,49 @@
+package com.wiss.f1.championship.dto;
+
+import java.util.List;
+
+/**
+ * DTO für die eigene Position im Leaderboard samt Nachbarn.
+ *
+ * Enthält:
+ * - rank: eigener Rang (null, falls der User noch nicht gewertet ist)
+ * - points: eigene Punkte
+ * - totalPlayers: Anzahl Spieler im Leaderboard
+ * - entries: eigener Eintrag mit bis zu N Spielern davor und danach
+ */
+public class LeaderboardPositionDTO {
+
+    private Integer rank;                    // Eigener Rang
+    private int points;                      // Eigene Punktzahl
+    private int totalPlayers;                // Anzahl aller Spieler
+    private List<LeaderboardDTO> entries;    // Ausschnitt der Rangliste
+
+    // Konstruktor
+    public LeaderboardPositionDTO(Integer rank, int points, int totalPlayers, List<LeaderboardDTO> entries) {
+        this.rank = rank;
+        this.points = points;
+        this.totalPlayers = totalPlayers;
+        this.entries = entries;
+    }
+
+    // Getter und Setter
+    public Integer getRank() { return rank; }
+    public void setRank(Integer rank) { this.rank = rank; }
+
+    public int getPoints() { return points; }
+    public void setPoints(int points) { this.points = points; }
+
+    public int getTotalPlayers() { return totalPlayers; }
+    public void setTotalPlayers(int totalPlayers) { this.totalPlayers = totalPlayers; }
+
+    public List<LeaderboardDTO> getEntries() { return entries; }
+    public void setEntries(List<LeaderboardDTO> entries) { this.entries = entries; }
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (LeaderboardPositionDTO.java)
+   ------------------------------------------------------------
+   - DTO für "meine Position mit Nachbarn"
+   - Enthält eigenen Rang, Punkte, Spieleranzahl und Ausschnitt
+   - Wird von GET /api/leaderboard/me zurückgegeben
+   ============================================================ */
@@ -0,0 +1,31 @@
+package com.wiss.f1.championship.dto;
+
+import java.util.List;
+
+/**
+ * Alle Daten der Spieler-Ansichten in einer Antwort.
+ *
+ * Ersetzt die einzelnen Aufrufe von /api/races, /api/users/me,
+ * /api/tips/user/{id} und /api/leaderboard beim Laden einer Seite.
+ * Wird von GET /api/player/dashboard zurückgegeben.
+ *
+ * @param profile     eigenes Profil mit Punkten und Rang
+ * @param races       alle Rennen inkl. Ergebnisreihenfolge (wie GET /api/races)
+ * @param tips        eigene Tipps, ein Eintrag pro Rennen
+ * @param position    eigene Position mit Nachbarn (Ausschnitt der Rangliste)
+ * @param topPlayers  die ersten Spieler der Rangliste
+ */
+public record PlayerDashboardDTO(UserProfileDTO profile,
+                                 List<RaceResponseDTO> races,
+                                 List<TipResponseDTO> tips,
+                                 LeaderboardPositionDTO position,
+                                 List<LeaderboardDTO> topPlayers) {
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (PlayerDashboardDTO.java)
+   ------------------------------------------------------------
+   - Antwort von GET /api/player/dashboard
+   - Profil, Rennen, eigene Tipps, eigene Position und Top-Spieler
+   - Position und Profil stammen aus demselben Leaderboard-Snapshot
+   ============================================================ */
@@ -0,0 +1,18 @@
+package com.wiss.f1.championship.dto;
+
+/**
+ * Ein gewertetes Rennen als Spalte des Leaderboard-Exports.
+ *
+ * @param raceId ID des Rennens
+ * @param name   Name des Rennens (Spaltenüberschrift im CSV)
+ */
+public record RaceColumnDTO(Long raceId, String name) {
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (RaceColumnDTO.java)
+   ------------------------------------------------------------
+   - Projektion (raceId, name) eines Rennens mit Wertungen
+   - Wird von RaceRepository nach Datum sortiert geliefert
+   - Legt die Punkte-Spalten pro Rennen im Export fest
+   ============================================================ */
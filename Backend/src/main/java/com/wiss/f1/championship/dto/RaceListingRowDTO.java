@@ -0,0 +1,34 @@
+package com.wiss.f1.championship.dto;
+
+import java.time.LocalDate;
+
+import com.wiss.f1.championship.entity.RaceStatus;
+
+/**
+ * Eine Zeile der Rennliste: Metadaten eines Rennens plus ein Fahrer seines Ergebnisses.
+ *
+ * Wird per JPQL-Konstruktorausdruck geladen (Rennen left join Ergebnis left join Fahrer),
+ * sortiert nach Rennen und Position. Der RaceService fasst die Zeilen eines Rennens zu
+ * einem RaceResponseDTO zusammen. Rennen ohne Ergebnis liefern eine Zeile mit
+ * driverName = null.
+ *
+ * @param raceId     ID des Rennens
+ * @param name       Name des Rennens
+ * @param date       Datum des Rennens
+ * @param track      Rennstrecke
+ * @param weather    Wetterbedingungen
+ * @param tyres      Reifeninformationen
+ * @param status     Status des Rennens
+ * @param driverName Fahrer auf der nächsten Ergebnisposition (null ohne Ergebnis)
+ */
+public record RaceListingRowDTO(Long raceId, String name, LocalDate date, String track,
+                                String weather, String tyres, RaceStatus status, String driverName) {
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (RaceListingRowDTO.java)
+   ------------------------------------------------------------
+   - Projektion: Rennen + ein Fahrername seines Ergebnisses
+   - Wird von RaceRepository für die Rennliste geliefert (eine Abfrage)
+   - RaceService gruppiert die Zeilen zu RaceResponseDTOs
+   ============================================================ */
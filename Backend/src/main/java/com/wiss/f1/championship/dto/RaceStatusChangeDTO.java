@@ -0,0 +1,28 @@
+package com.wiss.f1.championship.dto;
+
+import com.wiss.f1.championship.entity.RaceStatus;
+import com.wiss.f1.championship.event.RaceChangedEvent;
+
+/**
+ * Statusänderung eines Rennens für den Live-Stream (GET /api/races/stream).
+ *
+ * Enthält nur, was das Frontend braucht, um seine Rennliste nachzuführen:
+ * bei UPDATED/CLOSED den neuen Status, bei CREATED/DELETED lädt es die Liste neu.
+ *
+ * @param raceId ID des Rennens
+ * @param status neuer Status ("open", "voting", "closed"; null bei DELETED)
+ * @param type   Art der Änderung
+ */
+public record RaceStatusChangeDTO(Long raceId, RaceStatus status, RaceChangedEvent.Type type) {
+
+    public static RaceStatusChangeDTO from(RaceChangedEvent event) {
+        return new RaceStatusChangeDTO(event.raceId(), event.status(), event.type());
+    }
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (RaceStatusChangeDTO.java)
+   ------------------------------------------------------------
+   - Kompakte Renn-Änderung für den SSE-Stream
+   - Renn-ID, neuer Status und Art der Änderung
+   ============================================================ */
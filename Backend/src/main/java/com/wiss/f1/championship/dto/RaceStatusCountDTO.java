@@ -0,0 +1,22 @@
+package com.wiss.f1.championship.dto;
+
+import com.wiss.f1.championship.entity.RaceStatus;
+
+/**
+ * Anzahl Rennen in einem Status.
+ *
+ * Wird per JPQL-Konstruktorausdruck (group by status) geladen und von
+ * GET /api/races/counts zu einer Map Status → Anzahl zusammengefasst.
+ *
+ * @param status Status der Rennen
+ * @param count  Anzahl Rennen in diesem Status
+ */
+public record RaceStatusCountDTO(RaceStatus status, Long count) {
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (RaceStatusCountDTO.java)
+   ------------------------------------------------------------
+   - Projektion (status, count) für die Kennzahlen des Rennkalenders
+   - Wird von RaceRepository.countRacesByStatus geliefert
+   ============================================================ */
@@ -0,0 +1,22 @@
+package com.wiss.f1.championship.dto;
+
+/**
+ * Schlanke Projektion eines offiziellen Ergebnisses für die Punkteberechnung.
+ *
+ * Wird direkt per JPQL-Konstruktorausdruck geladen, damit beim Scoring
+ * keine OfficialResult-, Race- oder Driver-Entities hydriert werden müssen.
+ *
+ * @param raceId        ID des Rennens
+ * @param finalPosition Endplatzierung im Rennen
+ * @param driverId      ID des Fahrers auf dieser Position
+ */
+public record ResultRowDTO(Long raceId, Integer finalPosition, Long driverId) {
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (ResultRowDTO.java)
+   ------------------------------------------------------------
+   - Projektion (raceId, finalPosition, driverId) eines Ergebnisses
+   - Wird von OfficialResultRepository für Bulk-Abfragen geliefert
+   - Eingabe für die Punkteberechnung im ScoringEngine
+   ============================================================ */
@@ -0,0 +1,44 @@
+package com.wiss.f1.championship.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Status des Hintergrund-Jobs, der die Punkte eines Rennens neu berechnet.
+ *
+ * Pro Rennen gibt es genau einen Eintrag; er zeigt den aktuellen Zustand
+ * und das Ergebnis des letzten Laufs. Wird von den Admin-Endpunkten unter
+ * /api/admin/standings/jobs zurückgegeben.
+ *
+ * @param raceId      ID des Rennens
+ * @param status      aktueller Zustand
+ * @param runs        Anzahl gestarteter Läufe seit dem Start der Anwendung
+ * @param requestedAt Zeitpunkt der letzten Anforderung
+ * @param startedAt   Start des letzten Laufs (null, falls noch keiner lief)
+ * @param finishedAt  Ende des letzten Laufs (null, solange er läuft)
+ * @param scoreRows   geschriebene RaceScore-Zeilen des letzten Laufs
+ * @param error       Fehlermeldung des letzten Laufs (null bei Erfolg)
+ */
+public record ScoringJobDTO(Long raceId,
+                            Status status,
+                            int runs,
+                            LocalDateTime requestedAt,
+                            LocalDateTime startedAt,
+                            LocalDateTime finishedAt,
+                            Integer scoreRows,
+                            String error) {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        DONE,
+        FAILED
+    }
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (ScoringJobDTO.java)
+   ------------------------------------------------------------
+   - Zustand eines Neuberechnungs-Jobs pro Rennen
+   - Status: QUEUED, RUNNING, DONE, FAILED
+   - Enthält Zeitpunkte, Anzahl Läufe und Ergebnis des letzten Laufs
+   ============================================================ */
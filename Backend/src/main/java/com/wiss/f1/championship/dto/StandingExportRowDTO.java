@@ -0,0 +1,28 @@
+package com.wiss.f1.championship.dto;
+
+/**
+ * Eine Zeile des Leaderboard-Exports: Saisonstand eines Users plus Punkte in einem Rennen.
+ *
+ * Entsteht aus app_users LEFT JOIN user_standings LEFT JOIN race_scores, sortiert wie
+ * das Leaderboard (Punkte absteigend, dann User-ID) und innerhalb eines Users nach
+ * Rennen-ID. Die Zeilen eines Users folgen also direkt aufeinander. User ohne
+ * gewertetes Rennen liefern eine Zeile mit raceId = null.
+ *
+ * @param userId      ID des Users
+ * @param username    Interner Benutzername
+ * @param displayName Anzeigename (kann null oder leer sein)
+ * @param totalPoints Gesamtpunkte (0, falls noch kein Stand existiert)
+ * @param raceId      ID des gewerteten Rennens (null ohne Wertung)
+ * @param racePoints  Punkte in diesem Rennen (null ohne Wertung)
+ */
+public record StandingExportRowDTO(Long userId, String username, String displayName, int totalPoints,
+                                   Long raceId, Integer racePoints) {
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (StandingExportRowDTO.java)
+   ------------------------------------------------------------
+   - Projektion: Saisonstand eines Users + Punkte in einem Rennen
+   - Wird vom StandingsExportRepository per Cursor gestreamt
+   - LeaderboardExportService fasst die Zeilen eines Users zu einer Exportzeile zusammen
+   ============================================================ */
@@ -0,0 +1,23 @@
+package com.wiss.f1.championship.dto;
+
+/**
+ * Projektion einer Zeile der materialisierten Rangliste.
+ *
+ * Entsteht aus app_users LEFT JOIN user_standings, damit auch User ohne
+ * gewertete Tipps (0 Punkte) im Leaderboard erscheinen.
+ *
+ * @param userId      ID des Users
+ * @param username    Interner Benutzername
+ * @param displayName Anzeigename (kann null oder leer sein)
+ * @param points      Gesamtpunkte (0, falls noch kein Stand existiert)
+ */
+public record StandingRowDTO(Long userId, String username, String displayName, Integer points) {
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (StandingRowDTO.java)
+   ------------------------------------------------------------
+   - Projektion (userId, username, displayName, points)
+   - Wird von UserStandingRepository sortiert nach Punkten geliefert
+   - Grundlage für LeaderboardDTOs
+   ============================================================ */
@@ -0,0 +1,18 @@
+package com.wiss.f1.championship.dto;
+
+/**
+ * Aggregat der RaceScores eines Users.
+ *
+ * @param userId      ID des Users
+ * @param totalPoints Summe der Punkte über alle gewerteten Rennen
+ * @param racesScored Anzahl gewerteter Rennen
+ */
+public record StandingTotalDTO(Long userId, Long totalPoints, Long racesScored) {
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (StandingTotalDTO.java)
+   ------------------------------------------------------------
+   - Ergebnis der GROUP-BY-Abfrage über race_scores
+   - Wird vom StandingsService in UserStanding-Zeilen übertragen
+   ============================================================ */
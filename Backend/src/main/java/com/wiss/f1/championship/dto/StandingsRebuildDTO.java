@@ -0,0 +1,47 @@
+package com.wiss.f1.championship.dto;
+
+/**
+ * DTO für das Ergebnis eines vollständigen Standings-Rebuilds.
+ *
+ * Wird vom Admin-Endpunkt POST /api/admin/standings/rebuild zurückgegeben.
+ */
+public class StandingsRebuildDTO {
+
+    private int racesScored;   // Anzahl gewerteter (geschlossener) Rennen
+    private int scoreRows;     // Anzahl geschriebener RaceScore-Zeilen
+    private int users;         // Anzahl User mit Saisonstand
+    private long durationMs;   // Dauer des Rebuilds in Millisekunden
+
+    // Standardkonstruktor
+    public StandingsRebuildDTO() {
+    }
+
+    // Konstruktor mit allen Feldern
+    public StandingsRebuildDTO(int racesScored, int scoreRows, int users, long durationMs) {
+        this.racesScored = racesScored;
+        this.scoreRows = scoreRows;
+        this.users = users;
+        this.durationMs = durationMs;
+    }
+
+    // Getter und Setter
+    public int getRacesScored() { return racesScored; }
+    public void setRacesScored(int racesScored) { this.racesScored = racesScored; }
+
+    public int getScoreRows() { return scoreRows; }
+    public void setScoreRows(int scoreRows) { this.scoreRows = scoreRows; }
+
+    public int getUsers() { return users; }
+    public void setUsers(int users) { this.users = users; }
+
+    public long getDurationMs() { return durationMs; }
+    public void setDurationMs(long durationMs) { this.durationMs = durationMs; }
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (StandingsRebuildDTO.java)
+   ------------------------------------------------------------
+   - Zusammenfassung eines Standings-Rebuilds
+   - Felder: racesScored, scoreRows, users, durationMs
+   - Wird vom StandingsAdminController zurückgegeben
+   ============================================================ */
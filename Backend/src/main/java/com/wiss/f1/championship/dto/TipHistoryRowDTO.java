@@ -0,0 +1,26 @@
+package com.wiss.f1.championship.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projektion eines einzelnen Tipps für die Tipp-Historie eines Users.
+ *
+ * Wird per JPQL-Konstruktorausdruck mit einem Join auf den Fahrer geladen,
+ * damit alle Tipps einer Saison in einer einzigen Abfrage ankommen (keine
+ * Tip-, Race- oder Driver-Entities, kein Nachladen pro Rennen oder Fahrer).
+ *
+ * @param raceId            ID des Rennens
+ * @param predictedPosition Vorhergesagte Position (1-10)
+ * @param driverName        Name des getippten Fahrers
+ * @param updatedAt         Zeitpunkt der letzten Aktualisierung
+ */
+public record TipHistoryRowDTO(Long raceId, Integer predictedPosition, String driverName, LocalDateTime updatedAt) {
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (TipHistoryRowDTO.java)
+   ------------------------------------------------------------
+   - Projektion (raceId, predictedPosition, driverName, updatedAt) eines Tipps
+   - Wird von TipRepository.findTipHistoryByUserId geliefert
+   - Grundlage für GET /api/tips/user/{userId} und das Spieler-Dashboard
+   ============================================================ */
@@ -0,0 +1,23 @@
+package com.wiss.f1.championship.dto;
+
+/**
+ * Schlanke Projektion eines einzelnen Tipps für die Punkteberechnung.
+ *
+ * Wird direkt per JPQL-Konstruktorausdruck geladen, damit beim Scoring
+ * keine Tip-, AppUser- oder Driver-Entities hydriert werden müssen.
+ *
+ * @param userId             ID des tippenden Users
+ * @param raceId             ID des Rennens
+ * @param predictedPosition  Vorhergesagte Position (1-10)
+ * @param driverId           ID des getippten Fahrers
+ */
+public record TipRowDTO(Long userId, Long raceId, Integer predictedPosition, Long driverId) {
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (TipRowDTO.java)
+   ------------------------------------------------------------
+   - Projektion (userId, raceId, predictedPosition, driverId) eines Tipps
+   - Wird von TipRepository für Bulk-Abfragen geliefert
+   - Eingabe für die Punkteberechnung im ScoringEngine
+   ============================================================ */
@@ -1,5 +1,7 @@
 package com.wiss.f1.championship.dto;
 
+import com.wiss.f1.championship.entity.AppUser;
+
 /**
  * DTO für die Darstellung des vollständigen User-Profils.
  *
@@ -15,6 +17,7 @@ public class UserProfileDTO {
     private String country;         // Optional: Land
     private String bio;             // Optional: Biografie
     private int points;             // Gesamtpunkte des Users (berechnet aus LeaderboardService)
+    private Integer rank;           // Aktueller Rang im Leaderboard (null, falls noch nicht gewertet)
     private String role;            // Rolle des Users (PLAYER oder ADMIN)
 
     // Standardkonstruktor
@@ -35,6 +38,35 @@ public class UserProfileDTO {
         this.role = role;
     }
 
+    // Konstruktor mit allen Feldern inkl. Rang
+    public UserProfileDTO(String username, String displayName, String email,
+                          String favoriteTeam, String country, String bio,
+                          int points, Integer rank, String role) {
+        this(username, displayName, email, favoriteTeam, country, bio, points, role);
+        this.rank = rank;
+    }
+
+    /**
+     * Baut das Profil eines Users mit Punkten und Rang aus dem Leaderboard.
+     * @param user   der User
+     * @param points Punkte
+     * @param rank   Rang (null, falls noch nicht gewertet)
+     * @return Profil-DTO
+     */
+    public static UserProfileDTO of(AppUser user, int points, Integer rank) {
+        return new UserProfileDTO(
+                user.getUsername(),
+                user.getDisplayName(),
+                user.getEmail(),
+                user.getFavoriteTeam(),
+                user.getCountry(),
+                user.getBio(),
+                points,
+                rank,
+                user.getRole().name()
+        );
+    }
+
     // Getter und Setter
 
     public String getUsername() {
@@ -93,6 +125,14 @@ public class UserProfileDTO {
         this.points = points;
     }
 
+    public Integer getRank() {
+        return rank;
+    }
+
+    public void setRank(Integer rank) {
+        this.rank = rank;
+    }
+
     public String getRole() {
         return role;
     }
@@ -108,7 +148,7 @@ public class UserProfileDTO {
    ------------------------------------------------------------
    - DTO für das vollständige Profil eines Users
    - Enthält Username, DisplayName, Email, FavoriteTeam, Country, Bio
-     sowie Punkte und Rolle
-   - Wird im AppUserController für GET /api/users/me zurückgegeben
-   - Punkte werden aus dem LeaderboardService berechnet
+     sowie Punkte, Rang und Rolle
+   - Wird im AppUserController für GET /api/users/me und im Spieler-Dashboard zurückgegeben
+   - Punkte und Rang kommen aus dem Leaderboard-Snapshot (LeaderboardService)
    ============================================================ */
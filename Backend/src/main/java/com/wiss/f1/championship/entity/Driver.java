@@ -1,15 +1,25 @@
 package com.wiss.f1.championship.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Entity für einen F1-Fahrer.
  * Speichert Name und Team des Fahrers.
+ *
+ * Liegt im Second-Level-Cache (Region "drivers"), z.B. für Tipps und Ergebnisse,
+ * die ihren Fahrer nachladen.
  */
 @Entity
 @Table(name = "drivers")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Driver.CACHE_REGION)
 public class Driver {
 
+    // Name der Cache-Region im Second-Level-Cache
+    public static final String CACHE_REGION = "drivers";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;  // Primärschlüssel
@@ -61,6 +71,7 @@ public class Driver {
    ------------------------------------------------------------
    - Entity für einen F1-Fahrer
    - Felder: id, name, team
+   - Second-Level-Cache (Region "drivers", READ_WRITE)
    - Wird in DriverController und Tip/Race-Logik verwendet
    - Unterstützt CRUD-Operationen über Service/Repository
    ============================================================ */
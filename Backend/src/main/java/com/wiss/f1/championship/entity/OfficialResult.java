@@ -5,9 +5,12 @@ import jakarta.persistence.*;
 /**
  * Entity für offizielle Rennergebnisse.
  * Verknüpft ein Rennen mit einem Fahrer und der finalen Position.
+ * Jede Position eines Rennens ist höchstens einmal vergeben (siehe Migration V2).
  */
 @Entity
-@Table(name = "official_results")
+@Table(name = "official_results",
+        uniqueConstraints = @UniqueConstraint(name = "uk_official_results_race_position",
+                columnNames = {"race_id", "final_position"}))
 public class OfficialResult {
 
     @Id
@@ -43,6 +46,10 @@ public class OfficialResult {
         return id;
     }
 
+    public void setId(Long id) {
+        this.id = id;
+    }
+
     public Race getRace() {
         return race;
     }
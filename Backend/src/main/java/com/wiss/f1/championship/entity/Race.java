@@ -1,32 +1,50 @@
 package com.wiss.f1.championship.entity;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 
-import jakarta.persistence.*;
-import jakarta.persistence.CollectionTable;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
-import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 
 
 /**
  * Entity für ein Rennen.
  * Enthält alle relevanten Informationen wie Name, Datum, Strecke, Wetter,
  * Reifenwahl, Status und die Reihenfolge der Fahrer-Ergebnisse.
+ *
+ * Die Ergebnisreihenfolge wird nicht im Rennen selbst gespeichert, sondern
+ * ausschliesslich als OfficialResult-Zeilen (Position → DriverId). resultsOrder
+ * ist nur die Namensansicht davon für die API und wird vom RaceService befüllt.
+ *
+ * Der Index (status, date, id) trägt Filter, Sortierung und Paginierung des
+ * Rennkalenders (siehe Migration V4).
+ *
+ * Rennen liegen im Second-Level-Cache (Region "races"), weil sie bei fast jedem
+ * Request gelesen, aber selten geändert werden. Änderungen über Hibernate halten
+ * den Cache aktuell (READ_WRITE); resultsOrder gehört als @Transient nicht dazu.
  */
 @Entity
-@Table(name = "races")
+@Table(name = "races",
+        indexes = @Index(name = "idx_races_status_date", columnList = "status, date, id"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Race.CACHE_REGION)
 public class Race {
 
+    // Name der Cache-Region im Second-Level-Cache
+    public static final String CACHE_REGION = "races";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;  // Primärschlüssel
@@ -50,11 +68,10 @@ public class Race {
     @Column(nullable = false, length = 20)
     private RaceStatus status;  // Status des Rennens (PLANNED, ONGOING, FINISHED)
 
-    // Speicherung der Ergebnisreihenfolge als Liste von Fahrernamen
-    @ElementCollection
-    @CollectionTable(name = "race_results_order", joinColumns = @JoinColumn(name = "race_id"))
-    @Column(name = "driver_name", length = 100)
-    private List<String> resultsOrder = new ArrayList<>();
+    // Ergebnisreihenfolge als Fahrernamen (abgeleitet aus official_results, nicht persistiert).
+    // null = weder geladen noch im Request mitgeschickt
+    @Transient
+    private List<String> resultsOrder;
 
     // Leerer Konstruktor für JPA
     public Race() {
@@ -128,11 +145,11 @@ public class Race {
     }
 
     public List<String> getResultsOrder() {
-        return resultsOrder;
+        return resultsOrder != null ? resultsOrder : List.of();
     }
 
     public void setResultsOrder(List<String> resultsOrder) {
-        this.resultsOrder = resultsOrder != null ? resultsOrder : new ArrayList<>();
+        this.resultsOrder = resultsOrder;
     }
 
 }
@@ -142,6 +159,7 @@ public class Race {
    ------------------------------------------------------------
    - Entity für ein Formel-1-Rennen
    - Felder: id, name, date, track, weather, tyres, status, resultsOrder
-   - resultsOrder speichert die Reihenfolge der Fahrer als Liste von Strings
+   - resultsOrder ist die Namensansicht der OfficialResult-Zeilen (@Transient)
+   - Second-Level-Cache (Region "races", READ_WRITE)
    - Wird in RaceController, OfficialResultController und TipController verwendet
    ============================================================ */
@@ -0,0 +1,76 @@
+package com.wiss.f1.championship.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Entity für die materialisierten Punkte eines Users in einem Rennen.
+ *
+ * Wird nur neu berechnet, wenn sich Ergebnisse, Status oder Tipps des
+ * betroffenen Rennens ändern. Das Leaderboard liest daraus, statt die
+ * Saison bei jeder Anfrage neu aus Tipps und Ergebnissen zu berechnen.
+ *
+ * Datenbanktabelle: "race_scores"
+ */
+@Entity
+@Table(name = "race_scores",
+        uniqueConstraints = @UniqueConstraint(name = "uk_race_scores_user_race", columnNames = {"user_id", "race_id"}),
+        indexes = @Index(name = "idx_race_scores_race", columnList = "race_id"))
+public class RaceScore {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;  // Primärschlüssel
+
+    // User, dessen Tipp gewertet wurde
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private AppUser user;
+
+    // Gewertetes Rennen
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(name = "race_id")
+    private Race race;
+
+    @Column(nullable = false)
+    private Integer points;  // Punkte des Users in diesem Rennen
+
+    // Leerer Konstruktor für JPA
+    public RaceScore() {
+    }
+
+    // Konstruktor mit User, Rennen und Punkten
+    public RaceScore(AppUser user, Race race, Integer points) {
+        this.user = user;
+        this.race = race;
+        this.points = points;
+    }
+
+    // Getter und Setter
+    public Long getId() {
+        return id;
+    }
+
+    public AppUser getUser() {
+        return user;
+    }
+
+    public Race getRace() {
+        return race;
+    }
+
+    public Integer getPoints() {
+        return points;
+    }
+
+    public void setPoints(Integer points) {
+        this.points = points;
+    }
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (RaceScore.java)
+   ------------------------------------------------------------
+   - Materialisierte Punkte pro User und Rennen
+   - Eindeutig pro (user_id, race_id), Index auf race_id
+   - Wird vom StandingsService pro Rennen neu geschrieben
+   ============================================================ */
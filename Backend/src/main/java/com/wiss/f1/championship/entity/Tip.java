@@ -16,9 +16,13 @@ import java.time.LocalDateTime;
  * - updatedAt: Zeitpunkt der letzten Aktualisierung (automatisch gesetzt)
  *
  * Datenbanktabelle: "voting"
+ * Pro User, Rennen und Position gibt es höchstens einen Tipp (siehe Migration V2).
  */
 @Entity
-@Table(name = "voting")
+@Table(name = "voting",
+        uniqueConstraints = @UniqueConstraint(name = "uk_voting_race_user_position",
+                columnNames = {"race_id", "user_id", "predicted_position"}),
+        indexes = @Index(name = "idx_voting_user", columnList = "user_id"))
 public class Tip {
 
     @Id
@@ -113,5 +117,5 @@ public class Tip {
    - Repräsentiert einen Tipp eines Users für einen Fahrer in einem Rennen
    - Verknüpft AppUser, Race und Driver über ManyToOne-Beziehungen
    - Enthält vorhergesagte Position und Update-Zeitstempel
-   - Persistiert in Tabelle "voting"
+   - Persistiert in Tabelle "voting", eindeutig pro (Rennen, User, Position)
    ============================================================ */
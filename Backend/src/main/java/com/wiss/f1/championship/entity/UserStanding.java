@@ -0,0 +1,90 @@
+package com.wiss.f1.championship.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity für den materialisierten Saisonstand eines Users.
+ *
+ * Enthält die Summe aller RaceScore-Punkte des Users. Wird zusammen mit
+ * den RaceScores des betroffenen Rennens aktualisiert, sodass Leaderboard
+ * und Profil die Gesamtpunkte mit einem einzigen Lesezugriff erhalten.
+ *
+ * Datenbanktabelle: "user_standings"
+ */
+@Entity
+@Table(name = "user_standings",
+        indexes = @Index(name = "idx_user_standings_points", columnList = "total_points"))
+public class UserStanding {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;  // Primärschlüssel = ID des Users
+
+    // Zugehöriger User (teilt sich den Primärschlüssel)
+    @OneToOne(optional = false, fetch = FetchType.LAZY)
+    @MapsId
+    @JoinColumn(name = "user_id")
+    private AppUser user;
+
+    @Column(name = "total_points", nullable = false)
+    private Integer totalPoints;  // Gesamtpunkte über alle gewerteten Rennen
+
+    @Column(name = "races_scored", nullable = false)
+    private Integer racesScored;  // Anzahl gewerteter Rennen
+
+    // Automatisch aktualisierter Zeitstempel bei Änderungen
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Leerer Konstruktor für JPA
+    public UserStanding() {
+    }
+
+    // Konstruktor mit User und Werten
+    public UserStanding(AppUser user, Integer totalPoints, Integer racesScored) {
+        this.user = user;
+        this.totalPoints = totalPoints;
+        this.racesScored = racesScored;
+    }
+
+    // Getter und Setter
+    public Long getUserId() {
+        return userId;
+    }
+
+    public AppUser getUser() {
+        return user;
+    }
+
+    public Integer getTotalPoints() {
+        return totalPoints;
+    }
+
+    public void setTotalPoints(Integer totalPoints) {
+        this.totalPoints = totalPoints;
+    }
+
+    public Integer getRacesScored() {
+        return racesScored;
+    }
+
+    public void setRacesScored(Integer racesScored) {
+        this.racesScored = racesScored;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (UserStanding.java)
+   ------------------------------------------------------------
+   - Materialisierter Saisonstand (Gesamtpunkte) pro User
+   - Primärschlüssel = user_id, Index auf total_points
+   - Wird vom StandingsService aus den RaceScores abgeleitet
+   ============================================================ */
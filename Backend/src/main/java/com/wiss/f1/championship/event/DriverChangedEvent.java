@@ -0,0 +1,27 @@
+package com.wiss.f1.championship.event;
+
+/**
+ * Event: Ein Fahrer wurde erstellt, geändert oder gelöscht.
+ *
+ * Wird vom DriverService nach der Änderung und dem Neuaufbau des
+ * Fahrerverzeichnisses veröffentlicht.
+ *
+ * @param driverId ID des Fahrers
+ * @param type     Art der Änderung
+ */
+public record DriverChangedEvent(Long driverId, Type type) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (DriverChangedEvent.java)
+   ------------------------------------------------------------
+   - Application Event für Änderungen an Fahrern
+   - Typen: CREATED, UPDATED, DELETED
+   - Wird vom ResourceVersionService für ETags genutzt
+   ============================================================ */
@@ -0,0 +1,24 @@
+package com.wiss.f1.championship.event;
+
+import com.wiss.f1.championship.service.LeaderboardSnapshot;
+
+/**
+ * Event: Der LeaderboardService hat einen neuen Snapshot veröffentlicht.
+ *
+ * Wird nach jedem Rebuild gemeldet, sobald der neue Stand für Leser sichtbar ist
+ * (nicht beim allerersten Aufbau). Listener können daraus die Änderungen
+ * berechnen, z.B. für den Live-Stream.
+ *
+ * @param previous bisheriger Snapshot
+ * @param current  neuer Snapshot
+ */
+public record LeaderboardUpdatedEvent(LeaderboardSnapshot previous, LeaderboardSnapshot current) {
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (LeaderboardUpdatedEvent.java)
+   ------------------------------------------------------------
+   - Application Event nach dem Austausch des Leaderboard-Snapshots
+   - Enthält alten und neuen Stand
+   - Wird vom LiveUpdateService für den SSE-Stream genutzt
+   ============================================================ */
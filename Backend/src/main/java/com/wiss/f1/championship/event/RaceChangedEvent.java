@@ -0,0 +1,31 @@
+package com.wiss.f1.championship.event;
+
+import com.wiss.f1.championship.entity.RaceStatus;
+
+/**
+ * Event: Ein Rennen wurde erstellt, geändert, geschlossen oder gelöscht.
+ *
+ * Wird vom RaceService nach der Änderung veröffentlicht. Listener (z.B. der
+ * Leaderboard-Snapshot) reagieren erst nach erfolgreichem Commit.
+ *
+ * @param raceId ID des Rennens
+ * @param status Status des Rennens nach der Änderung (null bei DELETED)
+ * @param type   Art der Änderung
+ */
+public record RaceChangedEvent(Long raceId, RaceStatus status, Type type) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        CLOSED,
+        DELETED
+    }
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (RaceChangedEvent.java)
+   ------------------------------------------------------------
+   - Application Event für Änderungen an Rennen
+   - Typen: CREATED, UPDATED, CLOSED, DELETED
+   - Wird u.a. vom LeaderboardService zur Invalidierung genutzt
+   ============================================================ */
@@ -0,0 +1,21 @@
+package com.wiss.f1.championship.event;
+
+/**
+ * Event: Die Punkte eines Rennens wurden im Hintergrund neu berechnet.
+ *
+ * Wird vom ScoringJobService nach jedem erfolgreichen Lauf veröffentlicht,
+ * sobald race_scores und user_standings für das Rennen committet sind.
+ *
+ * @param raceId    ID des Rennens
+ * @param scoreRows Anzahl geschriebener RaceScore-Zeilen
+ */
+public record RaceScoredEvent(Long raceId, int scoreRows) {
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (RaceScoredEvent.java)
+   ------------------------------------------------------------
+   - Application Event für eine abgeschlossene Neuberechnung
+   - Enthält Renn-ID und Anzahl geschriebener RaceScores
+   - Wird u.a. vom LeaderboardService zur Invalidierung genutzt
+   ============================================================ */
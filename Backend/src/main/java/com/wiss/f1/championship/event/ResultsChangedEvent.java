@@ -0,0 +1,19 @@
+package com.wiss.f1.championship.event;
+
+/**
+ * Event: Die offiziellen Ergebnisse eines Rennens wurden geändert.
+ *
+ * Wird vom OfficialResultService nach dem Anlegen oder Löschen von
+ * Ergebnissen veröffentlicht.
+ *
+ * @param raceId ID des betroffenen Rennens
+ */
+public record ResultsChangedEvent(Long raceId) {
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (ResultsChangedEvent.java)
+   ------------------------------------------------------------
+   - Application Event für geänderte offizielle Ergebnisse
+   - Enthält die ID des betroffenen Rennens
+   ============================================================ */
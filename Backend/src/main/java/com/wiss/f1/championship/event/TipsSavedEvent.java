@@ -0,0 +1,23 @@
+package com.wiss.f1.championship.event;
+
+import com.wiss.f1.championship.entity.RaceStatus;
+
+/**
+ * Event: Ein User hat seinen Tipp für ein Rennen gespeichert.
+ *
+ * Wird vom TipService nach saveOrUpdateTip veröffentlicht. Der Status des
+ * Rennens wird mitgegeben, da nur Tipps für geschlossene Rennen Punkte ändern.
+ *
+ * @param userId     ID des Users
+ * @param raceId     ID des Rennens
+ * @param raceStatus Status des Rennens zum Zeitpunkt des Speicherns
+ */
+public record TipsSavedEvent(Long userId, Long raceId, RaceStatus raceStatus) {
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (TipsSavedEvent.java)
+   ------------------------------------------------------------
+   - Application Event für gespeicherte Tipps
+   - Enthält User-ID, Renn-ID und Status des Rennens
+   ============================================================ */
@@ -0,0 +1,26 @@
+package com.wiss.f1.championship.event;
+
+/**
+ * Event: Ein User wurde registriert oder hat sein Profil geändert.
+ *
+ * Wird vom AppUserService veröffentlicht. Relevant z.B. für das Leaderboard
+ * (neuer Eintrag oder neuer Anzeigename).
+ *
+ * @param userId   ID des Users
+ * @param username Benutzername
+ * @param type     Art der Änderung
+ */
+public record UserChangedEvent(Long userId, String username, Type type) {
+
+    public enum Type {
+        REGISTERED,
+        PROFILE_UPDATED
+    }
+}
+
+/* ============================================================
+   ZUSAMMENFASSUNG DIESES FILES (UserChangedEvent.java)
+   ------------------------------------------------------------
+   - Application Event für Registrierung und Profiländerungen
+   - Typen: REGISTERED, PROFILE_UPDATED
+   ============================================================ */
@@ -1,7 +1,11 @@
 package com.wiss.f1.championship.exception;
 
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -118,6 +122,41 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    /**
+     * Behandelt Verletzungen von DB-Constraints.
+     * Z.B. eine bereits vergebene Ergebnis-Position oder ein doppelter Tipp.
+     * Response: 409 CONFLICT
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                "Conflict",
+                "Der Eintrag verletzt eine Eindeutigkeitsregel und wurde nicht gespeichert"
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Behandelt eine nicht verfügbare Datenbank bzw. einen erschöpften Connection-Pool.
+     * Tritt auf, wenn innerhalb von spring.datasource.hikari.connection-timeout keine
+     * Verbindung frei wird (z.B. bei vielen parallelen virtuellen Threads).
+     * Response: 503 SERVICE UNAVAILABLE mit Retry-After
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<ErrorResponse> handleDatabaseUnavailable(Exception ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                "Die Datenbank ist momentan ausgelastet, bitte später erneut versuchen"
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
     /**
      * Behandelt Validierungsfehler (@Valid Annotation).
      * Extrahiert alle Feld-Fehler und gibt sie strukturiert zurück.
@@ -171,6 +210,8 @@ public class GlobalExceptionHandler {
      *    - Rennen-bezogen: RaceNotFoundException
      *    - Validierung: MethodArgumentNotValidException
      *    - Allgemeine Argumentfehler: IllegalArgumentException
+     *    - DB-Constraints (z.B. doppelte Positionen): DataIntegrityViolationException
+     *    - DB nicht erreichbar / Pool erschöpft: CannotCreateTransactionException → 503
      *    - Unerwartete Fehler: Exception
      * 4. Macht API-Antworten konsistent und erleichtert Frontend-Fehlerbehandlung.
      */
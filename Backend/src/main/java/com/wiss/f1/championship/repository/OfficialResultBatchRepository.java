@@ -0,0 +1,29 @@
+package com.wiss.f1.championship.repository;
+
+import com.wiss.f1.championship.entity.OfficialResult;
+
+import java.util.List;
+
+/**
+ * Repository-Fragment für das gesammelte Einfügen offizieller Ergebnisse.
+ *
+ * OfficialResult verwendet IDENTITY-IDs; Hibernate würde jede Zeile einzeln
+ * einfügen. Eine komplette Klassifizierung (bis zu 20 Fahrer) wird deshalb
+ * wie die Tipps per JDBC-Batch geschrieben.
+ */
+public interface OfficialResultBatchRepository {
+
+    /**
+     * Fügt alle Ergebnisse mit einem JDBC-Batch ein.
+     * Die generierten IDs werden in die übergebenen Objekte übernommen.
+     * @param results neue Ergebnisse mit gesetztem Rennen, Fahrer und Position
+     * @return Anzahl eingefügter Zeilen
+     */
+    int insertAll(List<OfficialResult> results);
+}
+
+/*
+ * Zusammenfassung:
+ * Fragment-Interface von OfficialResultRepository für Batch-Inserts in die Tabelle
+ * "official_results". Die Implementierung nutzt JdbcTemplate.batchUpdate.
+ */
@@ -0,0 +1,70 @@
+package com.wiss.f1.championship.repository;
+
+import com.wiss.f1.championship.entity.OfficialResult;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC-Implementierung von OfficialResultBatchRepository.
+ *
+ * Läuft in der Transaktion des Aufrufers (gleiche Connection wie JPA),
+ * ein vorheriger Bulk-Delete und das Einfügen sind also atomar. Die generierten
+ * IDs liest der Batch direkt mit aus (kein erneutes Lesen der Zeilen).
+ */
+public class OfficialResultBatchRepositoryImpl implements OfficialResultBatchRepository {
+
+    private static final String INSERT_SQL =
+            "insert into official_results (race_id, driver_id, final_position) values (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OfficialResultBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int insertAll(List<OfficialResult> results) {
+        if (results.isEmpty()) {
+            return 0;
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[] {"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        OfficialResult result = results.get(i);
+                        ps.setLong(1, result.getRace().getId());
+                        ps.setLong(2, result.getDriver().getId());
+                        ps.setInt(3, result.getFinalPosition());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return results.size();
+                    }
+                },
+                keyHolder);
+
+        // Schlüssel kommen in Batch-Reihenfolge zurück
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < results.size(); i++) {
+            results.get(i).setId(((Number) keys.get(i).get("id")).longValue());
+        }
+        return results.size();
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * Schreibt neue offizielle Ergebnisse per JdbcTemplate.batchUpdate in die Tabelle
+ * "official_results" und übernimmt die generierten IDs. Wird über OfficialResultRepository (Fragment) aus dem
+ * OfficialResultService aufgerufen.
+ */
@@ -1,8 +1,12 @@
 package com.wiss.f1.championship.repository;
 
+import com.wiss.f1.championship.dto.ResultRowDTO;
 import com.wiss.f1.championship.entity.OfficialResult;
 import com.wiss.f1.championship.entity.Race;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,7 +17,7 @@ import java.util.List;
  * Ermöglicht CRUD-Operationen und Abfragen basierend auf Rennen.
  */
 @Repository
-public interface OfficialResultRepository extends JpaRepository<OfficialResult, Long> {
+public interface OfficialResultRepository extends JpaRepository<OfficialResult, Long>, OfficialResultBatchRepository {
 
     /**
      * Liefert alle offiziellen Ergebnisse für ein gegebenes Rennen.
@@ -28,6 +32,45 @@ public interface OfficialResultRepository extends JpaRepository<OfficialResult,
      * @return Liste der OfficialResult-Objekte
      */
     List<OfficialResult> findByRaceId(Long id);
+
+    /**
+     * Liefert alle Ergebnisse aller geschlossenen Rennen als schlanke Projektion.
+     * Eine einzige Abfrage für die gesamte Saison, ohne Entity-Hydrierung.
+     * @return Liste von ResultRowDTOs (raceId, finalPosition, driverId)
+     */
+    @Query("select new com.wiss.f1.championship.dto.ResultRowDTO(r.race.id, r.finalPosition, r.driver.id) " +
+           "from OfficialResult r " +
+           "where r.race.status = com.wiss.f1.championship.entity.RaceStatus.CLOSED")
+    List<ResultRowDTO> findClosedRaceResultRows();
+
+    /**
+     * Liefert die Ergebnisse eines einzelnen Rennens als schlanke Projektion.
+     * @param raceId ID des Rennens
+     * @return Liste von ResultRowDTOs (raceId, finalPosition, driverId)
+     */
+    @Query("select new com.wiss.f1.championship.dto.ResultRowDTO(r.race.id, r.finalPosition, r.driver.id) " +
+           "from OfficialResult r where r.race.id = :raceId")
+    List<ResultRowDTO> findResultRowsByRaceId(@Param("raceId") Long raceId);
+
+    /**
+     * Liefert die Ergebnisse aller Rennen als schlanke Projektion,
+     * sortiert nach Rennen und Position (z.B. für die Rennliste).
+     * @return Liste von ResultRowDTOs (raceId, finalPosition, driverId)
+     */
+    @Query("select new com.wiss.f1.championship.dto.ResultRowDTO(r.race.id, r.finalPosition, r.driver.id) " +
+           "from OfficialResult r order by r.race.id, r.finalPosition")
+    List<ResultRowDTO> findAllResultRows();
+
+    /**
+     * Löscht alle Ergebnisse eines Rennens mit einem einzigen DELETE-Statement,
+     * ohne die Zeilen vorher zu laden. Läuft sofort, also vor neuen Inserts
+     * derselben Positionen im gleichen Transaktionskontext.
+     * @param raceId ID des Rennens
+     * @return Anzahl gelöschter Zeilen
+     */
+    @Modifying
+    @Query("delete from OfficialResult r where r.race.id = :raceId")
+    int deleteByRaceId(@Param("raceId") Long raceId);
 }
 
 /*
@@ -35,5 +78,8 @@ public interface OfficialResultRepository extends JpaRepository<OfficialResult,
  * Dieses Interface stellt die Datenzugriffsschicht für OfficialResult bereit.
  * Es erweitert JpaRepository, wodurch Standard-CRUD-Methoden verfügbar sind.
  * Zusätzlich können alle Ergebnisse eines bestimmten Rennens über Race-Objekt
- * oder die Renn-ID abgefragt werden.
+ * oder die Renn-ID abgefragt werden. Für das Leaderboard werden die Ergebnisse
+ * aller geschlossenen Rennen in einer einzigen Abfrage als Projektion geladen.
+ * Beim Ersetzen einer Ergebnisreihenfolge werden die alten Zeilen per Bulk-Delete entfernt
+ * und die neuen per JDBC-Batch (OfficialResultBatchRepository) eingefügt.
  */
@@ -0,0 +1,38 @@
+package com.wiss.f1.championship.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository-Fragment für den gefilterten, sortierten Rennkalender.
+ *
+ * Die Abfragen werden je nach gesetzten Filtern zusammengebaut, damit nur
+ * die benötigten Bedingungen im SQL stehen und der Index (status, date, id)
+ * genutzt werden kann. Paginiert wird per Keyset über (date, id).
+ */
+public interface RaceCalendarRepository {
+
+    /**
+     * Liefert die IDs einer Seite des Rennkalenders.
+     * @param filter     Status- und Datumsfilter
+     * @param descending true = neueste zuerst, false = älteste zuerst
+     * @param afterDate  Datum des letzten Rennens der Vorseite (null für die erste Seite)
+     * @param afterId    ID des letzten Rennens der Vorseite (null für die erste Seite)
+     * @param limit      maximale Anzahl IDs
+     * @return Renn-IDs sortiert nach (date, id)
+     */
+    List<Long> findRaceIds(RaceFilter filter, boolean descending, LocalDate afterDate, Long afterId, int limit);
+
+    /**
+     * @param filter Status- und Datumsfilter
+     * @return Anzahl aller Rennen, die den Filter erfüllen
+     */
+    long countRaces(RaceFilter filter);
+}
+
+/*
+ * Zusammenfassung:
+ * Fragment-Interface von RaceRepository für Filter, Sortierung und Keyset-Paginierung
+ * des Rennkalenders. Die Implementierung (RaceCalendarRepositoryImpl) baut JPQL passend
+ * zu den gesetzten Filtern.
+ */
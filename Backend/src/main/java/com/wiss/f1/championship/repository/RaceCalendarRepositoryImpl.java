@@ -0,0 +1,93 @@
+package com.wiss.f1.championship.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.jpa.HibernateHints;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * JPQL-Implementierung von RaceCalendarRepository.
+ *
+ * Läuft in der Transaktion des Aufrufers. Es werden nur IDs bzw. eine Anzahl
+ * gelesen; die Rennen selbst lädt RaceRepository.findRaceListingRowsByIds.
+ *
+ * Beide Abfragen lesen nur die Tabelle races und liegen im Query-Cache (Schlüssel sind
+ * JPQL und Parameter). Hibernate verwirft die Ergebnisse, sobald ein Rennen geändert wird.
+ */
+public class RaceCalendarRepositoryImpl implements RaceCalendarRepository {
+
+    private final EntityManager entityManager;
+
+    public RaceCalendarRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Long> findRaceIds(RaceFilter filter, boolean descending, LocalDate afterDate, Long afterId, int limit) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameters = new HashMap<>();
+        addFilter(filter, conditions, parameters);
+
+        String direction = descending ? "desc" : "asc";
+        if (afterDate != null && afterId != null) {
+            // Keyset: alles nach (afterDate, afterId) in Sortierrichtung
+            String op = descending ? "<" : ">";
+            conditions.add("(r.date " + op + " :afterDate or (r.date = :afterDate and r.id " + op + " :afterId))");
+            parameters.put("afterDate", afterDate);
+            parameters.put("afterId", afterId);
+        }
+
+        String jpql = "select r.id from Race r" + where(conditions)
+                + " order by r.date " + direction + ", r.id " + direction;
+        TypedQuery<Long> query = entityManager.createQuery(jpql, Long.class)
+                .setHint(HibernateHints.HINT_CACHEABLE, true);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public long countRaces(RaceFilter filter) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameters = new HashMap<>();
+        addFilter(filter, conditions, parameters);
+
+        TypedQuery<Long> query = entityManager.createQuery(
+                "select count(r) from Race r" + where(conditions), Long.class)
+                .setHint(HibernateHints.HINT_CACHEABLE, true);
+        parameters.forEach(query::setParameter);
+        return query.getSingleResult();
+    }
+
+    // Nur gesetzte Filter werden zu Bedingungen (kein "(:x is null or …)", das Indizes aushebelt)
+    private static void addFilter(RaceFilter filter, List<String> conditions, Map<String, Object> parameters) {
+        if (!filter.statuses().isEmpty()) {
+            conditions.add("r.status in :statuses");
+            parameters.put("statuses", filter.statuses());
+        }
+        if (filter.from() != null) {
+            conditions.add("r.date >= :from");
+            parameters.put("from", filter.from());
+        }
+        if (filter.to() != null) {
+            conditions.add("r.date <= :to");
+            parameters.put("to", filter.to());
+        }
+    }
+
+    private static String where(List<String> conditions) {
+        return conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions);
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * RaceCalendarRepositoryImpl baut die Abfragen des Rennkalenders aus den gesetzten
+ * Filtern (Status, Datumsbereich) und dem Keyset-Cursor (date, id) zusammen und liefert
+ * Renn-IDs einer Seite bzw. die Gesamtanzahl.
+ */
@@ -0,0 +1,82 @@
+package com.wiss.f1.championship.repository;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import com.wiss.f1.championship.entity.RaceStatus;
+
+/**
+ * Filter für den Rennkalender (GET /api/races?status=…&from=…&to=…).
+ *
+ * Alle Teile sind optional: leere Status-Menge = alle Status, from/to = null
+ * = keine Grenze. Die Datumsgrenzen sind inklusive.
+ *
+ * @param statuses erlaubte Status (leer = alle)
+ * @param from     frühestes Datum (inklusive) oder null
+ * @param to       spätestes Datum (inklusive) oder null
+ */
+public record RaceFilter(Set<RaceStatus> statuses, LocalDate from, LocalDate to) {
+
+    public RaceFilter {
+        statuses = statuses == null || statuses.isEmpty() ? Set.of() : Set.copyOf(statuses);
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("from darf nicht nach to liegen");
+        }
+    }
+
+    /**
+     * @return Filter ohne Einschränkung
+     */
+    public static RaceFilter all() {
+        return new RaceFilter(Set.of(), null, null);
+    }
+
+    /**
+     * @param today frühestes Datum (inklusive)
+     * @return nur Rennen ab today, die noch nicht geschlossen sind (geplant oder im Voting)
+     */
+    public static RaceFilter upcoming(LocalDate today) {
+        return new RaceFilter(EnumSet.of(RaceStatus.OPEN, RaceStatus.TIPPABLE), today, null);
+    }
+
+    /**
+     * Liest den Filter aus den Request-Parametern.
+     * @param statuses Status als Enum-Namen oder Frontend-Werte (z.B. TIPPABLE oder voting), darf null sein
+     * @param from     Datum im Format JJJJ-MM-TT, darf null sein
+     * @param to       Datum im Format JJJJ-MM-TT, darf null sein
+     * @return Filter
+     * @throws IllegalArgumentException bei unbekanntem Status oder ungültigem Datum
+     */
+    public static RaceFilter fromParams(List<String> statuses, String from, String to) {
+        Set<RaceStatus> parsed = EnumSet.noneOf(RaceStatus.class);
+        if (statuses != null) {
+            for (String status : statuses) {
+                if (status != null && !status.isBlank()) {
+                    parsed.add(RaceStatus.fromString(status));
+                }
+            }
+        }
+        return new RaceFilter(parsed, parseDate("from", from), parseDate("to", to));
+    }
+
+    private static LocalDate parseDate(String name, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(name + " muss ein Datum im Format JJJJ-MM-TT sein: " + value);
+        }
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * RaceFilter beschreibt die optionalen Filter des Rennkalenders (Status, Datumsbereich)
+ * und liest sie aus den Request-Parametern. Wird von RaceCalendarRepository in die
+ * WHERE-Bedingung übersetzt; der Index (status, date, id) aus V4 deckt sie ab.
+ */
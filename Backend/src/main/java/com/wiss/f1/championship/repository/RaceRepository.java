@@ -1,16 +1,76 @@
 package com.wiss.f1.championship.repository;
 
+import java.util.Collection;
+import java.util.List;
+
+import com.wiss.f1.championship.dto.RaceColumnDTO;
+import com.wiss.f1.championship.dto.RaceListingRowDTO;
+import com.wiss.f1.championship.dto.RaceStatusCountDTO;
 import com.wiss.f1.championship.entity.Race;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository für Race-Entitäten.
  * Bietet Zugriff auf die "races"-Tabelle.
- * Erweitert JpaRepository für Standard-CRUD-Operationen.
+ * Erweitert JpaRepository für Standard-CRUD-Operationen und
+ * RaceCalendarRepository für Filter und Paginierung des Rennkalenders.
  */
 @Repository
-public interface RaceRepository extends JpaRepository<Race, Long> {
+public interface RaceRepository extends JpaRepository<Race, Long>, RaceCalendarRepository {
+
+    /**
+     * Lädt alle Rennen samt Ergebnisreihenfolge mit einer Abfrage.
+     * Pro Ergebnisposition eine Zeile, Rennen ohne Ergebnis mit driverName = null;
+     * sortiert nach Rennen und Position.
+     */
+    @Query("select new com.wiss.f1.championship.dto.RaceListingRowDTO(" +
+           "r.id, r.name, r.date, r.track, r.weather, r.tyres, r.status, d.name) " +
+           "from Race r left join OfficialResult o on o.race = r left join o.driver d " +
+           "order by r.id, o.finalPosition")
+    List<RaceListingRowDTO> findRaceListingRows();
+
+    /**
+     * Wie findRaceListingRows, aber nur für ein Rennen (leer, falls es nicht existiert).
+     */
+    @Query("select new com.wiss.f1.championship.dto.RaceListingRowDTO(" +
+           "r.id, r.name, r.date, r.track, r.weather, r.tyres, r.status, d.name) " +
+           "from Race r left join OfficialResult o on o.race = r left join o.driver d " +
+           "where r.id = :raceId order by o.finalPosition")
+    List<RaceListingRowDTO> findRaceListingRowsById(@Param("raceId") Long raceId);
+
+    /**
+     * Wie findRaceListingRows, aber nur für die angegebenen Rennen (z.B. eine Kalenderseite).
+     * Sortiert nach Rennen-ID und Position; die Seitenreihenfolge stellt der Aufrufer her.
+     */
+    @Query("select new com.wiss.f1.championship.dto.RaceListingRowDTO(" +
+           "r.id, r.name, r.date, r.track, r.weather, r.tyres, r.status, d.name) " +
+           "from Race r left join OfficialResult o on o.race = r left join o.driver d " +
+           "where r.id in :raceIds order by r.id, o.finalPosition")
+    List<RaceListingRowDTO> findRaceListingRowsByIds(@Param("raceIds") Collection<Long> raceIds);
+
+    /**
+     * Anzahl Rennen pro Status (Status ohne Rennen fehlen).
+     * Liest nur die Tabelle races und liegt deshalb im Query-Cache; jede Änderung an
+     * einem Rennen über Hibernate macht das Ergebnis ungültig.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select new com.wiss.f1.championship.dto.RaceStatusCountDTO(r.status, count(r)) " +
+           "from Race r group by r.status")
+    List<RaceStatusCountDTO> countRacesByStatus();
+
+    /**
+     * Alle Rennen mit mindestens einer Wertung, nach Datum sortiert (Spalten des Leaderboard-Exports).
+     */
+    @Query("select new com.wiss.f1.championship.dto.RaceColumnDTO(r.id, r.name) from Race r " +
+           "where exists (select 1 from RaceScore s where s.race = r) order by r.date, r.id")
+    List<RaceColumnDTO> findScoredRaceColumns();
 }
 
 /*
@@ -18,4 +78,8 @@ public interface RaceRepository extends JpaRepository<Race, Long> {
  * Dieses Interface stellt die Datenzugriffsschicht für Race bereit.
  * Durch das Erweitern von JpaRepository sind Standardmethoden wie
  * save, findById, findAll, deleteById automatisch verfügbar.
+ * Für die Lese-Endpunkte liefert es die Rennliste inklusive Ergebnisreihenfolge
+ * als Projektion in einer einzigen Abfrage, dazu Kalenderseiten (über das Fragment
+ * RaceCalendarRepository), die Anzahl Rennen pro Status (Query-Cache) und die
+ * gewerteten Rennen als Spalten des Leaderboard-Exports.
  */
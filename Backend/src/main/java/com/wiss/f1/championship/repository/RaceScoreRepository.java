@@ -0,0 +1,44 @@
+package com.wiss.f1.championship.repository;
+
+import com.wiss.f1.championship.dto.StandingTotalDTO;
+import com.wiss.f1.championship.entity.RaceScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository für RaceScore-Entitäten.
+ * Bietet Zugriff auf die materialisierten Punkte pro User und Rennen ("race_scores").
+ */
+public interface RaceScoreRepository extends JpaRepository<RaceScore, Long> {
+
+    // IDs aller User, die für ein Rennen Punkte haben
+    @Query("select s.user.id from RaceScore s where s.race.id = :raceId")
+    List<Long> findUserIdsByRaceId(@Param("raceId") Long raceId);
+
+    // Alle Punkte eines Rennens in einem Statement löschen
+    @Modifying
+    @Query("delete from RaceScore s where s.race.id = :raceId")
+    int deleteByRaceId(@Param("raceId") Long raceId);
+
+    // Summe und Anzahl der Rennpunkte für die angegebenen User
+    @Query("select new com.wiss.f1.championship.dto.StandingTotalDTO(s.user.id, sum(s.points), count(s)) " +
+           "from RaceScore s where s.user.id in :userIds group by s.user.id")
+    List<StandingTotalDTO> sumPointsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // Summe und Anzahl der Rennpunkte für alle User
+    @Query("select new com.wiss.f1.championship.dto.StandingTotalDTO(s.user.id, sum(s.points), count(s)) " +
+           "from RaceScore s group by s.user.id")
+    List<StandingTotalDTO> sumPointsForAllUsers();
+}
+
+/*
+ * Zusammenfassung:
+ * Dieses Interface stellt die Datenzugriffsschicht für RaceScore bereit.
+ * Neben CRUD gibt es Bulk-Löschen pro Rennen und Aggregationen der Punkte pro User,
+ * aus denen der StandingsService die Saisonstände ableitet.
+ */
@@ -0,0 +1,34 @@
+package com.wiss.f1.championship.repository;
+
+import com.wiss.f1.championship.dto.StandingExportRowDTO;
+
+import java.util.function.Consumer;
+
+/**
+ * Repository-Fragment für den Export der kompletten Rangliste.
+ *
+ * Bei vielen Spielern (mehrere 100'000 × Anzahl Rennen Zeilen) darf das Ergebnis
+ * nicht als Liste im Speicher landen. Die Zeilen werden deshalb per JDBC mit
+ * Fetch-Size gelesen und einzeln an den Aufrufer weitergegeben.
+ */
+public interface StandingsExportRepository {
+
+    /**
+     * Liest alle User mit Saisonstand und Punkten pro gewertetem Rennen.
+     *
+     * Sortierung wie das Leaderboard (Punkte absteigend, dann User-ID), innerhalb
+     * eines Users nach Rennen-ID. PostgreSQL liest nur innerhalb einer Transaktion
+     * blockweise über einen Cursor; der Aufrufer muss deshalb eine (read-only)
+     * Transaktion geöffnet haben, sonst landet das ganze Resultat im Treiber.
+     *
+     * @param consumer erhält jede Zeile, während der Cursor noch offen ist
+     */
+    void streamExportRows(Consumer<StandingExportRowDTO> consumer);
+}
+
+/*
+ * Zusammenfassung:
+ * Fragment-Interface von UserStandingRepository für den Leaderboard-Export.
+ * Die Implementierung liest die Zeilen per JdbcTemplate mit Fetch-Size (Cursor)
+ * und reicht sie ohne Zwischenliste an einen Consumer weiter.
+ */
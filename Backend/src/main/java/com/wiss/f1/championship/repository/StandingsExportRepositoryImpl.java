@@ -0,0 +1,58 @@
+package com.wiss.f1.championship.repository;
+
+import com.wiss.f1.championship.dto.StandingExportRowDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.function.Consumer;
+
+/**
+ * JDBC-Implementierung von StandingsExportRepository.
+ *
+ * Läuft in der Transaktion des Aufrufers (gleiche Connection wie JPA). Die Fetch-Size
+ * wird nur auf dem eigenen Statement gesetzt, das gemeinsame JdbcTemplate bleibt unverändert.
+ */
+public class StandingsExportRepositoryImpl implements StandingsExportRepository {
+
+    // Zeilen pro Roundtrip zur Datenbank; mehr liegt nie gleichzeitig im Speicher
+    static final int FETCH_SIZE = 1000;
+
+    private static final String EXPORT_SQL =
+            "select u.id as user_id, u.username, u.display_name, coalesce(s.total_points, 0) as total, "
+            + "rs.race_id, rs.points as race_points "
+            + "from app_users u "
+            + "left join user_standings s on s.user_id = u.id "
+            + "left join race_scores rs on rs.user_id = u.id "
+            + "order by total desc, u.id, rs.race_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StandingsExportRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void streamExportRows(Consumer<StandingExportRowDTO> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new StandingExportRowDTO(
+                rs.getLong("user_id"),
+                rs.getString("username"),
+                rs.getString("display_name"),
+                rs.getInt("total"),
+                rs.getObject("race_id", Long.class),
+                rs.getObject("race_points", Integer.class))));
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * Liest Saisonstände und Rennpunkte aller User in einem Statement (vorwärts, read-only,
+ * Fetch-Size 1000) und gibt jede Zeile direkt an den Consumer weiter. Wird über
+ * UserStandingRepository (Fragment) aus dem LeaderboardExportService aufgerufen.
+ */
@@ -0,0 +1,29 @@
+package com.wiss.f1.championship.repository;
+
+import com.wiss.f1.championship.entity.Tip;
+
+import java.util.List;
+
+/**
+ * Repository-Fragment für das gesammelte Einfügen von Tipps.
+ *
+ * Tip verwendet IDENTITY-IDs; Hibernate muss deshalb jede Zeile einzeln
+ * einfügen, um die ID zurückzulesen. Beim Speichern eines Tipps brauchen
+ * wir die IDs nicht, daher werden die Zeilen per JDBC-Batch geschrieben.
+ */
+public interface TipBatchRepository {
+
+    /**
+     * Fügt alle Tipps mit einem JDBC-Batch ein (ein Roundtrip statt einer
+     * INSERT-Anweisung pro Tipp). Die übergebenen Objekte erhalten keine ID.
+     * @param tips neue Tipps mit gesetztem User, Rennen, Fahrer und Position
+     * @return Anzahl eingefügter Zeilen
+     */
+    int insertAll(List<Tip> tips);
+}
+
+/*
+ * Zusammenfassung:
+ * Fragment-Interface von TipRepository für Batch-Inserts in die Tabelle "voting".
+ * Die Implementierung (TipBatchRepositoryImpl) nutzt JdbcTemplate.batchUpdate.
+ */
@@ -0,0 +1,48 @@
+package com.wiss.f1.championship.repository;
+
+import com.wiss.f1.championship.entity.Tip;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC-Implementierung von TipBatchRepository.
+ *
+ * Läuft in der Transaktion des Aufrufers (gleiche Connection wie JPA),
+ * ein vorheriger Bulk-Delete und das Einfügen sind also atomar.
+ */
+public class TipBatchRepositoryImpl implements TipBatchRepository {
+
+    private static final String INSERT_SQL =
+            "insert into voting (user_id, race_id, driver_id, predicted_position, updated_at) values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TipBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int insertAll(List<Tip> tips) {
+        if (tips.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, tips, tips.size(), (ps, tip) -> {
+            LocalDateTime updatedAt = tip.getUpdatedAt() != null ? tip.getUpdatedAt() : LocalDateTime.now();
+            ps.setLong(1, tip.getUser().getId());
+            ps.setLong(2, tip.getRace().getId());
+            ps.setLong(3, tip.getDriver().getId());
+            ps.setInt(4, tip.getPredictedPosition());
+            ps.setTimestamp(5, Timestamp.valueOf(updatedAt));
+        });
+        return tips.size();
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * Schreibt neue Tipps per JdbcTemplate.batchUpdate in die Tabelle "voting".
+ * Wird über TipRepository (Fragment) aus dem TipService aufgerufen.
+ */
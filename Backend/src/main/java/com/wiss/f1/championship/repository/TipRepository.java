@@ -1,10 +1,16 @@
 package com.wiss.f1.championship.repository;
 
+import com.wiss.f1.championship.dto.TipHistoryRowDTO;
+import com.wiss.f1.championship.dto.TipRowDTO;
 import com.wiss.f1.championship.entity.AppUser;
 import com.wiss.f1.championship.entity.Race;
 import com.wiss.f1.championship.entity.Tip;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,7 +19,7 @@ import java.util.Optional;
  * Stellt Methoden bereit, um Tipps (Prognosen der Nutzer für Rennen) zu speichern,
  * abzurufen und zu prüfen, ob ein Tipp bereits existiert.
  */
-public interface TipRepository extends JpaRepository<Tip, Long> {
+public interface TipRepository extends JpaRepository<Tip, Long>, TipBatchRepository {
 
     // Alle Tipps eines Users anhand der User-ID abrufen
     List<Tip> findByUserId(Long userId);
@@ -27,6 +33,11 @@ public interface TipRepository extends JpaRepository<Tip, Long> {
     // Alle Tipps eines Users für ein bestimmtes Rennen abrufen
     List<Tip> findByUserIdAndRaceId(Long userId, Long raceId);
 
+    // Alle Tipps eines Users für die angegebenen Rennen in einem Statement löschen
+    @Modifying
+    @Query("delete from Tip t where t.user.id = :userId and t.race.id in :raceIds")
+    int deleteByUserIdAndRaceIdIn(@Param("userId") Long userId, @Param("raceIds") Collection<Long> raceIds);
+
     // Alle Tipps eines Users abrufen (Objekt statt ID)
     List<Tip> findByUser(AppUser user);
 
@@ -35,6 +46,32 @@ public interface TipRepository extends JpaRepository<Tip, Long> {
 
     // Prüfen, ob ein Tipp für einen User und ein Rennen existiert
     boolean existsByUserAndRace(AppUser user, Race race);
+
+    // Alle Tipps für geschlossene Rennen als Projektion, sortiert nach User und Rennen
+    @Query("select new com.wiss.f1.championship.dto.TipRowDTO(t.user.id, t.race.id, t.predictedPosition, t.driver.id) " +
+           "from Tip t " +
+           "where t.race.status = com.wiss.f1.championship.entity.RaceStatus.CLOSED " +
+           "order by t.user.id, t.race.id")
+    List<TipRowDTO> findClosedRaceTipRows();
+
+    // Tipps eines Users für geschlossene Rennen als Projektion, sortiert nach Rennen
+    @Query("select new com.wiss.f1.championship.dto.TipRowDTO(t.user.id, t.race.id, t.predictedPosition, t.driver.id) " +
+           "from Tip t " +
+           "where t.user.id = :userId and t.race.status = com.wiss.f1.championship.entity.RaceStatus.CLOSED " +
+           "order by t.race.id")
+    List<TipRowDTO> findClosedRaceTipRowsByUserId(@Param("userId") Long userId);
+
+    // Alle Tipps eines Rennens als Projektion, sortiert nach User
+    @Query("select new com.wiss.f1.championship.dto.TipRowDTO(t.user.id, t.race.id, t.predictedPosition, t.driver.id) " +
+           "from Tip t where t.race.id = :raceId order by t.user.id")
+    List<TipRowDTO> findTipRowsByRaceId(@Param("raceId") Long raceId);
+
+    // Alle Tipps eines Users mit Fahrernamen in einem Statement, sortiert nach Rennen und Position
+    @Query("select new com.wiss.f1.championship.dto.TipHistoryRowDTO(t.race.id, t.predictedPosition, d.name, t.updatedAt) " +
+           "from Tip t join t.driver d " +
+           "where t.user.id = :userId " +
+           "order by t.race.id, t.predictedPosition")
+    List<TipHistoryRowDTO> findTipHistoryByUserId(@Param("userId") Long userId);
 }
 
 /*
@@ -42,4 +79,10 @@ public interface TipRepository extends JpaRepository<Tip, Long> {
  * Dieses Interface dient als Datenzugriffsschicht für die Tip-Entität.
  * Es bietet neben den Standard-CRUD-Methoden zusätzliche Abfragen,
  * um Tipps nach User, Rennen oder vorhergesagter Position zu filtern.
+ * Für das Leaderboard liefern Projektionsabfragen alle Tipps geschlossener
+ * Rennen in einem Schritt, sortiert für die Auswertung in einem Durchlauf.
+ * Die Tipp-Historie eines Users kommt ebenfalls als Projektion (mit Fahrernamen)
+ * in einer einzigen Abfrage.
+ * Beim Speichern werden alte Tipps per Bulk-Delete entfernt und neue über
+ * das Fragment TipBatchRepository als JDBC-Batch eingefügt.
  */
@@ -0,0 +1,34 @@
+package com.wiss.f1.championship.repository;
+
+import com.wiss.f1.championship.dto.StandingRowDTO;
+import com.wiss.f1.championship.entity.UserStanding;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+/**
+ * Repository für UserStanding-Entitäten.
+ * Bietet Zugriff auf die materialisierten Saisonstände ("user_standings").
+ * Erweitert StandingsExportRepository für den gestreamten Export der Rangliste.
+ */
+public interface UserStandingRepository extends JpaRepository<UserStanding, Long>, StandingsExportRepository {
+
+    // Vollständige Rangliste: alle User mit Punkten (0 ohne Stand), absteigend sortiert
+    @Query("select new com.wiss.f1.championship.dto.StandingRowDTO(u.id, u.username, u.displayName, coalesce(s.totalPoints, 0)) " +
+           "from AppUser u left join UserStanding s on s.userId = u.id " +
+           "order by coalesce(s.totalPoints, 0) desc, u.id asc")
+    List<StandingRowDTO> findLeaderboardRows();
+
+    // IDs aller User mit einem Stand
+    @Query("select s.userId from UserStanding s")
+    List<Long> findAllUserIds();
+}
+
+/*
+ * Zusammenfassung:
+ * Dieses Interface stellt die Datenzugriffsschicht für UserStanding bereit.
+ * findLeaderboardRows liefert die komplette Rangliste in einer einzigen Abfrage,
+ * findAllUserIds die User, deren Stand nachgezogen werden muss, wenn ein Rennen wegfällt,
+ * streamExportRows (Fragment) dieselbe Rangliste mit Rennpunkten zeilenweise für den Export.
+ */
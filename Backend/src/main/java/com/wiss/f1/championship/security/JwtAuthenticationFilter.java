@@ -12,6 +12,7 @@ import com.wiss.f1.championship.entity.AppUser;
 import com.wiss.f1.championship.service.AppUserService;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,16 +24,23 @@ import jakarta.servlet.http.HttpServletResponse;
  * Wird bei jeder Anfrage einmal ausgeführt (OncePerRequestFilter).
  * Prüft den Authorization-Header auf ein JWT-Token und authentifiziert
  * den Benutzer im Spring Security-Kontext, falls das Token gültig ist.
+ *
+ * Bereits geprüfte Tokens kommen aus dem PrincipalCache; nur bei einem
+ * Fehlgriff werden Signatur geprüft und der Benutzer aus der DB geladen.
+ * Kaputte, abgelaufene oder ungültig signierte Tokens führen zu keiner
+ * Authentifizierung (Spring Security antwortet dann mit 401/403).
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final AppUserService userService;
+    private final PrincipalCache principalCache;
 
-    public JwtAuthenticationFilter(JwtService jwtService, AppUserService userService) {
+    public JwtAuthenticationFilter(JwtService jwtService, AppUserService userService, PrincipalCache principalCache) {
         this.jwtService = jwtService;
         this.userService = userService;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -55,14 +63,42 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         // JWT-Token extrahieren
-        String token = authHeader.substring(7);
+        String token = authHeader.substring(7).trim();
+
+        // Schnelle Ablehnung: kein JWT-Format → nicht authentifizieren
+        if (!jwtService.isWellFormed(token)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
 
-        // Claims aus dem Token extrahieren
-        Claims claims = jwtService.extractClaims(token);
-        String username = claims.getSubject();
+        // Bereits geprüftes Token? Dann weder Signaturprüfung noch DB-Abfrage
+        PrincipalCache.Entry cached = principalCache.get(token);
+        AppUser user = cached != null ? cached.user() : null;
+
+        if (user == null) {
+            // Schnelle Ablehnung: abgelaufen (exp vor der Signaturprüfung gelesen)
+            if (jwtService.isExpiredUnverified(token)) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            // Claims aus dem Token extrahieren (Signatur und Ablauf werden geprüft)
+            Claims claims;
+            try {
+                claims = jwtService.extractClaims(token);
+            } catch (JwtException | IllegalArgumentException e) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            String username = claims.getSubject();
+
+            // Benutzer anhand des Usernames laden und für weitere Requests merken
+            user = userService.getUserByUsername(username).orElse(null);
+            if (user != null) {
+                principalCache.put(token, user, claims.getExpiration());
+            }
+        }
 
-        // Benutzer anhand des Usernames laden
-        AppUser user = userService.getUserByUsername(username).orElse(null);
         if (user != null) {
             // Spring Security Authentication Token erzeugen
             UsernamePasswordAuthenticationToken auth =
@@ -88,6 +124,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
  * Zusammenfassung:
  * Der JwtAuthenticationFilter prüft bei jeder HTTP-Anfrage, ob ein gültiges JWT
  * im Authorization-Header vorhanden ist. Wenn ja, wird der zugehörige AppUser
- * geladen und im SecurityContext authentifiziert. So können Controller und Services
+ * (aus dem PrincipalCache oder der DB) im SecurityContext authentifiziert. So können Controller und Services
  * auf den aktuell angemeldeten Benutzer zugreifen.
  */
@@ -2,6 +2,7 @@ package com.wiss.f1.championship.security;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.util.Base64;
 import java.util.Date;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Service;
 import com.wiss.f1.championship.entity.AppUser;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -20,20 +22,34 @@ import io.jsonwebtoken.security.Keys;
  * Funktionen:
  * - Generierung von JWTs für authentifizierte Benutzer
  * - Extraktion von Claims aus einem JWT
+ * - Schnelle Vorprüfung (Format, Ablauf), bevor die Signatur geprüft wird
+ *
+ * Schlüssel und Parser werden einmal beim Start erzeugt; der JwtParser ist
+ * unveränderlich und threadsicher und wird für alle Requests wiederverwendet.
  */
 @Service
 public class JwtService {
 
-    // Secret-Key aus application.properties
-    @Value("${jwt.secret}")
-    private String secret;
+    // Gültigkeit eines Tokens: 24h
+    private static final long EXPIRATION_MILLIS = 86400000;
+
+    // Obergrenze für die Tokenlänge (unsere Tokens sind deutlich kürzer)
+    private static final int MAX_TOKEN_LENGTH = 4096;
+
+    private final Key signingKey;
+    private final JwtParser parser;
 
     /**
-     * Erzeugt den Schlüssel zur Signatur der Tokens.
-     * @return Key-Objekt für HS256 Signatur
+     * @param secret Secret-Key aus application.properties (mindestens 32 Zeichen für HS256)
      */
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    public JwtService(@Value("${jwt.secret}") String secret) {
+        if (secret == null || secret.getBytes(StandardCharsets.UTF_8).length < 32) {
+            throw new IllegalStateException("jwt.secret muss mindestens 32 Zeichen lang sein (HS256)");
+        }
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey) // Signaturschlüssel
+                .build();
     }
 
     /**
@@ -42,26 +58,96 @@ public class JwtService {
      * @return signiertes JWT als String
      */
     public String generateToken(AppUser user) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
                 .setSubject(user.getUsername())            // Benutzername als Subject
                 .claim("role", user.getRole().name())     // Rolle als Claim
-                .setIssuedAt(new Date())                  // Erstellungszeitpunkt
-                .setExpiration(new Date(System.currentTimeMillis() + 86400000)) // Ablauf: 24h
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256) // Signatur
+                .setIssuedAt(new Date(now))               // Erstellungszeitpunkt
+                .setExpiration(new Date(now + EXPIRATION_MILLIS)) // Ablauf: 24h
+                .signWith(signingKey, SignatureAlgorithm.HS256) // Signatur
                 .compact();
     }
 
     /**
      * Extrahiert Claims (z.B. username, role) aus einem JWT.
+     * Prüft Signatur und Ablauf.
      * @param token JWT-String
      * @return Claims-Objekt
+     * @throws io.jsonwebtoken.JwtException bei ungültigem oder abgelaufenem Token
      */
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey()) // Signaturschlüssel
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * Prüft ohne Dekodierung, ob das Token wie ein signiertes JWT aussieht:
+     * drei nicht-leere Base64URL-Teile, getrennt durch Punkte.
+     * @param token JWT-String
+     * @return false für offensichtlich kaputte Tokens
+     */
+    public boolean isWellFormed(String token) {
+        if (token == null || token.isEmpty() || token.length() > MAX_TOKEN_LENGTH) {
+            return false;
+        }
+        int dots = 0;
+        int segmentLength = 0;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (segmentLength == 0) return false;
+                dots++;
+                segmentLength = 0;
+            } else if (isBase64UrlChar(c)) {
+                segmentLength++;
+            } else {
+                return false;
+            }
+        }
+        return dots == 2 && segmentLength > 0;
+    }
+
+    /**
+     * Liest den exp-Claim, ohne die Signatur zu prüfen, und meldet abgelaufene Tokens.
+     *
+     * Sicher, weil das Ergebnis nur zum Ablehnen genutzt wird: Wer exp fälscht,
+     * kann höchstens sein eigenes Token früher ablehnen lassen. Angenommen wird
+     * ein Token weiterhin nur nach vollständiger Prüfung in extractClaims().
+     *
+     * @param token wohlgeformtes JWT (siehe isWellFormed)
+     * @return true, wenn exp vorhanden ist und in der Vergangenheit liegt
+     */
+    public boolean isExpiredUnverified(String token) {
+        int start = token.indexOf('.') + 1;
+        int end = token.indexOf('.', start);
+        if (start <= 0 || end < 0) {
+            return false;
+        }
+        String payload;
+        try {
+            payload = new String(Base64.getUrlDecoder().decode(token.substring(start, end)), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return false; // Entscheidung der vollständigen Prüfung überlassen
+        }
+
+        int key = payload.indexOf("\"exp\"");
+        if (key < 0) {
+            return false;
+        }
+        int i = payload.indexOf(':', key) + 1;
+        while (i > 0 && i < payload.length() && payload.charAt(i) == ' ') i++;
+
+        long expSeconds = 0;
+        int digits = 0;
+        while (i > 0 && i < payload.length() && Character.isDigit(payload.charAt(i)) && digits < 18) {
+            expSeconds = expSeconds * 10 + (payload.charAt(i) - '0');
+            i++;
+            digits++;
+        }
+        return digits > 0 && expSeconds * 1000 <= System.currentTimeMillis();
+    }
+
+    private static boolean isBase64UrlChar(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
     }
 }
 
@@ -69,6 +155,7 @@ public class JwtService {
  * Zusammenfassung:
  * JwtService verwaltet die Erstellung und Auswertung von JSON Web Tokens.
  * Tokens enthalten Username und Rolle des Benutzers, werden mit HS256 signiert
- * und sind 24 Stunden gültig. Die extractClaims-Methode ermöglicht es,
- * Daten aus einem vorhandenen Token zu lesen (z.B. zur Authentifizierung in Filtern).
+ * und sind 24 Stunden gültig. Schlüssel und Parser werden einmalig beim Start gebaut.
+ * isWellFormed() und isExpiredUnverified() erlauben dem Filter, kaputte oder
+ * abgelaufene Tokens ohne Signaturprüfung abzuweisen; extractClaims() prüft vollständig.
  */
@@ -0,0 +1,147 @@
+package com.wiss.f1.championship.security;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.wiss.f1.championship.dto.CacheStatsDTO;
+import com.wiss.f1.championship.entity.AppUser;
+import com.wiss.f1.championship.event.UserChangedEvent;
+
+/**
+ * Cache für bereits geprüfte JWTs und den zugehörigen AppUser.
+ *
+ * Schlüssel ist das Token selbst: Ein Treffer bedeutet, dass genau dieses Token
+ * schon einmal erfolgreich geprüft wurde. Dadurch entfallen pro Request sowohl
+ * die Signaturprüfung als auch die Abfrage auf app_users.
+ *
+ * Ein Eintrag lebt höchstens bis zum Ablauf des Tokens und nie länger als max-ttl
+ * (Änderungen direkt in der DB werden so spätestens nach max-ttl sichtbar).
+ * Ändert sich ein User über die Anwendung, werden seine Einträge sofort entfernt.
+ */
+@Component
+public class PrincipalCache {
+
+    public static final String NAME = "jwt-principals";
+
+    /**
+     * Gecachter Principal.
+     *
+     * @param user            geladener Benutzer (Principal im SecurityContext)
+     * @param expiresAtMillis Ablaufzeitpunkt des Tokens
+     */
+    public record Entry(AppUser user, long expiresAtMillis) {
+    }
+
+    private final Cache<String, Entry> cache;
+
+    public PrincipalCache(@Value("${security.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${security.principal-cache.max-ttl:PT15M}") Duration maxTtl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry(maxTtl))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @param token JWT
+     * @return gecachter Eintrag oder null (unbekannt oder abgelaufen)
+     */
+    public Entry get(String token) {
+        Entry entry = cache.getIfPresent(token);
+        // Caffeine räumt zeitgesteuert auf; abgelaufene Tokens nie zurückgeben
+        if (entry != null && entry.expiresAtMillis() <= System.currentTimeMillis()) {
+            cache.invalidate(token);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Merkt sich ein erfolgreich geprüftes Token.
+     * @param token      JWT
+     * @param user       geladener Benutzer
+     * @param expiration Ablaufzeitpunkt aus dem Token (null → max-ttl)
+     * @return der gespeicherte Eintrag
+     */
+    public Entry put(String token, AppUser user, Date expiration) {
+        long expiresAt = expiration != null ? expiration.getTime() : Long.MAX_VALUE;
+        Entry entry = new Entry(user, expiresAt);
+        cache.put(token, entry);
+        return entry;
+    }
+
+    /**
+     * Entfernt alle Einträge eines Users (z.B. nach Profil- oder Rollenänderung).
+     * @param userId ID des Users
+     */
+    public void invalidateUser(Long userId) {
+        cache.asMap().values().removeIf(entry -> userId != null && userId.equals(entry.user().getId()));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Jede Änderung am User (Registrierung, Profil, Rolle) macht gecachte Principals ungültig.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidateUser(event.userId());
+    }
+
+    /**
+     * @return Kennzahlen des Caches (Treffer, Fehlgriffe, Verdrängungen)
+     */
+    public CacheStatsDTO stats() {
+        CacheStats stats = cache.stats();
+        return new CacheStatsDTO(NAME, cache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                stats.hitRate(), stats.evictionCount());
+    }
+
+    /**
+     * Ablauf pro Eintrag: Token-Ablauf, höchstens maxTtl. Lesen verlängert nicht.
+     */
+    private static final class TokenExpiry implements Expiry<String, Entry> {
+
+        private final long maxTtlMillis;
+
+        TokenExpiry(Duration maxTtl) {
+            this.maxTtlMillis = maxTtl.toMillis();
+        }
+
+        @Override
+        public long expireAfterCreate(String token, Entry entry, long currentTime) {
+            long remainingMillis = entry.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, Math.min(maxTtlMillis, remainingMillis)));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * PrincipalCache speichert geprüfte JWTs mit dem zugehörigen AppUser (Caffeine,
+ * begrenzte Größe, Ablauf = Token-Ablauf bzw. max-ttl). Der JwtAuthenticationFilter
+ * spart damit pro Request Signaturprüfung und DB-Abfrage. UserChangedEvents entfernen
+ * die Einträge des betroffenen Users; stats() liefert Treffer/Fehlgriffe für Admins.
+ */
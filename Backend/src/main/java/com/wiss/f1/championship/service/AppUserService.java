@@ -2,11 +2,13 @@ package com.wiss.f1.championship.service;
 
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.wiss.f1.championship.entity.AppUser;
 import com.wiss.f1.championship.entity.Role;
+import com.wiss.f1.championship.event.UserChangedEvent;
 import com.wiss.f1.championship.repository.AppUserRepository;
 
 /**
@@ -25,11 +27,14 @@ public class AppUserService {
 
     private final AppUserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AppUserService(AppUserRepository userRepository,
-                          PasswordEncoder passwordEncoder) {
+                          PasswordEncoder passwordEncoder,
+                          ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -105,7 +110,9 @@ public class AppUserService {
         String hashedPassword = passwordEncoder.encode(rawPassword);
 
         AppUser user = new AppUser(username, email, hashedPassword, role, displayName);
-        return userRepository.save(user);
+        AppUser saved = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(saved.getId(), saved.getUsername(), UserChangedEvent.Type.REGISTERED));
+        return saved;
     }
 
     /**
@@ -153,7 +160,9 @@ public class AppUserService {
             user.setBio(bio.trim().isEmpty() ? null : bio);
         }
 
-        return userRepository.save(user);
+        AppUser saved = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(saved.getId(), saved.getUsername(), UserChangedEvent.Type.PROFILE_UPDATED));
+        return saved;
     }
 }
 
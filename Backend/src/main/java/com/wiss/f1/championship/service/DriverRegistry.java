@@ -0,0 +1,91 @@
+package com.wiss.f1.championship.service;
+
+import com.wiss.f1.championship.entity.Driver;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Unveränderliches Fahrerverzeichnis.
+ *
+ * Wird vom DriverService vollständig aus der DB aufgebaut und danach atomar
+ * ausgetauscht. Enthält die nach Namen sortierte Liste sowie Indizes
+ * id → Driver und normalisierter Name → Driver, damit alle Lesezugriffe
+ * ohne SQL beantwortet werden.
+ *
+ * Die enthaltenen Driver-Objekte werden von allen Requests geteilt und
+ * dürfen nach dem Aufbau nicht mehr verändert werden.
+ */
+public final class DriverRegistry {
+
+    private final List<Driver> sortedDrivers;
+    private final Map<Long, Driver> byId;
+    private final Map<String, Driver> byName;
+
+    private DriverRegistry(List<Driver> sortedDrivers, Map<Long, Driver> byId, Map<String, Driver> byName) {
+        this.sortedDrivers = sortedDrivers;
+        this.byId = byId;
+        this.byName = byName;
+    }
+
+    /**
+     * Baut ein Verzeichnis aus den übergebenen Fahrern.
+     * @param drivers alle Fahrer (z.B. aus driverRepository.findAll())
+     * @return neues, unveränderliches Verzeichnis
+     */
+    public static DriverRegistry of(Collection<Driver> drivers) {
+        List<Driver> sorted = new ArrayList<>(drivers);
+        sorted.sort(Comparator.comparing(Driver::getName));
+
+        Map<Long, Driver> byId = new HashMap<>();
+        Map<String, Driver> byName = new HashMap<>();
+        for (Driver driver : sorted) {
+            if (driver.getId() != null) {
+                byId.put(driver.getId(), driver);
+            }
+            byName.putIfAbsent(normalize(driver.getName()), driver);
+        }
+        return new DriverRegistry(List.copyOf(sorted), Map.copyOf(byId), Map.copyOf(byName));
+    }
+
+    /**
+     * Normalisiert einen Fahrernamen für die Suche:
+     * Leerzeichen am Rand entfernen, mehrfache Leerzeichen zusammenfassen, Kleinschreibung.
+     */
+    static String normalize(String name) {
+        return name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // Alle Fahrer, sortiert nach Name (unveränderlich)
+    public List<Driver> getSortedDrivers() { return sortedDrivers; }
+
+    public int size() { return sortedDrivers.size(); }
+
+    /**
+     * @param id Fahrer-ID
+     * @return Fahrer oder null, falls unbekannt
+     */
+    public Driver byId(Long id) {
+        return id == null ? null : byId.get(id);
+    }
+
+    /**
+     * @param name Fahrername (Groß-/Kleinschreibung und Leerzeichen egal)
+     * @return Fahrer oder null, falls unbekannt
+     */
+    public Driver byName(String name) {
+        return name == null ? null : byName.get(normalize(name));
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * DriverRegistry ist ein unveränderlicher Schnappschuss aller Fahrer mit
+ * sortierter Liste und Indizes nach ID und normalisiertem Namen.
+ * Der DriverService tauscht ihn nach jeder Änderung atomar aus.
+ */
@@ -1,13 +1,18 @@
 package com.wiss.f1.championship.service;
 
 import com.wiss.f1.championship.entity.Driver;
+import com.wiss.f1.championship.event.DriverChangedEvent;
 import com.wiss.f1.championship.repository.DriverRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Service-Klasse für die Verwaltung von Driver-Entitäten.
@@ -16,24 +21,34 @@ import java.util.stream.Collectors;
  * - Abruf von Fahrern
  * - Erstellen, Aktualisieren und Löschen von Fahrern
  * - Sortierung von Fahrern nach Name
+ *
+ * Lesezugriffe werden aus einem In-Memory-Verzeichnis (DriverRegistry) bedient.
+ * Es wird beim ersten Zugriff geladen und nach jeder Änderung über diesen
+ * Service neu aufgebaut und atomar ausgetauscht. Danach wird ein
+ * DriverChangedEvent veröffentlicht (z.B. für die ETags der Lese-Endpunkte).
  */
 @Service
 public class DriverService {
 
     private final DriverRepository driverRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Aktuelles Fahrerverzeichnis (null = noch nicht geladen)
+    private final AtomicReference<DriverRegistry> registry = new AtomicReference<>();
 
-    public DriverService(DriverRepository driverRepository) {
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    public DriverService(DriverRepository driverRepository, ApplicationEventPublisher eventPublisher) {
         this.driverRepository = driverRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
      * Gibt alle Fahrer zurück, sortiert nach Namen.
-     * @return Liste aller Fahrer
+     * @return unveränderliche Liste aller Fahrer
      */
     public List<Driver> getAllDrivers() {
-        return driverRepository.findAll().stream()
-                .sorted(Comparator.comparing(Driver::getName))
-                .collect(Collectors.toList());
+        return getRegistry().getSortedDrivers();
     }
 
     /**
@@ -42,7 +57,7 @@ public class DriverService {
      * @return Optional mit Driver oder empty wenn nicht gefunden
      */
     public Optional<Driver> getDriverById(Long id) {
-        return driverRepository.findById(id);
+        return Optional.ofNullable(getRegistry().byId(id));
     }
 
     /**
@@ -51,7 +66,10 @@ public class DriverService {
      * @return Gespeicherter Fahrer
      */
     public Driver createDriver(Driver driver) {
-        return driverRepository.save(driver);
+        Driver saved = driverRepository.save(driver);
+        refresh();
+        eventPublisher.publishEvent(new DriverChangedEvent(saved.getId(), DriverChangedEvent.Type.CREATED));
+        return saved;
     }
 
     /**
@@ -60,7 +78,10 @@ public class DriverService {
      * @return Aktualisierter Fahrer
      */
     public Driver updateDriver(Driver driver) {
-        return driverRepository.save(driver);
+        Driver saved = driverRepository.save(driver);
+        refresh();
+        eventPublisher.publishEvent(new DriverChangedEvent(saved.getId(), DriverChangedEvent.Type.UPDATED));
+        return saved;
     }
 
     /**
@@ -69,15 +90,61 @@ public class DriverService {
      */
     public void deleteDriver(Long id) {
         driverRepository.deleteById(id);
+        refresh();
+        eventPublisher.publishEvent(new DriverChangedEvent(id, DriverChangedEvent.Type.DELETED));
     }
 
     /**
-     * Sucht einen Fahrer anhand des Namens.
+     * Sucht einen Fahrer anhand des Namens (Groß-/Kleinschreibung und Leerzeichen egal).
      * @param name Fahrername
      * @return Optional mit Driver oder empty wenn nicht gefunden
      */
     public Optional<Driver> getDriverByName(String name) {
-        return driverRepository.findByName(name);
+        return Optional.ofNullable(getRegistry().byName(name));
+    }
+
+    /**
+     * Sucht mehrere Fahrer anhand ihrer Namen, ohne Datenbankzugriff.
+     * @param names Fahrernamen (Duplikate erlaubt)
+     * @return Map angefragter Name → Driver; unbekannte Namen fehlen in der Map
+     */
+    public Map<String, Driver> getDriversByNames(Collection<String> names) {
+        DriverRegistry current = getRegistry();
+        Map<String, Driver> driversByName = new HashMap<>();
+        for (String name : names) {
+            Driver driver = current.byName(name);
+            if (driver != null) {
+                driversByName.put(name, driver);
+            }
+        }
+        return driversByName;
+    }
+
+    /**
+     * Lädt alle Fahrer neu und ersetzt das Verzeichnis atomar.
+     * Leser sehen bis dahin den bisherigen, vollständigen Stand.
+     * Unter einem Lock, damit bei parallelen Änderungen nie ein älterer Stand
+     * einen neueren überschreibt. ReentrantLock statt synchronized, damit ein
+     * virtueller Thread während der DB-Abfrage seinen Träger-Thread freigibt.
+     * @return das neue Verzeichnis
+     */
+    public DriverRegistry refresh() {
+        refreshLock.lock();
+        try {
+            DriverRegistry fresh = DriverRegistry.of(driverRepository.findAll());
+            registry.set(fresh);
+            return fresh;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Liefert das aktuelle Verzeichnis und lädt es beim ersten Zugriff.
+     */
+    private DriverRegistry getRegistry() {
+        DriverRegistry current = registry.get();
+        return current != null ? current : refresh();
     }
 }
 
@@ -85,8 +152,10 @@ public class DriverService {
  * Zusammenfassung:
  * DriverService kapselt die gesamte Business-Logik rund um Fahrer.
  * Es werden CRUD-Operationen bereitgestellt (Create, Read, Update, Delete),
- * sowie zusätzliche Funktionalitäten wie Sortierung nach Name und Suche nach Name.
+ * sowie zusätzliche Funktionalitäten wie Sortierung nach Name und Suche nach Name
+ * (auch gesammelt für mehrere Namen, z.B. beim Speichern eines Tipps).
  *
  * Repository-Zugriffe werden abstrahiert, sodass Controller und andere Services
- * die Fahrerverwaltung einfach nutzen können.
+ * die Fahrerverwaltung einfach nutzen können. Alle Lesezugriffe kommen aus dem
+ * DriverRegistry (kein SQL); Schreibzugriffe bauen es neu auf.
  */
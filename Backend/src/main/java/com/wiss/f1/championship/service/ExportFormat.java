@@ -0,0 +1,52 @@
+package com.wiss.f1.championship.service;
+
+/**
+ * Dateiformat des Leaderboard-Exports.
+ *
+ * - CSV: Kopfzeile, dann eine Zeile pro Spieler mit einer Spalte pro gewertetem Rennen
+ * - NDJSON: ein JSON-Objekt pro Zeile und Spieler, Rennpunkte als Objekt (Rennen-ID → Punkte)
+ */
+public enum ExportFormat {
+    CSV("csv", "text/csv;charset=UTF-8"),
+    NDJSON("ndjson", "application/x-ndjson");
+
+    // Wert, wie er als Request-Parameter übergeben wird (zugleich Dateiendung)
+    private final String paramValue;
+
+    // Content-Type der Antwort
+    private final String contentType;
+
+    ExportFormat(String paramValue, String contentType) {
+        this.paramValue = paramValue;
+        this.contentType = contentType;
+    }
+
+    public String getParamValue() {
+        return paramValue;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Liest das Format aus einem Request-Parameter (Groß-/Kleinschreibung egal).
+     * @param value z.B. "csv" oder "ndjson"
+     * @return passendes Format
+     * @throws IllegalArgumentException bei unbekanntem Wert
+     */
+    public static ExportFormat fromParam(String value) {
+        for (ExportFormat format : values()) {
+            if (format.paramValue.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unbekanntes Exportformat: " + value + " (erlaubt: csv, ndjson)");
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * ExportFormat legt fest, ob der Leaderboard-Export als CSV oder NDJSON geschrieben wird.
+ * Wird über ?format= an GET /api/leaderboard/export gewählt.
+ */
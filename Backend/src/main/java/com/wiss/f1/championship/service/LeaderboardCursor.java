@@ -0,0 +1,50 @@
+package com.wiss.f1.championship.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset-Cursor für die Leaderboard-Paginierung.
+ *
+ * Zeigt auf den letzten Eintrag einer Seite (Punkte, User-ID). Die nächste
+ * Seite beginnt direkt nach diesem Schlüssel in der Sortierung
+ * "Punkte absteigend, User-ID aufsteigend". Dadurch überschneiden sich Seiten
+ * nie, auch wenn sich die Rangliste zwischen zwei Aufrufen ändert.
+ *
+ * @param points Punkte des letzten Eintrags
+ * @param userId User-ID des letzten Eintrags
+ */
+public record LeaderboardCursor(int points, long userId) {
+
+    /**
+     * @return Cursor als URL-sicherer, für den Client undurchsichtiger String
+     */
+    public String encode() {
+        String raw = points + ":" + userId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Liest einen Cursor aus dem Request-Parameter "after".
+     * @param value kodierter Cursor
+     * @return Cursor
+     * @throws IllegalArgumentException bei ungültigem Cursor
+     */
+    public static LeaderboardCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new LeaderboardCursor(
+                    Integer.parseInt(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Ungültiger Cursor: " + value);
+        }
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * LeaderboardCursor kodiert den Sortierschlüssel (Punkte, User-ID) des letzten
+ * Eintrags einer Seite als Base64-String für ?after= am Leaderboard.
+ */
@@ -0,0 +1,225 @@
+package com.wiss.f1.championship.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.wiss.f1.championship.dto.RaceColumnDTO;
+import com.wiss.f1.championship.dto.StandingExportRowDTO;
+import com.wiss.f1.championship.repository.RaceRepository;
+import com.wiss.f1.championship.repository.UserStandingRepository;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Service für den Export der kompletten Rangliste (z.B. für Preisauszahlungen).
+ *
+ * Anders als das Leaderboard wird nichts im Speicher aufgebaut: Die Zeilen kommen per
+ * Datenbank-Cursor aus dem StandingsExportRepository und werden pro Spieler sofort in den
+ * Ausgabestrom geschrieben. Im Speicher liegen nur die Rennspalten und der aktuelle Spieler,
+ * unabhängig von der Anzahl Spieler.
+ *
+ * Ränge werden wie im Leaderboard vergeben (Competition oder Dense, Gleichstand nach User-ID).
+ */
+@Service
+public class LeaderboardExportService {
+
+    private final UserStandingRepository userStandingRepository;
+    private final RaceRepository raceRepository;
+    private final JsonMapper jsonMapper;
+
+    public LeaderboardExportService(UserStandingRepository userStandingRepository,
+                                    RaceRepository raceRepository,
+                                    JsonMapper jsonMapper) {
+        this.userStandingRepository = userStandingRepository;
+        this.raceRepository = raceRepository;
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Schreibt die Rangliste aller Spieler im gewünschten Format in den Ausgabestrom.
+     *
+     * Die read-only Transaktion hält die Connection für die Dauer des Exports und ist
+     * Voraussetzung dafür, dass PostgreSQL blockweise über einen Cursor liest.
+     * Der Ausgabestrom wird geflusht, aber nicht geschlossen.
+     *
+     * @param format CSV oder NDJSON
+     * @param mode   Rangvergabe bei Gleichstand
+     * @param out    Ziel, z.B. der Response-Body
+     * @throws IOException wenn das Schreiben fehlschlägt (z.B. Client hat abgebrochen)
+     */
+    @Transactional(readOnly = true)
+    public void export(ExportFormat format, RankingMode mode, OutputStream out) throws IOException {
+        List<RaceColumnDTO> races = raceRepository.findScoredRaceColumns();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        StandingsWriter standingsWriter = new StandingsWriter(format, mode, races, writer);
+
+        standingsWriter.writeHeader();
+        try {
+            userStandingRepository.streamExportRows(standingsWriter::accept);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        standingsWriter.finish();
+        writer.flush();
+    }
+
+    /**
+     * Fasst die aufeinanderfolgenden Zeilen eines Spielers zusammen, vergibt den Rang
+     * und schreibt die fertige Zeile, sobald der nächste Spieler beginnt.
+     */
+    private final class StandingsWriter {
+
+        private final ExportFormat format;
+        private final RankingMode mode;
+        private final List<RaceColumnDTO> races;
+        private final Map<Long, Integer> columnByRaceId = new HashMap<>();
+        private final Writer writer;
+
+        // Aktueller Spieler; racePoints[i] = Punkte im Rennen races[i] (null ohne Wertung)
+        private StandingExportRowDTO current;
+        private final Integer[] racePoints;
+
+        // Rangvergabe wie LeaderboardService
+        private int position;
+        private int competitionRank;
+        private int denseRank;
+        private int previousPoints;
+
+        private StandingsWriter(ExportFormat format, RankingMode mode, List<RaceColumnDTO> races, Writer writer) {
+            this.format = format;
+            this.mode = mode;
+            this.races = races;
+            this.writer = writer;
+            this.racePoints = new Integer[races.size()];
+            for (int i = 0; i < races.size(); i++) {
+                columnByRaceId.put(races.get(i).raceId(), i);
+            }
+        }
+
+        private void writeHeader() throws IOException {
+            if (format != ExportFormat.CSV) {
+                return;
+            }
+            StringBuilder line = new StringBuilder("rank,username,displayName,points");
+            for (RaceColumnDTO race : races) {
+                line.append(',').append(csv(race.name()));
+            }
+            writer.write(line.append("\r\n").toString());
+        }
+
+        private void accept(StandingExportRowDTO row) {
+            try {
+                if (current != null && !Objects.equals(current.userId(), row.userId())) {
+                    writeCurrent();
+                }
+                if (current == null) {
+                    current = row;
+                }
+                // Rennen, die nach dem Laden der Spalten gewertet wurden, fehlen im Export
+                Integer column = row.raceId() != null ? columnByRaceId.get(row.raceId()) : null;
+                if (column != null) {
+                    racePoints[column] = row.racePoints();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void finish() throws IOException {
+            if (current != null) {
+                writeCurrent();
+            }
+        }
+
+        private void writeCurrent() throws IOException {
+            position++;
+            int points = current.totalPoints();
+            if (position == 1 || points != previousPoints) {
+                competitionRank = position;
+                denseRank++;
+                previousPoints = points;
+            }
+            int rank = mode == RankingMode.DENSE ? denseRank : competitionRank;
+
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(rank);
+            } else {
+                writeJsonLine(rank);
+            }
+
+            current = null;
+            Arrays.fill(racePoints, null);
+        }
+
+        private void writeCsvLine(int rank) throws IOException {
+            StringBuilder line = new StringBuilder()
+                    .append(rank).append(',')
+                    .append(csv(current.username())).append(',')
+                    .append(csv(current.displayName())).append(',')
+                    .append(current.totalPoints());
+            for (Integer value : racePoints) {
+                line.append(',');
+                if (value != null) {
+                    line.append(value);
+                }
+            }
+            writer.write(line.append("\r\n").toString());
+        }
+
+        private void writeJsonLine(int rank) throws IOException {
+            Map<String, Integer> pointsByRace = new LinkedHashMap<>();
+            for (int i = 0; i < racePoints.length; i++) {
+                if (racePoints[i] != null) {
+                    pointsByRace.put(String.valueOf(races.get(i).raceId()), racePoints[i]);
+                }
+            }
+            ExportLine line = new ExportLine(rank, current.username(), current.displayName(),
+                    current.totalPoints(), pointsByRace);
+            writer.write(jsonMapper.writeValueAsString(line));
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Ein Spieler als NDJSON-Zeile.
+     */
+    record ExportLine(int rank, String username, String displayName, int points, Map<String, Integer> racePoints) {
+    }
+
+    /**
+     * Maskiert einen Wert für CSV (RFC 4180). Werte, die mit =, +, - oder @ beginnen,
+     * erhalten ein führendes Apostroph, damit Tabellenkalkulationen sie nicht als Formel ausführen.
+     */
+    static String csv(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String text = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * LeaderboardExportService schreibt die komplette Rangliste als CSV oder NDJSON direkt in
+ * einen Ausgabestrom. Spalten sind die gewerteten Rennen; die Zeilen kommen per Cursor aus
+ * der Datenbank und werden pro Spieler zusammengefasst, gerankt und sofort geschrieben,
+ * sodass der Speicherbedarf nicht mit der Anzahl Spieler wächst.
+ */
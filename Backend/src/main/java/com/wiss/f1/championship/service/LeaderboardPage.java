@@ -0,0 +1,25 @@
+package com.wiss.f1.championship.service;
+
+import com.wiss.f1.championship.dto.LeaderboardDTO;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Eine Seite des Leaderboards.
+ *
+ * @param entries      Einträge der Seite
+ * @param nextCursor   Cursor für die nächste Seite, null auf der letzten Seite
+ * @param totalPlayers Anzahl aller Spieler im Snapshot
+ * @param eTag         ETag des Snapshots, aus dem die Seite stammt
+ * @param lastModified Last-Modified desselben Snapshots
+ */
+public record LeaderboardPage(List<LeaderboardDTO> entries, String nextCursor, int totalPlayers, String eTag,
+                              Instant lastModified) {
+}
+
+/*
+ * Zusammenfassung:
+ * LeaderboardPage ist das Ergebnis von LeaderboardService.getPage():
+ * Einträge, Cursor für die Folgeseite, Gesamtanzahl, ETag und Last-Modified.
+ */
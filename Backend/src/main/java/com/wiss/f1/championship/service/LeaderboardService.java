@@ -1,191 +1,332 @@
 package com.wiss.f1.championship.service;
 
 import com.wiss.f1.championship.dto.LeaderboardDTO;
-import com.wiss.f1.championship.entity.*;
-import com.wiss.f1.championship.repository.AppUserRepository;
-import com.wiss.f1.championship.repository.OfficialResultRepository;
-import com.wiss.f1.championship.repository.RaceRepository;
-import com.wiss.f1.championship.repository.TipRepository;
+import com.wiss.f1.championship.dto.LeaderboardPositionDTO;
+import com.wiss.f1.championship.dto.StandingRowDTO;
+import com.wiss.f1.championship.entity.AppUser;
+import com.wiss.f1.championship.entity.RaceStatus;
+import com.wiss.f1.championship.event.LeaderboardUpdatedEvent;
+import com.wiss.f1.championship.event.RaceChangedEvent;
+import com.wiss.f1.championship.event.RaceScoredEvent;
+import com.wiss.f1.championship.event.ResultsChangedEvent;
+import com.wiss.f1.championship.event.TipsSavedEvent;
+import com.wiss.f1.championship.event.UserChangedEvent;
+import com.wiss.f1.championship.repository.UserStandingRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-
-import java.util.*;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * Service zur Berechnung und Bereitstellung des Leaderboards.
+ * Service zur Bereitstellung des Leaderboards.
  *
  * Aufgaben:
- * - Gesamtpunkte aller User berechnen
  * - Rangliste nach Punkten erstellen
- * - Punkteberechnung pro Rennen nach Regeln:
- *      * Richtige Position: Podium 5 Punkte, Top10 3 Punkte
- *      * Falsche Position, aber Top10: Podium 2 Punkte, Top10 1 Punkt
+ * - Punkte, Rang und Nachbarn eines einzelnen Users liefern
+ *
+ * Die Rangliste wird als unveränderlicher Snapshot im Speicher gehalten und
+ * atomar ausgetauscht. Änderungen an Rennen, Ergebnissen, Tipps oder Usern
+ * werden über Application Events gemeldet und lösen nach dem Commit einen
+ * Rebuild im Hintergrund aus. Leser bekommen bis dahin den bisherigen Stand.
  *
- * Verwendet Repositories für AppUser, Race, Tip und OfficialResult.
+ * Die Punkte selbst stammen aus den materialisierten Saisonständen
+ * (user_standings), die der StandingsService pflegt. Punkteregeln: siehe ScoringEngine.
  */
 @Service
 public class LeaderboardService {
 
-    private final AppUserRepository appUserRepository;
-    private final TipRepository tipRepository;
-    private final RaceRepository raceRepository;
-    private final OfficialResultRepository officialResultRepository;
-
-    public LeaderboardService(AppUserRepository appUserRepository,
-                              TipRepository tipRepository,
-                              RaceRepository raceRepository,
-                              OfficialResultRepository officialResultRepository) {
-        this.appUserRepository = appUserRepository;
-        this.tipRepository = tipRepository;
-        this.raceRepository = raceRepository;
-        this.officialResultRepository = officialResultRepository;
-    }
-
-    /**
-     * Erstellt das gesamte Leaderboard.
-     * @return Liste von LeaderboardDTOs mit Username, DisplayName, Punkte und Rang
-     */
-    public List<LeaderboardDTO> getLeaderboard() {
-
-        List<AppUser> users = appUserRepository.findAll();
-        List<Race> races = raceRepository.findAll();
+    // Obergrenze für Nachbarn pro Seite bei getPositionWithNeighbours
+    public static final int MAX_NEIGHBOURS = 50;
 
-        List<LeaderboardDTO> leaderboard = new ArrayList<>();
+    // Obergrenze für die Seitengröße bei getPage
+    public static final int MAX_PAGE_SIZE = 500;
 
-        for (AppUser user : users) {
+    private final UserStandingRepository userStandingRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-            int totalPoints = 0;
+    // Aktueller Stand; null bis zum ersten Aufbau
+    private final AtomicReference<LeaderboardSnapshot> snapshot = new AtomicReference<>();
 
-            for (Race race : races) {
-                System.out.println("Checking race " + race.getName());
-                // Nur geschlossene Rennen berücksichtigen
-                if (race.getStatus() != RaceStatus.CLOSED) continue;
+    // Verhindert, dass mehrere Events mehrere Rebuilds einreihen
+    private final AtomicBoolean rebuildPending = new AtomicBoolean(false);
 
-                System.out.println("Race isnt closed");
-                // Tipps des Users für dieses Rennen
+    // Letzter Rebuild im Hintergrund fehlgeschlagen → der nächste Lesezugriff plant einen neuen
+    private final AtomicBoolean rebuildFailed = new AtomicBoolean(false);
 
-                List<Tip> userTips = tipRepository.findByUserIdAndRaceId(user.getId(), race.getId());
-                if (userTips.isEmpty()) continue;
+    private final AtomicLong versionCounter = new AtomicLong();
 
-                System.out.println("Tips arent empty");
+    // Serialisiert Rebuilds. ReentrantLock statt synchronized, damit wartende
+    // virtuelle Request-Threads während der DB-Abfrage ihren Träger-Thread freigeben.
+    private final ReentrantLock rebuildLock = new ReentrantLock();
 
-                System.out.println("Checking official results");
-                // Offizielle Ergebnisse
+    // Kennung dieses Anwendungsstarts für eindeutige ETags
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
 
-                List<OfficialResult> results = officialResultRepository.findByRaceId(race.getId());
-                if (results.isEmpty()) continue;
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "leaderboard-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
 
-                // Maps für Positionsvergleich
-                Map<Integer, Long> officialPosMap = new HashMap<>();
-                for (OfficialResult r : results) {
-                    officialPosMap.put(r.getFinalPosition(), r.getDriver().getId());
-                }
+    public LeaderboardService(UserStandingRepository userStandingRepository,
+                              ApplicationEventPublisher eventPublisher) {
+        this.userStandingRepository = userStandingRepository;
+        this.eventPublisher = eventPublisher;
+    }
 
-                Map<Integer, Long> predictedPosMap = new HashMap<>();
-                for (Tip t : userTips) {
-                    predictedPosMap.put(t.getPredictedPosition(), t.getDriver().getId());
-                }
+    /**
+     * Liefert den aktuellen Snapshot des Leaderboards.
+     * Nur der allererste Aufruf baut den Snapshot synchron auf.
+     * @return aktueller Snapshot mit Version und ETag
+     */
+    public LeaderboardSnapshot getSnapshot() {
+        LeaderboardSnapshot current = snapshot.get();
+        if (current != null) {
+            if (rebuildFailed.compareAndSet(true, false)) {
+                invalidate();
+            }
+            return current;
+        }
+        rebuildLock.lock();
+        try {
+            current = snapshot.get();
+            return current != null ? current : rebuild();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
 
-                System.out.println("Calculating race points");
+    /**
+     * Liefert das gesamte Leaderboard aus dem aktuellen Snapshot.
+     * @return Unveränderliche Liste von LeaderboardDTOs mit Username, DisplayName, Punkte und Rang
+     */
+    public List<LeaderboardDTO> getLeaderboard() {
+        return getSnapshot().getEntries();
+    }
 
-                totalPoints += calculateRacePoints(predictedPosMap, officialPosMap);
-            }
+    /**
+     * Liefert das gesamte Leaderboard mit der gewünschten Rangvergabe.
+     * @param mode Art der Rangvergabe bei Gleichstand
+     * @return Liste von LeaderboardDTOs
+     */
+    public List<LeaderboardDTO> getLeaderboard(RankingMode mode) {
+        LeaderboardSnapshot current = getSnapshot();
+        return current.slice(0, current.size(), mode);
+    }
 
-            leaderboard.add(new LeaderboardDTO(
-                    user.getUsername(),
-                    user.getDisplayName() != null ? user.getDisplayName() : user.getUsername(),
-                    totalPoints,
-                    0 // Rang wird später gesetzt
-            ));
+    /**
+     * Liefert eine Seite des Leaderboards per Keyset-Paginierung.
+     * Ohne Cursor ist das die Top-N-Abfrage (Teilansicht des sortierten Snapshots).
+     *
+     * @param after Cursor der Vorseite (null für die erste Seite)
+     * @param limit Seitengröße (1 bis MAX_PAGE_SIZE)
+     * @param mode  Art der Rangvergabe bei Gleichstand
+     * @return Seite mit Einträgen und Cursor für die Folgeseite
+     * @throws IllegalArgumentException bei ungültigem Limit oder Cursor
+     */
+    public LeaderboardPage getPage(String after, int limit, RankingMode mode) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit muss zwischen 1 und " + MAX_PAGE_SIZE + " liegen");
         }
+        LeaderboardSnapshot current = getSnapshot();
 
-        // Nach Punkten absteigend sortieren
-        leaderboard.sort(Comparator.comparingInt(LeaderboardDTO::getPoints).reversed());
+        int from = after == null || after.isBlank()
+                ? 0
+                : current.indexAfter(LeaderboardCursor.decode(after));
+        List<LeaderboardDTO> entries = current.slice(from, limit, mode);
 
-        // Rang setzen
-        for (int i = 0; i < leaderboard.size(); i++) {
-            leaderboard.get(i).setRank(i + 1);
-        }
+        int last = from + entries.size() - 1;
+        String nextCursor = !entries.isEmpty() && last < current.size() - 1
+                ? current.cursorAt(last).encode()
+                : null;
 
-        return leaderboard;
+        return new LeaderboardPage(entries, nextCursor, current.size(), current.getETag(),
+                current.getLastModified());
     }
 
     /**
-     * Berechnet Punkte für ein Rennen anhand der Vorhersage und offiziellen Ergebnisse.
-     * @param predicted Map: Vorhergesagte Position → DriverId
-     * @param official Map: Offizielle Position → DriverId
-     * @return Punkte für dieses Rennen
+     * Liefert die Gesamtpunkte eines einzelnen Users aus dem Snapshot.
+     * @param user Der User
+     * @return Gesamtpunkte über alle geschlossenen Rennen (0, falls noch nicht im Snapshot)
      */
-    private int calculateRacePoints(Map<Integer, Long> predicted, Map<Integer, Long> official) {
+    public int calculateUserPoints(AppUser user) {
+        LeaderboardDTO entry = getEntryForUser(user.getId());
+        return entry != null ? entry.getPoints() : 0;
+    }
 
-        int points = 0;
+    /**
+     * Liefert den Leaderboard-Eintrag (Punkte und Rang) eines Users per Index-Zugriff.
+     * @param userId ID des Users
+     * @return Eintrag oder null, falls der User noch nicht im Snapshot ist (z.B. direkt nach Registrierung)
+     */
+    public LeaderboardDTO getEntryForUser(Long userId) {
+        return getSnapshot().entryFor(userId);
+    }
 
-        for (int pos = 1; pos <= 10; pos++) {
+    /**
+     * Liefert die Position eines Users mit bis zu n Spielern davor und danach.
+     * Es wird nur der Ausschnitt aus dem Snapshot gelesen, nicht die ganze Rangliste.
+     *
+     * @param userId ID des Users
+     * @param n      Anzahl Nachbarn auf jeder Seite (0 bis MAX_NEIGHBOURS)
+     * @return Position mit Ausschnitt der Rangliste
+     * @throws IllegalArgumentException bei ungültigem n
+     */
+    public LeaderboardPositionDTO getPositionWithNeighbours(Long userId, int n) {
+        if (n < 0 || n > MAX_NEIGHBOURS) {
+            throw new IllegalArgumentException("neighbours muss zwischen 0 und " + MAX_NEIGHBOURS + " liegen");
+        }
+        LeaderboardSnapshot current = getSnapshot();
+        LeaderboardDTO own = current.entryFor(userId);
+        return new LeaderboardPositionDTO(
+                own != null ? own.getRank() : null,
+                own != null ? own.getPoints() : 0,
+                current.size(),
+                current.neighbours(userId, n));
+    }
 
-            Long predictedDriver = predicted.get(pos);
-            Long correctDriver = official.get(pos);
+    /**
+     * Markiert den Snapshot als veraltet und plant einen Rebuild im Hintergrund.
+     * Solange ein Rebuild aussteht, werden weitere Aufrufe zusammengefasst.
+     */
+    public void invalidate() {
+        if (rebuildPending.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                // Vor dem Rebuild zurücksetzen: Änderungen währenddessen planen einen neuen Rebuild
+                rebuildPending.set(false);
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    // Bisheriger Stand bleibt gültig; der nächste Lesezugriff versucht es erneut
+                    rebuildFailed.set(true);
+                }
+            });
+        }
+    }
 
-            if (predictedDriver == null || correctDriver == null) continue;
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRaceChanged(RaceChangedEvent event) {
+        invalidate();
+    }
 
-            // Richtige Position
-            if (Objects.equals(predictedDriver, correctDriver)) {
-                if (pos <= 3) points += 5;      // Podium korrekt
-                else points += 3;                // Top10 korrekt
-                continue;
-            }
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResultsChanged(ResultsChangedEvent event) {
+        invalidate();
+    }
 
-            // Fahrer im Top10, aber falsche Position
-            boolean isInTop10 = official.values().contains(predictedDriver);
+    /**
+     * Die Punkte eines Rennens wurden im Hintergrund neu berechnet.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRaceScored(RaceScoredEvent event) {
+        invalidate();
+    }
 
-            if (isInTop10) {
-                if (pos <= 3) points += 2;      // Podium, falsche Position
-                else points += 1;                // Top10, falsche Position
-            }
+    /**
+     * Tipps für offene Rennen ändern keine Punkte, nur Tipps für geschlossene Rennen.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTipsSaved(TipsSavedEvent event) {
+        if (event.raceStatus() == RaceStatus.CLOSED) {
+            invalidate();
         }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate();
+    }
 
-        return points;
+    @PreDestroy
+    void shutdown() {
+        rebuildExecutor.shutdownNow();
     }
 
     /**
-     * Berechnet die Gesamtpunkte eines einzelnen Users.
-     * @param user Der User
-     * @return Gesamtpunkte über alle geschlossenen Rennen
+     * Baut einen neuen Snapshot mit einer einzigen Abfrage auf und tauscht ihn aus.
+     * Hat sich keine Zeile geändert, bleibt der bisherige Snapshot (gleiche Version).
+     * @return der aktuelle Snapshot
      */
-    public int calculateUserPoints(AppUser user) {
-        List<Race> races = raceRepository.findAll();
-        int totalPoints = 0;
+    private LeaderboardSnapshot rebuild() {
+        rebuildLock.lock();
+        try {
+            return buildSnapshot();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
 
-        for (Race race : races) {
-            if (race.getStatus() != RaceStatus.CLOSED) continue;
+    private LeaderboardSnapshot buildSnapshot() {
 
-            if (!"CLOSED".equalsIgnoreCase(race.getStatus().name())) continue;
+        // Bereits nach Punkten absteigend sortiert (bei Gleichstand nach User-ID)
+        List<StandingRowDTO> rows = userStandingRepository.findLeaderboardRows();
 
-            List<Tip> userTips = tipRepository.findByUserIdAndRaceId(user.getId(), race.getId());
-            if (userTips.isEmpty()) continue;
+        List<LeaderboardDTO> leaderboard = new ArrayList<>(rows.size());
+        Map<Long, Integer> indexByUserId = new HashMap<>(rows.size() * 2);
+        long[] userIds = new long[rows.size()];
+        int[] denseRanks = new int[rows.size()];
 
-            List<OfficialResult> results = officialResultRepository.findByRaceId(race.getId());
-            if (results.isEmpty()) continue;
+        int competitionRank = 0;
+        int denseRank = 0;
 
-            Map<Integer, Long> officialPosMap = new HashMap<>();
-            for (OfficialResult r : results) {
-                officialPosMap.put(r.getFinalPosition(), r.getDriver().getId());
-            }
+        for (int i = 0; i < rows.size(); i++) {
+            StandingRowDTO row = rows.get(i);
+            String displayName = row.displayName() != null && !row.displayName().trim().isEmpty()
+                    ? row.displayName()
+                    : row.username();
 
-            Map<Integer, Long> predictedPosMap = new HashMap<>();
-            for (Tip t : userTips) {
-                predictedPosMap.put(t.getPredictedPosition(), t.getDriver().getId());
+            // Gleichstand: gleicher Rang wie der Vorgänger
+            if (i == 0 || !row.points().equals(rows.get(i - 1).points())) {
+                competitionRank = i + 1;
+                denseRank++;
             }
 
-            totalPoints += calculateRacePoints(predictedPosMap, officialPosMap);
+            leaderboard.add(new LeaderboardDTO(row.username(), displayName, row.points(), competitionRank));
+            indexByUserId.put(row.userId(), i);
+            userIds[i] = row.userId();
+            denseRanks[i] = denseRank;
         }
 
-        return totalPoints;
+        // Unveränderte Rangliste: Version und ETag bleiben, damit Clients nicht neu laden
+        LeaderboardSnapshot current = snapshot.get();
+        if (current != null && current.hasSameEntries(leaderboard, userIds)) {
+            return current;
+        }
+
+        LeaderboardSnapshot next = new LeaderboardSnapshot(
+                versionCounter.incrementAndGet(), bootId, leaderboard, indexByUserId, userIds, denseRanks);
+        LeaderboardSnapshot previous = snapshot.getAndSet(next);
+
+        // Erst nach dem Austausch melden, damit Listener den neuen Stand auch lesen können
+        if (previous != null) {
+            eventPublisher.publishEvent(new LeaderboardUpdatedEvent(previous, next));
+        }
+        return next;
     }
 }
 
 /*
  * Zusammenfassung:
- * LeaderboardService erstellt das Ranking aller Spieler basierend auf deren Tipps und den offiziellen
- * Rennergebnissen. Punkte werden pro Rennen berechnet, wobei richtige Positionen und Top10-Treffer
- * unterschiedlich gewertet werden. Zusätzlich kann man die Punkte eines einzelnen Users abrufen.
- * Alle Berechnungen berücksichtigen nur geschlossene Rennen (RaceStatus.CLOSED).
+ * LeaderboardService hält die Rangliste als unveränderlichen Snapshot im Speicher.
+ * Events zu Rennen, Ergebnissen, Tipps und Usern lösen nach dem Commit einen
+ * zusammengefassten Rebuild auf einem eigenen Thread aus; Leser blockieren dabei nie.
+ * Der Snapshot selbst ist eine einzige Abfrage (app_users LEFT JOIN user_standings),
+ * Punkte, Rang und Nachbarn eines Users kommen per Index aus dem Snapshot,
+ * ohne Abfrage und ohne die Rangliste zu kopieren. Seiten (Top-N, ?after=) werden
+ * per Keyset-Cursor aus dem Snapshot geschnitten; Gleichstände erhalten denselben Rang
+ * (Competition- oder Dense-Ranking). Eine neue Version entsteht nur, wenn sich Zeilen
+ * geändert haben; dann meldet ein LeaderboardUpdatedEvent alten und neuen Stand (z.B. für
+ * den Live-Stream). Schlägt ein Rebuild fehl, bleibt der alte Stand und der nächste Leser
+ * plant einen neuen Versuch.
  */
@@ -0,0 +1,253 @@
+package com.wiss.f1.championship.service;
+
+import com.wiss.f1.championship.dto.LeaderboardDTO;
+import com.wiss.f1.championship.dto.LeaderboardDiffDTO;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Unveränderlicher Stand des Leaderboards.
+ *
+ * Wird vom LeaderboardService vollständig aufgebaut und danach atomar
+ * ausgetauscht. Leser erhalten immer einen konsistenten, fertig sortierten
+ * Stand und müssen nie auf einen Rebuild warten.
+ *
+ * Zusätzlich enthält er einen Index userId → Position, damit Punkte und Rang
+ * eines einzelnen Users ohne Durchsuchen der Liste gefunden werden, sowie
+ * die User-IDs und Dense-Ränge als Arrays für die Keyset-Paginierung.
+ *
+ * Sortierung: Punkte absteigend, bei Gleichstand User-ID aufsteigend.
+ * Die Einträge tragen den Competition-Rang (gleiche Punkte → gleicher Rang).
+ *
+ * Die Einträge dürfen nach dem Aufbau nicht mehr verändert werden.
+ */
+public final class LeaderboardSnapshot {
+
+    private final ResourceVersion resourceVersion;
+    private final Instant builtAt;
+    private final List<LeaderboardDTO> entries;
+    private final Map<Long, Integer> indexByUserId;
+    private final long[] userIds;
+    private final int[] denseRanks;
+
+    /**
+     * @param version       fortlaufende Versionsnummer (pro Anwendungsstart)
+     * @param bootId        Kennung des Anwendungsstarts, damit ETags nach einem Neustart nicht kollidieren
+     * @param entries       fertig sortierte Einträge mit Competition-Rang (werden nicht kopiert)
+     * @param indexByUserId userId → Index in entries (wird nicht kopiert)
+     * @param userIds       User-ID pro Index in entries
+     * @param denseRanks    Dense-Rang pro Index in entries
+     */
+    LeaderboardSnapshot(long version, String bootId, List<LeaderboardDTO> entries,
+                        Map<Long, Integer> indexByUserId, long[] userIds, int[] denseRanks) {
+        this.builtAt = Instant.now();
+        // Gleicher ETag-Aufbau wie bei Rennen/Fahrern; Last-Modified = Aufbauzeitpunkt
+        this.resourceVersion = new ResourceVersion(version, bootId, builtAt);
+        this.entries = Collections.unmodifiableList(entries);
+        this.indexByUserId = Collections.unmodifiableMap(indexByUserId);
+        this.userIds = userIds;
+        this.denseRanks = denseRanks;
+    }
+
+    public long getVersion() { return resourceVersion.getVersion(); }
+
+    public String getETag() { return resourceVersion.getETag(); }
+
+    public Instant getLastModified() { return resourceVersion.getLastModified(); }
+
+    public Instant getBuiltAt() { return builtAt; }
+
+    public List<LeaderboardDTO> getEntries() { return entries; }
+
+    public int size() { return entries.size(); }
+
+    /**
+     * Liefert den Eintrag eines Users.
+     * @param userId ID des Users
+     * @return Eintrag oder null, falls der User (noch) nicht im Snapshot ist
+     */
+    public LeaderboardDTO entryFor(Long userId) {
+        Integer index = indexByUserId.get(userId);
+        return index != null ? entries.get(index) : null;
+    }
+
+    /**
+     * Liefert den Eintrag eines Users mit bis zu n Spielern davor und danach.
+     * Gibt eine Teilansicht zurück, die Liste wird nicht kopiert.
+     *
+     * @param userId ID des Users
+     * @param n      Anzahl Nachbarn auf jeder Seite
+     * @return Ausschnitt der Rangliste, leer falls der User nicht im Snapshot ist
+     */
+    public List<LeaderboardDTO> neighbours(Long userId, int n) {
+        Integer index = indexByUserId.get(userId);
+        if (index == null) {
+            return List.of();
+        }
+        int from = Math.max(0, index - n);
+        int to = Math.min(entries.size(), index + n + 1);
+        return entries.subList(from, to);
+    }
+
+    /**
+     * Liefert bis zu limit Einträge ab einem Index.
+     * Bei Competition-Ranking ist das eine Teilansicht ohne Kopie; bei Dense-Ranking
+     * werden nur die Einträge dieser Seite mit dem Dense-Rang kopiert.
+     *
+     * @param fromIndex erster Index (inklusive)
+     * @param limit     maximale Anzahl Einträge
+     * @param mode      Art der Rangvergabe
+     * @return Einträge der Seite
+     */
+    public List<LeaderboardDTO> slice(int fromIndex, int limit, RankingMode mode) {
+        int from = Math.min(fromIndex, entries.size());
+        int to = (int) Math.min((long) from + limit, entries.size());
+        List<LeaderboardDTO> view = entries.subList(from, to);
+        if (mode == RankingMode.COMPETITION) {
+            return view;
+        }
+        List<LeaderboardDTO> dense = new ArrayList<>(view.size());
+        for (int i = from; i < to; i++) {
+            LeaderboardDTO entry = entries.get(i);
+            dense.add(new LeaderboardDTO(entry.getUsername(), entry.getDisplayName(), entry.getPoints(), denseRanks[i]));
+        }
+        return dense;
+    }
+
+    /**
+     * Sucht per Binärsuche den ersten Index, der in der Sortierung nach dem Cursor liegt.
+     * Der Cursor muss nicht mehr im Snapshot existieren.
+     *
+     * @param cursor Schlüssel (Punkte, User-ID) des letzten Eintrags der Vorseite
+     * @return erster Index der Folgeseite (size(), wenn keine Einträge folgen)
+     */
+    public int indexAfter(LeaderboardCursor cursor) {
+        int low = 0;
+        int high = entries.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (isAfter(mid, cursor)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @param index Index in entries
+     * @return Cursor, der auf diesen Eintrag zeigt
+     */
+    public LeaderboardCursor cursorAt(int index) {
+        return new LeaderboardCursor(entries.get(index).getPoints(), userIds[index]);
+    }
+
+    // Liegt der Eintrag am Index in der Sortierung (Punkte absteigend, User-ID aufsteigend) nach dem Cursor?
+    private boolean isAfter(int index, LeaderboardCursor cursor) {
+        int points = entries.get(index).getPoints();
+        if (points != cursor.points()) {
+            return points < cursor.points();
+        }
+        return userIds[index] > cursor.userId();
+    }
+
+    /**
+     * @return kompletter Stand als Diff ab Version 0 (erstes Event eines Live-Streams)
+     */
+    public LeaderboardDiffDTO asDiff() {
+        return new LeaderboardDiffDTO(0, getVersion(), entries, List.of());
+    }
+
+    /**
+     * Berechnet die Änderungen gegenüber einem älteren Snapshot.
+     * Ein Eintrag gilt als geändert, wenn Punkte, Rang oder Anzeigename abweichen.
+     * Aufwand O(n) über die Indizes beider Snapshots.
+     *
+     * @param previous älterer Snapshot
+     * @return geänderte und entfernte Einträge
+     */
+    public LeaderboardDiffDTO diff(LeaderboardSnapshot previous) {
+        List<LeaderboardDTO> changed = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            LeaderboardDTO entry = entries.get(i);
+            LeaderboardDTO before = previous.entryFor(userIds[i]);
+            if (before == null
+                    || before.getPoints() != entry.getPoints()
+                    || before.getRank() != entry.getRank()
+                    || !Objects.equals(before.getDisplayName(), entry.getDisplayName())) {
+                changed.add(entry);
+            }
+        }
+
+        List<String> removed = new ArrayList<>();
+        for (int i = 0; i < previous.entries.size(); i++) {
+            if (!indexByUserId.containsKey(previous.userIds[i])) {
+                removed.add(previous.entries.get(i).getUsername());
+            }
+        }
+        return new LeaderboardDiffDTO(previous.getVersion(), getVersion(), changed, removed);
+    }
+
+    /**
+     * Prüft, ob ein neu aufgebauter Stand genau diesem entspricht (gleiche User in
+     * gleicher Reihenfolge mit gleichen Punkten, Rängen und Namen).
+     *
+     * @param otherEntries fertig sortierte Einträge des neuen Stands
+     * @param otherUserIds User-ID pro Index in otherEntries
+     * @return true, wenn sich nichts geändert hat
+     */
+    boolean hasSameEntries(List<LeaderboardDTO> otherEntries, long[] otherUserIds) {
+        if (!Arrays.equals(userIds, otherUserIds)) {
+            return false;
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            LeaderboardDTO entry = entries.get(i);
+            LeaderboardDTO other = otherEntries.get(i);
+            if (entry.getPoints() != other.getPoints()
+                    || entry.getRank() != other.getRank()
+                    || !Objects.equals(entry.getUsername(), other.getUsername())
+                    || !Objects.equals(entry.getDisplayName(), other.getDisplayName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Prüft, ob der Client diesen Stand bereits hat (If-None-Match).
+     * Unterstützt mehrere ETags, schwache ETags (W/) und "*".
+     *
+     * @param ifNoneMatch Wert des If-None-Match-Headers (darf null sein)
+     * @return true, wenn mit 304 Not Modified geantwortet werden kann
+     */
+    public boolean matches(String ifNoneMatch) {
+        return ResourceVersion.matchesETag(ifNoneMatch, getETag());
+    }
+
+    /**
+     * Prüft If-None-Match bzw. If-Modified-Since (If-None-Match hat Vorrang).
+     *
+     * @param ifNoneMatch     Wert des If-None-Match-Headers (darf null sein)
+     * @param ifModifiedSince Wert des If-Modified-Since-Headers (darf null sein)
+     * @return true, wenn mit 304 Not Modified geantwortet werden kann
+     */
+    public boolean isNotModified(String ifNoneMatch, String ifModifiedSince) {
+        return resourceVersion.isNotModified(ifNoneMatch, ifModifiedSince);
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * LeaderboardSnapshot ist ein unveränderlicher, sortierter Stand der Rangliste
+ * mit Versionsnummer, ETag, Last-Modified und Index pro User (Rang, Punkte, Nachbarn). Seiten werden
+ * per Keyset (Punkte, User-ID) und Binärsuche gefunden, Top-N ist eine Teilansicht. Der LeaderboardService tauscht Snapshots atomar aus,
+ * der LeaderboardController nutzt ETag und Last-Modified für 304 Not Modified. diff() liefert die
+ * geänderten Einträge gegenüber einem älteren Stand für den Live-Stream.
+ */
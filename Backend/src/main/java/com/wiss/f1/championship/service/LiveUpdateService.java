@@ -0,0 +1,193 @@
+package com.wiss.f1.championship.service;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.wiss.f1.championship.dto.LeaderboardDiffDTO;
+import com.wiss.f1.championship.dto.RaceStatusChangeDTO;
+import com.wiss.f1.championship.event.LeaderboardUpdatedEvent;
+import com.wiss.f1.championship.event.RaceChangedEvent;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Live-Updates per Server-Sent Events.
+ *
+ * Zwei Streams:
+ * - Leaderboard: beim Verbinden der komplette Stand ("snapshot"), danach nur
+ *   geänderte Einträge pro Rebuild ("diff")
+ * - Rennen: Statusänderungen (OPEN → TIPPABLE → CLOSED) sowie neue und gelöschte Rennen ("race")
+ *
+ * Jedes Event wird einmal serialisiert und dann an alle Abonnenten verteilt
+ * (SseBroadcaster). Ein Heartbeat hält Verbindungen über Proxies offen und
+ * erkennt getrennte Clients.
+ */
+@Service
+public class LiveUpdateService {
+
+    static final String EVENT_SNAPSHOT = "snapshot";
+    static final String EVENT_DIFF = "diff";
+    static final String EVENT_RACE = "race";
+
+    private final LeaderboardService leaderboardService;
+    private final JsonMapper jsonMapper;
+    private final long streamTimeoutMillis;
+
+    private final ExecutorService sender =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-send-", 0).factory());
+
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sse-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final SseBroadcaster leaderboardStream;
+    private final SseBroadcaster raceStream;
+
+    // Anmelden (Stand lesen + registrieren) und Verteilen eines Diffs schliessen sich aus,
+    // damit kein neuer Abonnent zwischen seinem Start-Stand und dem nächsten Diff etwas verpasst
+    private final ReentrantLock leaderboardLock = new ReentrantLock();
+
+    // Kommentarzeile, wird von Clients ignoriert
+    private final Set<DataWithMediaType> heartbeatEvent = SseBroadcaster.prepare(SseEmitter.event().comment("ping"));
+
+    public LiveUpdateService(LeaderboardService leaderboardService,
+                             JsonMapper jsonMapper,
+                             @Value("${live.stream-timeout:PT30M}") Duration streamTimeout,
+                             @Value("${live.heartbeat-interval:PT15S}") Duration heartbeatInterval,
+                             @Value("${live.queue-capacity:32}") int queueCapacity,
+                             @Value("${live.max-subscribers:10000}") int maxSubscribers) {
+        this.leaderboardService = leaderboardService;
+        this.jsonMapper = jsonMapper;
+        this.streamTimeoutMillis = streamTimeout.toMillis();
+        this.leaderboardStream = new SseBroadcaster("leaderboard", queueCapacity, maxSubscribers, sender);
+        this.raceStream = new SseBroadcaster("races", queueCapacity, maxSubscribers, sender);
+
+        long interval = heartbeatInterval.toMillis();
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeat, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Öffnet einen Leaderboard-Stream. Das erste Event enthält die komplette Rangliste.
+     * @return SseEmitter oder null, wenn keine weiteren Abonnenten angenommen werden
+     */
+    public SseEmitter subscribeLeaderboard() {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        // Ersten Aufbau (DB-Abfrage) ausserhalb des Locks anstossen
+        leaderboardService.getSnapshot();
+        leaderboardLock.lock();
+        try {
+            // Kann bereits der Stand sein, dessen Diff gleich noch folgt;
+            // der Client ignoriert Diffs mit einer Version, die er schon hat
+            LeaderboardSnapshot current = leaderboardService.getSnapshot();
+            Set<DataWithMediaType> initial = event(EVENT_SNAPSHOT, current.getVersion(), current.asDiff());
+            return leaderboardStream.subscribe(emitter, initial) ? emitter : null;
+        } finally {
+            leaderboardLock.unlock();
+        }
+    }
+
+    /**
+     * Öffnet einen Stream für Statusänderungen der Rennen.
+     * @return SseEmitter oder null, wenn keine weiteren Abonnenten angenommen werden
+     */
+    public SseEmitter subscribeRaces() {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        // Sofort etwas senden, damit Proxies die Antwort nicht zurückhalten
+        return raceStream.subscribe(emitter, heartbeatEvent) ? emitter : null;
+    }
+
+    /**
+     * Neuer Leaderboard-Snapshot → nur die Änderungen pushen.
+     */
+    @EventListener
+    public void onLeaderboardUpdated(LeaderboardUpdatedEvent event) {
+        if (leaderboardStream.size() == 0) {
+            return;
+        }
+        LeaderboardDiffDTO diff = event.current().diff(event.previous());
+        if (diff.changed().isEmpty() && diff.removed().isEmpty()) {
+            return;
+        }
+        Set<DataWithMediaType> prepared = event(EVENT_DIFF, diff.version(), diff);
+        leaderboardLock.lock();
+        try {
+            leaderboardStream.broadcast(prepared);
+        } finally {
+            leaderboardLock.unlock();
+        }
+    }
+
+    /**
+     * Rennen geändert → Status nach dem Commit pushen.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRaceChanged(RaceChangedEvent event) {
+        if (raceStream.size() == 0) {
+            return;
+        }
+        raceStream.broadcast(event(EVENT_RACE, null, RaceStatusChangeDTO.from(event)));
+    }
+
+    /**
+     * @return Anzahl Abonnenten des Leaderboard-Streams
+     */
+    public int getLeaderboardSubscribers() {
+        return leaderboardStream.size();
+    }
+
+    /**
+     * @return Anzahl Abonnenten des Renn-Streams
+     */
+    public int getRaceSubscribers() {
+        return raceStream.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdownNow();
+        leaderboardStream.closeAll();
+        raceStream.closeAll();
+        sender.shutdownNow();
+    }
+
+    private void sendHeartbeat() {
+        leaderboardStream.broadcast(heartbeatEvent);
+        raceStream.broadcast(heartbeatEvent);
+    }
+
+    // Serialisiert die Nutzdaten einmal für alle Abonnenten
+    private Set<DataWithMediaType> event(String name, Long id, Object payload) {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                .name(name)
+                .data(jsonMapper.writeValueAsString(payload));
+        if (id != null) {
+            builder.id(Long.toString(id));
+        }
+        return SseBroadcaster.prepare(builder);
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * LiveUpdateService stellt die SSE-Streams für Leaderboard und Rennen bereit.
+ * Neue Abonnenten des Leaderboards erhalten den kompletten Stand, danach pusht der
+ * Service pro Snapshot-Wechsel nur geänderte Einträge (LeaderboardUpdatedEvent) und
+ * nach jedem Commit eines RaceChangedEvent die Statusänderung. Gesendet wird über
+ * SseBroadcaster auf virtuellen Threads mit begrenzter Warteschlange pro Client;
+ * ein Heartbeat alle 15 Sekunden hält die Verbindungen offen.
+ */
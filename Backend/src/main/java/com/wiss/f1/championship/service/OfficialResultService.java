@@ -1,12 +1,26 @@
 package com.wiss.f1.championship.service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.wiss.f1.championship.dto.OfficialResultDTO;
+import com.wiss.f1.championship.dto.ResultRowDTO;
+import com.wiss.f1.championship.entity.Driver;
 import com.wiss.f1.championship.entity.OfficialResult;
 import com.wiss.f1.championship.entity.Race;
+import com.wiss.f1.championship.event.ResultsChangedEvent;
 import com.wiss.f1.championship.repository.OfficialResultRepository;
 
 /**
@@ -16,14 +30,25 @@ import com.wiss.f1.championship.repository.OfficialResultRepository;
  * - Ergebnisse erstellen, abrufen und löschen
  * - Abruf von Ergebnissen pro Rennen
  * - Löschen aller Ergebnisse eines Rennens
+ * - Ersetzen der kompletten Ergebnisreihenfolge eines Rennens (einziger Schreibpfad
+ *   für Race.resultsOrder) und Ableiten der Namensansicht daraus
+ * - Prüfen einer kompletten Klassifizierung (Fahrer-IDs mit Position) ohne DB-Zugriff
+ * - Veröffentlichen eines ResultsChangedEvent nach jeder Änderung; die Punkte
+ *   berechnet daraufhin der ScoringJobService im Hintergrund neu
  */
 @Service
 public class OfficialResultService {
 
     private final OfficialResultRepository resultRepository;
+    private final DriverService driverService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public OfficialResultService(OfficialResultRepository resultRepository) {
+    public OfficialResultService(OfficialResultRepository resultRepository,
+                                 DriverService driverService,
+                                 ApplicationEventPublisher eventPublisher) {
         this.resultRepository = resultRepository;
+        this.driverService = driverService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -49,25 +74,180 @@ public class OfficialResultService {
      * @param result OfficialResult Objekt
      * @return Gespeichertes Ergebnis
      */
+    @Transactional
     public OfficialResult createResult(OfficialResult result) {
-        return resultRepository.save(result);
+        OfficialResult saved = resultRepository.save(result);
+        if (result.getRace() != null && result.getRace().getId() != null) {
+            eventPublisher.publishEvent(new ResultsChangedEvent(result.getRace().getId()));
+        }
+        return saved;
     }
 
     /**
      * Löscht ein offizielles Ergebnis anhand der ID.
      * @param id ID des OfficialResult
      */
+    @Transactional
     public void deleteResult(Long id) {
+        Long raceId = resultRepository.findById(id)
+                .map(result -> result.getRace().getId())
+                .orElse(null);
         resultRepository.deleteById(id);
+        if (raceId != null) {
+            eventPublisher.publishEvent(new ResultsChangedEvent(raceId));
+        }
     }
 
     /**
      * Löscht alle offiziellen Ergebnisse eines bestimmten Rennens.
      * @param raceId ID des Rennens
      */
+    @Transactional
     public void deleteResultsForRace(Long raceId) {
         List<OfficialResult> results = resultRepository.findByRaceId(raceId);
         resultRepository.deleteAll(results);
+        eventPublisher.publishEvent(new ResultsChangedEvent(raceId));
+    }
+
+    /**
+     * Ersetzt die komplette Ergebnisreihenfolge eines Rennens.
+     * Die Namen werden vor jedem Schreibzugriff aufgelöst; ist ein Name unbekannt
+     * oder kommt ein Fahrer doppelt vor, bleibt das bisherige Ergebnis unverändert.
+     * Events (und damit die Neuberechnung) sind Sache des Aufrufers, da dieser meist
+     * zusätzlich den Status des Rennens ändert.
+     *
+     * @param race        Das Rennen (muss eine ID haben)
+     * @param driverNames Fahrernamen in Zielreihenfolge (Platz 1, 2, 3, ...)
+     * @return die gespeicherte Reihenfolge als kanonische Fahrernamen
+     * @throws IllegalArgumentException bei unbekannten oder doppelten Fahrern
+     */
+    @Transactional
+    public List<String> replaceResultOrder(Race race, List<String> driverNames) {
+        Map<String, Driver> driversByName = driverService.getDriversByNames(driverNames);
+        Set<String> missing = new LinkedHashSet<>();
+        Set<Long> seen = new HashSet<>();
+        List<Driver> ordered = new ArrayList<>(driverNames.size());
+        for (String name : driverNames) {
+            Driver driver = driversByName.get(name);
+            if (driver == null) {
+                missing.add(name);
+            } else if (!seen.add(driver.getId())) {
+                throw new IllegalArgumentException("Fahrer mehrfach im Ergebnis: " + driver.getName());
+            } else {
+                ordered.add(driver);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Fahrer nicht gefunden: " + String.join(", ", missing));
+        }
+
+        SortedMap<Integer, Driver> driversByPosition = new TreeMap<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            driversByPosition.put(i + 1, ordered.get(i));
+        }
+        List<String> canonicalNames = new ArrayList<>(ordered.size());
+        for (OfficialResult result : replaceResults(race, driversByPosition)) {
+            canonicalNames.add(result.getDriver().getName());
+        }
+        return canonicalNames;
+    }
+
+    /**
+     * Prüft eine komplette Klassifizierung (Fahrer-ID + Position je Eintrag) im Speicher:
+     * Pflichtfelder, Positionen ab 1 und eindeutig, Fahrer eindeutig und bekannt.
+     * Greift nur auf das Fahrerverzeichnis zu, nicht auf die Datenbank.
+     *
+     * @param entries Einträge mit driverId und finalPosition (übrige Felder werden ignoriert)
+     * @return Fahrer nach Position sortiert
+     * @throws IllegalArgumentException beim ersten Verstoß bzw. mit allen unbekannten Fahrer-IDs
+     */
+    public SortedMap<Integer, Driver> resolveClassification(List<OfficialResultDTO> entries) {
+        if (entries == null || entries.isEmpty()) {
+            throw new IllegalArgumentException("Das Ergebnis darf nicht leer sein");
+        }
+        SortedMap<Integer, Driver> driversByPosition = new TreeMap<>();
+        Set<Long> seenDrivers = new HashSet<>();
+        Set<Long> missing = new LinkedHashSet<>();
+        for (OfficialResultDTO entry : entries) {
+            if (entry == null || entry.getDriverId() == null || entry.getFinalPosition() == null) {
+                throw new IllegalArgumentException("Jeder Eintrag braucht driverId und finalPosition");
+            }
+            int position = entry.getFinalPosition();
+            if (position < 1) {
+                throw new IllegalArgumentException("Ungültige Position: " + position);
+            }
+            if (!seenDrivers.add(entry.getDriverId())) {
+                throw new IllegalArgumentException("Fahrer mehrfach im Ergebnis: " + entry.getDriverId());
+            }
+            Driver driver = driverService.getDriverById(entry.getDriverId()).orElse(null);
+            if (driver == null) {
+                missing.add(entry.getDriverId());
+            } else if (driversByPosition.putIfAbsent(position, driver) != null) {
+                throw new IllegalArgumentException("Position mehrfach vergeben: " + position);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Fahrer nicht gefunden: " + missing);
+        }
+        return driversByPosition;
+    }
+
+    /**
+     * Ersetzt alle Ergebnisse eines Rennens durch die übergebene Klassifizierung.
+     * Gemeinsamer Schreibpfad für Namensreihenfolge und Klassifizierung: ein Bulk-Delete,
+     * danach die neuen Zeilen in einem JDBC-Batch. Die Eingabe muss bereits geprüft sein.
+     * Die zurückgegebenen Objekte tragen die generierten IDs.
+     *
+     * @param race              Das Rennen (muss eine ID haben)
+     * @param driversByPosition Fahrer nach Position
+     * @return die neuen OfficialResult-Objekte nach Position sortiert
+     */
+    @Transactional
+    public List<OfficialResult> replaceResults(Race race, SortedMap<Integer, Driver> driversByPosition) {
+        // Bulk-Delete läuft sofort, damit die Positionen für die Inserts frei sind
+        resultRepository.deleteByRaceId(race.getId());
+        List<OfficialResult> results = new ArrayList<>(driversByPosition.size());
+        driversByPosition.forEach((position, driver) -> results.add(new OfficialResult(race, driver, position)));
+        resultRepository.insertAll(results);
+        return results;
+    }
+
+    /**
+     * Liefert die Ergebnisreihenfolge eines Rennens als Fahrernamen.
+     * Liest nur die Projektion (Position, DriverId); die Namen kommen aus dem Fahrerverzeichnis.
+     * @param raceId ID des Rennens
+     * @return Fahrernamen nach Position sortiert (leer, falls kein Ergebnis)
+     */
+    public List<String> getResultOrder(Long raceId) {
+        List<ResultRowDTO> rows = new ArrayList<>(resultRepository.findResultRowsByRaceId(raceId));
+        rows.sort((a, b) -> Integer.compare(a.finalPosition(), b.finalPosition()));
+        return toNames(rows);
+    }
+
+    /**
+     * Liefert die Ergebnisreihenfolgen aller Rennen mit einer einzigen Abfrage.
+     * @return Map RaceId → Fahrernamen nach Position; Rennen ohne Ergebnis fehlen
+     */
+    public Map<Long, List<String>> getResultOrders() {
+        Map<Long, List<ResultRowDTO>> rowsByRace = new HashMap<>();
+        for (ResultRowDTO row : resultRepository.findAllResultRows()) {
+            rowsByRace.computeIfAbsent(row.raceId(), id -> new ArrayList<>()).add(row);
+        }
+        Map<Long, List<String>> orders = new HashMap<>(rowsByRace.size() * 2);
+        rowsByRace.forEach((raceId, rows) -> orders.put(raceId, toNames(rows)));
+        return orders;
+    }
+
+    /**
+     * Übersetzt bereits sortierte Ergebniszeilen in Fahrernamen.
+     */
+    private List<String> toNames(List<ResultRowDTO> rows) {
+        List<String> names = new ArrayList<>(rows.size());
+        for (ResultRowDTO row : rows) {
+            driverService.getDriverById(row.driverId())
+                    .ifPresent(driver -> names.add(driver.getName()));
+        }
+        return names;
     }
 }
 
@@ -75,5 +255,11 @@ public class OfficialResultService {
  * Zusammenfassung:
  * OfficialResultService kapselt die Geschäftslogik für offizielle Rennergebnisse.
  * Es ermöglicht das Erstellen, Abrufen und Löschen einzelner Ergebnisse sowie das
- * Löschen aller Ergebnisse für ein bestimmtes Rennen.
+ * Löschen aller Ergebnisse für ein bestimmtes Rennen. Nach jeder Änderung wird ein
+ * ResultsChangedEvent veröffentlicht, woraufhin der ScoringJobService die Standings
+ * des betroffenen Rennens im Hintergrund neu berechnet.
+ * Die OfficialResult-Zeilen sind die einzige Speicherung eines Rennergebnisses:
+ * replaceResultOrder (Fahrernamen) und resolveClassification (Fahrer-IDs mit Position)
+ * prüfen die Eingabe im Speicher und schreiben über replaceResults; getResultOrder/
+ * getResultOrders leiten die Namensreihenfolge aus der schlanken Projektion wieder ab.
  */
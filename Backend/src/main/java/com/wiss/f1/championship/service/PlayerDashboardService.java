@@ -0,0 +1,168 @@
+package com.wiss.f1.championship.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Service;
+
+import com.wiss.f1.championship.dto.LeaderboardDTO;
+import com.wiss.f1.championship.dto.LeaderboardPositionDTO;
+import com.wiss.f1.championship.dto.PlayerDashboardDTO;
+import com.wiss.f1.championship.dto.RaceResponseDTO;
+import com.wiss.f1.championship.dto.TipResponseDTO;
+import com.wiss.f1.championship.dto.UserProfileDTO;
+import com.wiss.f1.championship.entity.AppUser;
+
+/**
+ * Stellt das Spieler-Dashboard in einem Aufruf zusammen.
+ *
+ * Rennen und eigene Tipps werden gleichzeitig auf virtuellen Threads geladen;
+ * die Antwortzeit entspricht damit dem langsameren Teil statt der Summe. Jeder
+ * Teil läuft in seiner eigenen (Lese-)Transaktion und belegt dabei eine
+ * DB-Verbindung. Position und Top-Spieler kommen aus dem Leaderboard-Snapshot
+ * im Speicher und werden direkt auf dem Request-Thread gelesen.
+ *
+ * Die parallelen DB-Lesezugriffe aller Dashboards zusammen sind durch eine
+ * Semaphore begrenzt (dashboard.max-parallel-db-reads, kleiner als der Pool).
+ * Viele gleichzeitige Dashboards warten so auf eine Freigabe, statt den Pool
+ * leerzuräumen und andere Endpunkte in den connection-timeout (503) zu drängen.
+ *
+ * Der User kommt aus dem SecurityContext des Requests; die Worker-Threads
+ * brauchen daher keinen Zugriff auf die Authentifizierung.
+ */
+@Service
+public class PlayerDashboardService {
+
+    // Anzahl Spieler in der Top-Liste des Dashboards
+    public static final int TOP_PLAYERS = 10;
+
+    private final RaceService raceService;
+    private final TipService tipService;
+    private final LeaderboardService leaderboardService;
+    private final Executor executor;
+    private final Semaphore dbReads;
+    private final Duration dbReadTimeout;
+
+    /**
+     * @param maxParallelDbReads gleichzeitige DB-Lesezugriffe über alle Dashboards
+     * @param dbReadTimeoutMs    maximale Wartezeit auf eine Freigabe (wie der connection-timeout des Pools)
+     */
+    @Autowired
+    public PlayerDashboardService(RaceService raceService, TipService tipService,
+                                  LeaderboardService leaderboardService,
+                                  @Value("${dashboard.max-parallel-db-reads:5}") int maxParallelDbReads,
+                                  @Value("${spring.datasource.hikari.connection-timeout:3000}") long dbReadTimeoutMs) {
+        this(raceService, tipService, leaderboardService,
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("dashboard-", 0).factory()),
+                maxParallelDbReads, Duration.ofMillis(dbReadTimeoutMs));
+    }
+
+    /**
+     * Konstruktor mit eigenem Executor (z.B. synchron in Tests).
+     */
+    public PlayerDashboardService(RaceService raceService, TipService tipService,
+                                  LeaderboardService leaderboardService, Executor executor,
+                                  int maxParallelDbReads, Duration dbReadTimeout) {
+        if (maxParallelDbReads < 1) {
+            throw new IllegalArgumentException("dashboard.max-parallel-db-reads muss mindestens 1 sein");
+        }
+        this.raceService = raceService;
+        this.tipService = tipService;
+        this.leaderboardService = leaderboardService;
+        this.executor = executor;
+        this.dbReads = new Semaphore(maxParallelDbReads, true);
+        this.dbReadTimeout = dbReadTimeout;
+    }
+
+    /**
+     * Lädt alle Daten des Dashboards; Rennen und Tipps parallel.
+     *
+     * @param user       eingeloggter User
+     * @param neighbours Anzahl Spieler vor und nach der eigenen Position
+     * @return Profil, Rennen, Tipps, eigene Position und Top-Spieler
+     * @throws IllegalArgumentException bei ungültiger Anzahl Nachbarn
+     * @throws DataAccessResourceFailureException wenn innerhalb des Timeouts keine Freigabe frei wird (503)
+     */
+    public PlayerDashboardDTO getDashboard(AppUser user, int neighbours) {
+        if (neighbours < 0 || neighbours > LeaderboardService.MAX_NEIGHBOURS) {
+            throw new IllegalArgumentException(
+                    "neighbours muss zwischen 0 und " + LeaderboardService.MAX_NEIGHBOURS + " liegen");
+        }
+
+        CompletableFuture<List<RaceResponseDTO>> races = readAsync(raceService::getAllRaceResponses);
+        CompletableFuture<List<TipResponseDTO>> tips = readAsync(() -> tipService.getAllTipsForUser(user));
+
+        // Snapshot im Speicher: kein eigener Thread, keine DB-Verbindung
+        LeaderboardPositionDTO ownPosition = leaderboardService.getPositionWithNeighbours(user.getId(), neighbours);
+        List<LeaderboardDTO> topPlayers = leaderboardService.getPage(null, TOP_PLAYERS, RankingMode.COMPETITION).entries();
+
+        // Punkte und Rang im Profil aus demselben Snapshot wie der Ausschnitt
+        UserProfileDTO profile = UserProfileDTO.of(user, ownPosition.getPoints(), ownPosition.getRank());
+
+        return new PlayerDashboardDTO(profile, await(races), await(tips), ownPosition, topPlayers);
+    }
+
+    // Startet einen DB-Lesezugriff, sobald eine der begrenzten Freigaben frei ist
+    private <T> CompletableFuture<T> readAsync(Supplier<T> read) {
+        return CompletableFuture.supplyAsync(() -> {
+            acquireDbRead();
+            try {
+                return read.get();
+            } finally {
+                dbReads.release();
+            }
+        }, executor);
+    }
+
+    private void acquireDbRead() {
+        try {
+            if (!dbReads.tryAcquire(dbReadTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new DataAccessResourceFailureException(
+                        "Dashboard: keine freie DB-Verbindung nach " + dbReadTimeout.toMillis() + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessResourceFailureException("Dashboard: Warten auf DB-Verbindung unterbrochen", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    // Wartet auf einen Teil; Fehler werden unverpackt weitergereicht (z.B. für 503 bei DB-Ausfall)
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * PlayerDashboardService lädt Rennen und eigene Tipps gleichzeitig auf virtuellen Threads
+ * (CompletableFuture), liest eigene Position und Top-Spieler aus dem Leaderboard-Snapshot
+ * und fasst alles mit dem Profil zu einem PlayerDashboardDTO zusammen. Ein Request ersetzt
+ * damit vier nacheinander ausgeführte Aufrufe des Frontends. Eine Semaphore begrenzt die
+ * parallelen DB-Lesezugriffe aller Dashboards, damit der Connection-Pool nicht leerläuft.
+ */
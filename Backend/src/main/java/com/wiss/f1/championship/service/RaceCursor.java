@@ -0,0 +1,92 @@
+package com.wiss.f1.championship.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.stream.Collectors;
+
+import com.wiss.f1.championship.repository.RaceFilter;
+
+/**
+ * Keyset-Cursor für die Paginierung des Rennkalenders.
+ *
+ * Zeigt auf das letzte Rennen einer Seite (Datum, Renn-ID). Die nächste Seite
+ * beginnt direkt nach diesem Schlüssel in der gewählten Sortierung; neue oder
+ * gelöschte Rennen verschieben die Folgeseiten dadurch nicht.
+ *
+ * Sortierung und Filter der Anfrage sind im Cursor enthalten. Ein Cursor gilt
+ * nur für genau diese Kombination: Mit anderer Sortierung oder anderem Filter
+ * würde die Folgeseite Rennen überspringen oder doppelt liefern (→ 400).
+ *
+ * @param date      Datum des letzten Rennens
+ * @param raceId    ID des letzten Rennens
+ * @param sort      Sortierung der Anfrage
+ * @param filterKey Filter der Anfrage in kanonischer Form (siehe of())
+ */
+public record RaceCursor(LocalDate date, long raceId, RaceSort sort, String filterKey) {
+
+    /**
+     * @param date   Datum des letzten Rennens
+     * @param raceId ID des letzten Rennens
+     * @param filter Filter der Anfrage
+     * @param sort   Sortierung der Anfrage
+     * @return Cursor für die Folgeseite
+     */
+    public static RaceCursor of(LocalDate date, long raceId, RaceFilter filter, RaceSort sort) {
+        return new RaceCursor(date, raceId, sort, filterKey(filter));
+    }
+
+    /**
+     * @return Cursor als URL-sicherer, für den Client undurchsichtiger String
+     */
+    public String encode() {
+        String raw = date + ":" + raceId + ":" + sort.getParamValue() + ":" + filterKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Liest einen Cursor aus dem Request-Parameter "after" und prüft, dass er zur Anfrage passt.
+     * @param value  kodierter Cursor
+     * @param filter Filter der aktuellen Anfrage
+     * @param sort   Sortierung der aktuellen Anfrage
+     * @return Cursor
+     * @throws IllegalArgumentException bei ungültigem Cursor oder anderer Sortierung/anderem Filter
+     */
+    public static RaceCursor decode(String value, RaceFilter filter, RaceSort sort) {
+        RaceCursor cursor;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 4);
+            cursor = new RaceCursor(
+                    LocalDate.parse(parts[0]),
+                    Long.parseLong(parts[1]),
+                    RaceSort.fromParam(parts[2]),
+                    parts[3]);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Ungültiger Cursor: " + value);
+        }
+        if (cursor.sort != sort || !cursor.filterKey.equals(filterKey(filter))) {
+            throw new IllegalArgumentException(
+                    "Cursor gehört zu einer anderen Sortierung oder anderen Filtern; erste Seite ohne after neu laden");
+        }
+        return cursor;
+    }
+
+    // Status nach Enum-Reihenfolge, dann Datumsgrenzen: gleicher Filter → gleicher Schlüssel
+    private static String filterKey(RaceFilter filter) {
+        String statuses = filter.statuses().stream()
+                .sorted(Comparator.naturalOrder())
+                .map(Enum::name)
+                .collect(Collectors.joining(","));
+        return statuses + "|" + (filter.from() != null ? filter.from() : "")
+                + "|" + (filter.to() != null ? filter.to() : "");
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * RaceCursor kodiert den Sortierschlüssel (Datum, Renn-ID) des letzten Rennens
+ * einer Seite zusammen mit Sortierung und Filter als Base64-String für ?after=
+ * am Rennkalender. Passt ein Cursor nicht zur Anfrage, wird er abgelehnt (400).
+ */
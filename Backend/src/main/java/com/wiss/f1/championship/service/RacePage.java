@@ -0,0 +1,21 @@
+package com.wiss.f1.championship.service;
+
+import com.wiss.f1.championship.dto.RaceResponseDTO;
+
+import java.util.List;
+
+/**
+ * Eine Seite des Rennkalenders.
+ *
+ * @param entries    Rennen der Seite inkl. Ergebnisreihenfolge
+ * @param nextCursor Cursor für die nächste Seite, null auf der letzten Seite
+ * @param totalRaces Anzahl aller Rennen, die den Filter erfüllen
+ */
+public record RacePage(List<RaceResponseDTO> entries, String nextCursor, long totalRaces) {
+}
+
+/*
+ * Zusammenfassung:
+ * RacePage ist das Ergebnis von RaceService.getRacePage():
+ * Rennen, Cursor für die Folgeseite und Gesamtanzahl.
+ */
@@ -0,0 +1,99 @@
+package com.wiss.f1.championship.service;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Offizielles Ergebnis eines Rennens in primitiver Form für den ScoringEngine.
+ *
+ * Wird einmal pro Rennen aufgebaut und danach für alle Tipps wiederverwendet:
+ * - driverAtPosition: Position 1..10 → DriverId (NO_DRIVER, falls leer)
+ * - Menge aller Fahrer im Ergebnis als Bitset (indiziert über die DriverId)
+ *   bzw. als sortiertes Array, falls die IDs für ein Bitset zu groß sind
+ *
+ * Abfragen allokieren nichts und boxen keine IDs.
+ */
+public final class RaceResultTable {
+
+    /** Höchste Position, die Punkte geben kann. */
+    public static final int SCORED_POSITIONS = 10;
+
+    /** Markiert eine leere Position. */
+    public static final long NO_DRIVER = Long.MIN_VALUE;
+
+    // Größte DriverId, für die noch ein Bitset verwendet wird (128 KB)
+    private static final long MAX_BITSET_DRIVER_ID = 1L << 20;
+
+    private final long[] driverAtPosition = new long[SCORED_POSITIONS + 1];
+    private final long[] driverBits;
+    private final long[] sortedDrivers;
+
+    private RaceResultTable(Map<Integer, Long> official) {
+        Arrays.fill(driverAtPosition, NO_DRIVER);
+        for (int pos = 1; pos <= SCORED_POSITIONS; pos++) {
+            Long driverId = official.get(pos);
+            if (driverId != null) {
+                driverAtPosition[pos] = driverId;
+            }
+        }
+
+        // Alle Fahrer im Ergebnis (auch Positionen > 10), wie official.values()
+        long[] drivers = official.values().stream()
+                .filter(id -> id != null)
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+
+        boolean bitsetFits = drivers.length == 0
+                || (drivers[0] >= 0 && drivers[drivers.length - 1] <= MAX_BITSET_DRIVER_ID);
+
+        if (bitsetFits) {
+            long maxId = drivers.length == 0 ? 0 : drivers[drivers.length - 1];
+            driverBits = new long[(int) (maxId >>> 6) + 1];
+            for (long id : drivers) {
+                driverBits[(int) (id >>> 6)] |= 1L << id;
+            }
+            sortedDrivers = null;
+        } else {
+            driverBits = null;
+            sortedDrivers = drivers;
+        }
+    }
+
+    /**
+     * Baut die Tabelle aus der Map-Darstellung (Position → DriverId).
+     * @param official offizielles Ergebnis eines Rennens
+     * @return Tabelle für den ScoringEngine
+     */
+    public static RaceResultTable of(Map<Integer, Long> official) {
+        return new RaceResultTable(official);
+    }
+
+    /**
+     * @param pos Position 1..10
+     * @return DriverId auf dieser Position oder NO_DRIVER
+     */
+    public long driverAt(int pos) {
+        return driverAtPosition[pos];
+    }
+
+    /**
+     * @param driverId DriverId
+     * @return true, wenn der Fahrer irgendwo im offiziellen Ergebnis steht
+     */
+    public boolean contains(long driverId) {
+        if (driverBits != null) {
+            if (driverId < 0) return false;
+            long word = driverId >>> 6;
+            return word < driverBits.length && (driverBits[(int) word] & (1L << driverId)) != 0;
+        }
+        return Arrays.binarySearch(sortedDrivers, driverId) >= 0;
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * RaceResultTable hält das offizielle Ergebnis eines Rennens als primitive Arrays
+ * (Position → Fahrer, Fahrer-Bitset). Der ScoringEngine baut sie einmal pro Rennen
+ * und bewertet damit jeden Tipp ohne Allokation.
+ */
@@ -1,13 +1,31 @@
 package com.wiss.f1.championship.service;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.SortedMap;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.wiss.f1.championship.dto.OfficialResultDTO;
+import com.wiss.f1.championship.dto.RaceListingRowDTO;
+import com.wiss.f1.championship.dto.RaceResponseDTO;
+import com.wiss.f1.championship.dto.RaceStatusCountDTO;
+import com.wiss.f1.championship.entity.Driver;
+import com.wiss.f1.championship.entity.OfficialResult;
 import com.wiss.f1.championship.entity.Race;
 import com.wiss.f1.championship.entity.RaceStatus;
+import com.wiss.f1.championship.event.RaceChangedEvent;
 import com.wiss.f1.championship.exception.RaceNotFoundException;
+import com.wiss.f1.championship.repository.RaceFilter;
 import com.wiss.f1.championship.repository.RaceRepository;
 
 /**
@@ -15,76 +33,296 @@ import com.wiss.f1.championship.repository.RaceRepository;
  *
  * Aufgaben:
  * - Rennen erstellen, abrufen, aktualisieren und löschen
- * - Speichern der offiziellen Ergebnisse eines Rennens
+ * - Speichern der offiziellen Ergebnisse eines Rennens (über OfficialResultService,
+ *   resultsOrder wird beim Lesen aus den OfficialResult-Zeilen befüllt)
  * - Statusverwaltung (z.B. CLOSED nach Ergebnisaktualisierung)
+ * - Neuberechnung der Standings im Hintergrund durch den ScoringJobService
+ *   (ausgelöst durch das RaceChangedEvent)
+ * - Veröffentlichen eines RaceChangedEvent nach jeder Änderung
  */
 @Service
 public class RaceService {
 
+    // Obergrenze für die Seitengröße bei getRacePage / getUpcomingRaces
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final RaceRepository raceRepository;
+    private final StandingsService standingsService;
+    private final OfficialResultService officialResultService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public RaceService(RaceRepository raceRepository) {
+    public RaceService(RaceRepository raceRepository,
+                       StandingsService standingsService,
+                       OfficialResultService officialResultService,
+                       ApplicationEventPublisher eventPublisher) {
         this.raceRepository = raceRepository;
+        this.standingsService = standingsService;
+        this.officialResultService = officialResultService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
-     * Gibt alle Rennen zurück.
+     * Gibt alle Rennen zurück, inklusive Ergebnisreihenfolge.
+     * Die Ergebnisse aller Rennen werden mit einer einzigen Abfrage geladen.
      * @return Liste aller Rennen
      */
     public List<Race> getAllRaces() {
-        return raceRepository.findAll();
+        List<Race> races = raceRepository.findAll();
+        Map<Long, List<String>> orders = officialResultService.getResultOrders();
+        for (Race race : races) {
+            race.setResultsOrder(orders.getOrDefault(race.getId(), List.of()));
+        }
+        return races;
     }
 
     /**
-     * Holt ein Rennen anhand der ID.
+     * Holt ein Rennen anhand der ID, inklusive Ergebnisreihenfolge.
      * @param id ID des Rennens
      * @return Optional mit dem Rennen oder empty, falls nicht gefunden
      */
     public Optional<Race> getRaceById(Long id) {
-        return raceRepository.findById(id);
+        Optional<Race> race = raceRepository.findById(id);
+        race.ifPresent(r -> r.setResultsOrder(officialResultService.getResultOrder(id)));
+        return race;
+    }
+
+    /**
+     * Gibt alle Rennen als Antwort-DTOs zurück (Lese-Endpunkte).
+     * Rennen, Ergebnisse und Fahrernamen kommen aus einer einzigen Projektionsabfrage;
+     * es werden keine Entities geladen, die Anzahl Abfragen hängt nicht von der Saisonlänge ab.
+     * @return alle Rennen nach ID sortiert, inklusive Ergebnisreihenfolge
+     */
+    public List<RaceResponseDTO> getAllRaceResponses() {
+        return toResponses(raceRepository.findRaceListingRows());
+    }
+
+    /**
+     * Holt ein Rennen als Antwort-DTO, inklusive Ergebnisreihenfolge, mit einer Abfrage.
+     * @param id ID des Rennens
+     * @return Optional mit dem Rennen oder empty, falls nicht gefunden
+     */
+    public Optional<RaceResponseDTO> getRaceResponseById(Long id) {
+        List<RaceResponseDTO> races = toResponses(raceRepository.findRaceListingRowsById(id));
+        return races.isEmpty() ? Optional.empty() : Optional.of(races.getFirst());
+    }
+
+    /**
+     * Liefert eine Seite des Rennkalenders per Keyset-Paginierung.
+     * Gelesen werden nur die IDs der Seite (Index auf status, date, id), dann diese
+     * Rennen samt Ergebnisreihenfolge und die Gesamtanzahl – drei Abfragen, unabhängig
+     * davon, wie viele Rennen insgesamt gespeichert sind.
+     *
+     * @param filter Status- und Datumsfilter
+     * @param sort   Sortierung nach Datum
+     * @param after  Cursor der Vorseite (null für die erste Seite)
+     * @param limit  Seitengröße (1 bis MAX_PAGE_SIZE)
+     * @return Seite mit Rennen, Cursor für die Folgeseite und Gesamtanzahl
+     * @throws IllegalArgumentException bei ungültigem Limit oder Cursor, auch wenn der Cursor
+     *                                  zu einer anderen Sortierung oder anderen Filtern gehört
+     */
+    @Transactional(readOnly = true)
+    public RacePage getRacePage(RaceFilter filter, RaceSort sort, String after, int limit) {
+        checkLimit(limit);
+        RaceCursor cursor = after == null || after.isBlank() ? null : RaceCursor.decode(after, filter, sort);
+
+        // Ein Rennen mehr lesen, um zu wissen, ob es eine Folgeseite gibt
+        List<Long> ids = raceRepository.findRaceIds(filter, sort.isDescending(),
+                cursor != null ? cursor.date() : null, cursor != null ? cursor.raceId() : null, limit + 1);
+        boolean hasMore = ids.size() > limit;
+        List<RaceResponseDTO> entries = getRaceResponsesInOrder(hasMore ? ids.subList(0, limit) : ids);
+
+        String nextCursor = hasMore && !entries.isEmpty()
+                ? RaceCursor.of(entries.getLast().getDate(), entries.getLast().getId(), filter, sort).encode()
+                : null;
+        return new RacePage(entries, nextCursor, raceRepository.countRaces(filter));
+    }
+
+    /**
+     * Liefert die nächsten Rennen ab today, die noch nicht geschlossen sind (geplant oder
+     * im Voting), nach Datum aufsteigend. Für Startseite und Spieler-Dashboard.
+     * Vergangene Rennen, die (noch) nicht geschlossen wurden, zählen nicht als "nächste".
+     * @param limit Anzahl Rennen (1 bis MAX_PAGE_SIZE)
+     * @param today Stichtag (inklusive), in der Anwendung das aktuelle Datum
+     * @return höchstens limit Rennen
+     */
+    @Transactional(readOnly = true)
+    public List<RaceResponseDTO> getUpcomingRaces(int limit, LocalDate today) {
+        checkLimit(limit);
+        return getRaceResponsesInOrder(
+                raceRepository.findRaceIds(RaceFilter.upcoming(today), false, null, null, limit));
+    }
+
+    /**
+     * Zählt die Rennen pro Status mit einer Abfrage (nur über den Index).
+     * @return Map Status (Frontend-Wert, z.B. "voting") → Anzahl, alle Status enthalten
+     */
+    public Map<String, Long> getRaceCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (RaceStatus status : RaceStatus.values()) {
+            counts.put(status.getJsonValue(), 0L);
+        }
+        for (RaceStatusCountDTO row : raceRepository.countRacesByStatus()) {
+            counts.put(row.status().getJsonValue(), row.count());
+        }
+        return counts;
+    }
+
+    /**
+     * Holt mehrere Rennen anhand ihrer IDs in einer Abfrage.
+     * @param ids IDs der Rennen
+     * @return gefundene Rennen (unbekannte IDs fehlen)
+     */
+    public List<Race> getRacesByIds(Collection<Long> ids) {
+        return raceRepository.findAllById(ids);
     }
 
     /**
      * Erstellt ein neues Rennen.
+     * Ergebnisse werden nur über updateRaceResults / updateRaceClassification gespeichert;
+     * eine im Formular mitgeschickte Fahrerliste wird ignoriert.
      * @param race Race Objekt
      * @return Gespeichertes Rennen
      */
+    @Transactional
     public Race createRace(Race race) {
-        return raceRepository.save(race);
+        Race saved = raceRepository.save(race);
+        if (saved != null) {
+            eventPublisher.publishEvent(new RaceChangedEvent(saved.getId(), saved.getStatus(), RaceChangedEvent.Type.CREATED));
+        }
+        return saved;
     }
 
     /**
      * Aktualisiert ein vorhandenes Rennen.
+     * Da sich der Status (z.B. CLOSED) ändern kann, wertet der ScoringJobService das
+     * Rennen nach dem Commit neu (UPDATED-Event).
+     * Die gespeicherten Ergebnisse bleiben unverändert (nur updateRaceResults /
+     * updateRaceClassification schreiben sie); zurückgegeben werden sie trotzdem.
      * @param race Race Objekt mit neuen Werten
      * @return Aktualisiertes Rennen
      */
+    @Transactional
     public Race updateRace(Race race) {
-        return raceRepository.save(race);
+        Race saved = raceRepository.save(race);
+        if (saved != null && saved.getId() != null) {
+            saved.setResultsOrder(officialResultService.getResultOrder(saved.getId()));
+            eventPublisher.publishEvent(new RaceChangedEvent(saved.getId(), saved.getStatus(), RaceChangedEvent.Type.UPDATED));
+        }
+        return saved;
     }
 
     /**
      * Löscht ein Rennen anhand der ID.
+     * Vorher werden die Punkte des Rennens entfernt und seine Ergebnisreihenfolge
+     * geleert; die Saisonstände zieht der ScoringJobService nach (DELETED-Event).
      * @param id ID des Rennens
      */
+    @Transactional
     public void deleteRace(Long id) {
+        standingsService.removeRace(id);
+        officialResultService.replaceResultOrder(raceRepository.getReferenceById(id), List.of());
         raceRepository.deleteById(id);
+        eventPublisher.publishEvent(new RaceChangedEvent(id, null, RaceChangedEvent.Type.DELETED));
     }
 
     /**
      * Aktualisiert die Ergebnisreihenfolge eines Rennens.
      * Setzt automatisch den Status auf CLOSED.
+     * Das Ergebnis wird ausschliesslich als OfficialResult-Zeilen gespeichert,
+     * die auch der Punkteberechnung zugrunde liegen.
      * @param id ID des Rennens
      * @param resultsOrder Liste der Fahrernamen in korrekter Reihenfolge
      * @return Aktualisiertes Rennen
      * @throws RaceNotFoundException falls das Rennen nicht existiert
+     * @throws IllegalArgumentException bei unbekannten oder doppelten Fahrern
      */
+    @Transactional
     public Race updateRaceResults(Long id, List<String> resultsOrder) {
-        Race race = raceRepository.findById(id)
+        Race race = findRaceOrThrow(id);
+        List<String> savedOrder = officialResultService.replaceResultOrder(
+                race, resultsOrder != null ? resultsOrder : List.of());
+        Race saved = closeWithResults(race);
+        saved.setResultsOrder(savedOrder);
+        return saved;
+    }
+
+    /**
+     * Ersetzt die komplette Klassifizierung eines Rennens (Fahrer-ID und Position je Eintrag).
+     * Alle Einträge werden im Speicher geprüft, bevor etwas geschrieben wird; danach
+     * folgen ein Bulk-Delete, ein Batch-Insert und Status CLOSED. Neu gewertet wird
+     * genau einmal, im Hintergrund nach dem Commit.
+     * @param id ID des Rennens
+     * @param classification Einträge mit driverId und finalPosition
+     * @return die gespeicherten Ergebnisse nach Position sortiert
+     * @throws RaceNotFoundException falls das Rennen nicht existiert
+     * @throws IllegalArgumentException bei leeren, doppelten oder unbekannten Einträgen
+     */
+    @Transactional
+    public List<OfficialResult> updateRaceClassification(Long id, List<OfficialResultDTO> classification) {
+        Race race = findRaceOrThrow(id);
+        SortedMap<Integer, Driver> driversByPosition = officialResultService.resolveClassification(classification);
+        List<OfficialResult> results = officialResultService.replaceResults(race, driversByPosition);
+        closeWithResults(race);
+        return results;
+    }
+
+    /**
+     * Lädt die angegebenen Rennen als DTOs in der Reihenfolge der IDs (eine Abfrage).
+     * Zwischenzeitlich gelöschte Rennen fehlen.
+     */
+    private List<RaceResponseDTO> getRaceResponsesInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, RaceResponseDTO> byId = new HashMap<>();
+        for (RaceResponseDTO race : toResponses(raceRepository.findRaceListingRowsByIds(ids))) {
+            byId.put(race.getId(), race);
+        }
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    private static void checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit muss zwischen 1 und " + MAX_PAGE_SIZE + " liegen");
+        }
+    }
+
+    /**
+     * Fasst die nach Rennen und Position sortierten Zeilen in einem Durchlauf zusammen:
+     * ein DTO pro Rennen, die Fahrernamen in Zeilenreihenfolge.
+     */
+    private static List<RaceResponseDTO> toResponses(List<RaceListingRowDTO> rows) {
+        List<RaceResponseDTO> races = new ArrayList<>();
+        RaceResponseDTO current = null;
+        for (RaceListingRowDTO row : rows) {
+            if (current == null || !current.getId().equals(row.raceId())) {
+                current = new RaceResponseDTO(row.raceId(), row.name(), row.date(), row.track(),
+                        row.weather(), row.tyres(), row.status(), new ArrayList<>());
+                races.add(current);
+            }
+            if (row.driverName() != null) {
+                current.getResultsOrder().add(row.driverName());
+            }
+        }
+        return races;
+    }
+
+    private Race findRaceOrThrow(Long id) {
+        return raceRepository.findById(id)
                 .orElseThrow(() -> new RaceNotFoundException("Race nicht gefunden mit ID: " + id));
-        race.setResultsOrder(resultsOrder);
+    }
+
+    /**
+     * Schliesst ein Rennen, dessen Ergebnisse gerade ersetzt wurden.
+     * Die Punkte berechnet der ScoringJobService nach dem Commit einmal im Hintergrund
+     * (ausgelöst durch das CLOSED-Event).
+     */
+    private Race closeWithResults(Race race) {
         // Wenn Ergebnisse gespeichert werden, setze Status automatisch auf CLOSED
         race.setStatus(RaceStatus.CLOSED);
-        return raceRepository.save(race);
+        Race saved = raceRepository.save(race);
+        eventPublisher.publishEvent(new RaceChangedEvent(race.getId(), RaceStatus.CLOSED, RaceChangedEvent.Type.CLOSED));
+        return saved;
     }
 }
 
@@ -92,6 +330,14 @@ public class RaceService {
  * Zusammenfassung:
  * RaceService kapselt die Geschäftslogik für Rennen.
  * Es ermöglicht das Erstellen, Abrufen, Aktualisieren und Löschen von Rennen.
- * Außerdem kann die offizielle Ergebnisreihenfolge eines Rennens gespeichert werden,
- * wodurch der Status automatisch auf CLOSED gesetzt wird.
+ * Außerdem kann die offizielle Ergebnisreihenfolge (Fahrernamen) oder die komplette
+ * Klassifizierung (Fahrer-IDs mit Position) eines Rennens gespeichert werden, wodurch
+ * der Status automatisch auf CLOSED gesetzt wird. Gespeichert wird beides nur als
+ * OfficialResult-Zeilen (über OfficialResultService); Lesemethoden füllen resultsOrder
+ * daraus; Erstellen und Aktualisieren eines Rennens schreiben keine Ergebnisse.
+ * Die Lese-Endpunkte bekommen RaceResponseDTOs aus einer einzigen
+ * Projektionsabfrage; der Rennkalender lässt sich nach Status und Datum filtern,
+ * sortieren und per Keyset-Cursor seitenweise lesen. Jede Änderung wird als RaceChangedEvent veröffentlicht (z.B. für den
+ * Leaderboard-Snapshot); daraufhin wertet der ScoringJobService das Rennen im
+ * Hintergrund neu.
  */
@@ -0,0 +1,55 @@
+package com.wiss.f1.championship.service;
+
+/**
+ * Sortierung des Rennkalenders.
+ *
+ * - DATE_ASC: älteste zuerst (Standard)
+ * - DATE_DESC: neueste zuerst
+ *
+ * Bei gleichem Datum entscheidet immer die Renn-ID in derselben Richtung.
+ */
+public enum RaceSort {
+    DATE_ASC("date", false),
+    DATE_DESC("-date", true);
+
+    // Wert, wie er als Request-Parameter übergeben wird
+    private final String paramValue;
+    private final boolean descending;
+
+    RaceSort(String paramValue, boolean descending) {
+        this.paramValue = paramValue;
+        this.descending = descending;
+    }
+
+    public String getParamValue() {
+        return paramValue;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    /**
+     * Liest die Sortierung aus einem Request-Parameter.
+     * @param value "date" bzw. "-date"; null oder leer = DATE_ASC
+     * @return passende Sortierung
+     * @throws IllegalArgumentException bei unbekanntem Wert
+     */
+    public static RaceSort fromParam(String value) {
+        if (value == null || value.isBlank()) {
+            return DATE_ASC;
+        }
+        for (RaceSort sort : values()) {
+            if (sort.paramValue.equalsIgnoreCase(value.trim())) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("Unbekannte Sortierung: " + value + " (erlaubt: date, -date)");
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * RaceSort legt die Reihenfolge des Rennkalenders fest (Datum auf- oder absteigend,
+ * Renn-ID als Tiebreaker). Wird über ?sort= an GET /api/races gewählt.
+ */
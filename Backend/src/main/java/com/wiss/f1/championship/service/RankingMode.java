@@ -0,0 +1,46 @@
+package com.wiss.f1.championship.service;
+
+/**
+ * Art der Rangvergabe bei Punktgleichstand.
+ *
+ * - COMPETITION: gleiche Punkte → gleicher Rang, danach wird übersprungen (1, 2, 2, 4)
+ * - DENSE: gleiche Punkte → gleicher Rang, ohne Lücke (1, 2, 2, 3)
+ *
+ * Die Reihenfolge innerhalb eines Gleichstands ist immer nach User-ID aufsteigend.
+ */
+public enum RankingMode {
+    COMPETITION("competition"),
+    DENSE("dense");
+
+    // Wert, wie er als Request-Parameter übergeben wird
+    private final String paramValue;
+
+    RankingMode(String paramValue) {
+        this.paramValue = paramValue;
+    }
+
+    public String getParamValue() {
+        return paramValue;
+    }
+
+    /**
+     * Liest den Modus aus einem Request-Parameter (Groß-/Kleinschreibung egal).
+     * @param value z.B. "competition" oder "dense"
+     * @return passender Modus
+     * @throws IllegalArgumentException bei unbekanntem Wert
+     */
+    public static RankingMode fromParam(String value) {
+        for (RankingMode mode : values()) {
+            if (mode.paramValue.equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Unbekannte Ranking-Art: " + value + " (erlaubt: competition, dense)");
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * RankingMode legt fest, wie Ränge bei Punktgleichstand vergeben werden
+ * (Competition- oder Dense-Ranking). Wird über ?ranking= am Leaderboard gewählt.
+ */
@@ -0,0 +1,148 @@
+package com.wiss.f1.championship.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Unveränderlicher Versionsstand eines Aggregats (z.B. aller Rennen).
+ *
+ * Jede Änderung erzeugt einen neuen Stand mit höherer Version. Daraus ergeben
+ * sich ein starker ETag ("bootId-version") und Last-Modified, mit denen
+ * Controller bedingte GETs (If-None-Match / If-Modified-Since) beantworten,
+ * ohne die Daten selbst zu laden.
+ *
+ * Last-Modified ist der tatsächliche Zeitpunkt der Änderung, gekürzt auf Sekunden
+ * (HTTP-Datum). Zwei Änderungen in derselben Sekunde tragen daher dasselbe Datum;
+ * unterschieden werden sie über den ETag, der bei If-None-Match Vorrang hat.
+ */
+public final class ResourceVersion {
+
+    private final long version;
+    private final String bootId;
+    private final String eTag;
+    private final Instant lastModified;
+
+    /**
+     * @param version      fortlaufende Versionsnummer (pro Anwendungsstart)
+     * @param bootId       Kennung des Anwendungsstarts, damit ETags nach einem Neustart nicht kollidieren
+     * @param lastModified Zeitpunkt der Änderung (wird auf Sekunden gekürzt)
+     */
+    ResourceVersion(long version, String bootId, Instant lastModified) {
+        this(version, bootId, "\"" + bootId + "-" + version + "\"", lastModified);
+    }
+
+    private ResourceVersion(long version, String bootId, String eTag, Instant lastModified) {
+        this.version = version;
+        this.bootId = bootId;
+        this.eTag = eTag;
+        this.lastModified = lastModified.truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    public long getVersion() { return version; }
+
+    public String getETag() { return eTag; }
+
+    public Instant getLastModified() { return lastModified; }
+
+    /**
+     * @param now Zeitpunkt der Änderung
+     * @return Folgestand mit Version + 1 und Last-Modified = now (nie vor dem bisherigen,
+     *         falls die Systemuhr zurückspringt)
+     */
+    ResourceVersion next(Instant now) {
+        return new ResourceVersion(version + 1, bootId, now.isBefore(lastModified) ? lastModified : now);
+    }
+
+    /**
+     * Stand für Antworten, die zusätzlich vom aktuellen Datum abhängen (z.B. "nächste Rennen").
+     * Der ETag enthält den Tag, Last-Modified ist frühestens Mitternacht dieses Tages;
+     * nach einem Datumswechsel passt ein alter Stand deshalb nicht mehr.
+     * @param day Stichtag der Antwort
+     * @return gleiche Version mit tagesabhängigem ETag und Last-Modified
+     */
+    public ResourceVersion forDay(LocalDate day) {
+        Instant startOfDay = day.atStartOfDay(ZoneId.systemDefault()).toInstant();
+        String dayETag = eTag.substring(0, eTag.length() - 1) + "-" + day + "\"";
+        return new ResourceVersion(version, bootId, dayETag,
+                startOfDay.isAfter(lastModified) ? startOfDay : lastModified);
+    }
+
+    /**
+     * Prüft die Bedingungen eines GET-Requests gegen diesen Stand.
+     * @param ifNoneMatch     Header If-None-Match (darf null sein)
+     * @param ifModifiedSince Header If-Modified-Since (darf null sein)
+     * @return true, wenn der Client den aktuellen Stand bereits hat (→ 304)
+     */
+    public boolean isNotModified(String ifNoneMatch, String ifModifiedSince) {
+        return isNotModified(eTag, lastModified, ifNoneMatch, ifModifiedSince);
+    }
+
+    /**
+     * Auswertung nach RFC 9110: Ist If-None-Match vorhanden, zählt nur der ETag;
+     * If-Modified-Since wird dann ignoriert.
+     *
+     * @param eTag            aktueller ETag
+     * @param lastModified    Zeitpunkt der letzten Änderung
+     * @param ifNoneMatch     Header If-None-Match (darf null sein)
+     * @param ifModifiedSince Header If-Modified-Since (darf null sein)
+     * @return true, wenn der Client den aktuellen Stand bereits hat
+     */
+    public static boolean isNotModified(String eTag, Instant lastModified, String ifNoneMatch, String ifModifiedSince) {
+        if (ifNoneMatch != null && !ifNoneMatch.isBlank()) {
+            return matchesETag(ifNoneMatch, eTag);
+        }
+        Instant since = parseHttpDate(ifModifiedSince);
+        return since != null && !lastModified.truncatedTo(ChronoUnit.SECONDS).isAfter(since);
+    }
+
+    /**
+     * Vergleicht If-None-Match mit einem ETag (schwacher Vergleich, Listen und "*" erlaubt).
+     * @param ifNoneMatch Header If-None-Match (darf null sein)
+     * @param eTag        aktueller ETag in Anführungszeichen
+     * @return true, wenn einer der Werte passt
+     */
+    public static boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // HTTP-Datum ("Tue, 15 Nov 1994 08:12:31 GMT"); ungültige Werte werden wie fehlende behandelt
+    private static Instant parseHttpDate(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * ResourceVersion ist der unveränderliche Versionsstand eines Aggregats mit starkem
+ * ETag und Last-Modified (Zeitpunkt der Änderung, Sekunden). Die statischen Hilfsmethoden
+ * werten If-None-Match und If-Modified-Since aus und werden auch vom Leaderboard-
+ * Snapshot genutzt. forDay() liefert einen tagesabhängigen Stand für datumsabhängige
+ * Antworten.
+ */
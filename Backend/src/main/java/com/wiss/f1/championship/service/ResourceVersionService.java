@@ -0,0 +1,87 @@
+package com.wiss.f1.championship.service;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.wiss.f1.championship.event.DriverChangedEvent;
+import com.wiss.f1.championship.event.RaceChangedEvent;
+import com.wiss.f1.championship.event.ResultsChangedEvent;
+
+/**
+ * Versionszähler für die öffentlichen Lese-Endpunkte von Rennen und Fahrern.
+ *
+ * Jede Änderung (gemeldet über Application Events) erhöht die Version des
+ * betroffenen Aggregats nach dem Commit. Controller lesen die Version vor dem
+ * Laden der Daten und beantworten bedingte GETs mit 304, ohne den Service
+ * aufzurufen. Weil die Version vor den Daten gelesen wird, ist ein ETag
+ * höchstens zu alt (Client lädt beim nächsten Mal neu), nie zu neu.
+ *
+ * Fahrer-Änderungen erhöhen auch die Version der Rennen, weil die
+ * Ergebnisreihenfolge der Rennen die Fahrernamen enthält.
+ */
+@Service
+public class ResourceVersionService {
+
+    // Kennung dieses Anwendungsstarts für eindeutige ETags
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicReference<ResourceVersion> races =
+            new AtomicReference<>(new ResourceVersion(1, bootId, Instant.now()));
+    private final AtomicReference<ResourceVersion> drivers =
+            new AtomicReference<>(new ResourceVersion(1, bootId, Instant.now()));
+
+    /**
+     * @return aktueller Stand aller Rennen (inkl. Ergebnisreihenfolgen)
+     */
+    public ResourceVersion races() {
+        return races.get();
+    }
+
+    /**
+     * @return aktueller Stand aller Fahrer
+     */
+    public ResourceVersion drivers() {
+        return drivers.get();
+    }
+
+    /**
+     * Rennen erstellt, geändert, geschlossen oder gelöscht.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRaceChanged(RaceChangedEvent event) {
+        bump(races);
+    }
+
+    /**
+     * Offizielle Ergebnisse geändert → Ergebnisreihenfolge der Rennen ist neu.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResultsChanged(ResultsChangedEvent event) {
+        bump(races);
+    }
+
+    /**
+     * Fahrer geändert → Fahrerliste und Fahrernamen in den Rennen sind neu.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDriverChanged(DriverChangedEvent event) {
+        bump(drivers);
+        bump(races);
+    }
+
+    private static void bump(AtomicReference<ResourceVersion> current) {
+        Instant now = Instant.now();
+        current.updateAndGet(version -> version.next(now));
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * ResourceVersionService führt pro Aggregat (Rennen, Fahrer) einen Versionsstand mit
+ * ETag und Last-Modified. Änderungen werden über RaceChangedEvent, ResultsChangedEvent
+ * und DriverChangedEvent nach dem Commit gezählt; die Controller nutzen den Stand für
+ * 304-Antworten vor jedem Service- oder Datenbankzugriff.
+ */
@@ -0,0 +1,187 @@
+package com.wiss.f1.championship.service;
+
+import com.wiss.f1.championship.dto.ResultRowDTO;
+import com.wiss.f1.championship.dto.TipRowDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Mengenbasierte Punkteberechnung für das Leaderboard.
+ *
+ * Statt pro User und Rennen zwei Abfragen auszuführen, bekommt die Engine
+ * alle Ergebnisse und alle Tipps der geschlossenen Rennen als Projektionen
+ * und berechnet die Punkte aller User in einem einzigen Durchlauf.
+ *
+ * Pro Rennen wird das offizielle Ergebnis einmal in eine RaceResultTable
+ * übersetzt; die Tipps einer Gruppe (User, Rennen) landen in einem
+ * wiederverwendeten long[]. Die Bewertung eines Tipps ist damit eine feste
+ * Schleife über 10 Positionen ohne Allokation.
+ *
+ * Regeln (unverändert):
+ * - Richtige Position: Podium 5 Punkte, Top10 3 Punkte
+ * - Falsche Position, aber Fahrer im offiziellen Ergebnis: Podium 2 Punkte, Top10 1 Punkt
+ */
+@Component
+public class ScoringEngine {
+
+    /**
+     * Callback für die Punkte eines Users in einem Rennen.
+     */
+    @FunctionalInterface
+    public interface RaceScoreConsumer {
+        void accept(Long userId, Long raceId, int points);
+    }
+
+    /**
+     * Berechnet die Gesamtpunkte pro User.
+     *
+     * Die Tipps müssen nach userId und raceId sortiert sein (so liefert sie das
+     * TipRepository), damit jede Gruppe (User, Rennen) zusammenhängend vorliegt.
+     *
+     * @param results Offizielle Ergebnisse der geschlossenen Rennen
+     * @param tips    Tipps der geschlossenen Rennen, sortiert nach userId, raceId
+     * @return Map: userId → Gesamtpunkte (nur User mit mindestens einem gewerteten Tipp)
+     */
+    public Map<Long, Integer> scoreSeason(List<ResultRowDTO> results, List<TipRowDTO> tips) {
+        Map<Long, Integer> totals = new HashMap<>();
+        forEachRaceScore(results, tips, (userId, raceId, points) -> totals.merge(userId, points, Integer::sum));
+        return totals;
+    }
+
+    /**
+     * Berechnet die Punkte jeder Gruppe (User, Rennen) und übergibt sie dem Consumer.
+     * Gruppen ohne offizielle Ergebnisse werden übersprungen.
+     *
+     * @param results  Offizielle Ergebnisse der betroffenen Rennen
+     * @param tips     Tipps, sortiert nach userId, raceId (bzw. nur userId bei einem Rennen)
+     * @param consumer Empfänger der Punkte pro (User, Rennen)
+     */
+    public void forEachRaceScore(List<ResultRowDTO> results, List<TipRowDTO> tips, RaceScoreConsumer consumer) {
+
+        // Offizielle Ergebnisse pro Rennen: Position → DriverId
+        Map<Long, Map<Integer, Long>> officialByRace = new HashMap<>();
+        for (ResultRowDTO r : results) {
+            officialByRace.computeIfAbsent(r.raceId(), id -> new HashMap<>())
+                    .put(r.finalPosition(), r.driverId());
+        }
+
+        // Einmal pro Rennen in primitive Tabellen übersetzen
+        Map<Long, RaceResultTable> tableByRace = new HashMap<>(officialByRace.size() * 2);
+        officialByRace.forEach((raceId, official) -> {
+            if (!official.isEmpty()) tableByRace.put(raceId, RaceResultTable.of(official));
+        });
+
+        // Wiederverwendeter Puffer: Position → getippte DriverId
+        long[] predicted = new long[RaceResultTable.SCORED_POSITIONS + 1];
+
+        int i = 0;
+        while (i < tips.size()) {
+            TipRowDTO first = tips.get(i);
+            Long userId = first.userId();
+            Long raceId = first.raceId();
+
+            // Zusammenhängende Gruppe (User, Rennen) einsammeln
+            Arrays.fill(predicted, RaceResultTable.NO_DRIVER);
+            while (i < tips.size()
+                    && Objects.equals(tips.get(i).userId(), userId)
+                    && Objects.equals(tips.get(i).raceId(), raceId)) {
+                TipRowDTO t = tips.get(i);
+                Integer pos = t.predictedPosition();
+                if (pos != null && pos >= 1 && pos <= RaceResultTable.SCORED_POSITIONS && t.driverId() != null) {
+                    predicted[pos] = t.driverId();
+                }
+                i++;
+            }
+
+            RaceResultTable table = tableByRace.get(raceId);
+            if (table == null) continue;
+
+            consumer.accept(userId, raceId, scoreTip(predicted, table));
+        }
+    }
+
+    /**
+     * Bewertet einen Tipp gegen das offizielle Ergebnis eines Rennens (ohne Allokation).
+     *
+     * @param predicted Position (Index 1..10) → getippte DriverId, RaceResultTable.NO_DRIVER für leer
+     * @param official  Offizielles Ergebnis des Rennens
+     * @return Punkte für dieses Rennen
+     */
+    public int scoreTip(long[] predicted, RaceResultTable official) {
+
+        int points = 0;
+
+        for (int pos = 1; pos <= RaceResultTable.SCORED_POSITIONS; pos++) {
+
+            long predictedDriver = predicted[pos];
+            long correctDriver = official.driverAt(pos);
+
+            if (predictedDriver == RaceResultTable.NO_DRIVER || correctDriver == RaceResultTable.NO_DRIVER) continue;
+
+            // Richtige Position
+            if (predictedDriver == correctDriver) {
+                points += pos <= 3 ? 5 : 3;      // Podium / Top10 korrekt
+                continue;
+            }
+
+            // Fahrer im Ergebnis, aber falsche Position
+            if (official.contains(predictedDriver)) {
+                points += pos <= 3 ? 2 : 1;      // Podium / Top10, falsche Position
+            }
+        }
+
+        return points;
+    }
+
+    /**
+     * Berechnet Punkte für ein Rennen anhand der Vorhersage und offiziellen Ergebnisse.
+     * Map-basierte Referenzimplementierung; scoreTip liefert dieselben Punkte.
+     * @param predicted Map: Vorhergesagte Position → DriverId
+     * @param official Map: Offizielle Position → DriverId
+     * @return Punkte für dieses Rennen
+     */
+    public int calculateRacePoints(Map<Integer, Long> predicted, Map<Integer, Long> official) {
+
+        int points = 0;
+
+        for (int pos = 1; pos <= 10; pos++) {
+
+            Long predictedDriver = predicted.get(pos);
+            Long correctDriver = official.get(pos);
+
+            if (predictedDriver == null || correctDriver == null) continue;
+
+            // Richtige Position
+            if (Objects.equals(predictedDriver, correctDriver)) {
+                if (pos <= 3) points += 5;      // Podium korrekt
+                else points += 3;                // Top10 korrekt
+                continue;
+            }
+
+            // Fahrer im Top10, aber falsche Position
+            boolean isInTop10 = official.values().contains(predictedDriver);
+
+            if (isInTop10) {
+                if (pos <= 3) points += 2;      // Podium, falsche Position
+                else points += 1;                // Top10, falsche Position
+            }
+        }
+
+        return points;
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * ScoringEngine berechnet die Punkte aller User aus zwei Bulk-Abfragen
+ * (Ergebnisse und Tipps der geschlossenen Rennen) in einem Durchlauf.
+ * forEachRaceScore liefert zusätzlich die Punkte pro (User, Rennen), z.B. für die Standings-Tabelle.
+ * Die Bewertung läuft über primitive Arrays (scoreTip, RaceResultTable) ohne Allokation pro Tipp.
+ * Die Punkteregeln entsprechen exakt der bisherigen Berechnung im LeaderboardService
+ * (calculateRacePoints bleibt als Referenz erhalten).
+ */
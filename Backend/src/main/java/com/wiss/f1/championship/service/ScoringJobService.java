@@ -0,0 +1,247 @@
+package com.wiss.f1.championship.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.wiss.f1.championship.dto.ScoringJobDTO;
+import com.wiss.f1.championship.dto.StandingsRebuildDTO;
+import com.wiss.f1.championship.entity.RaceStatus;
+import com.wiss.f1.championship.event.RaceChangedEvent;
+import com.wiss.f1.championship.event.RaceScoredEvent;
+import com.wiss.f1.championship.event.ResultsChangedEvent;
+import com.wiss.f1.championship.event.TipsSavedEvent;
+
+/**
+ * Berechnet die Punkte eines Rennens im Hintergrund neu.
+ *
+ * Wird ein Rennen geschlossen, geändert oder gelöscht, werden seine Ergebnisse
+ * korrigiert oder Tipps für ein geschlossenes Rennen gespeichert, reiht dieser
+ * Service nach dem Commit einen Job ein (ein virtueller Thread pro Job).
+ * Der Job wertet alle Tipps des Rennens in einem Durchgang über den
+ * StandingsService, schreibt race_scores und user_standings und veröffentlicht
+ * danach ein RaceScoredEvent. Der Admin-Request wartet also nicht auf die Wertung.
+ *
+ * - Pro Rennen steht höchstens ein Lauf in der Warteschlange; weitere
+ *   Anforderungen werden zusammengefasst. Kommt eine Korrektur während eines
+ *   Laufs, folgt genau ein weiterer Lauf.
+ * - Ein Lauf ersetzt alle Punkte des Rennens und ist damit beliebig wiederholbar.
+ * - Läufe werden nacheinander ausgeführt, da verschiedene Rennen dieselben
+ *   Saisonstände nachziehen. Alle Neuberechnungen laufen deshalb über diesen
+ *   Service, keine direkt im Request.
+ * - Ein fehlgeschlagener Lauf bleibt mit Status FAILED und Fehlermeldung im
+ *   Job-Status sichtbar (GET /api/admin/standings/jobs) und kann neu angefordert werden.
+ */
+@Service
+public class ScoringJobService {
+
+    private final StandingsService standingsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Executor executor;
+
+    // Ein Eintrag pro Rennen (die Anzahl Rennen ist klein)
+    private final ConcurrentMap<Long, RaceJob> jobs = new ConcurrentHashMap<>();
+
+    // Serialisiert alle Berechnungen. ReentrantLock statt synchronized, damit
+    // wartende virtuelle Threads ihren Träger-Thread freigeben.
+    private final ReentrantLock scoringLock = new ReentrantLock();
+
+    @Autowired
+    public ScoringJobService(StandingsService standingsService, ApplicationEventPublisher eventPublisher) {
+        this(standingsService, eventPublisher,
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("race-scoring-", 0).factory()));
+    }
+
+    /**
+     * Konstruktor mit eigenem Executor (z.B. synchron in Tests).
+     */
+    public ScoringJobService(StandingsService standingsService,
+                             ApplicationEventPublisher eventPublisher,
+                             Executor executor) {
+        this.standingsService = standingsService;
+        this.eventPublisher = eventPublisher;
+        this.executor = executor;
+    }
+
+    /**
+     * Fordert eine Neuberechnung für ein Rennen an.
+     * Steht bereits ein Lauf für das Rennen aus, wird kein weiterer eingereiht.
+     * @param raceId ID des Rennens
+     * @return aktueller Job-Status
+     */
+    public ScoringJobDTO enqueue(Long raceId) {
+        RaceJob job = jobs.computeIfAbsent(raceId, RaceJob::new);
+        LocalDateTime now = LocalDateTime.now();
+        if (job.pending.compareAndSet(false, true)) {
+            job.state.updateAndGet(s -> new ScoringJobDTO(raceId, ScoringJobDTO.Status.QUEUED, s.runs(),
+                    now, s.startedAt(), s.finishedAt(), s.scoreRows(), s.error()));
+            executor.execute(() -> run(job));
+        }
+        return job.state.get();
+    }
+
+    /**
+     * @return Status aller bekannten Jobs, nach Renn-ID sortiert
+     */
+    public List<ScoringJobDTO> getJobs() {
+        List<ScoringJobDTO> states = new ArrayList<>(jobs.size());
+        for (RaceJob job : jobs.values()) {
+            states.add(job.state.get());
+        }
+        states.sort(Comparator.comparing(ScoringJobDTO::raceId));
+        return states;
+    }
+
+    /**
+     * @param raceId ID des Rennens
+     * @return Status des Jobs oder empty, falls für das Rennen noch keiner angefordert wurde
+     */
+    public Optional<ScoringJobDTO> getJob(Long raceId) {
+        RaceJob job = jobs.get(raceId);
+        return job != null ? Optional.of(job.state.get()) : Optional.empty();
+    }
+
+    /**
+     * Führt einen vollständigen Rebuild aus, ohne dass gleichzeitig ein Job
+     * dieselben Tabellen schreibt.
+     * @return Zusammenfassung des Rebuilds
+     */
+    public StandingsRebuildDTO rebuildAll() {
+        scoringLock.lock();
+        try {
+            return standingsService.rebuildAll();
+        } finally {
+            scoringLock.unlock();
+        }
+    }
+
+    /**
+     * Baut die Standings beim ersten Start auf, falls sie noch leer sind. Läuft wie
+     * rebuildAll() unter derselben Sperre, damit ein früh eingereihter Job nicht
+     * gleichzeitig schreibt.
+     * @return true, wenn ein Rebuild ausgeführt wurde
+     */
+    public boolean rebuildIfEmpty() {
+        scoringLock.lock();
+        try {
+            return standingsService.rebuildIfEmpty();
+        } finally {
+            scoringLock.unlock();
+        }
+    }
+
+    /**
+     * Rennen geschlossen oder geändert (Status kann wechseln) → Punkte im Hintergrund berechnen.
+     * Gelöschtes Rennen → Saisonstände ohne seine Punkte nachziehen (die Punkte entfernt der RaceService).
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRaceChanged(RaceChangedEvent event) {
+        if (event.type() != RaceChangedEvent.Type.CREATED) {
+            enqueue(event.raceId());
+        }
+    }
+
+    /**
+     * Korrigierte Ergebnisse → Punkte des Rennens erneut berechnen.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResultsChanged(ResultsChangedEvent event) {
+        enqueue(event.raceId());
+    }
+
+    /**
+     * Tipps für ein geschlossenes Rennen ändern dessen Punkte.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTipsSaved(TipsSavedEvent event) {
+        if (event.raceStatus() == RaceStatus.CLOSED) {
+            enqueue(event.raceId());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Ein Lauf für ein Rennen: Punkte berechnen, Status nachführen, Event veröffentlichen.
+     */
+    private void run(RaceJob job) {
+        scoringLock.lock();
+        try {
+            // Vor der Berechnung zurücksetzen: Korrekturen währenddessen planen einen neuen Lauf
+            job.pending.set(false);
+            LocalDateTime startedAt = LocalDateTime.now();
+            job.state.updateAndGet(s -> new ScoringJobDTO(job.raceId, ScoringJobDTO.Status.RUNNING, s.runs() + 1,
+                    s.requestedAt(), startedAt, null, null, null));
+
+            int scoreRows;
+            try {
+                scoreRows = standingsService.recomputeRace(job.raceId);
+            } catch (RuntimeException e) {
+                job.state.updateAndGet(s -> new ScoringJobDTO(job.raceId, finishedStatus(job, ScoringJobDTO.Status.FAILED),
+                        s.runs(), s.requestedAt(), s.startedAt(), LocalDateTime.now(), null, e.getMessage()));
+                return;
+            }
+
+            job.state.updateAndGet(s -> new ScoringJobDTO(job.raceId, finishedStatus(job, ScoringJobDTO.Status.DONE),
+                    s.runs(), s.requestedAt(), s.startedAt(), LocalDateTime.now(), scoreRows, null));
+            eventPublisher.publishEvent(new RaceScoredEvent(job.raceId, scoreRows));
+        } finally {
+            scoringLock.unlock();
+        }
+    }
+
+    /**
+     * Wurde während des Laufs erneut angefordert, bleibt der Job als QUEUED sichtbar.
+     */
+    private static ScoringJobDTO.Status finishedStatus(RaceJob job, ScoringJobDTO.Status status) {
+        return job.pending.get() ? ScoringJobDTO.Status.QUEUED : status;
+    }
+
+    /**
+     * Job-Eintrag eines Rennens: Status als unveränderlicher Snapshot plus Merker für einen ausstehenden Lauf.
+     */
+    private static final class RaceJob {
+
+        private final Long raceId;
+        private final AtomicBoolean pending = new AtomicBoolean(false);
+        private final AtomicReference<ScoringJobDTO> state;
+
+        private RaceJob(Long raceId) {
+            this.raceId = raceId;
+            this.state = new AtomicReference<>(new ScoringJobDTO(raceId, ScoringJobDTO.Status.QUEUED, 0,
+                    LocalDateTime.now(), null, null, null, null));
+        }
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * ScoringJobService entkoppelt die Punkteberechnung von den Requests und ist der einzige
+ * Aufrufer von StandingsService.recomputeRace. Nach dem Commit eines RaceChangedEvent,
+ * ResultsChangedEvent oder TipsSavedEvent (geschlossenes Rennen) wird pro Rennen ein Job
+ * auf einem virtuellen Thread eingereiht, der recomputeRace aufruft und danach ein RaceScoredEvent veröffentlicht. Anforderungen werden pro Rennen
+ * zusammengefasst, Läufe sind wiederholbar und laufen nacheinander. Der Status jedes Jobs
+ * ist über getJobs()/getJob() für die Admin-Endpunkte abrufbar. Auch rebuildAll() und
+ * rebuildIfEmpty() (Start) laufen unter derselben Sperre.
+ */
@@ -0,0 +1,97 @@
+package com.wiss.f1.championship.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.cache.CacheManager;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.wiss.f1.championship.config.SecondLevelCacheConfig;
+import com.wiss.f1.championship.dto.CacheStatsDTO;
+import com.wiss.f1.championship.entity.Driver;
+import com.wiss.f1.championship.entity.Race;
+import com.wiss.f1.championship.event.DriverChangedEvent;
+import com.wiss.f1.championship.event.RaceChangedEvent;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Überwachung und Invalidierung des Second-Level-Caches von Hibernate.
+ *
+ * Änderungen über Hibernate (save, delete) aktualisieren den Cache bereits selbst.
+ * Zusätzlich wird nach jedem RaceChangedEvent bzw. DriverChangedEvent der betroffene
+ * Eintrag entfernt, damit jeder Schreibpfad in RaceService und DriverService den Cache
+ * auch dann räumt, wenn er künftig an Hibernate vorbei schreibt. Der nächste Zugriff
+ * lädt die Entität frisch aus der Datenbank.
+ */
+@Service
+public class SecondLevelCacheService {
+
+    public static final String NAME = "second-level";
+
+    private final CacheManager cacheManager;
+    private final Cache hibernateCache;
+
+    public SecondLevelCacheService(CacheManager secondLevelCacheManager, EntityManagerFactory entityManagerFactory) {
+        this.cacheManager = secondLevelCacheManager;
+        this.hibernateCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    /**
+     * Rennen erstellt, geändert, geschlossen oder gelöscht → Eintrag entfernen.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRaceChanged(RaceChangedEvent event) {
+        if (event.raceId() != null) {
+            hibernateCache.evictEntityData(Race.class, event.raceId());
+        }
+    }
+
+    /**
+     * Fahrer erstellt, geändert oder gelöscht → Eintrag entfernen.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDriverChanged(DriverChangedEvent event) {
+        if (event.driverId() != null) {
+            hibernateCache.evictEntityData(Driver.class, event.driverId());
+        }
+    }
+
+    /**
+     * Leert alle Regionen (Entitäten und Query-Ergebnisse), z.B. nach Änderungen direkt in der DB.
+     */
+    public void invalidateAll() {
+        hibernateCache.evictAllRegions();
+    }
+
+    /**
+     * @return Kennzahlen pro Region, benannt als "second-level.<region>"
+     */
+    public List<CacheStatsDTO> stats() {
+        List<CacheStatsDTO> stats = new ArrayList<>();
+        for (String region : SecondLevelCacheConfig.REGIONS) {
+            javax.cache.Cache<?, ?> cache = cacheManager.getCache(region);
+            if (cache == null) {
+                continue;
+            }
+            com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine =
+                    cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+            CacheStats cacheStats = caffeine.stats();
+            stats.add(new CacheStatsDTO(NAME + "." + region, caffeine.estimatedSize(), cacheStats.hitCount(),
+                    cacheStats.missCount(), cacheStats.hitRate(), cacheStats.evictionCount()));
+        }
+        return stats;
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * SecondLevelCacheService entfernt nach RaceChangedEvent/DriverChangedEvent die betroffenen
+ * Rennen und Fahrer aus dem Second-Level-Cache von Hibernate, leert auf Wunsch alle Regionen
+ * und liefert pro Region Größe, Treffer, Fehlgriffe und Verdrängungen für GET /api/admin/caches.
+ */
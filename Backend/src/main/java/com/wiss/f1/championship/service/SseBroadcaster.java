@@ -0,0 +1,188 @@
+package com.wiss.f1.championship.service;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Verteilt Server-Sent Events an alle Abonnenten eines Streams.
+ *
+ * - Kein Thread pro Client: Ein Abonnent belegt nur dann einen (virtuellen)
+ *   Thread, wenn für ihn Events zum Senden anstehen.
+ * - Backpressure: Jeder Abonnent hat eine begrenzte Warteschlange. Ist sie voll,
+ *   kommt der Client nicht mehr nach; die Verbindung wird beendet und der Client
+ *   holt sich beim Neuverbinden den aktuellen Stand.
+ * - Events werden einmal aufgebaut und an alle Abonnenten unverändert gesendet
+ *   (kein JSON-Serialisieren pro Client).
+ */
+public final class SseBroadcaster {
+
+    private final String name;
+    private final int queueCapacity;
+    private final int maxSubscribers;
+    private final Executor sender;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong slowDisconnects = new AtomicLong();
+
+    /**
+     * @param name           Name des Streams (z.B. "leaderboard")
+     * @param queueCapacity  maximale Anzahl ausstehender Events pro Abonnent
+     * @param maxSubscribers maximale Anzahl gleichzeitiger Abonnenten
+     * @param sender         Executor, auf dem die Events gesendet werden
+     */
+    public SseBroadcaster(String name, int queueCapacity, int maxSubscribers, Executor sender) {
+        this.name = name;
+        this.queueCapacity = queueCapacity;
+        this.maxSubscribers = maxSubscribers;
+        this.sender = sender;
+    }
+
+    /**
+     * Baut ein Event einmalig auf, damit es an beliebig viele Abonnenten gehen kann.
+     * @param event Event-Builder (wird danach nicht mehr verwendet)
+     * @return unveränderliche, fertig formatierte Teile des Events
+     */
+    public static Set<DataWithMediaType> prepare(SseEmitter.SseEventBuilder event) {
+        return Collections.unmodifiableSet(event.build());
+    }
+
+    /**
+     * Registriert einen neuen Abonnenten und sendet ihm zuerst das Start-Event.
+     * @param emitter SseEmitter der Anfrage
+     * @param initial erstes Event (z.B. der komplette Stand), darf null sein
+     * @return false, wenn die maximale Anzahl Abonnenten erreicht ist
+     */
+    public boolean subscribe(SseEmitter emitter, Set<DataWithMediaType> initial) {
+        if (subscribers.size() >= maxSubscribers) {
+            return false;
+        }
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscribers.add(subscriber);
+        if (initial != null) {
+            subscriber.offer(initial);
+        }
+        return true;
+    }
+
+    /**
+     * Reiht ein Event bei allen Abonnenten ein. Blockiert nie.
+     * @param event mit prepare() aufgebautes Event
+     */
+    public void broadcast(Set<DataWithMediaType> event) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    /**
+     * @return Anzahl aktuell verbundener Abonnenten
+     */
+    public int size() {
+        return subscribers.size();
+    }
+
+    /**
+     * @return Anzahl Abonnenten, die wegen voller Warteschlange getrennt wurden
+     */
+    public long slowDisconnects() {
+        return slowDisconnects.get();
+    }
+
+    @Override
+    public String toString() {
+        return "SseBroadcaster[" + name + ", " + subscribers.size() + " Abonnenten, "
+                + slowDisconnects.get() + " wegen Rückstau getrennt]";
+    }
+
+    /**
+     * Beendet alle Verbindungen (beim Herunterfahren).
+     */
+    public void closeAll() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.close();
+        }
+    }
+
+    /**
+     * Ein verbundener Client mit eigener, begrenzter Warteschlange.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(Set<DataWithMediaType> event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                // Client kommt nicht nach → trennen statt unbegrenzt zu puffern (wird gezählt)
+                slowDisconnects.incrementAndGet();
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        // Sendet alle ausstehenden Events; höchstens ein Lauf pro Abonnent gleichzeitig
+        private void drain() {
+            try {
+                Set<DataWithMediaType> next;
+                while (!closed.get() && (next = queue.poll()) != null) {
+                    emitter.send(next);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client hat die Verbindung getrennt
+                close();
+            } finally {
+                draining.set(false);
+            }
+            // Während des Sendens eingereihte Events nicht liegen lassen
+            if (!closed.get() && !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                subscribers.remove(this);
+                queue.clear();
+                emitter.complete();
+            }
+        }
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * SseBroadcaster verwaltet die Abonnenten eines SSE-Streams. Events werden einmal
+ * aufgebaut und pro Abonnent in eine begrenzte Warteschlange gestellt; gesendet wird
+ * auf dem übergebenen Executor, nur solange Events anstehen (kein Thread pro Client).
+ * Volle Warteschlangen und Verbindungsfehler beenden den Abonnenten; Trennungen
+ * wegen Rückstau werden gezählt (slowDisconnects).
+ */
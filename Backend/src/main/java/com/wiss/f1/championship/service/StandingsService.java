@@ -0,0 +1,222 @@
+package com.wiss.f1.championship.service;
+
+import com.wiss.f1.championship.dto.ResultRowDTO;
+import com.wiss.f1.championship.dto.StandingTotalDTO;
+import com.wiss.f1.championship.dto.StandingsRebuildDTO;
+import com.wiss.f1.championship.dto.TipRowDTO;
+import com.wiss.f1.championship.entity.Race;
+import com.wiss.f1.championship.entity.RaceScore;
+import com.wiss.f1.championship.entity.RaceStatus;
+import com.wiss.f1.championship.entity.UserStanding;
+import com.wiss.f1.championship.repository.AppUserRepository;
+import com.wiss.f1.championship.repository.OfficialResultRepository;
+import com.wiss.f1.championship.repository.RaceRepository;
+import com.wiss.f1.championship.repository.RaceScoreRepository;
+import com.wiss.f1.championship.repository.TipRepository;
+import com.wiss.f1.championship.repository.UserStandingRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service für die materialisierten Punktestände (RaceScore, UserStanding).
+ *
+ * Aufgaben:
+ * - Punkte eines einzelnen Rennens neu berechnen, wenn sich dessen Ergebnisse,
+ *   Status oder Tipps ändern
+ * - Saisonstände der betroffenen User nachziehen
+ * - Vollständiger Rebuild aller Stände (z.B. nach Abweichungen)
+ *
+ * Das Leaderboard und das Profil lesen nur noch aus user_standings.
+ */
+@Service
+public class StandingsService {
+
+    // Maximale Anzahl IDs pro IN-Abfrage
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    private final RaceRepository raceRepository;
+    private final AppUserRepository appUserRepository;
+    private final TipRepository tipRepository;
+    private final OfficialResultRepository officialResultRepository;
+    private final RaceScoreRepository raceScoreRepository;
+    private final UserStandingRepository userStandingRepository;
+    private final ScoringEngine scoringEngine;
+
+    public StandingsService(RaceRepository raceRepository,
+                            AppUserRepository appUserRepository,
+                            TipRepository tipRepository,
+                            OfficialResultRepository officialResultRepository,
+                            RaceScoreRepository raceScoreRepository,
+                            UserStandingRepository userStandingRepository,
+                            ScoringEngine scoringEngine) {
+        this.raceRepository = raceRepository;
+        this.appUserRepository = appUserRepository;
+        this.tipRepository = tipRepository;
+        this.officialResultRepository = officialResultRepository;
+        this.raceScoreRepository = raceScoreRepository;
+        this.userStandingRepository = userStandingRepository;
+        this.scoringEngine = scoringEngine;
+    }
+
+    /**
+     * Berechnet die Punkte eines Rennens neu und aktualisiert die Saisonstände
+     * aller User, die vorher oder nachher Punkte in diesem Rennen hatten.
+     * Nicht geschlossene Rennen haben keine Punkte. Für ein gelöschtes Rennen
+     * (Punkte bereits per removeRace entfernt) werden alle Saisonstände nachgezogen.
+     * Ersetzt alle Punkte des Rennens und kann daher beliebig oft aufgerufen werden.
+     * Aufruf nur über den ScoringJobService, der alle Berechnungen serialisiert.
+     *
+     * @param raceId ID des Rennens
+     * @return Anzahl geschriebener RaceScore-Zeilen
+     */
+    @Transactional
+    public int recomputeRace(Long raceId) {
+        Set<Long> affectedUserIds = new HashSet<>(raceScoreRepository.findUserIdsByRaceId(raceId));
+        raceScoreRepository.deleteByRaceId(raceId);
+
+        List<RaceScore> scores = new ArrayList<>();
+        Race race = raceRepository.findById(raceId).orElse(null);
+        if (race == null) {
+            // Welche User Punkte im gelöschten Rennen hatten, ist nicht mehr bekannt
+            affectedUserIds.addAll(userStandingRepository.findAllUserIds());
+        } else if (race.getStatus() == RaceStatus.CLOSED) {
+            List<ResultRowDTO> results = officialResultRepository.findResultRowsByRaceId(raceId);
+            List<TipRowDTO> tips = tipRepository.findTipRowsByRaceId(raceId);
+
+            scoringEngine.forEachRaceScore(results, tips, (userId, id, points) -> {
+                affectedUserIds.add(userId);
+                scores.add(new RaceScore(appUserRepository.getReferenceById(userId), race, points));
+            });
+            raceScoreRepository.saveAll(scores);
+        }
+
+        refreshTotals(affectedUserIds);
+        return scores.size();
+    }
+
+    /**
+     * Entfernt alle Punkte eines Rennens, damit das Rennen gelöscht werden kann.
+     * Die Saisonstände zieht danach der ScoringJobService nach (recomputeRace).
+     *
+     * @param raceId ID des Rennens
+     */
+    @Transactional
+    public void removeRace(Long raceId) {
+        raceScoreRepository.deleteByRaceId(raceId);
+    }
+
+    /**
+     * Baut alle RaceScores und Saisonstände komplett neu auf.
+     * Dient zur Wiederherstellung, falls die materialisierten Daten abweichen.
+     *
+     * @return Zusammenfassung des Rebuilds
+     */
+    @Transactional
+    public StandingsRebuildDTO rebuildAll() {
+        long start = System.currentTimeMillis();
+
+        userStandingRepository.deleteAllInBatch();
+        raceScoreRepository.deleteAllInBatch();
+
+        List<ResultRowDTO> results = officialResultRepository.findClosedRaceResultRows();
+        List<TipRowDTO> tips = tipRepository.findClosedRaceTipRows();
+
+        List<RaceScore> scores = new ArrayList<>();
+        scoringEngine.forEachRaceScore(results, tips, (userId, raceId, points) ->
+                scores.add(new RaceScore(
+                        appUserRepository.getReferenceById(userId),
+                        raceRepository.getReferenceById(raceId),
+                        points)));
+        raceScoreRepository.saveAll(scores);
+
+        List<UserStanding> standings = new ArrayList<>();
+        for (StandingTotalDTO total : raceScoreRepository.sumPointsForAllUsers()) {
+            standings.add(new UserStanding(
+                    appUserRepository.getReferenceById(total.userId()),
+                    total.totalPoints().intValue(),
+                    total.racesScored().intValue()));
+        }
+        userStandingRepository.saveAll(standings);
+
+        int racesScored = (int) results.stream().map(ResultRowDTO::raceId).distinct().count();
+        return new StandingsRebuildDTO(racesScored, scores.size(), standings.size(),
+                System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Führt einen Rebuild aus, falls noch keine Stände existieren
+     * (z.B. beim ersten Start nach Einführung der Standings-Tabellen).
+     *
+     * @return true, wenn ein Rebuild ausgeführt wurde
+     */
+    @Transactional
+    public boolean rebuildIfEmpty() {
+        if (userStandingRepository.count() > 0 || raceScoreRepository.count() > 0) {
+            return false;
+        }
+        rebuildAll();
+        return true;
+    }
+
+    /**
+     * Leitet die Saisonstände der angegebenen User aus den RaceScores ab.
+     * User ohne RaceScores verlieren ihren Stand (0 Punkte).
+     *
+     * @param userIds IDs der betroffenen User
+     */
+    private void refreshTotals(Collection<Long> userIds) {
+        List<Long> ids = new ArrayList<>(new HashSet<>(userIds));
+
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size()));
+
+            Map<Long, StandingTotalDTO> totals = new HashMap<>();
+            for (StandingTotalDTO total : raceScoreRepository.sumPointsByUserIds(chunk)) {
+                totals.put(total.userId(), total);
+            }
+
+            Map<Long, UserStanding> existing = new HashMap<>();
+            for (UserStanding standing : userStandingRepository.findAllById(chunk)) {
+                existing.put(standing.getUserId(), standing);
+            }
+
+            List<UserStanding> toSave = new ArrayList<>();
+            List<UserStanding> toDelete = new ArrayList<>();
+
+            for (Long userId : chunk) {
+                StandingTotalDTO total = totals.get(userId);
+                UserStanding standing = existing.get(userId);
+
+                if (total == null) {
+                    if (standing != null) toDelete.add(standing);
+                } else if (standing == null) {
+                    toSave.add(new UserStanding(appUserRepository.getReferenceById(userId),
+                            total.totalPoints().intValue(), total.racesScored().intValue()));
+                } else {
+                    standing.setTotalPoints(total.totalPoints().intValue());
+                    standing.setRacesScored(total.racesScored().intValue());
+                    toSave.add(standing);
+                }
+            }
+
+            userStandingRepository.saveAll(toSave);
+            userStandingRepository.deleteAll(toDelete);
+        }
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * StandingsService hält die Tabellen race_scores und user_standings aktuell.
+ * Bei Änderungen an einem Rennen werden nur dessen Punkte neu berechnet und die Summen
+ * der betroffenen User nachgezogen (nacheinander über den ScoringJobService). rebuildAll() stellt alle Stände aus Tipps und
+ * Ergebnissen wieder her, rebuildIfEmpty() initialisiert sie beim ersten Start.
+ */
@@ -1,22 +1,31 @@
 package com.wiss.f1.championship.service;
 
+import com.wiss.f1.championship.dto.TipHistoryRowDTO;
 import com.wiss.f1.championship.dto.TipResponseDTO;
 import com.wiss.f1.championship.entity.*;
+import com.wiss.f1.championship.event.TipsSavedEvent;
 import com.wiss.f1.championship.repository.TipRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Service für Tipps (Tip).
  *
  * Aufgaben:
- * - Tipps erstellen, abrufen, löschen
+ * - Tipps erstellen, abrufen, löschen (einzeln oder für mehrere Rennen auf einmal)
  * - Prüfen, ob ein User bereits getippt hat
  * - Konvertierung zwischen Array-Format (Liste von Fahrernamen) und Tip-Objekten
  * - Bereitstellung von Tipps eines Users in DTO-Form für Frontend
@@ -24,12 +33,19 @@ import java.util.stream.Collectors;
 @Service
 public class TipService {
 
+    // Es werden die Plätze 1-10 getippt
+    private static final int MAX_TIP_POSITIONS = 10;
+
     private final TipRepository tipRepository;
     private final DriverService driverService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public TipService(TipRepository tipRepository, DriverService driverService) {
+    public TipService(TipRepository tipRepository,
+                      DriverService driverService,
+                      ApplicationEventPublisher eventPublisher) {
         this.tipRepository = tipRepository;
         this.driverService = driverService;
+        this.eventPublisher = eventPublisher;
     }
 
     public Optional<Tip> getTipById(Long id) {
@@ -63,35 +79,99 @@ public class TipService {
      * @param user Der User, der den Tipp abgibt
      * @param race Das Rennen, für das getippt wird
      * @param driverNames Liste der Fahrernamen in der Reihenfolge 1-10
-     * @return Liste der gespeicherten Tip-Objekte
+     * @return Liste der gespeicherten Tip-Objekte (ohne ID, per Batch eingefügt)
      */
     @Transactional
     public List<Tip> saveOrUpdateTip(AppUser user, Race race, List<String> driverNames) {
-        // Alte Tipps löschen
-        List<Tip> existingTips = tipRepository.findByUserIdAndRaceId(user.getId(), race.getId());
-        tipRepository.deleteAll(existingTips);
+        Map<Race, List<String>> ordersByRace = new LinkedHashMap<>();
+        ordersByRace.put(race, driverNames);
+        return saveTips(user, ordersByRace);
+    }
 
-        List<Tip> newTips = new ArrayList<>();
+    /**
+     * Speichert oder aktualisiert die Tipps eines Users für mehrere Rennen in
+     * einer Transaktion (z.B. für POST /api/tips/batch).
+     *
+     * @param user Der User, der die Tipps abgibt
+     * @param ordersByRace Fahrernamen in der Reihenfolge 1-10 pro Rennen
+     * @return ein TipResponseDTO pro Rennen, in der Reihenfolge der Eingabe
+     */
+    @Transactional
+    public List<TipResponseDTO> saveOrUpdateTips(AppUser user, Map<Race, List<String>> ordersByRace) {
+        List<Tip> saved = saveTips(user, ordersByRace);
+
+        // Antwort aus den gespeicherten Tipps (Reihenfolge nach Position, updated_at wie in der DB)
+        Map<Long, TipResponseDTO> byRace = new HashMap<>();
+        for (Tip tip : saved) {
+            byRace.computeIfAbsent(tip.getRace().getId(),
+                    id -> new TipResponseDTO(id, new ArrayList<>(), tip.getUpdatedAt()))
+                    .getOrder().add(tip.getDriver().getName());
+        }
+
+        List<TipResponseDTO> responses = new ArrayList<>(ordersByRace.size());
+        for (Race race : ordersByRace.keySet()) {
+            // Leerer Tipp: nichts gespeichert, also auch kein Zeitpunkt
+            responses.add(byRace.getOrDefault(race.getId(), new TipResponseDTO(race.getId(), new ArrayList<>(), null)));
+        }
+        return responses;
+    }
 
-        for (int i = 0; i < driverNames.size() && i < 10; i++) {
-            String driverName = driverNames.get(i);
-            if (driverName == null || driverName.trim().isEmpty()) {
-                continue; // Überspringe leere Einträge
+    /**
+     * Gemeinsamer Schreibpfad für einen oder mehrere Tipps:
+     * - alle Fahrernamen mit einer Abfrage auflösen
+     * - alte Tipps der Rennen mit einem Bulk-Delete entfernen
+     * - neue Tipps als JDBC-Batch einfügen
+     */
+    private List<Tip> saveTips(AppUser user, Map<Race, List<String>> ordersByRace) {
+        // Alle Namen sammeln und in einer Abfrage auflösen
+        Set<String> names = new HashSet<>();
+        for (List<String> driverNames : ordersByRace.values()) {
+            for (int i = 0; i < driverNames.size() && i < MAX_TIP_POSITIONS; i++) {
+                String driverName = driverNames.get(i);
+                if (driverName != null && !driverName.trim().isEmpty()) {
+                    names.add(driverName);
+                }
             }
+        }
+        Map<String, Driver> driversByName = driverService.getDriversByNames(names);
 
-            Optional<Driver> driverOpt = driverService.getDriverByName(driverName);
-            if (driverOpt.isEmpty()) {
-                throw new IllegalArgumentException("Fahrer nicht gefunden: " + driverName);
+        // Auf Mikrosekunden gekürzt wie die Spalte updated_at (timestamp(6)),
+        // damit die Antwort genau dem entspricht, was ein späteres GET liefert
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<Tip> newTips = new ArrayList<>();
+        List<Long> raceIds = new ArrayList<>(ordersByRace.size());
+
+        for (Map.Entry<Race, List<String>> entry : ordersByRace.entrySet()) {
+            Race race = entry.getKey();
+            List<String> driverNames = entry.getValue();
+            raceIds.add(race.getId());
+
+            for (int i = 0; i < driverNames.size() && i < MAX_TIP_POSITIONS; i++) {
+                String driverName = driverNames.get(i);
+                if (driverName == null || driverName.trim().isEmpty()) {
+                    continue; // Überspringe leere Einträge
+                }
+
+                Driver driver = driversByName.get(driverName);
+                if (driver == null) {
+                    throw new IllegalArgumentException("Fahrer nicht gefunden: " + driverName);
+                }
+
+                int position = i + 1; // Position 1-10
+                newTips.add(new Tip(user, race, driver, position, now));
             }
+        }
 
-            Driver driver = driverOpt.get();
+        // Alte Tipps in einem Statement löschen, neue gesammelt einfügen
+        tipRepository.deleteByUserIdAndRaceIdIn(user.getId(), raceIds);
+        tipRepository.insertAll(newTips);
 
-            int position = i + 1; // Position 1-10
-            Tip tip = new Tip(user, race, driver, position, LocalDateTime.now());
-            newTips.add(tip);
+        // Tipps für bereits gewertete Rennen wertet der ScoringJobService nach dem Commit neu
+        for (Race race : ordersByRace.keySet()) {
+            eventPublisher.publishEvent(new TipsSavedEvent(user.getId(), race.getId(), race.getStatus()));
         }
 
-        return tipRepository.saveAll(newTips);
+        return newTips;
     }
 
     /**
@@ -116,26 +196,26 @@ public class TipService {
 
     /**
      * Holt alle Tipps eines Users in DTO-Form, gruppiert nach Rennen.
+     * Eine einzige Abfrage (Projektion mit Fahrernamen) für die ganze Saison;
+     * es werden keine Entities geladen, daher auch ausserhalb des
+     * Request-Threads nutzbar (z.B. im Spieler-Dashboard).
      *
      * @param user Der User
-     * @return Liste von TipResponseDTO mit Rennen-ID, Reihenfolge und UpdatedAt
+     * @return Liste von TipResponseDTO mit Rennen-ID, Reihenfolge und UpdatedAt, sortiert nach Rennen
      */
     public List<TipResponseDTO> getAllTipsForUser(AppUser user) {
-        List<Tip> allTips = tipRepository.findByUser(user);
-
-        return allTips.stream()
-            .collect(Collectors.groupingBy(Tip::getRace))
-            .entrySet().stream()
-            .map(entry -> {
-        Race race = entry.getKey();
-        List<String> order = entry.getValue().stream()
-                .sorted((t1, t2) -> Integer.compare(t1.getPredictedPosition(), t2.getPredictedPosition()))
-                .map(tip -> tip.getDriver().getName())
-                .collect(Collectors.toList());
-        return new TipResponseDTO(race.getId(), order, entry.getValue().getFirst().getUpdatedAt());
-    })
-            .collect(Collectors.toList());
-}
+        List<TipResponseDTO> responses = new ArrayList<>();
+        TipResponseDTO current = null;
+        // Zeilen kommen nach Rennen und Position sortiert → ein Durchlauf genügt
+        for (TipHistoryRowDTO row : tipRepository.findTipHistoryByUserId(user.getId())) {
+            if (current == null || !current.getRaceId().equals(row.raceId())) {
+                current = new TipResponseDTO(row.raceId(), new ArrayList<>(), row.updatedAt());
+                responses.add(current);
+            }
+            current.getOrder().add(row.driverName());
+        }
+        return responses;
+    }
 
     /**
      * Holt das Datum der letzten Tipp-Aktualisierung für einen User und ein Rennen.
@@ -158,5 +238,7 @@ public class TipService {
  * TipService verwaltet die Tipps der Nutzer für Rennen.
  * Es bietet Methoden zum Erstellen, Aktualisieren, Abrufen und Löschen von Tipps.
  * Tipps werden in einzelne Tip-Objekte konvertiert, die Position und Fahrer enthalten.
+ * Beim Speichern werden alle Fahrernamen in einer Abfrage aufgelöst, alte Tipps per
+ * Bulk-Delete entfernt und neue als JDBC-Batch eingefügt – auch für mehrere Rennen.
  * Zusätzlich werden die Tipps in array-freundliche DTOs umgewandelt, die für Frontend oder API-Ausgabe geeignet sind.
  */
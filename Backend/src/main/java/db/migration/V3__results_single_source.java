@@ -0,0 +1,53 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * V3: official_results als einzige Speicherung der Rennergebnisse.
+ *
+ * Bisher lag die Reihenfolge doppelt vor: als Fahrernamen in race_results_order
+ * (Race.resultsOrder) und als Fahrer-IDs in official_results (Punkteberechnung).
+ * Ab jetzt gilt nur noch official_results; resultsOrder wird daraus abgeleitet.
+ *
+ * Rennen, die nur eine Namensreihenfolge haben, werden nach official_results übernommen.
+ * race_results_order hat keine Order-Spalte: Hibernate hat die Liste immer komplett
+ * gelöscht und in Listenreihenfolge neu eingefügt. Die Listenposition ist deshalb die
+ * physische Zeilenposition (PostgreSQL: ctid, H2 in den Tests: _rowid_). Danach werden
+ * unbekannte Fahrernamen übersprungen und die Positionen lückenlos neu vergeben.
+ *
+ * Als Java-Migration, weil die Zeilenposition datenbankspezifisch abgefragt wird.
+ */
+public class V3__results_single_source extends BaseJavaMigration {
+
+    private static final String COPY_RESULT_ORDER = """
+            insert into official_results (race_id, driver_id, final_position)
+            select o.race_id,
+                   d.id,
+                   row_number() over (partition by o.race_id order by o.seq)
+            from (select race_id, driver_name, row_number() over (partition by race_id order by %s) as seq
+                  from race_results_order) o
+            join drivers d on d.name = o.driver_name
+            where not exists (select 1 from official_results r where r.race_id = o.race_id)
+            """;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        String rowPosition = "H2".equals(connection.getMetaData().getDatabaseProductName()) ? "_rowid_" : "ctid";
+        try (Statement st = connection.createStatement()) {
+            st.execute(COPY_RESULT_ORDER.formatted(rowPosition));
+            st.execute("drop table race_results_order");
+        }
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * V3__results_single_source überträgt die Namensreihenfolgen aus race_results_order in
+ * Listenreihenfolge (physische Zeilenposition) nach official_results, sofern ein Rennen
+ * dort noch keine Ergebnisse hat, und entfernt danach race_results_order.
+ */
@@ -0,0 +1,93 @@
+-- ============================================================
+-- V1: Ausgangsschema
+-- ------------------------------------------------------------
+-- Entspricht dem Schema, das Hibernate (ddl-auto) bisher erzeugt hat.
+-- Bestehende Datenbanken werden per baseline-on-migrate auf Version 1
+-- gesetzt und überspringen dieses Skript; neue Datenbanken starten hier.
+-- Die Namen der Fremdschlüssel sind die von Hibernate erzeugten, damit
+-- beide Wege zum gleichen Schema führen.
+-- ============================================================
+
+create table app_users (
+    id            bigint generated by default as identity,
+    username      varchar(50)  not null unique,
+    email         varchar(100) not null unique,
+    password      varchar(255) not null,
+    role          varchar(20)  not null check (role in ('ADMIN', 'PLAYER')),
+    display_name  varchar(100),
+    favorite_team varchar(100),
+    country       varchar(100),
+    bio           varchar(500),
+    primary key (id)
+);
+
+create table drivers (
+    id   bigint generated by default as identity,
+    name varchar(100) not null,
+    team varchar(100) not null,
+    primary key (id)
+);
+
+create table races (
+    id      bigint generated by default as identity,
+    name    varchar(100) not null,
+    date    date         not null,
+    track   varchar(100) not null,
+    weather varchar(50)  not null,
+    tyres   varchar(50),
+    status  varchar(20)  not null check (status in ('OPEN', 'TIPPABLE', 'CLOSED')),
+    primary key (id)
+);
+
+create table race_results_order (
+    race_id     bigint not null,
+    driver_name varchar(100)
+);
+
+create table official_results (
+    id             bigint generated by default as identity,
+    race_id        bigint  not null,
+    driver_id      bigint  not null,
+    final_position integer not null,
+    primary key (id)
+);
+
+create table voting (
+    id                 bigint generated by default as identity,
+    user_id            bigint  not null,
+    race_id            bigint  not null,
+    driver_id          bigint  not null,
+    predicted_position integer not null,
+    updated_at         timestamp(6),
+    primary key (id)
+);
+
+create table race_scores (
+    id      bigint generated by default as identity,
+    user_id bigint  not null,
+    race_id bigint  not null,
+    points  integer not null,
+    primary key (id),
+    constraint uk_race_scores_user_race unique (user_id, race_id)
+);
+
+create table user_standings (
+    user_id      bigint  not null,
+    total_points integer not null,
+    races_scored integer not null,
+    updated_at   timestamp(6),
+    primary key (user_id)
+);
+
+create index idx_race_scores_race on race_scores (race_id);
+create index idx_user_standings_points on user_standings (total_points);
+
+alter table official_results add constraint FK5321vtcc142t0cltuwv4mg5l0 foreign key (driver_id) references drivers;
+alter table official_results add constraint FKf47hv26kfko0v47qytjmhwlyc foreign key (race_id) references races;
+alter table race_results_order add constraint FKmo7cf2d9ndwvvn6td3yopwbf8 foreign key (race_id) references races;
+alter table race_scores add constraint FKk0w13aaerbusjyfdr11w9jhv3 foreign key (race_id) references races;
+alter table race_scores add constraint FKklyx5wta2nx98mexiwsrynwp8 foreign key (user_id) references app_users;
+alter table user_standings add constraint FKdjmr9qid3rqdl9bmvvu967h8x foreign key (user_id) references app_users;
+alter table voting add constraint FKax1ma7efh8x31imo9lrxg517c foreign key (driver_id) references drivers;
+alter table voting add constraint FKe9t91603j33p3bis7e0jw0pen foreign key (race_id) references races;
+alter table voting add constraint FKmlbth2euwqskrbn6pr83ol6gf foreign key (user_id) references app_users;
@@ -0,0 +1,33 @@
+-- ============================================================
+-- V2: Indizes und Eindeutigkeit für Tipps und offizielle Ergebnisse
+-- ------------------------------------------------------------
+-- voting:           (race_id, user_id, predicted_position) eindeutig
+--                   → deckt findByRaceId, findByUserIdAndRaceId und
+--                     existsByUserAndRace über den Präfix ab
+--                   (user_id) für findByUser / findByUserId
+-- official_results: (race_id, final_position) eindeutig
+--                   → deckt findByRaceId und findByRace ab
+-- ============================================================
+
+-- Doppelte Tipp-Positionen entfernen, der neueste Eintrag bleibt
+delete from voting v
+where exists (select 1 from voting n
+              where n.race_id = v.race_id
+                and n.user_id = v.user_id
+                and n.predicted_position = v.predicted_position
+                and n.id > v.id);
+
+alter table voting
+    add constraint uk_voting_race_user_position unique (race_id, user_id, predicted_position);
+
+create index idx_voting_user on voting (user_id);
+
+-- Doppelte Ergebnis-Positionen entfernen, der neueste Eintrag bleibt
+delete from official_results r
+where exists (select 1 from official_results n
+              where n.race_id = r.race_id
+                and n.final_position = r.final_position
+                and n.id > r.id);
+
+alter table official_results
+    add constraint uk_official_results_race_position unique (race_id, final_position);
@@ -0,0 +1,11 @@
+-- ============================================================
+-- V4: Index für den Rennkalender
+-- ------------------------------------------------------------
+-- races: (status, date, id)
+--        → GET /api/races?status=…&from=…&to=…&sort=date (Filter auf
+--          Status und Datum, Keyset-Paginierung über (date, id))
+--        → GET /api/races/upcoming (nicht geschlossene Rennen nach Datum)
+--        → GET /api/races/counts (Anzahl pro Status, nur Index)
+-- ============================================================
+
+create index idx_races_status_date on races (status, date, id);
@@ -1,8 +1,14 @@
 package com.wiss.f1.championship.controller;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -10,24 +16,46 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 
+import com.wiss.f1.championship.dto.OfficialResultDTO;
+import com.wiss.f1.championship.dto.RaceResponseDTO;
+import com.wiss.f1.championship.entity.Driver;
+import com.wiss.f1.championship.entity.OfficialResult;
 import com.wiss.f1.championship.entity.Race;
 import com.wiss.f1.championship.entity.RaceStatus;
+import com.wiss.f1.championship.event.RaceChangedEvent;
+import com.wiss.f1.championship.repository.RaceFilter;
+import com.wiss.f1.championship.service.DriverService;
+import com.wiss.f1.championship.service.OfficialResultService;
+import com.wiss.f1.championship.service.LiveUpdateService;
+import com.wiss.f1.championship.service.RacePage;
 import com.wiss.f1.championship.service.RaceService;
+import com.wiss.f1.championship.service.RaceSort;
+import com.wiss.f1.championship.service.ResourceVersion;
+import com.wiss.f1.championship.service.ResourceVersionService;
 
 /**
- * Unit-Tests für Admin-Controller-Komponenten (RaceController und AdminTestController).
+ * Unit-Tests für Admin-Controller-Komponenten (RaceController, OfficialResultController
+ * und AdminTestController).
  *
  * Testfälle:
  * - Abrufen aller Rennen
- * - Abrufen eines Rennens nach ID (inkl. Nicht gefunden)
+ * - Bedingtes Abrufen (If-None-Match / If-Modified-Since → 304 ohne Service-Aufruf, neue Version
+ *   mit tatsächlichem Änderungszeitpunkt nach Änderung)
+ * - Kalenderseite mit Filter, Sortierung und Paginierungs-Headern; ungültige Parameter
+ * - Nächste Rennen (ETag abhängig vom Tag) und Anzahl pro Status
+ * - Abrufen eines Rennens nach ID (inkl. Nicht gefunden → 404 ohne ETag/Cache-Control)
  * - Erstellen, Aktualisieren, Löschen von Rennen
  * - Admin-Test-Endpunkt
+ * - Komplette Klassifizierung eines Rennens ersetzen (PUT /api/results/race/{raceId})
  */
 class AdminControllerTest {
 
     private RaceService raceService;
     private RaceController raceController;
+    private ResourceVersionService resourceVersionService;
 
     private Race testRace1;
     private Race testRace2;
@@ -35,7 +63,8 @@ class AdminControllerTest {
     @BeforeEach
     void setUp() {
         raceService = mock(RaceService.class); // Mock für Service
-        raceController = new RaceController(raceService); // Controller mit Mock
+        resourceVersionService = new ResourceVersionService();
+        raceController = new RaceController(raceService, mock(LiveUpdateService.class), resourceVersionService); // Controller mit Mock
 
         // Beispielrennen erstellen
         testRace1 = new Race("Bahrain GP", LocalDate.of(2024, 3, 2),
@@ -47,33 +76,127 @@ class AdminControllerTest {
         testRace2.setId(2L);
     }
 
+    // Antwort-DTO wie es RaceService.getAllRaceResponses liefert (ohne Ergebnis)
+    private static RaceResponseDTO toResponse(Race race) {
+        return new RaceResponseDTO(race.getId(), race.getName(), race.getDate(), race.getTrack(),
+                race.getWeather(), race.getTyres(), race.getStatus(), List.of());
+    }
+
     @Test
     void testGetAllRaces() {
         // Setup Mock
-        List<Race> races = Arrays.asList(testRace1, testRace2);
-        when(raceService.getAllRaces()).thenReturn(races);
+        List<RaceResponseDTO> races = Arrays.asList(toResponse(testRace1), toResponse(testRace2));
+        when(raceService.getAllRaceResponses()).thenReturn(races);
 
         // Test
-        List<Race> result = raceController.getAllRaces();
+        ResponseEntity<List<RaceResponseDTO>> response = raceController.getAllRaces(null, null, null, null, null, null, null, null);
+        List<RaceResponseDTO> result = response.getBody();
 
         // Assertions
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(resourceVersionService.races().getETag(), response.getHeaders().getETag());
+        assertNotNull(response.getHeaders().getCacheControl());
         assertNotNull(result);
         assertEquals(2, result.size());
         assertEquals("Bahrain GP", result.get(0).getName());
         assertEquals("Saudi Arabian GP", result.get(1).getName());
 
         // Verify Service-Aufruf
-        verify(raceService, times(1)).getAllRaces();
+        verify(raceService, times(1)).getAllRaceResponses();
+    }
+
+    @Test
+    void testGetAllRacesNotModified() {
+        ResourceVersion version = resourceVersionService.races();
+
+        ResponseEntity<List<RaceResponseDTO>> byETag = raceController.getAllRaces(null, null, null, null, null, null, version.getETag(), null);
+        String lastModified = DateTimeFormatter.RFC_1123_DATE_TIME.format(version.getLastModified().atZone(ZoneOffset.UTC));
+        ResponseEntity<List<RaceResponseDTO>> byDate = raceController.getAllRaces(null, null, null, null, null, null, null, lastModified);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, byETag.getStatusCode());
+        assertNull(byETag.getBody());
+        assertEquals(version.getETag(), byETag.getHeaders().getETag());
+        assertEquals(HttpStatus.NOT_MODIFIED, byDate.getStatusCode());
+        verify(raceService, never()).getAllRaceResponses();
+
+        // Nach einer Änderung passt der alte ETag nicht mehr; Last-Modified ist der
+        // tatsächliche Änderungszeitpunkt (auch innerhalb derselben Sekunde, nie in der Zukunft)
+        Instant before = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        resourceVersionService.onRaceChanged(new RaceChangedEvent(1L, RaceStatus.CLOSED, RaceChangedEvent.Type.CLOSED));
+        Instant after = Instant.now();
+        when(raceService.getAllRaceResponses()).thenReturn(List.of(toResponse(testRace1)));
+
+        ResourceVersion changed = resourceVersionService.races();
+        assertEquals(HttpStatus.OK, raceController.getAllRaces(null, null, null, null, null, null, version.getETag(), null).getStatusCode());
+        assertNotEquals(version.getETag(), changed.getETag());
+        assertFalse(changed.getLastModified().isBefore(before));
+        assertFalse(changed.getLastModified().isAfter(after));
+    }
+
+    @Test
+    void testGetRacePage() {
+        RaceFilter filter = new RaceFilter(EnumSet.of(RaceStatus.OPEN, RaceStatus.TIPPABLE), LocalDate.of(2024, 1, 1), null);
+        when(raceService.getRacePage(filter, RaceSort.DATE_DESC, null, 2))
+                .thenReturn(new RacePage(List.of(toResponse(testRace2), toResponse(testRace1)), "abc", 5));
+
+        ResponseEntity<List<RaceResponseDTO>> response = raceController.getAllRaces(
+                List.of("open", "TIPPABLE"), "2024-01-01", null, "-date", 2, null, null, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, response.getBody().size());
+        assertEquals("5", response.getHeaders().getFirst(LeaderboardController.TOTAL_COUNT_HEADER));
+        assertEquals("abc", response.getHeaders().getFirst(LeaderboardController.NEXT_CURSOR_HEADER));
+        assertEquals(resourceVersionService.races().getETag(), response.getHeaders().getETag());
+        verify(raceService, never()).getAllRaceResponses();
+    }
+
+    @Test
+    void testGetRacePageInvalidParameters() {
+        // Ungültige Parameter → IllegalArgumentException (400), auch bei passendem ETag
+        String eTag = resourceVersionService.races().getETag();
+        assertThrows(IllegalArgumentException.class,
+                () -> raceController.getAllRaces(List.of("finished"), null, null, null, null, null, eTag, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> raceController.getAllRaces(null, "02.03.2024", null, null, null, null, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> raceController.getAllRaces(null, "2024-05-01", "2024-03-01", null, null, null, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> raceController.getAllRaces(null, null, null, "name", null, null, null, null));
+    }
+
+    @Test
+    void testGetUpcomingRacesAndCounts() {
+        when(raceService.getUpcomingRaces(3, LocalDate.now())).thenReturn(List.of(toResponse(testRace1)));
+        when(raceService.getRaceCounts()).thenReturn(Map.of("open", 1L, "voting", 1L, "closed", 0L));
+
+        assertEquals(1, raceController.getUpcomingRaces(3, null, null).getBody().size());
+        assertEquals(1L, raceController.getRaceCounts(null, null).getBody().get("voting"));
+        // 304 ohne Service-Aufruf
+        String eTag = resourceVersionService.races().getETag();
+        assertEquals(HttpStatus.NOT_MODIFIED, raceController.getRaceCounts(eTag, null).getStatusCode());
+        verify(raceService, times(1)).getRaceCounts();
+
+        // Nächste Rennen hängen vom Datum ab: ETag mit Tag, der allgemeine Renn-ETag passt nicht
+        String upcomingETag = raceController.getUpcomingRaces(3, null, null).getHeaders().getETag();
+        assertEquals(resourceVersionService.races().forDay(LocalDate.now()).getETag(), upcomingETag);
+        assertNotEquals(eTag, upcomingETag);
+        assertEquals(HttpStatus.OK, raceController.getUpcomingRaces(3, eTag, null).getStatusCode());
+        assertEquals(HttpStatus.NOT_MODIFIED, raceController.getUpcomingRaces(3, upcomingETag, null).getStatusCode());
     }
 
     @Test
     void testGetRaceByIdNotFound() {
-        when(raceService.getRaceById(999L)).thenReturn(Optional.empty());
+        when(raceService.getRaceResponseById(999L)).thenReturn(Optional.empty());
 
-        Race result = raceController.getRaceById(999L);
+        ResponseEntity<RaceResponseDTO> response = raceController.getRaceById(999L, null, null);
 
-        assertNull(result);
-        verify(raceService, times(1)).getRaceById(999L);
+        // 404 ohne Validatoren: nichts, was ein Cache für die unbekannte ID aufbewahren soll
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertNull(response.getBody());
+        assertNull(response.getHeaders().getETag());
+        assertEquals(-1, response.getHeaders().getLastModified());
+        assertNull(response.getHeaders().getCacheControl());
+        verify(raceService, times(1)).getRaceResponseById(999L);
     }
 
     @Test
@@ -126,13 +249,37 @@ class AdminControllerTest {
 
         assertEquals("Admin ok!", result);
     }
+
+    @Test
+    void testReplaceResultsForRace() {
+        // Komplette Klassifizierung in einem Aufruf, Antwort mit Fahrer- und Renndaten
+        OfficialResultController resultController = new OfficialResultController(
+                mock(OfficialResultService.class), raceService, mock(DriverService.class));
+        Driver max = new Driver("Max Verstappen", "Red Bull Racing");
+        max.setId(33L);
+        List<OfficialResultDTO> classification = List.of(new OfficialResultDTO());
+        when(raceService.updateRaceClassification(1L, classification))
+                .thenReturn(List.of(new OfficialResult(testRace1, max, 1)));
+
+        List<OfficialResultDTO> result = resultController.replaceResultsForRace(1L, classification);
+
+        assertEquals(1, result.size());
+        assertEquals(1L, result.get(0).getRaceId());
+        assertEquals("Bahrain GP", result.get(0).getRaceName());
+        assertEquals(33L, result.get(0).getDriverId());
+        assertEquals("Max Verstappen", result.get(0).getDriverName());
+        assertEquals(1, result.get(0).getFinalPosition());
+        verify(raceService, times(1)).updateRaceClassification(1L, classification);
+    }
 }
 
 /*
  * Zusammenfassung:
  * AdminControllerTest testet die Kernfunktionen der Admin-Controller:
- * - RaceController: CRUD-Operationen für Rennen, inklusive Abrufen, Erstellen, Aktualisieren und Löschen.
+ * - RaceController: CRUD-Operationen für Rennen, inklusive Abrufen (mit ETag/304, Kalenderseiten,
+ *   nächste Rennen, Anzahl pro Status), Erstellen, Aktualisieren und Löschen.
  * - AdminTestController: Einfacher Test-Endpunkt für Admins.
+ * - OfficialResultController: Klassifizierung in einem Aufruf ersetzen.
  *
  * Mockito wird verwendet, um RaceService zu mocken, sodass die Controller-Logik isoliert getestet werden kann.
  */
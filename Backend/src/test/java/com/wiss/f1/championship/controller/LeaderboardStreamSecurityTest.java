@@ -0,0 +1,155 @@
+package com.wiss.f1.championship.controller;
+
+import java.util.Date;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.Matchers.containsString;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.when;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.security.autoconfigure.web.servlet.SecurityFilterAutoConfiguration;
+import org.springframework.boot.security.autoconfigure.web.servlet.ServletWebSecurityAutoConfiguration;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.wiss.f1.championship.config.SecurityConfig;
+import com.wiss.f1.championship.entity.AppUser;
+import com.wiss.f1.championship.entity.Role;
+import com.wiss.f1.championship.security.JwtAuthenticationFilter;
+import com.wiss.f1.championship.security.JwtService;
+import com.wiss.f1.championship.security.PrincipalCache;
+import com.wiss.f1.championship.service.AppUserService;
+import com.wiss.f1.championship.service.LeaderboardExportService;
+import com.wiss.f1.championship.service.LeaderboardService;
+import com.wiss.f1.championship.service.LiveUpdateService;
+import com.wiss.f1.championship.service.SseBroadcaster;
+
+/**
+ * Prüft den Leaderboard-Stream (SSE) mit der echten Security-Konfiguration.
+ *
+ * Der Stream ist nur für eingeloggte Nutzer. Events werden nach dem Request auf
+ * einem eigenen Thread gesendet; der Abschluss läuft als asynchroner Dispatch durch
+ * die Filterkette, in dem der JWT-Filter nicht erneut authentifiziert.
+ *
+ * Testfälle:
+ * - Mit Token: Start-Event und Diff kommen beim Client an, Abschluss mit 200
+ * - Ohne Token: 401/403, kein Stream
+ */
+@WebMvcTest(LeaderboardController.class)
+@ImportAutoConfiguration({ServletWebSecurityAutoConfiguration.class, SecurityFilterAutoConfiguration.class})
+@Import({SecurityConfig.class, JwtAuthenticationFilter.class, PrincipalCache.class})
+class LeaderboardStreamSecurityTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @MockitoBean
+    private AppUserService appUserService;
+
+    @MockitoBean
+    private LeaderboardService leaderboardService;
+
+    @MockitoBean
+    private LeaderboardExportService leaderboardExportService;
+
+    @MockitoBean
+    private LiveUpdateService liveUpdateService;
+
+    private ExecutorService sender;
+    private SseBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        // Token gilt als geprüft (PrincipalCache) → keine Signaturprüfung, keine DB
+        when(jwtService.isWellFormed(TOKEN)).thenReturn(true);
+        AppUser player = new AppUser("player1", "player1@test.com", "pw", Role.PLAYER);
+        principalCache.put(TOKEN, player, new Date(System.currentTimeMillis() + 60_000));
+
+        // Gesendet wird wie im LiveUpdateService über den SseBroadcaster auf einem eigenen Thread
+        sender = Executors.newVirtualThreadPerTaskExecutor();
+        broadcaster = new SseBroadcaster("test", 8, 10, sender);
+        when(liveUpdateService.subscribeLeaderboard()).thenAnswer(invocation -> {
+            SseEmitter emitter = new SseEmitter(5_000L);
+            broadcaster.subscribe(emitter, SseBroadcaster.prepare(
+                    SseEmitter.event().name("snapshot").id("1").data("{\"version\":1}")));
+            return emitter;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        sender.shutdownNow();
+    }
+
+    @Test
+    void testAuthenticatedStreamReceivesEvents() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/leaderboard/stream")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        broadcaster.broadcast(SseBroadcaster.prepare(
+                SseEmitter.event().name("diff").id("2").data("{\"version\":2}")));
+        awaitContent(result, "event:diff");
+        // Stream-Ende (z.B. Timeout) → asynchroner Dispatch durch die Security-Filterkette
+        broadcaster.closeAll();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("event:snapshot")))
+                .andExpect(content().string(containsString("event:diff\nid:2\ndata:{\"version\":2}")));
+    }
+
+    // Wartet, bis der Sender-Thread das Event in die Antwort geschrieben hat
+    private static void awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!result.getResponse().getContentAsString().contains(expected)) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Event nicht erhalten: " + expected);
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void testStreamRequiresLogin() throws Exception {
+        mockMvc.perform(get("/api/leaderboard/stream"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(result -> {
+                    int code = result.getResponse().getStatus();
+                    if (code != 401 && code != 403) {
+                        throw new AssertionError("401/403 erwartet, war " + code);
+                    }
+                });
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * LeaderboardStreamSecurityTest startet den LeaderboardController mit SecurityConfig
+ * und JWT-Filter (MockMvc). Ein eingeloggter Client erhält Start-Event und Diff über
+ * den SseBroadcaster, und der asynchrone Abschluss-Dispatch wird von der Security
+ * nicht abgewiesen. Ohne Token wird der Stream gar nicht geöffnet.
+ */
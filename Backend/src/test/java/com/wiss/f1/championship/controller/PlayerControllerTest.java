@@ -2,16 +2,20 @@ package com.wiss.f1.championship.controller;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -42,6 +46,7 @@ import com.wiss.f1.championship.service.TipService;
  * - Abrufen eines Tipps für ein nicht existentes Rennen
  * - Abrufen eines Tipps ohne Authentifizierung
  * - Erstellen oder Aktualisieren eines Tipps (inkl. Fehlerfälle)
+ * - Batch-Speichern von Tipps für mehrere Rennen (inkl. Duplikate, unbekannte Rennen)
  * - Abrufen aller Tipps eines Users
  * - Player-Test-Endpunkt
  *
@@ -143,9 +148,11 @@ class PlayerControllerTest {
         List<String> tipOrder = Arrays.asList("Max Verstappen", "Lewis Hamilton", "Charles Leclerc");
         TipRequestDTO request = new TipRequestDTO(1L, tipOrder);
 
+        LocalDateTime savedAt = LocalDateTime.of(2024, 3, 1, 12, 0, 0, 123456000);
+
         when(raceService.getRaceById(1L)).thenReturn(Optional.of(testRace));
-        when(tipService.saveOrUpdateTip(testPlayer, testRace, tipOrder)).thenReturn(Arrays.asList());
-        when(tipService.getTipOrderForUserAndRace(testPlayer, testRace)).thenReturn(tipOrder);
+        when(tipService.saveOrUpdateTips(testPlayer, Map.of(testRace, tipOrder)))
+                .thenReturn(List.of(new TipResponseDTO(1L, tipOrder, savedAt)));
 
         ResponseEntity<TipResponseDTO> response = tipController.createOrUpdateTip(request);
 
@@ -154,10 +161,13 @@ class PlayerControllerTest {
         assertNotNull(response.getBody());
         assertEquals(1L, response.getBody().getRaceId());
         assertEquals(3, response.getBody().getOrder().size());
+        assertEquals(savedAt, response.getBody().getUpdatedAt());
 
+        // Antwort aus dem Schreibpfad, kein erneutes Lesen
         verify(raceService, times(1)).getRaceById(1L);
-        verify(tipService, times(1)).saveOrUpdateTip(testPlayer, testRace, tipOrder);
-        verify(tipService, times(1)).getTipOrderForUserAndRace(testPlayer, testRace);
+        verify(tipService, times(1)).saveOrUpdateTips(testPlayer, Map.of(testRace, tipOrder));
+        verify(tipService, never()).getTipOrderForUserAndRace(any(), any());
+        verify(tipService, never()).getTipUpdatedAtForUserAndRace(any(), any());
     }
 
     @Test
@@ -170,7 +180,7 @@ class PlayerControllerTest {
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
 
         verify(raceService, never()).getRaceById(any());
-        verify(tipService, never()).saveOrUpdateTip(any(), any(), any());
+        verify(tipService, never()).saveOrUpdateTips(any(), any());
     }
 
     @Test
@@ -183,7 +193,7 @@ class PlayerControllerTest {
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
 
         verify(raceService, never()).getRaceById(any());
-        verify(tipService, never()).saveOrUpdateTip(any(), any(), any());
+        verify(tipService, never()).saveOrUpdateTips(any(), any());
     }
 
     @Test
@@ -199,9 +209,67 @@ class PlayerControllerTest {
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
 
         verify(raceService, times(1)).getRaceById(999L);
+        verify(tipService, never()).saveOrUpdateTips(any(), any());
+    }
+
+    @Test
+    void testCreateOrUpdateTipsBatch() {
+        Race secondRace = new Race("Saudi Arabian GP", LocalDate.of(2024, 3, 9),
+                "Jeddah Corniche Circuit", "Clear", RaceStatus.TIPPABLE);
+        secondRace.setId(2L);
+        List<TipRequestDTO> requests = Arrays.asList(
+                new TipRequestDTO(1L, Arrays.asList("Max Verstappen", "Lewis Hamilton")),
+                new TipRequestDTO(2L, Arrays.asList("Charles Leclerc"))
+        );
+        List<TipResponseDTO> saved = Arrays.asList(
+                new TipResponseDTO(1L, Arrays.asList("Max Verstappen", "Lewis Hamilton"), LocalDateTime.now()),
+                new TipResponseDTO(2L, Arrays.asList("Charles Leclerc"), LocalDateTime.now())
+        );
+
+        when(raceService.getRacesByIds(any())).thenReturn(Arrays.asList(secondRace, testRace));
+        when(tipService.saveOrUpdateTips(any(), any())).thenReturn(saved);
+
+        ResponseEntity<List<TipResponseDTO>> response = tipController.createOrUpdateTips(requests);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, response.getBody().size());
+
+        // Reihenfolge der Rennen entspricht dem Request, nicht der DB-Antwort
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Race, List<String>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(tipService, times(1)).saveOrUpdateTips(eq(testPlayer), captor.capture());
+        assertEquals(Arrays.asList(testRace, secondRace), new ArrayList<>(captor.getValue().keySet()));
         verify(tipService, never()).saveOrUpdateTip(any(), any(), any());
     }
 
+    @Test
+    void testCreateOrUpdateTipsBatchWithDuplicateRace() {
+        List<TipRequestDTO> requests = Arrays.asList(
+                new TipRequestDTO(1L, Arrays.asList("Max Verstappen")),
+                new TipRequestDTO(1L, Arrays.asList("Lewis Hamilton"))
+        );
+
+        ResponseEntity<List<TipResponseDTO>> response = tipController.createOrUpdateTips(requests);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(raceService, never()).getRacesByIds(any());
+        verify(tipService, never()).saveOrUpdateTips(any(), any());
+    }
+
+    @Test
+    void testCreateOrUpdateTipsBatchWithUnknownRace() {
+        List<TipRequestDTO> requests = Arrays.asList(
+                new TipRequestDTO(1L, Arrays.asList("Max Verstappen")),
+                new TipRequestDTO(999L, Arrays.asList("Lewis Hamilton"))
+        );
+        when(raceService.getRacesByIds(any())).thenReturn(Arrays.asList(testRace));
+
+        ResponseEntity<List<TipResponseDTO>> response = tipController.createOrUpdateTips(requests);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        verify(tipService, never()).saveOrUpdateTips(any(), any());
+    }
+
     @Test
     void testGetAllTipsForUser() {
         List<TipResponseDTO> tips = Arrays.asList(
@@ -248,7 +316,7 @@ class PlayerControllerTest {
 /*
  * Zusammenfassung:
  * PlayerControllerTest prüft alle wesentlichen PlayerController-Endpunkte:
- * - Tipps abrufen, erstellen oder aktualisieren
+ * - Tipps abrufen, erstellen oder aktualisieren (einzeln und als Batch)
  * - Validierung von Anfragen (leere oder ungültige Requests)
  * - Verhalten bei nicht vorhandenen Rennen oder Benutzern
  * - Authentifizierungssimulation über SecurityContext
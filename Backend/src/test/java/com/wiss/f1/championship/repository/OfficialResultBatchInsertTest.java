@@ -0,0 +1,81 @@
+package com.wiss.f1.championship.repository;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.wiss.f1.championship.entity.Driver;
+import com.wiss.f1.championship.entity.OfficialResult;
+import com.wiss.f1.championship.entity.Race;
+
+/**
+ * Prüft den JDBC-Batch für offizielle Ergebnisse gegen das echte Schema.
+ *
+ * Das Schema kommt aus den Flyway-Migrationen (H2 im PostgreSQL-Modus); das Fragment
+ * schreibt per JdbcTemplate auf derselben Datenbank.
+ *
+ * Testfälle:
+ * - insertAll übernimmt die generierten IDs in Batch-Reihenfolge in die Objekte
+ */
+class OfficialResultBatchInsertTest {
+
+    private TestDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private OfficialResultBatchRepositoryImpl batchRepository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        database = TestDatabase.migrated("resultbatch");
+        database.execute(
+                "insert into drivers (name, team) values ('Max', 'RB'), ('Lando', 'McL'), ('Charles', 'Fer')",
+                "insert into races (name, date, track, weather, status) values "
+                        + "('Bahrain', date '2025-03-02', 'Sakhir', 'sunny', 'CLOSED')");
+        jdbcTemplate = new JdbcTemplate(database.dataSource());
+        batchRepository = new OfficialResultBatchRepositoryImpl(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    private static Race race(long id) {
+        Race race = new Race();
+        race.setId(id);
+        return race;
+    }
+
+    private static Driver driver(long id) {
+        Driver driver = new Driver();
+        driver.setId(id);
+        return driver;
+    }
+
+    @Test
+    void testGeneratedIdsAreAssigned() {
+        Race race = race(1L);
+        List<OfficialResult> results = List.of(
+                new OfficialResult(race, driver(2L), 1),
+                new OfficialResult(race, driver(3L), 2),
+                new OfficialResult(race, driver(1L), 3));
+
+        assertEquals(3, batchRepository.insertAll(results));
+
+        // IDs stimmen mit den gespeicherten Zeilen überein
+        for (OfficialResult result : results) {
+            assertEquals(result.getFinalPosition(), jdbcTemplate.queryForObject(
+                    "select final_position from official_results where id = ?", Integer.class, result.getId()));
+        }
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * OfficialResultBatchInsertTest schreibt eine Klassifizierung über den JDBC-Batch in ein
+ * per Flyway aufgebautes Schema und prüft, dass jedes Objekt danach die ID seiner Zeile trägt.
+ */
@@ -0,0 +1,177 @@
+package com.wiss.f1.championship.repository;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Query-Plan-Regressionstests für die Tabellen "voting", "official_results" und "races".
+ *
+ * Das Schema wird mit den echten Flyway-Migrationen in einer H2-Datenbank
+ * im PostgreSQL-Modus aufgebaut. Für die Abfragen der Repositories wird per
+ * EXPLAIN geprüft, dass ein Index statt eines Table-Scans verwendet wird.
+ *
+ * H2 legt (anders als PostgreSQL) für Fremdschlüssel eigene Indizes an und
+ * wählt bei Abfragen auf nur einer Spalte teils diese. Deshalb wird zusätzlich
+ * über die JDBC-Metadaten geprüft, dass die Migrationen die Indizes anlegen.
+ *
+ * Testfälle:
+ * - Indizes aus V2 mit richtiger Spaltenreihenfolge
+ * - Tipps nach Rennen, nach User + Rennen, nach User; Bulk-Delete
+ * - Offizielle Ergebnisse nach Rennen
+ * - Rennkalender (Status, Datum, Keyset) über den Index aus V4
+ * - Eindeutigkeit von Tipp- und Ergebnis-Positionen
+ */
+class QueryPlanTest {
+
+    private static final int USERS = 20;
+    private static final int RACES = 5;
+
+    private TestDatabase database;
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        database = TestDatabase.migrated("queryplan");
+        connection = database.connection();
+
+        // Kleine Saison: 20 User × 5 Rennen × 10 Positionen, danach Statistiken erheben
+        try (Statement st = connection.createStatement()) {
+            for (int d = 1; d <= 10; d++) {
+                st.execute("insert into drivers (name, team) values ('Driver " + d + "', 'Team')");
+            }
+            for (int r = 1; r <= RACES; r++) {
+                st.execute("insert into races (name, date, track, weather, status) "
+                        + "values ('Race " + r + "', date '2024-03-02', 'Track', 'sunny', 'CLOSED')");
+                for (int p = 1; p <= 10; p++) {
+                    st.execute("insert into official_results (race_id, driver_id, final_position) values ("
+                            + r + ", " + p + ", " + p + ")");
+                }
+            }
+            for (int u = 1; u <= USERS; u++) {
+                st.execute("insert into app_users (username, email, password, role) "
+                        + "values ('user" + u + "', 'user" + u + "@test.com', 'pw', 'PLAYER')");
+                for (int r = 1; r <= RACES; r++) {
+                    for (int p = 1; p <= 10; p++) {
+                        st.execute("insert into voting (user_id, race_id, driver_id, predicted_position) values ("
+                                + u + ", " + r + ", " + p + ", " + p + ")");
+                    }
+                }
+            }
+            st.execute("analyze");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    private String explain(String sql) throws SQLException {
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("explain " + sql)) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+
+    // Abfrage läuft über einen Index, nicht über einen Table-Scan
+    private void assertNoTableScan(String sql) throws SQLException {
+        String plan = explain(sql);
+        assertFalse(plan.contains("tableScan"), "Table-Scan nicht erwartet:\n" + plan);
+    }
+
+    // Abfrage läuft über den angegebenen (zusammengesetzten) Index
+    private void assertUsesIndex(String sql, String indexName) throws SQLException {
+        String plan = explain(sql);
+        assertTrue(plan.contains(indexName), "Index " + indexName + " erwartet:\n" + plan);
+        assertFalse(plan.contains("tableScan"), "Table-Scan nicht erwartet:\n" + plan);
+    }
+
+    // Spalten eines Index in Reihenfolge aus den JDBC-Metadaten
+    private List<String> indexColumns(String table, String indexName) throws SQLException {
+        List<String> columns = new ArrayList<>();
+        try (ResultSet rs = connection.getMetaData().getIndexInfo(null, null, table, false, false)) {
+            while (rs.next()) {
+                String name = rs.getString("INDEX_NAME");
+                if (name != null && name.toLowerCase(Locale.ROOT).startsWith(indexName)) {
+                    columns.add(rs.getString("COLUMN_NAME").toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return columns;
+    }
+
+    @Test
+    void testMigrationsCreateIndexes() throws SQLException {
+        // PostgreSQL legt für Fremdschlüssel keine Indizes an – diese Indizes sind die einzigen
+        assertEquals(List.of("race_id", "user_id", "predicted_position"),
+                indexColumns("voting", "uk_voting_race_user_position"));
+        assertEquals(List.of("user_id"), indexColumns("voting", "idx_voting_user"));
+        assertEquals(List.of("race_id", "final_position"),
+                indexColumns("official_results", "uk_official_results_race_position"));
+    }
+
+    @Test
+    void testTipLookupsUseIndexes() throws SQLException {
+        // findByUserIdAndRaceId / existsByUserAndRace
+        assertUsesIndex("select * from voting where user_id = 1 and race_id = 1", "uk_voting_race_user_position");
+        assertUsesIndex("select id from voting where user_id = 1 and race_id = 1 fetch first 1 rows only",
+                "uk_voting_race_user_position");
+        // deleteByUserIdAndRaceIdIn
+        assertUsesIndex("delete from voting where user_id = 1 and race_id in (1, 2)", "uk_voting_race_user_position");
+        // findByRaceId / findTipRowsByRaceId, findByUser / findByUserId
+        assertNoTableScan("select * from voting where race_id = 1");
+        assertNoTableScan("select * from voting where user_id = 1");
+    }
+
+    @Test
+    void testOfficialResultLookupUsesIndex() throws SQLException {
+        // findByRaceId / findByRace / findResultRowsByRaceId
+        assertNoTableScan("select * from official_results where race_id = 1");
+        assertUsesIndex("select * from official_results where race_id = 1 and final_position = 3",
+                "uk_official_results_race_position");
+    }
+
+    @Test
+    void testRaceCalendarUsesStatusDateIndex() throws SQLException {
+        assertEquals(List.of("status", "date", "id"), indexColumns("races", "idx_races_status_date"));
+        // RaceCalendarRepository: Status-Filter mit Datumsbereich und Keyset, Anzahl pro Status
+        assertUsesIndex("select id from races where status = 'TIPPABLE' and date >= date '2024-01-01' "
+                + "order by date, id fetch first 4 rows only", "idx_races_status_date");
+        assertUsesIndex("select id from races where status in ('OPEN', 'TIPPABLE') "
+                + "and (date > date '2024-03-02' or (date = date '2024-03-02' and id > 3))", "idx_races_status_date");
+        assertUsesIndex("select status, count(*) from races group by status", "idx_races_status_date");
+    }
+
+    @Test
+    void testPositionsAreUnique() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            assertThrows(SQLException.class, () -> st.execute(
+                    "insert into voting (user_id, race_id, driver_id, predicted_position) values (1, 1, 2, 1)"));
+            assertThrows(SQLException.class, () -> st.execute(
+                    "insert into official_results (race_id, driver_id, final_position) values (1, 2, 1)"));
+        }
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * QueryPlanTest baut das Schema über die Flyway-Migrationen auf (TestDatabase,
+ * H2 im PostgreSQL-Modus) und stellt per EXPLAIN sicher, dass die Abfragen auf
+ * voting und official_results die Indizes aus V2 und die Kalenderabfragen auf
+ * races den Index aus V4 nutzen. Zusätzlich wird die Eindeutigkeit der
+ * Positionen geprüft.
+ */
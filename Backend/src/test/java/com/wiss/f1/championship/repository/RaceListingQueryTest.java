@@ -0,0 +1,249 @@
+package com.wiss.f1.championship.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+
+import com.wiss.f1.championship.dto.RaceResponseDTO;
+import com.wiss.f1.championship.entity.RaceStatus;
+import com.wiss.f1.championship.service.RacePage;
+import com.wiss.f1.championship.service.RaceService;
+import com.wiss.f1.championship.service.RaceSort;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Zählt die SQL-Statements beim Laden der Rennliste und des Rennkalenders (GET /api/races).
+ *
+ * Das Schema kommt aus den Flyway-Migrationen (H2 im PostgreSQL-Modus), das
+ * RaceRepository wird wie in der Anwendung von Spring Data erzeugt. Hibernate
+ * zählt die Statements über seine Statistiken.
+ *
+ * Testfälle:
+ * - Ganze Saison (24 Rennen, 20 davon mit Ergebnis) in einem Statement, ohne Entities
+ * - Einzelnes Rennen in einem Statement; unbekannte ID → leer
+ * - Kalenderseite (Filter, Sortierung, Cursor) in drei Statements, unabhängig von der Saisonlänge
+ * - Alle Seiten nacheinander: jedes Rennen genau einmal, nach Datum sortiert
+ * - Cursor nur mit derselben Sortierung und denselben Filtern gültig
+ * - Nächste Rennen ab Stichtag (vergangene, nicht geschlossene Rennen fehlen) und Anzahl pro Status
+ */
+class RaceListingQueryTest {
+
+    private static final int RACES = 24;
+    private static final int RACES_WITH_RESULTS = 20;
+    private static final int DRIVERS = 20;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2025, 3, 2);
+
+    private TestDatabase database;
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private RaceService raceService;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        database = TestDatabase.migrated("racelisting");
+
+        // Volle Klassifizierung für die ersten Rennen, Fahrer pro Rennen verschoben.
+        // Wöchentliche Rennen; das letzte Rennen liegt vor allen anderen (Datum ≠ ID-Reihenfolge)
+        try (Statement st = database.connection().createStatement()) {
+            for (int d = 1; d <= DRIVERS; d++) {
+                st.execute("insert into drivers (name, team) values ('Driver " + d + "', 'Team')");
+            }
+            for (int r = 1; r <= RACES; r++) {
+                String status = r <= RACES_WITH_RESULTS ? "CLOSED" : "TIPPABLE";
+                LocalDate date = r == RACES ? FIRST_DATE.minusWeeks(1) : FIRST_DATE.plusWeeks(r - 1);
+                st.execute("insert into races (name, date, track, weather, tyres, status) "
+                        + "values ('Race " + r + "', date '" + date + "', 'Track', 'sunny', 'soft', '" + status + "')");
+                if (r <= RACES_WITH_RESULTS) {
+                    for (int p = 1; p <= DRIVERS; p++) {
+                        int driver = (r + p) % DRIVERS + 1;
+                        st.execute("insert into official_results (race_id, driver_id, final_position) "
+                                + "values (" + r + ", " + driver + ", " + p + ")");
+                    }
+                }
+            }
+        }
+
+        // Second-Level-Cache bleibt aus, geprüft werden hier nur die Abfragen (Cache: SecondLevelCacheTest)
+        sessionFactory = database.sessionFactory(Map.of(AvailableSettings.GENERATE_STATISTICS, "true"));
+        entityManager = sessionFactory.createEntityManager();
+
+        // Repository wie in der Anwendung; für die Lesepfade braucht der Service sonst nichts
+        RaceRepository raceRepository = new JpaRepositoryFactory(entityManager).getRepository(RaceRepository.class,
+                RepositoryFragments.just(new RaceCalendarRepositoryImpl(entityManager)));
+        raceService = new RaceService(raceRepository, null, null, event -> { });
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManager.close();
+        database.close();
+    }
+
+    private Statistics statistics() {
+        return sessionFactory.getStatistics();
+    }
+
+    @Test
+    void testSeasonIsLoadedInOneStatement() {
+        statistics().clear();
+
+        List<RaceResponseDTO> races = raceService.getAllRaceResponses();
+
+        assertEquals(1, statistics().getPrepareStatementCount());
+        assertEquals(0, statistics().getEntityLoadCount());
+        assertEquals(RACES, races.size());
+        RaceResponseDTO first = races.getFirst();
+        assertEquals(1L, first.getId());
+        assertEquals("Race 1", first.getName());
+        assertEquals("soft", first.getTyres());
+        assertEquals(RaceStatus.CLOSED, first.getStatus());
+        // Nach Position sortiert, Fahrernamen direkt aus dem Join
+        assertEquals(DRIVERS, first.getResultsOrder().size());
+        assertEquals(List.of("Driver 3", "Driver 4", "Driver 5"), first.getResultsOrder().subList(0, 3));
+        // Rennen ohne Ergebnis sind enthalten, mit leerer Reihenfolge
+        assertEquals((long) RACES, races.getLast().getId());
+        assertTrue(races.getLast().getResultsOrder().isEmpty());
+    }
+
+    @Test
+    void testSingleRaceIsLoadedInOneStatement() {
+        statistics().clear();
+
+        Optional<RaceResponseDTO> race = raceService.getRaceResponseById(2L);
+
+        assertEquals(1, statistics().getPrepareStatementCount());
+        assertTrue(race.isPresent());
+        assertEquals(List.of("Driver 4", "Driver 5"), race.get().getResultsOrder().subList(0, 2));
+        assertTrue(raceService.getRaceResponseById(999L).isEmpty());
+    }
+
+    @Test
+    void testCalendarPageUsesThreeStatements() {
+        RaceFilter closed = RaceFilter.fromParams(List.of("closed"), null, null);
+        statistics().clear();
+
+        RacePage page = raceService.getRacePage(closed, RaceSort.DATE_DESC, null, 5);
+
+        // IDs der Seite, Rennen mit Ergebnissen, Gesamtanzahl
+        assertEquals(3, statistics().getPrepareStatementCount());
+        assertEquals(List.of(20L, 19L, 18L, 17L, 16L), ids(page));
+        assertEquals(RACES_WITH_RESULTS, page.totalRaces());
+        assertEquals(DRIVERS, page.entries().getFirst().getResultsOrder().size());
+        assertNotNull(page.nextCursor());
+
+        RacePage next = raceService.getRacePage(closed, RaceSort.DATE_DESC, page.nextCursor(), 5);
+        assertEquals(List.of(15L, 14L, 13L, 12L, 11L), ids(next));
+    }
+
+    @Test
+    void testAllPagesReturnEachRaceOnce() {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            RacePage page = raceService.getRacePage(RaceFilter.all(), RaceSort.DATE_ASC, cursor, 7);
+            seen.addAll(ids(page));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(4, pages);
+        assertEquals(RACES, seen.size());
+        // Das letzte Rennen liegt zeitlich zuerst
+        assertEquals((long) RACES, seen.getFirst());
+        assertEquals(List.of(1L, 2L, 3L), seen.subList(1, 4));
+        assertEquals((long) RACES - 1, seen.getLast());
+    }
+
+    @Test
+    void testCursorOnlyValidForSameSortAndFilter() {
+        RaceFilter closed = RaceFilter.fromParams(List.of("closed"), null, null);
+        String cursor = raceService.getRacePage(closed, RaceSort.DATE_DESC, null, 5).nextCursor();
+
+        // Andere Richtung, anderer Filter oder alter Cursor ohne beides → 400
+        assertThrows(IllegalArgumentException.class,
+                () -> raceService.getRacePage(closed, RaceSort.DATE_ASC, cursor, 5));
+        assertThrows(IllegalArgumentException.class,
+                () -> raceService.getRacePage(RaceFilter.all(), RaceSort.DATE_DESC, cursor, 5));
+        assertThrows(IllegalArgumentException.class,
+                () -> raceService.getRacePage(RaceFilter.fromParams(List.of("closed"), "2025-01-01", null),
+                        RaceSort.DATE_DESC, cursor, 5));
+        String legacy = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2025-07-13:20".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalArgumentException.class,
+                () -> raceService.getRacePage(closed, RaceSort.DATE_DESC, legacy, 5));
+
+        // Gleicher Filter, Status anders geschrieben → gleicher Cursor gültig
+        RaceFilter same = RaceFilter.fromParams(List.of("CLOSED"), "", null);
+        assertEquals(5, raceService.getRacePage(same, RaceSort.DATE_DESC, cursor, 5).entries().size());
+    }
+
+    @Test
+    void testDateRangeFilter() {
+        RaceFilter range = RaceFilter.fromParams(null, FIRST_DATE.plusWeeks(2).toString(), FIRST_DATE.plusWeeks(4).toString());
+
+        RacePage page = raceService.getRacePage(range, RaceSort.DATE_ASC, null, 10);
+
+        assertEquals(List.of(3L, 4L, 5L), ids(page));
+        assertEquals(3, page.totalRaces());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void testUpcomingRacesAndCounts() {
+        statistics().clear();
+        List<RaceResponseDTO> upcoming = raceService.getUpcomingRaces(3, FIRST_DATE.minusWeeks(1));
+
+        // IDs, dann die Rennen selbst; nach Datum, nicht nach ID
+        assertEquals(2, statistics().getPrepareStatementCount());
+        assertEquals(List.of(24L, 21L, 22L), upcoming.stream().map(RaceResponseDTO::getId).toList());
+        assertEquals(RaceStatus.TIPPABLE, upcoming.getFirst().getStatus());
+
+        // Rennen 24 liegt vor Rennen 21 und ist noch nicht geschlossen, aber vorbei
+        List<RaceResponseDTO> later = raceService.getUpcomingRaces(3, FIRST_DATE.plusWeeks(20));
+        assertEquals(List.of(21L, 22L, 23L), later.stream().map(RaceResponseDTO::getId).toList());
+        assertEquals(List.of(), raceService.getUpcomingRaces(3, FIRST_DATE.plusWeeks(23)));
+
+        statistics().clear();
+        Map<String, Long> counts = raceService.getRaceCounts();
+
+        assertEquals(1, statistics().getPrepareStatementCount());
+        assertEquals(Map.of("open", 0L, "voting", 4L, "closed", 20L), counts);
+    }
+
+    private static List<Long> ids(RacePage page) {
+        return page.entries().stream().map(RaceResponseDTO::getId).toList();
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * RaceListingQueryTest baut das Schema über Flyway auf, erzeugt das echte RaceRepository
+ * über Spring Data und prüft mit den Hibernate-Statistiken, dass RaceService die ganze
+ * Rennliste inklusive Ergebnisreihenfolgen (bzw. ein einzelnes Rennen) mit genau einem
+ * SQL-Statement und ohne Entities lädt – unabhängig von der Anzahl Rennen. Für den
+ * Rennkalender werden Filter, Sortierung nach Datum und Keyset-Paginierung geprüft
+ * (drei Statements pro Seite, jedes Rennen genau einmal), ebenso die nächsten Rennen
+ * und die Anzahl pro Status.
+ */
@@ -0,0 +1,100 @@
+package com.wiss.f1.championship.repository;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Prüft, dass die Flyway-Migrationen und die JPA-Entitäten zusammenpassen.
+ *
+ * Die Anwendung startet mit ddl-auto=validate: Hibernate ändert das Schema
+ * nicht mehr, sondern bricht den Start ab, wenn Tabellen oder Spalten fehlen.
+ * Dieser Test erkennt das bereits im Build (H2 im PostgreSQL-Modus).
+ *
+ * Testfälle:
+ * - Migrationen anwenden, danach Hibernate-Validierung aller Entitäten
+ * - Erneutes Migrieren ist ein No-Op
+ * - V3 übernimmt race_results_order nach official_results und entfernt die Tabelle
+ */
+class SchemaValidationTest {
+
+    private TestDatabase database;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        database = TestDatabase.migrated("schema");
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void testEntitiesMatchMigratedSchema() {
+        assertDoesNotThrow(() -> database.sessionFactory(Map.of(AvailableSettings.HBM2DDL_AUTO, "validate")).getMetamodel());
+    }
+
+    @Test
+    void testMigrateIsIdempotent() {
+        assertEquals(0, database.migrate());
+    }
+
+    @Test
+    void testResultOrderIsMovedToOfficialResults() throws SQLException {
+        try (TestDatabase v2 = TestDatabase.migratedTo("schema-v2", "2")) {
+            v2.execute(
+                    "insert into drivers (id, name, team) values (1, 'Max', 'RB'), (2, 'Lando', 'McL'), (3, 'Charles', 'Fer')",
+                    "insert into races (id, name, date, track, weather, status) values "
+                            + "(1, 'A', date '2025-03-01', 'A', 'sunny', 'CLOSED'), (2, 'B', date '2025-03-08', 'B', 'sunny', 'CLOSED')",
+                    // Rennen 1: nur Namensreihenfolge, mit unbekanntem Fahrer dazwischen
+                    "insert into race_results_order (race_id, driver_name) values (1, 'Lando'), (1, 'Unbekannt'), (1, 'Max')",
+                    // Rennen 2: hat bereits offizielle Ergebnisse, diese gewinnen
+                    "insert into race_results_order (race_id, driver_name) values (2, 'Max')",
+                    "insert into official_results (race_id, driver_id, final_position) values (2, 3, 1)");
+
+            v2.migrate();
+
+            assertEquals(List.of("1:1:2", "1:2:1", "2:1:3"), officialResultRows(v2.connection()));
+            try (ResultSet tables = v2.connection().getMetaData().getTables(null, null, "race_results_order", null)) {
+                assertFalse(tables.next());
+            }
+        }
+    }
+
+    /**
+     * Liest official_results als "raceId:position:driverId", sortiert nach Rennen und Position.
+     */
+    private static List<String> officialResultRows(Connection connection) throws SQLException {
+        List<String> rows = new ArrayList<>();
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery(
+                     "select race_id, final_position, driver_id from official_results order by race_id, final_position")) {
+            while (rs.next()) {
+                rows.add(rs.getLong(1) + ":" + rs.getInt(2) + ":" + rs.getLong(3));
+            }
+        }
+        return rows;
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * SchemaValidationTest wendet die Flyway-Migrationen auf eine H2-Datenbank an (TestDatabase)
+ * und lässt Hibernate das Schema gegen alle Entitäten validieren – wie beim
+ * Start mit ddl-auto=validate. Ein zweiter migrate()-Aufruf darf nichts tun.
+ * Zusätzlich wird geprüft, dass V3 bestehende Namensreihenfolgen verlustfrei
+ * in official_results überführt.
+ */
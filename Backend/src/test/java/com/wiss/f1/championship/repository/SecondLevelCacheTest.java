@@ -0,0 +1,178 @@
+package com.wiss.f1.championship.repository;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import javax.cache.CacheManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+
+import com.wiss.f1.championship.config.SecondLevelCacheConfig;
+import com.wiss.f1.championship.dto.CacheStatsDTO;
+import com.wiss.f1.championship.dto.RaceStatusCountDTO;
+import com.wiss.f1.championship.entity.Driver;
+import com.wiss.f1.championship.entity.Race;
+import com.wiss.f1.championship.entity.RaceStatus;
+import com.wiss.f1.championship.event.DriverChangedEvent;
+import com.wiss.f1.championship.service.SecondLevelCacheService;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Prüft den Second-Level-Cache von Hibernate gegen das echte Schema.
+ *
+ * Hibernate läuft mit denselben Cache-Einstellungen wie in application.properties und dem
+ * CacheManager aus SecondLevelCacheConfig (Rennen-Region auf 2 Einträge begrenzt).
+ * Gezählt werden die tatsächlich ausgeführten Statements (Hibernate-Statistik).
+ *
+ * Testfälle:
+ * - Rennen in einem neuen EntityManager kommt ohne Statement aus dem Cache
+ * - Query-Cache (Anzahl pro Status) wird durch ein neues Rennen ungültig
+ * - Größenbegrenzung: überzählige Rennen werden verdrängt und gezählt
+ * - DriverChangedEvent entfernt einen veralteten Fahrer aus dem Cache
+ */
+class SecondLevelCacheTest {
+
+    private TestDatabase database;
+    private CacheManager cacheManager;
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+    private SecondLevelCacheService cacheService;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        database = TestDatabase.migrated("secondlevel");
+
+        try (Statement st = database.connection().createStatement()) {
+            st.execute("insert into races (name, date, track, weather, status) values "
+                    + "('Bahrain', date '2025-03-02', 'Sakhir', 'sunny', 'CLOSED'), "
+                    + "('Saudi Arabia', date '2025-03-09', 'Jeddah', 'sunny', 'TIPPABLE'), "
+                    + "('Australia', date '2025-03-16', 'Melbourne', 'sunny', 'OPEN')");
+            st.execute("insert into drivers (name, team) values ('Max Verstappen', 'Red Bull')");
+        }
+
+        cacheManager = new SecondLevelCacheConfig().secondLevelCacheManager(2, 10, 10);
+        // Wie application.properties
+        sessionFactory = database.sessionFactory(Map.of(
+                AvailableSettings.JAKARTA_SHARED_CACHE_MODE, "ENABLE_SELECTIVE",
+                AvailableSettings.USE_SECOND_LEVEL_CACHE, true,
+                AvailableSettings.USE_QUERY_CACHE, true,
+                AvailableSettings.CACHE_REGION_FACTORY, "jcache",
+                ConfigSettings.MISSING_CACHE_STRATEGY, "fail",
+                ConfigSettings.CACHE_MANAGER, cacheManager,
+                AvailableSettings.GENERATE_STATISTICS, true));
+        statistics = sessionFactory.getStatistics();
+        cacheService = new SecondLevelCacheService(cacheManager, sessionFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+        cacheManager.close();
+    }
+
+    // Jeder Zugriff in einem eigenen EntityManager (wie ein eigener Request)
+    private <T> T find(Class<T> type, Long id) {
+        try (EntityManager em = sessionFactory.createEntityManager()) {
+            return em.find(type, id);
+        }
+    }
+
+    private List<RaceStatusCountDTO> countRacesByStatus() {
+        try (EntityManager em = sessionFactory.createEntityManager()) {
+            RaceRepository raceRepository = new JpaRepositoryFactory(em).getRepository(RaceRepository.class,
+                    RepositoryFragments.just(new RaceCalendarRepositoryImpl(em)));
+            return raceRepository.countRacesByStatus();
+        }
+    }
+
+    private CacheStatsDTO regionStats(String region) {
+        return cacheService.stats().stream()
+                .filter(stats -> stats.getName().equals(SecondLevelCacheService.NAME + "." + region))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    void testRaceServedFromCache() {
+        assertEquals("Bahrain", find(Race.class, 1L).getName());
+        long statements = statistics.getPrepareStatementCount();
+
+        Race cached = find(Race.class, 1L);
+
+        assertEquals("Bahrain", cached.getName());
+        assertEquals(RaceStatus.CLOSED, cached.getStatus());
+        assertEquals(statements, statistics.getPrepareStatementCount());
+        assertEquals(1, regionStats(Race.CACHE_REGION).getHits());
+    }
+
+    @Test
+    void testQueryCacheInvalidatedByNewRace() {
+        assertEquals(3, countRacesByStatus().size());
+        long statements = statistics.getPrepareStatementCount();
+        assertEquals(3, countRacesByStatus().size());
+        assertEquals(statements, statistics.getPrepareStatementCount());
+
+        try (EntityManager em = sessionFactory.createEntityManager()) {
+            em.getTransaction().begin();
+            em.persist(new Race("Japan", LocalDate.of(2025, 4, 6), "Suzuka", "rain", RaceStatus.OPEN));
+            em.getTransaction().commit();
+        }
+
+        long open = countRacesByStatus().stream()
+                .filter(count -> count.status() == RaceStatus.OPEN)
+                .findFirst().orElseThrow().count();
+        assertEquals(2, open);
+    }
+
+    @Test
+    void testRaceRegionIsBounded() {
+        for (long id = 1; id <= 3; id++) {
+            find(Race.class, id);
+        }
+        // Caffeine verdrängt asynchron; Wartung hier sofort ausführen
+        cacheManager.getCache(Race.CACHE_REGION)
+                .unwrap(com.github.benmanes.caffeine.cache.Cache.class)
+                .cleanUp();
+
+        CacheStatsDTO races = regionStats(Race.CACHE_REGION);
+        assertEquals(2, races.getSize());
+        assertEquals(1, races.getEvictions());
+    }
+
+    @Test
+    void testDriverEventEvictsStaleEntry() throws SQLException {
+        assertEquals("Red Bull", find(Driver.class, 1L).getTeam());
+        // Änderung an Hibernate vorbei: Cache liefert noch den alten Stand
+        try (Statement st = database.connection().createStatement()) {
+            st.execute("update drivers set team = 'Ferrari' where id = 1");
+        }
+        assertEquals("Red Bull", find(Driver.class, 1L).getTeam());
+
+        cacheService.onDriverChanged(new DriverChangedEvent(1L, DriverChangedEvent.Type.UPDATED));
+
+        assertEquals("Ferrari", find(Driver.class, 1L).getTeam());
+        assertTrue(regionStats(Driver.CACHE_REGION).getMisses() >= 2);
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * SecondLevelCacheTest baut das Schema über Flyway auf und startet Hibernate mit dem
+ * Caffeine-JCache aus SecondLevelCacheConfig. Geprüft werden Cache-Treffer ohne Statement,
+ * die Invalidierung des Query-Caches durch ein neues Rennen, die Größenbegrenzung mit
+ * gezählten Verdrängungen und das Entfernen veralteter Fahrer per DriverChangedEvent.
+ */
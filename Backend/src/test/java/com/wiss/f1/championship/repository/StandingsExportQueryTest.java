@@ -0,0 +1,130 @@
+package com.wiss.f1.championship.repository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.wiss.f1.championship.dto.RaceColumnDTO;
+import com.wiss.f1.championship.dto.StandingExportRowDTO;
+import com.wiss.f1.championship.service.ExportFormat;
+import com.wiss.f1.championship.service.LeaderboardExportService;
+import com.wiss.f1.championship.service.RankingMode;
+
+import jakarta.persistence.EntityManager;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Prüft die Abfragen des Leaderboard-Exports gegen das echte Schema.
+ *
+ * Das Schema kommt aus den Flyway-Migrationen (H2 im PostgreSQL-Modus), RaceRepository
+ * und UserStandingRepository werden wie in der Anwendung von Spring Data erzeugt, das
+ * Export-Fragment läuft per JdbcTemplate auf derselben Datenbank.
+ *
+ * Testfälle:
+ * - streamExportRows: Reihenfolge wie das Leaderboard, Zeilen eines Users am Stück, User ohne Stand am Ende
+ * - findScoredRaceColumns: nur gewertete Rennen, nach Datum sortiert
+ * - CSV-Export von Repository bis Ausgabe (Ränge bei Gleichstand, leere Zellen, Maskierung)
+ */
+class StandingsExportQueryTest {
+
+    private TestDatabase database;
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private RaceRepository raceRepository;
+    private UserStandingRepository userStandingRepository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        database = TestDatabase.migrated("standingsexport");
+
+        // alice und bob punktgleich, carol ohne Stand; Rennen 2 liegt vor Rennen 1, Rennen 3 ungewertet
+        try (Statement st = database.connection().createStatement()) {
+            st.execute("insert into app_users (username, email, password, role, display_name) values "
+                    + "('alice', 'alice@test.com', 'pw', 'PLAYER', 'Alice'), "
+                    + "('bob', 'bob@test.com', 'pw', 'PLAYER', 'Bob'), "
+                    + "('carol', 'carol@test.com', 'pw', 'PLAYER', null), "
+                    + "('dave', 'dave@test.com', 'pw', 'PLAYER', 'Dave')");
+            st.execute("insert into races (name, date, track, weather, status) values "
+                    + "('Saudi Arabia, Jeddah', date '2025-03-09', 'Jeddah', 'sunny', 'CLOSED'), "
+                    + "('Bahrain', date '2025-03-02', 'Sakhir', 'sunny', 'CLOSED'), "
+                    + "('Australia', date '2025-03-16', 'Melbourne', 'sunny', 'TIPPABLE')");
+            st.execute("insert into race_scores (user_id, race_id, points) values "
+                    + "(1, 1, 10), (1, 2, 20), (2, 2, 30), (4, 1, 12)");
+            st.execute("insert into user_standings (user_id, total_points, races_scored) values "
+                    + "(1, 30, 2), (2, 30, 1), (4, 12, 1)");
+        }
+
+        // Second-Level-Cache bleibt aus, geprüft werden hier nur die Abfragen (Cache: SecondLevelCacheTest)
+        sessionFactory = database.sessionFactory();
+        entityManager = sessionFactory.createEntityManager();
+
+        // Repositories wie in der Anwendung
+        JpaRepositoryFactory factory = new JpaRepositoryFactory(entityManager);
+        raceRepository = factory.getRepository(RaceRepository.class,
+                RepositoryFragments.just(new RaceCalendarRepositoryImpl(entityManager)));
+        userStandingRepository = factory.getRepository(UserStandingRepository.class,
+                RepositoryFragments.just(new StandingsExportRepositoryImpl(new JdbcTemplate(database.dataSource()))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManager.close();
+        database.close();
+    }
+
+    @Test
+    void testRowsComeInLeaderboardOrder() {
+        List<StandingExportRowDTO> rows = new ArrayList<>();
+
+        userStandingRepository.streamExportRows(rows::add);
+
+        assertEquals(List.of(
+                new StandingExportRowDTO(1L, "alice", "Alice", 30, 1L, 10),
+                new StandingExportRowDTO(1L, "alice", "Alice", 30, 2L, 20),
+                new StandingExportRowDTO(2L, "bob", "Bob", 30, 2L, 30),
+                new StandingExportRowDTO(4L, "dave", "Dave", 12, 1L, 12),
+                new StandingExportRowDTO(3L, "carol", null, 0, null, null)), rows);
+    }
+
+    @Test
+    void testScoredRaceColumnsInDateOrder() {
+        assertEquals(List.of(new RaceColumnDTO(2L, "Bahrain"), new RaceColumnDTO(1L, "Saudi Arabia, Jeddah")),
+                raceRepository.findScoredRaceColumns());
+    }
+
+    @Test
+    void testCsvExport() throws IOException {
+        LeaderboardExportService exportService =
+                new LeaderboardExportService(userStandingRepository, raceRepository, JsonMapper.builder().build());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(ExportFormat.CSV, RankingMode.COMPETITION, out);
+
+        assertEquals("rank,username,displayName,points,Bahrain,\"Saudi Arabia, Jeddah\"\r\n"
+                + "1,alice,Alice,30,20,10\r\n"
+                + "1,bob,Bob,30,30,\r\n"
+                + "3,dave,Dave,12,,12\r\n"
+                + "4,carol,,0,,\r\n", out.toString(StandardCharsets.UTF_8));
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * StandingsExportQueryTest baut das Schema über Flyway auf und prüft die Abfragen des
+ * Leaderboard-Exports: Das JDBC-Fragment liefert die Zeilen in Leaderboard-Reihenfolge
+ * (Zeilen eines Users am Stück), die Rennspalten kommen nach Datum sortiert, und der
+ * LeaderboardExportService schreibt daraus das erwartete CSV.
+ */
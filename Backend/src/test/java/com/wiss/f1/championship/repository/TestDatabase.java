@@ -0,0 +1,160 @@
+package com.wiss.f1.championship.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.PhysicalNamingStrategySnakeCaseImpl;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import com.wiss.f1.championship.entity.AppUser;
+import com.wiss.f1.championship.entity.Driver;
+import com.wiss.f1.championship.entity.OfficialResult;
+import com.wiss.f1.championship.entity.Race;
+import com.wiss.f1.championship.entity.RaceScore;
+import com.wiss.f1.championship.entity.Tip;
+import com.wiss.f1.championship.entity.UserStanding;
+
+/**
+ * Testdatenbank für die Repository-Tests.
+ *
+ * Jede Instanz ist eine eigene H2-In-Memory-Datenbank im PostgreSQL-Modus, die lebt,
+ * solange ihre Connection offen ist. Das Schema kommt aus den echten Flyway-Migrationen.
+ * Auf Wunsch baut sie eine Hibernate-SessionFactory mit denselben Einstellungen wie
+ * Spring Boot (Dialekt, Namensstrategien, alle Entitäten). close() räumt alles ab.
+ */
+final class TestDatabase implements AutoCloseable {
+
+    // Alle Entitäten der Anwendung
+    static final List<Class<?>> ENTITIES = List.of(
+            AppUser.class, Driver.class, Race.class, OfficialResult.class,
+            Tip.class, RaceScore.class, UserStanding.class);
+
+    private final String url;
+    private final Connection connection;
+    private final SingleConnectionDataSource dataSource;
+    private final List<StandardServiceRegistry> registries = new ArrayList<>();
+    private final List<SessionFactory> sessionFactories = new ArrayList<>();
+
+    private TestDatabase(String name) throws SQLException {
+        this.url = "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE";
+        this.connection = DriverManager.getConnection(url, "sa", "");
+        this.dataSource = new SingleConnectionDataSource(connection, true);
+    }
+
+    /**
+     * Neue Datenbank mit allen Migrationen.
+     * @param name Präfix des DB-Namens (nur zur Unterscheidung in Fehlermeldungen)
+     */
+    static TestDatabase migrated(String name) throws SQLException {
+        TestDatabase database = new TestDatabase(name);
+        database.migrate();
+        return database;
+    }
+
+    /**
+     * Neue Datenbank mit den Migrationen bis einschliesslich target (z.B. "2"),
+     * um eine spätere Migration auf einem älteren Stand zu prüfen.
+     */
+    static TestDatabase migratedTo(String name, String target) throws SQLException {
+        TestDatabase database = new TestDatabase(name);
+        Flyway.configure().dataSource(database.dataSource).target(target).load().migrate();
+        return database;
+    }
+
+    /**
+     * Wendet alle noch offenen Migrationen an.
+     * @return Anzahl ausgeführter Migrationen
+     */
+    int migrate() {
+        return Flyway.configure().dataSource(dataSource).load().migrate().migrationsExecuted;
+    }
+
+    String url() {
+        return url;
+    }
+
+    Connection connection() {
+        return connection;
+    }
+
+    SingleConnectionDataSource dataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Führt SQL-Statements nacheinander aus (z.B. Testdaten einfügen).
+     */
+    void execute(String... statements) throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            for (String sql : statements) {
+                st.execute(sql);
+            }
+        }
+    }
+
+    /**
+     * SessionFactory ohne Second-Level-Cache (die Tests prüfen Abfragen, nicht den Cache).
+     */
+    SessionFactory sessionFactory() {
+        return sessionFactory(Map.of());
+    }
+
+    /**
+     * SessionFactory auf dieser Datenbank.
+     * @param settings zusätzliche Hibernate-Einstellungen; überschreiben die Standardwerte
+     */
+    SessionFactory sessionFactory(Map<String, Object> settings) {
+        StandardServiceRegistryBuilder builder = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, url)
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .applySetting(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .applySetting(AvailableSettings.DIALECT, "org.hibernate.dialect.PostgreSQLDialect")
+                // Gleiche Namensstrategien wie Spring Boot (displayName → display_name)
+                .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, new PhysicalNamingStrategySnakeCaseImpl())
+                .applySetting(AvailableSettings.IMPLICIT_NAMING_STRATEGY, new SpringImplicitNamingStrategy())
+                // Sonst nimmt Hibernate den JCache-Provider vom Classpath mit unbegrenzten Standard-Regionen
+                .applySetting(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+        settings.forEach(builder::applySetting);
+        StandardServiceRegistry registry = builder.build();
+
+        MetadataSources sources = new MetadataSources(registry);
+        ENTITIES.forEach(sources::addAnnotatedClass);
+        SessionFactory sessionFactory;
+        try {
+            sessionFactory = sources.buildMetadata().buildSessionFactory();
+        } catch (RuntimeException e) {
+            StandardServiceRegistryBuilder.destroy(registry);
+            throw e;
+        }
+        registries.add(registry);
+        sessionFactories.add(sessionFactory);
+        return sessionFactory;
+    }
+
+    @Override
+    public void close() {
+        sessionFactories.forEach(SessionFactory::close);
+        registries.forEach(StandardServiceRegistryBuilder::destroy);
+        dataSource.destroy();
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * TestDatabase kapselt den gemeinsamen Aufbau der Repository-Tests: eigene H2-Datenbank
+ * pro Test, Schema per Flyway (vollständig oder bis zu einer Version), SessionFactory mit
+ * den Spring-Boot-Namensstrategien und allen Entitäten sowie das Aufräumen in close().
+ */
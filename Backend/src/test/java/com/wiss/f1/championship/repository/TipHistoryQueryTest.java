@@ -0,0 +1,134 @@
+package com.wiss.f1.championship.repository;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.wiss.f1.championship.dto.TipHistoryRowDTO;
+import com.wiss.f1.championship.dto.TipResponseDTO;
+import com.wiss.f1.championship.entity.AppUser;
+import com.wiss.f1.championship.entity.Role;
+import com.wiss.f1.championship.service.TipService;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Zählt die SQL-Statements beim Laden der Tipp-Historie eines Users.
+ *
+ * Das Schema kommt aus den Flyway-Migrationen (H2 im PostgreSQL-Modus), das
+ * TipRepository wird wie in der Anwendung von Spring Data erzeugt. Hibernate
+ * zählt die Statements über seine Statistiken.
+ *
+ * Testfälle:
+ * - findTipHistoryByUserId: ganze Saison (24 Rennen × 10 Tipps) in einem Statement, sortiert
+ * - TipService.getAllTipsForUser: ein Statement, ein TipResponseDTO pro Rennen
+ */
+class TipHistoryQueryTest {
+
+    private static final int RACES = 24;
+    private static final int DRIVERS = 20;
+    private static final int TIPS_PER_RACE = 10;
+
+    private TestDatabase database;
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private TipRepository tipRepository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        database = TestDatabase.migrated("tiphistory");
+
+        // Zwei Spieler mit je einer kompletten Saison; Fahrer pro Rennen verschoben
+        try (Statement st = database.connection().createStatement()) {
+            for (int d = 1; d <= DRIVERS; d++) {
+                st.execute("insert into drivers (name, team) values ('Driver " + d + "', 'Team')");
+            }
+            for (int u = 1; u <= 2; u++) {
+                st.execute("insert into app_users (username, email, password, role) "
+                        + "values ('user" + u + "', 'user" + u + "@test.com', 'pw', 'PLAYER')");
+            }
+            for (int r = 1; r <= RACES; r++) {
+                st.execute("insert into races (name, date, track, weather, status) "
+                        + "values ('Race " + r + "', date '2025-03-02', 'Track', 'sunny', 'CLOSED')");
+                for (int u = 1; u <= 2; u++) {
+                    for (int p = 1; p <= TIPS_PER_RACE; p++) {
+                        int driver = (r + u + p) % DRIVERS + 1;
+                        st.execute("insert into voting (user_id, race_id, driver_id, predicted_position, updated_at) "
+                                + "values (" + u + ", " + r + ", " + driver + ", " + p + ", timestamp '2025-03-01 12:00:00')");
+                    }
+                }
+            }
+        }
+
+        // Second-Level-Cache bleibt aus, geprüft werden hier nur die Abfragen (Cache: SecondLevelCacheTest)
+        sessionFactory = database.sessionFactory(Map.of(AvailableSettings.GENERATE_STATISTICS, "true"));
+        entityManager = sessionFactory.createEntityManager();
+
+        // Repository wie in der Anwendung; das JDBC-Fragment wird hier nicht gebraucht
+        tipRepository = new JpaRepositoryFactory(entityManager)
+                .getRepository(TipRepository.class, RepositoryFragments.just(new TipBatchRepositoryImpl(null)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManager.close();
+        database.close();
+    }
+
+    private Statistics statistics() {
+        return sessionFactory.getStatistics();
+    }
+
+    @Test
+    void testSeasonIsLoadedInOneStatement() {
+        statistics().clear();
+
+        List<TipHistoryRowDTO> rows = tipRepository.findTipHistoryByUserId(1L);
+
+        assertEquals(1, statistics().getPrepareStatementCount());
+        assertEquals(RACES * TIPS_PER_RACE, rows.size());
+        // Sortiert nach Rennen, dann Position; Fahrername direkt aus dem Join
+        assertEquals(new TipHistoryRowDTO(1L, 1, "Driver 4", rows.getFirst().updatedAt()), rows.getFirst());
+        assertEquals(1L, rows.get(TIPS_PER_RACE - 1).raceId());
+        assertEquals(TIPS_PER_RACE, rows.get(TIPS_PER_RACE - 1).predictedPosition());
+        assertEquals((long) RACES, rows.getLast().raceId());
+    }
+
+    @Test
+    void testGetAllTipsForUserUsesOneStatement() {
+        AppUser user = new AppUser("user1", "user1@test.com", "pw", Role.PLAYER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        TipService tipService = new TipService(tipRepository, null, event -> { });
+        statistics().clear();
+
+        List<TipResponseDTO> tips = tipService.getAllTipsForUser(user);
+
+        assertEquals(1, statistics().getPrepareStatementCount());
+        assertEquals(0, statistics().getEntityLoadCount());
+        assertEquals(RACES, tips.size());
+        for (TipResponseDTO tip : tips) {
+            assertEquals(TIPS_PER_RACE, tip.getOrder().size());
+        }
+        assertEquals(List.of("Driver 4", "Driver 5", "Driver 6"), tips.getFirst().getOrder().subList(0, 3));
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * TipHistoryQueryTest baut das Schema über Flyway auf, erzeugt das echte TipRepository
+ * über Spring Data und prüft mit den Hibernate-Statistiken, dass die Tipp-Historie
+ * einer ganzen Saison mit genau einem SQL-Statement und ohne Entities geladen wird –
+ * direkt über das Repository und über TipService.getAllTipsForUser.
+ */
@@ -0,0 +1,108 @@
+package com.wiss.f1.championship.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.wiss.f1.championship.entity.AppUser;
+import com.wiss.f1.championship.entity.Role;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Unit-Tests für JwtService.
+ *
+ * Testfälle:
+ * - Erzeugtes Token wird mit dem wiederverwendeten Parser gelesen
+ * - Zu kurzes Secret verhindert den Start
+ * - Schnelle Ablehnung: kaputtes Format und abgelaufenes exp
+ * - Fremd signierte Tokens werden trotz gültigem Format abgelehnt
+ */
+class JwtServiceTest {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret-test";
+
+    private JwtService jwtService;
+    private AppUser alice;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(SECRET);
+        alice = new AppUser("alice", "alice@test.com", "pw", Role.PLAYER);
+    }
+
+    private String signedToken(String secret, Date expiration) {
+        return Jwts.builder()
+                .setSubject("alice")
+                .setIssuedAt(new Date(expiration.getTime() - 60000))
+                .setExpiration(expiration)
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Test
+    void testGenerateAndExtractClaims() {
+        String token = jwtService.generateToken(alice);
+
+        Claims claims = jwtService.extractClaims(token);
+
+        assertEquals("alice", claims.getSubject());
+        assertEquals("PLAYER", claims.get("role"));
+        assertTrue(jwtService.isWellFormed(token));
+        assertFalse(jwtService.isExpiredUnverified(token));
+    }
+
+    @Test
+    void testShortSecretFailsFast() {
+        assertThrows(IllegalStateException.class, () -> new JwtService("zu-kurz"));
+        assertThrows(IllegalStateException.class, () -> new JwtService(null));
+    }
+
+    @Test
+    void testMalformedTokensAreRejected() {
+        assertFalse(jwtService.isWellFormed(null));
+        assertFalse(jwtService.isWellFormed(""));
+        assertFalse(jwtService.isWellFormed("not-a-jwt"));
+        assertFalse(jwtService.isWellFormed("a.b"));
+        assertFalse(jwtService.isWellFormed("a..c"));
+        assertFalse(jwtService.isWellFormed("a.b.c.d"));
+        assertFalse(jwtService.isWellFormed("a.b.c="));
+        assertFalse(jwtService.isWellFormed("a.b." + "c".repeat(5000)));
+    }
+
+    @Test
+    void testExpiredTokenIsDetectedBeforeVerification() {
+        String expired = signedToken(SECRET, new Date(System.currentTimeMillis() - 60000));
+
+        assertTrue(jwtService.isWellFormed(expired));
+        assertTrue(jwtService.isExpiredUnverified(expired));
+        assertThrows(JwtException.class, () -> jwtService.extractClaims(expired));
+    }
+
+    @Test
+    void testForeignSignatureIsRejected() {
+        String foreign = signedToken("other-secret-other-secret-other-secret-x",
+                new Date(System.currentTimeMillis() + 60000));
+
+        assertTrue(jwtService.isWellFormed(foreign));
+        assertFalse(jwtService.isExpiredUnverified(foreign));
+        assertThrows(JwtException.class, () -> jwtService.extractClaims(foreign));
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * JwtServiceTest prüft Erzeugen und Lesen von Tokens mit dem einmal gebauten
+ * Parser, den Start-Abbruch bei zu kurzem Secret sowie die schnelle Ablehnung
+ * kaputter und abgelaufener Tokens. Nur die volle Prüfung akzeptiert Tokens.
+ */
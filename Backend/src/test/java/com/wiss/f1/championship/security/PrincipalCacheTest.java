@@ -0,0 +1,89 @@
+package com.wiss.f1.championship.security;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.wiss.f1.championship.dto.CacheStatsDTO;
+import com.wiss.f1.championship.entity.AppUser;
+import com.wiss.f1.championship.entity.Role;
+import com.wiss.f1.championship.event.UserChangedEvent;
+
+/**
+ * Unit-Tests für PrincipalCache.
+ *
+ * Testfälle:
+ * - Treffer für bereits geprüfte Tokens, Statistik zählt Treffer/Fehlgriffe
+ * - Abgelaufene Tokens werden nie geliefert
+ * - UserChangedEvent entfernt alle Tokens des Users, andere bleiben
+ */
+class PrincipalCacheTest {
+
+    private PrincipalCache principalCache;
+    private AppUser alice;
+    private AppUser bob;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        principalCache = new PrincipalCache(100, Duration.ofMinutes(15));
+        alice = new AppUser("alice", "alice@test.com", "pw", Role.PLAYER);
+        setId(alice, 1L);
+        bob = new AppUser("bob", "bob@test.com", "pw", Role.PLAYER);
+        setId(bob, 2L);
+    }
+
+    @Test
+    void testHitAndMiss() {
+        assertNull(principalCache.get("token-a"));
+
+        principalCache.put("token-a", alice, inOneHour());
+        assertSame(alice, principalCache.get("token-a").user());
+
+        CacheStatsDTO stats = principalCache.stats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(1, stats.getSize());
+    }
+
+    @Test
+    void testExpiredTokenIsNotReturned() {
+        principalCache.put("token-old", alice, new Date(System.currentTimeMillis() - 1000));
+        assertNull(principalCache.get("token-old"));
+    }
+
+    @Test
+    void testUserChangedEventInvalidatesOnlyThatUser() {
+        principalCache.put("token-a1", alice, inOneHour());
+        principalCache.put("token-a2", alice, inOneHour());
+        principalCache.put("token-b", bob, inOneHour());
+
+        principalCache.onUserChanged(new UserChangedEvent(1L, "alice", UserChangedEvent.Type.PROFILE_UPDATED));
+
+        assertNull(principalCache.get("token-a1"));
+        assertNull(principalCache.get("token-a2"));
+        assertNotNull(principalCache.get("token-b"));
+    }
+
+    private Date inOneHour() {
+        return new Date(System.currentTimeMillis() + 3_600_000);
+    }
+
+    private void setId(AppUser user, Long id) throws Exception {
+        Field field = AppUser.class.getDeclaredField("id");
+        field.setAccessible(true);
+        field.set(user, id);
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * PrincipalCacheTest prüft den Cache für geprüfte JWTs:
+ * Treffer/Fehlgriffe, Ablauf anhand des Tokens und gezielte Invalidierung pro User.
+ */
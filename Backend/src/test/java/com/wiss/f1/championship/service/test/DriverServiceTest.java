@@ -2,6 +2,7 @@ package com.wiss.f1.championship.service.test;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -13,11 +14,15 @@ import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import org.springframework.context.ApplicationEventPublisher;
+
 import com.wiss.f1.championship.entity.Driver;
+import com.wiss.f1.championship.event.DriverChangedEvent;
 import com.wiss.f1.championship.repository.DriverRepository;
 import com.wiss.f1.championship.service.DriverService;
 
@@ -29,7 +34,8 @@ import com.wiss.f1.championship.service.DriverService;
  * - Aktualisieren eines Fahrers
  * - Alle Fahrer abrufen (sortiert nach Name)
  * - Fahrer nach ID abrufen (vorhanden und nicht vorhanden)
- * - Fahrer löschen
+ * - Fahrer löschen (inkl. DriverChangedEvent)
+ * - Lesezugriffe aus dem Fahrerverzeichnis (ohne SQL) und Neuaufbau nach Änderungen
  *
  * Mockito wird verwendet, um das DriverRepository zu mocken und die Service-Logik isoliert zu testen.
  */
@@ -37,11 +43,13 @@ class DriverServiceTest {
 
     private DriverRepository driverRepository;
     private DriverService driverService;
+    private ApplicationEventPublisher eventPublisher;
 
     @BeforeEach
     void setUp() {
         driverRepository = mock(DriverRepository.class);
-        driverService = new DriverService(driverRepository);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        driverService = new DriverService(driverRepository, eventPublisher);
     }
 
     @Test
@@ -100,25 +108,26 @@ class DriverServiceTest {
     @Test
     void testGetDriverById() {
         Driver driver = new Driver("Max Verstappen", "Red Bull Racing");
+        driver.setId(1L);
 
-        when(driverRepository.findById(1L)).thenReturn(Optional.of(driver));
+        when(driverRepository.findAll()).thenReturn(List.of(driver));
 
         Optional<Driver> result = driverService.getDriverById(1L);
 
         assertTrue(result.isPresent());
         assertEquals("Max Verstappen", result.get().getName());
         assertEquals("Red Bull Racing", result.get().getTeam());
-        verify(driverRepository, times(1)).findById(1L);
+        verify(driverRepository, never()).findById(any());
     }
 
     @Test
     void testGetDriverByIdNotFound() {
-        when(driverRepository.findById(999L)).thenReturn(Optional.empty());
+        when(driverRepository.findAll()).thenReturn(List.of());
 
         Optional<Driver> result = driverService.getDriverById(999L);
 
         assertFalse(result.isPresent());
-        verify(driverRepository, times(1)).findById(999L);
+        verify(driverRepository, never()).findById(any());
     }
 
     @Test
@@ -128,6 +137,52 @@ class DriverServiceTest {
         driverService.deleteDriver(1L);
 
         verify(driverRepository, times(1)).deleteById(1L);
+        verify(eventPublisher).publishEvent(new DriverChangedEvent(1L, DriverChangedEvent.Type.DELETED));
+    }
+
+    @Test
+    void testReadsAreServedFromRegistry() {
+        Driver max = new Driver("Max Verstappen", "Red Bull Racing");
+        max.setId(1L);
+        Driver lewis = new Driver("Lewis Hamilton", "Ferrari");
+        lewis.setId(2L);
+        when(driverRepository.findAll()).thenReturn(Arrays.asList(max, lewis));
+
+        driverService.getAllDrivers();
+        driverService.getDriverById(2L);
+        Optional<Driver> byName = driverService.getDriverByName("  max   VERSTAPPEN ");
+        Map<String, Driver> byNames = driverService.getDriversByNames(List.of("Lewis Hamilton", "Unbekannt"));
+
+        assertEquals(1L, byName.get().getId());
+        assertEquals(1, byNames.size());
+        assertEquals(lewis, byNames.get("Lewis Hamilton"));
+
+        // Verzeichnis wird genau einmal geladen, danach kein SQL mehr
+        verify(driverRepository, times(1)).findAll();
+        verify(driverRepository, never()).findByName(any());
+    }
+
+    @Test
+    void testWritesRefreshRegistry() {
+        Driver max = new Driver("Max Verstappen", "Red Bull Racing");
+        max.setId(1L);
+        Driver oliver = new Driver("Oliver Bearman", "Haas");
+        oliver.setId(3L);
+        when(driverRepository.findAll())
+                .thenReturn(List.of(max))
+                .thenReturn(List.of(max, oliver))
+                .thenReturn(List.of(oliver));
+        when(driverRepository.save(any(Driver.class))).thenReturn(oliver);
+
+        assertFalse(driverService.getDriverByName("Oliver Bearman").isPresent());
+
+        driverService.createDriver(new Driver("Oliver Bearman", "Haas"));
+        assertTrue(driverService.getDriverByName("Oliver Bearman").isPresent());
+        assertEquals(2, driverService.getAllDrivers().size());
+
+        driverService.deleteDriver(1L);
+        assertFalse(driverService.getDriverById(1L).isPresent());
+        verify(driverRepository, times(3)).findAll();
     }
 }
 
@@ -137,6 +192,7 @@ class DriverServiceTest {
  * - createDriver / updateDriver / deleteDriver
  * - getDriverById (existierend und nicht existierend)
  * - getAllDrivers (Rückgabe aller Fahrer, sortiert)
+ * - DriverRegistry: einmal geladen, Suche per Name normalisiert, Neuaufbau nach create/delete
  *
  * Mockito sorgt für ein isoliertes Testen ohne tatsächliche Datenbankzugriffe.
  */
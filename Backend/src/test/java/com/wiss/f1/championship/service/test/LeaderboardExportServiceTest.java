@@ -0,0 +1,164 @@
+package com.wiss.f1.championship.service.test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.wiss.f1.championship.dto.RaceColumnDTO;
+import com.wiss.f1.championship.dto.StandingExportRowDTO;
+import com.wiss.f1.championship.repository.RaceRepository;
+import com.wiss.f1.championship.repository.UserStandingRepository;
+import com.wiss.f1.championship.service.ExportFormat;
+import com.wiss.f1.championship.service.LeaderboardExportService;
+import com.wiss.f1.championship.service.RankingMode;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Unit-Tests für LeaderboardExportService.
+ *
+ * Die Zeilen des Repositorys werden über einen gemockten Cursor eingespeist.
+ *
+ * Testfälle:
+ * - NDJSON: eine Zeile pro Spieler, Rennpunkte nach Rennen-ID, ohne Wertung leer
+ * - Dense-Ranking bei Gleichstand
+ * - CSV-Maskierung (Anführungszeichen, Formeln) und Rennen ohne Spalte
+ * - Ungültiges Format → IllegalArgumentException
+ * - Schreibfehler (Client bricht ab) beendet den Export mit IOException
+ */
+class LeaderboardExportServiceTest {
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    private UserStandingRepository userStandingRepository;
+    private RaceRepository raceRepository;
+    private LeaderboardExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        userStandingRepository = mock(UserStandingRepository.class);
+        raceRepository = mock(RaceRepository.class);
+        when(raceRepository.findScoredRaceColumns()).thenReturn(List.of(
+                new RaceColumnDTO(5L, "Bahrain"), new RaceColumnDTO(3L, "Jeddah")));
+        exportService = new LeaderboardExportService(userStandingRepository, raceRepository, JSON);
+    }
+
+    private void streamRows(StandingExportRowDTO... rows) {
+        doAnswer(invocation -> {
+            Consumer<StandingExportRowDTO> consumer = invocation.getArgument(0);
+            for (StandingExportRowDTO row : rows) {
+                consumer.accept(row);
+            }
+            return null;
+        }).when(userStandingRepository).streamExportRows(any());
+    }
+
+    private String export(ExportFormat format, RankingMode mode) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(format, mode, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testNdjsonExport() throws IOException {
+        streamRows(
+                new StandingExportRowDTO(1L, "alice", "Alice", 40, 3L, 15),
+                new StandingExportRowDTO(1L, "alice", "Alice", 40, 5L, 25),
+                new StandingExportRowDTO(2L, "bob", null, 0, null, null));
+
+        String[] lines = export(ExportFormat.NDJSON, RankingMode.COMPETITION).split("\n");
+
+        assertEquals(2, lines.length);
+        JsonNode alice = JSON.readTree(lines[0]);
+        assertEquals(1, alice.get("rank").asInt());
+        assertEquals("alice", alice.get("username").asString());
+        assertEquals(40, alice.get("points").asInt());
+        // Reihenfolge der Rennspalten (nach Datum), nicht der Rennen-ID
+        assertEquals("{\"5\":25,\"3\":15}", alice.get("racePoints").toString());
+        JsonNode bob = JSON.readTree(lines[1]);
+        assertEquals(2, bob.get("rank").asInt());
+        assertTrue(bob.get("displayName").isNull());
+        assertTrue(bob.get("racePoints").isEmpty());
+    }
+
+    @Test
+    void testDenseRanking() throws IOException {
+        streamRows(
+                new StandingExportRowDTO(1L, "alice", "Alice", 30, null, null),
+                new StandingExportRowDTO(2L, "bob", "Bob", 30, null, null),
+                new StandingExportRowDTO(3L, "carol", "Carol", 10, null, null));
+
+        String csv = export(ExportFormat.CSV, RankingMode.DENSE);
+
+        assertEquals("rank,username,displayName,points,Bahrain,Jeddah\r\n"
+                + "1,alice,Alice,30,,\r\n"
+                + "1,bob,Bob,30,,\r\n"
+                + "2,carol,Carol,10,,\r\n", csv);
+    }
+
+    @Test
+    void testCsvEscaping() throws IOException {
+        streamRows(
+                new StandingExportRowDTO(1L, "max", "Max \"Mad Max\" V", 25, 5L, 25),
+                new StandingExportRowDTO(1L, "max", "Max \"Mad Max\" V", 25, 99L, 7),
+                new StandingExportRowDTO(2L, "evil", "=HYPERLINK(\"x\")", 10, 3L, 10));
+
+        String csv = export(ExportFormat.CSV, RankingMode.COMPETITION);
+
+        // Rennen 99 hat keine Spalte (nach dem Laden der Spalten gewertet) und fehlt
+        assertEquals("rank,username,displayName,points,Bahrain,Jeddah\r\n"
+                + "1,max,\"Max \"\"Mad Max\"\" V\",25,25,\r\n"
+                + "2,evil,\"'=HYPERLINK(\"\"x\"\")\",10,,10\r\n", csv);
+    }
+
+    @Test
+    void testInvalidFormat() {
+        assertEquals(ExportFormat.NDJSON, ExportFormat.fromParam("NDJSON"));
+        assertThrows(IllegalArgumentException.class, () -> ExportFormat.fromParam("xlsx"));
+    }
+
+    @Test
+    void testWriteFailureStopsExport() {
+        AtomicInteger streamed = new AtomicInteger();
+        doAnswer(invocation -> {
+            Consumer<StandingExportRowDTO> consumer = invocation.getArgument(0);
+            for (long id = 1; id <= 100_000; id++) {
+                consumer.accept(new StandingExportRowDTO(id, "user" + id, null, 0, null, null));
+                streamed.incrementAndGet();
+            }
+            return null;
+        }).when(userStandingRepository).streamExportRows(any());
+        OutputStream closedByClient = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThrows(IOException.class,
+                () -> exportService.export(ExportFormat.CSV, RankingMode.COMPETITION, closedByClient));
+        assertTrue(streamed.get() < 100_000);
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * Diese Testklasse prüft den LeaderboardExportService mit gemocktem Cursor: NDJSON- und
+ * CSV-Ausgabe pro Spieler, Competition-/Dense-Ränge, CSV-Maskierung inklusive Schutz vor
+ * Formeln, das Ignorieren unbekannter Rennen und den Abbruch bei Schreibfehlern.
+ */
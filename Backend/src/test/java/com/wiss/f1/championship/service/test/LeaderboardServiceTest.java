@@ -0,0 +1,341 @@
+package com.wiss.f1.championship.service.test;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.wiss.f1.championship.dto.LeaderboardDTO;
+import com.wiss.f1.championship.dto.LeaderboardDiffDTO;
+import com.wiss.f1.championship.dto.LeaderboardPositionDTO;
+import com.wiss.f1.championship.dto.StandingRowDTO;
+import com.wiss.f1.championship.entity.AppUser;
+import com.wiss.f1.championship.entity.RaceStatus;
+import com.wiss.f1.championship.entity.Role;
+import com.wiss.f1.championship.event.LeaderboardUpdatedEvent;
+import com.wiss.f1.championship.event.ResultsChangedEvent;
+import com.wiss.f1.championship.event.TipsSavedEvent;
+import com.wiss.f1.championship.repository.UserStandingRepository;
+import com.wiss.f1.championship.service.LeaderboardPage;
+import com.wiss.f1.championship.service.LeaderboardService;
+import com.wiss.f1.championship.service.LeaderboardSnapshot;
+import com.wiss.f1.championship.service.RankingMode;
+
+/**
+ * Unit-Tests für LeaderboardService.
+ *
+ * Testfälle:
+ * - Snapshot wird einmal aufgebaut und danach ohne Abfrage geliefert
+ * - Ränge und Fallback auf Username bei leerem Anzeigenamen
+ * - Events lösen einen Rebuild mit neuer Version/ETag aus
+ * - Unveränderte Zeilen behalten Version/ETag und melden kein Event
+ * - Fehlgeschlagener Rebuild: alter Stand bleibt, nächster Leser plant neuen Versuch
+ * - Rebuild meldet LeaderboardUpdatedEvent, diff() liefert nur Änderungen
+ * - Tipps für offene Rennen lösen keinen Rebuild aus
+ * - If-None-Match-Vergleich, If-Modified-Since gegen Last-Modified des Snapshots
+ * - Punkte/Rang eines Users und Nachbarn per Index
+ * - Punkte eines einzelnen Users (0 ohne Stand)
+ * - Competition-/Dense-Ranking bei Gleichstand
+ * - Top-N und Keyset-Paginierung ohne Überschneidungen
+ */
+class LeaderboardServiceTest {
+
+    private UserStandingRepository userStandingRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private LeaderboardService leaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        userStandingRepository = mock(UserStandingRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        leaderboardService = new LeaderboardService(userStandingRepository, eventPublisher);
+
+        when(userStandingRepository.findLeaderboardRows()).thenReturn(List.of(
+                new StandingRowDTO(1L, "alice", "Alice", 15),
+                new StandingRowDTO(2L, "bob", " ", 4),
+                new StandingRowDTO(3L, "carol", "Carol", 2),
+                new StandingRowDTO(4L, "dave", "Dave", 0)));
+    }
+
+    @Test
+    void testSnapshotIsBuiltOnce() {
+        LeaderboardSnapshot first = leaderboardService.getSnapshot();
+        LeaderboardSnapshot second = leaderboardService.getSnapshot();
+
+        assertSame(first, second);
+        verify(userStandingRepository, times(1)).findLeaderboardRows();
+
+        List<LeaderboardDTO> entries = first.getEntries();
+        assertEquals(4, entries.size());
+        assertEquals("Alice", entries.get(0).getDisplayName());
+        assertEquals(1, entries.get(0).getRank());
+        assertEquals("bob", entries.get(1).getDisplayName());
+        assertEquals(2, entries.get(1).getRank());
+        assertThrows(UnsupportedOperationException.class, () -> entries.add(null));
+    }
+
+    @Test
+    void testEventTriggersRebuild() throws InterruptedException {
+        LeaderboardSnapshot before = leaderboardService.getSnapshot();
+        useTiedRows();
+
+        leaderboardService.onResultsChanged(new ResultsChangedEvent(1L));
+
+        LeaderboardSnapshot after = awaitNewVersion(before.getVersion());
+        assertNotEquals(before.getETag(), after.getETag());
+        verify(userStandingRepository, times(2)).findLeaderboardRows();
+    }
+
+    @Test
+    void testUnchangedRowsKeepVersion() throws InterruptedException {
+        LeaderboardSnapshot before = leaderboardService.getSnapshot();
+
+        leaderboardService.onResultsChanged(new ResultsChangedEvent(1L));
+        verify(userStandingRepository, timeout(2000).times(2)).findLeaderboardRows();
+        Thread.sleep(100);
+
+        assertSame(before, leaderboardService.getSnapshot());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void testFailedRebuildIsRetriedOnNextRead() throws InterruptedException {
+        LeaderboardSnapshot before = leaderboardService.getSnapshot();
+        doThrow(new IllegalStateException("DB weg")).when(userStandingRepository).findLeaderboardRows();
+
+        leaderboardService.onResultsChanged(new ResultsChangedEvent(1L));
+        verify(userStandingRepository, timeout(2000).times(2)).findLeaderboardRows();
+        Thread.sleep(100);
+
+        // Alter Stand bleibt lesbar; der nächste Leser plant einen neuen Versuch
+        useTiedRows();
+        assertSame(before, leaderboardService.getSnapshot());
+        assertNotEquals(before.getETag(), awaitNewVersion(before.getVersion()).getETag());
+    }
+
+    @Test
+    void testRebuildPublishesDiff() throws InterruptedException {
+        LeaderboardSnapshot before = leaderboardService.getSnapshot();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+
+        // bob überholt alice, dave fällt weg, erin kommt dazu, carol bleibt unverändert
+        when(userStandingRepository.findLeaderboardRows()).thenReturn(List.of(
+                new StandingRowDTO(2L, "bob", " ", 20),
+                new StandingRowDTO(1L, "alice", "Alice", 15),
+                new StandingRowDTO(3L, "carol", "Carol", 2),
+                new StandingRowDTO(5L, "erin", "Erin", 1)));
+        leaderboardService.onResultsChanged(new ResultsChangedEvent(1L));
+        LeaderboardSnapshot after = awaitNewVersion(before.getVersion());
+
+        verify(eventPublisher, times(1)).publishEvent(new LeaderboardUpdatedEvent(before, after));
+
+        LeaderboardDiffDTO diff = after.diff(before);
+        assertEquals(before.getVersion(), diff.fromVersion());
+        assertEquals(after.getVersion(), diff.version());
+        assertEquals(List.of("bob", "alice", "erin"),
+                diff.changed().stream().map(LeaderboardDTO::getUsername).toList());
+        assertEquals(List.of("dave"), diff.removed());
+
+        // Kompletter Stand für neue Abonnenten
+        assertEquals(4, after.asDiff().changed().size());
+        assertEquals(0, after.asDiff().fromVersion());
+    }
+
+    @Test
+    void testTipsForOpenRaceDoNotInvalidate() throws InterruptedException {
+        LeaderboardSnapshot before = leaderboardService.getSnapshot();
+
+        leaderboardService.onTipsSaved(new TipsSavedEvent(1L, 1L, RaceStatus.OPEN));
+        Thread.sleep(100);
+
+        assertSame(before, leaderboardService.getSnapshot());
+    }
+
+    @Test
+    void testETagMatching() {
+        LeaderboardSnapshot snapshot = leaderboardService.getSnapshot();
+        String eTag = snapshot.getETag();
+
+        assertTrue(snapshot.matches(eTag));
+        assertTrue(snapshot.matches("W/" + eTag));
+        assertTrue(snapshot.matches("\"other\", " + eTag));
+        assertTrue(snapshot.matches("*"));
+        assertFalse(snapshot.matches("\"other\""));
+        assertFalse(snapshot.matches(null));
+    }
+
+    @Test
+    void testLastModifiedMatching() {
+        LeaderboardSnapshot snapshot = leaderboardService.getSnapshot();
+        Instant lastModified = snapshot.getLastModified();
+        String sameSecond = DateTimeFormatter.RFC_1123_DATE_TIME.format(lastModified.atZone(ZoneOffset.UTC));
+        String earlier = DateTimeFormatter.RFC_1123_DATE_TIME.format(lastModified.minusSeconds(1).atZone(ZoneOffset.UTC));
+
+        // Last-Modified ist der Aufbauzeitpunkt (Sekunden)
+        assertFalse(lastModified.isAfter(snapshot.getBuiltAt()));
+        assertTrue(snapshot.isNotModified(null, sameSecond));
+        assertFalse(snapshot.isNotModified(null, earlier));
+        // If-None-Match hat Vorrang vor If-Modified-Since
+        assertFalse(snapshot.isNotModified("\"other\"", sameSecond));
+        assertEquals(lastModified, leaderboardService.getPage(null, 2, RankingMode.COMPETITION).lastModified());
+    }
+
+    @Test
+    void testEntryForUser() {
+        LeaderboardDTO carol = leaderboardService.getEntryForUser(3L);
+        assertEquals(3, carol.getRank());
+        assertEquals(2, carol.getPoints());
+        assertNull(leaderboardService.getEntryForUser(99L));
+
+        verify(userStandingRepository, times(1)).findLeaderboardRows();
+    }
+
+    @Test
+    void testCalculateUserPoints() {
+        assertEquals(15, leaderboardService.calculateUserPoints(user(1L, "alice")));
+        verify(userStandingRepository, times(1)).findLeaderboardRows();
+    }
+
+    @Test
+    void testCalculateUserPointsWithoutStanding() {
+        // Direkt nach der Registrierung noch nicht im Snapshot
+        assertEquals(0, leaderboardService.calculateUserPoints(user(99L, "newbie")));
+    }
+
+    @Test
+    void testPositionWithNeighbours() {
+        LeaderboardPositionDTO position = leaderboardService.getPositionWithNeighbours(3L, 1);
+        assertEquals(3, position.getRank());
+        assertEquals(4, position.getTotalPlayers());
+        assertEquals(List.of("bob", "carol", "dave"),
+                position.getEntries().stream().map(LeaderboardDTO::getUsername).toList());
+
+        // Am Anfang der Rangliste wird abgeschnitten
+        LeaderboardPositionDTO top = leaderboardService.getPositionWithNeighbours(1L, 2);
+        assertEquals(List.of("alice", "bob", "carol"),
+                top.getEntries().stream().map(LeaderboardDTO::getUsername).toList());
+
+        // Unbekannter User: kein Rang, kein Ausschnitt
+        LeaderboardPositionDTO unknown = leaderboardService.getPositionWithNeighbours(99L, 2);
+        assertNull(unknown.getRank());
+        assertTrue(unknown.getEntries().isEmpty());
+
+        assertThrows(IllegalArgumentException.class, () -> leaderboardService.getPositionWithNeighbours(1L, -1));
+    }
+
+    @Test
+    void testTiedPointsShareRank() {
+        useTiedRows();
+
+        List<LeaderboardDTO> competition = leaderboardService.getLeaderboard(RankingMode.COMPETITION);
+        assertEquals(List.of(1, 2, 2, 4, 5), competition.stream().map(LeaderboardDTO::getRank).toList());
+
+        List<LeaderboardDTO> dense = leaderboardService.getLeaderboard(RankingMode.DENSE);
+        assertEquals(List.of(1, 2, 2, 3, 4), dense.stream().map(LeaderboardDTO::getRank).toList());
+    }
+
+    @Test
+    void testTopN() {
+        LeaderboardPage top = leaderboardService.getPage(null, 2, RankingMode.COMPETITION);
+
+        assertEquals(List.of("alice", "bob"), top.entries().stream().map(LeaderboardDTO::getUsername).toList());
+        assertEquals(4, top.totalPlayers());
+        assertTrue(top.nextCursor() != null);
+    }
+
+    @Test
+    void testKeysetPagesDoNotOverlap() {
+        useTiedRows();
+
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            LeaderboardPage page = leaderboardService.getPage(cursor, 2, RankingMode.DENSE);
+            page.entries().forEach(entry -> seen.add(entry.getUsername()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(List.of("alice", "bob", "carol", "dave", "erin"), seen);
+    }
+
+    @Test
+    void testInvalidPageParameters() {
+        assertThrows(IllegalArgumentException.class,
+                () -> leaderboardService.getPage(null, 0, RankingMode.COMPETITION));
+        assertThrows(IllegalArgumentException.class,
+                () -> leaderboardService.getPage("kein-cursor", 10, RankingMode.COMPETITION));
+        assertThrows(IllegalArgumentException.class, () -> RankingMode.fromParam("olympic"));
+    }
+
+    // User mit gesetzter ID (die ID vergibt sonst die Datenbank)
+    private static AppUser user(Long id, String username) {
+        AppUser user = new AppUser(username, username + "@test.com", "pw", Role.PLAYER);
+        try {
+            java.lang.reflect.Field idField = AppUser.class.getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(user, id);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+        return user;
+    }
+
+    // Rangliste mit Gleichstand (bob und carol je 4 Punkte)
+    private void useTiedRows() {
+        doReturn(List.of(
+                new StandingRowDTO(1L, "alice", "Alice", 15),
+                new StandingRowDTO(2L, "bob", "Bob", 4),
+                new StandingRowDTO(3L, "carol", "Carol", 4),
+                new StandingRowDTO(4L, "dave", "Dave", 2),
+                new StandingRowDTO(5L, "erin", "Erin", 0))).when(userStandingRepository).findLeaderboardRows();
+    }
+
+    // Wartet auf den Rebuild im Hintergrund (max. 2 Sekunden)
+    private LeaderboardSnapshot awaitNewVersion(long oldVersion) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            LeaderboardSnapshot current = leaderboardService.getSnapshot();
+            if (current.getVersion() > oldVersion) {
+                return current;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Snapshot wurde nicht neu aufgebaut");
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * LeaderboardServiceTest prüft den In-Memory-Snapshot des Leaderboards:
+ * - Einmaliger Aufbau, danach keine weiteren Abfragen
+ * - Rebuild im Hintergrund nach Events (neue Version und neuer ETag nur bei Änderungen)
+ * - Erneuter Versuch nach fehlgeschlagenem Rebuild
+ * - LeaderboardUpdatedEvent nach dem Rebuild und Diff zwischen zwei Ständen
+ * - Keine Invalidierung durch Tipps für offene Rennen
+ * - ETag-Vergleich für If-None-Match
+ * - Punkte/Rang und Nachbarn eines Users ohne weitere Abfrage (0 Punkte ohne Stand)
+ * - Gleichstände (Competition/Dense) und Keyset-Paginierung
+ *
+ * Das UserStandingRepository wird mit Mockito gemockt.
+ */
@@ -3,27 +3,40 @@ package com.wiss.f1.championship.service.test;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.SortedMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.wiss.f1.championship.dto.OfficialResultDTO;
+import com.wiss.f1.championship.dto.ResultRowDTO;
 import com.wiss.f1.championship.entity.Driver;
 import com.wiss.f1.championship.entity.OfficialResult;
 import com.wiss.f1.championship.entity.Race;
 import com.wiss.f1.championship.entity.RaceStatus;
+import com.wiss.f1.championship.repository.DriverRepository;
 import com.wiss.f1.championship.repository.OfficialResultRepository;
+import com.wiss.f1.championship.service.DriverService;
 import com.wiss.f1.championship.service.OfficialResultService;
 
 
@@ -32,11 +45,33 @@ class OfficialResultServiceTest {
     private OfficialResultRepository resultRepository;
     private OfficialResultService resultService;
 
+    // Hilfsmethode zum Setzen der privaten ID
+    private void setId(Object entity, Long id) {
+        try {
+            java.lang.reflect.Field idField = entity.getClass().getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(entity, id);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private Driver driver(long id, String name) {
+        Driver driver = new Driver(name, "Team");
+        setId(driver, id);
+        return driver;
+    }
+
     @BeforeEach
     void setUp() {
         // Mockito-Mock des Repositories erstellen, Service mit Mock initialisieren
         resultRepository = mock(OfficialResultRepository.class);
-        resultService = new OfficialResultService(resultRepository);
+        // Fahrerverzeichnis mit zwei bekannten Fahrern
+        DriverRepository driverRepository = mock(DriverRepository.class);
+        when(driverRepository.findAll()).thenReturn(Arrays.asList(
+                driver(1L, "Max Verstappen"), driver(2L, "Lewis Hamilton")));
+        resultService = new OfficialResultService(resultRepository,
+                new DriverService(driverRepository, event -> { }), mock(ApplicationEventPublisher.class));
     }
 
     @Test
@@ -150,6 +185,96 @@ class OfficialResultServiceTest {
         verify(resultRepository, times(1)).deleteById(1L);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void testReplaceResultOrder() {
+        // Testet das Ersetzen der Ergebnisreihenfolge: ein Bulk-Delete, dann ein Batch-Insert nach Position
+        Race race = new Race();
+        setId(race, 5L);
+
+        List<String> saved = resultService.replaceResultOrder(race, Arrays.asList(" lewis hamilton", "Max Verstappen"));
+
+        // Gespeichert werden die kanonischen Namen in Reihenfolge
+        assertEquals(Arrays.asList("Lewis Hamilton", "Max Verstappen"), saved);
+        verify(resultRepository, times(1)).deleteByRaceId(5L);
+
+        ArgumentCaptor<List<OfficialResult>> captor = ArgumentCaptor.forClass(List.class);
+        verify(resultRepository).insertAll(captor.capture());
+        List<OfficialResult> rows = captor.getValue();
+        assertEquals(2, rows.size());
+        assertEquals(1, rows.get(0).getFinalPosition());
+        assertEquals(2L, rows.get(0).getDriver().getId());
+        assertEquals(2, rows.get(1).getFinalPosition());
+        assertEquals(1L, rows.get(1).getDriver().getId());
+    }
+
+    @Test
+    void testReplaceResultOrderRejectsUnknownOrDuplicateDriver() {
+        // Unbekannte oder doppelte Fahrer → IllegalArgumentException, nichts wird geschrieben
+        Race race = new Race();
+        setId(race, 5L);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> resultService.replaceResultOrder(race, Arrays.asList("Max Verstappen", "Unbekannt")));
+        assertThrows(IllegalArgumentException.class,
+                () -> resultService.replaceResultOrder(race, Arrays.asList("Max Verstappen", "max verstappen")));
+
+        verify(resultRepository, never()).deleteByRaceId(anyLong());
+        verify(resultRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    void testResolveClassification() {
+        // Testet das Prüfen einer Klassifizierung: Reihenfolge der Einträge egal, Ergebnis nach Position
+        SortedMap<Integer, Driver> byPosition = resultService.resolveClassification(Arrays.asList(
+                entry(1L, 2), entry(2L, 1)));
+
+        assertEquals(Arrays.asList(1, 2), List.copyOf(byPosition.keySet()));
+        assertEquals("Lewis Hamilton", byPosition.get(1).getName());
+        assertEquals("Max Verstappen", byPosition.get(2).getName());
+        // Nur Fahrerverzeichnis, kein Zugriff auf Ergebnisse
+        verify(resultRepository, never()).findAll();
+    }
+
+    @Test
+    void testResolveClassificationRejectsInvalidEntries() {
+        // Leer, doppelte Position, doppelter Fahrer, unbekannter Fahrer, fehlende Felder → 400
+        assertThrows(IllegalArgumentException.class, () -> resultService.resolveClassification(List.of()));
+        assertThrows(IllegalArgumentException.class,
+                () -> resultService.resolveClassification(Arrays.asList(entry(1L, 1), entry(2L, 1))));
+        assertThrows(IllegalArgumentException.class,
+                () -> resultService.resolveClassification(Arrays.asList(entry(1L, 1), entry(1L, 2))));
+        assertThrows(IllegalArgumentException.class,
+                () -> resultService.resolveClassification(Arrays.asList(entry(1L, 1), entry(99L, 2))));
+        assertThrows(IllegalArgumentException.class,
+                () -> resultService.resolveClassification(Arrays.asList(entry(1L, 0))));
+        assertThrows(IllegalArgumentException.class,
+                () -> resultService.resolveClassification(Arrays.asList(entry(null, 1))));
+    }
+
+    private OfficialResultDTO entry(Long driverId, Integer position) {
+        OfficialResultDTO dto = new OfficialResultDTO();
+        dto.setDriverId(driverId);
+        dto.setFinalPosition(position);
+        return dto;
+    }
+
+    @Test
+    void testGetResultOrders() {
+        // Testet das Ableiten der Namensreihenfolgen aller Rennen aus einer einzigen Projektion
+        when(resultRepository.findAllResultRows()).thenReturn(Arrays.asList(
+                new ResultRowDTO(1L, 1, 2L),
+                new ResultRowDTO(1L, 2, 1L),
+                new ResultRowDTO(3L, 1, 1L)));
+
+        Map<Long, List<String>> orders = resultService.getResultOrders();
+
+        assertEquals(Arrays.asList("Lewis Hamilton", "Max Verstappen"), orders.get(1L));
+        assertEquals(Arrays.asList("Max Verstappen"), orders.get(3L));
+        assertFalse(orders.containsKey(2L));
+        verify(resultRepository, times(1)).findAllResultRows();
+    }
+
     /*
      * Zusammenfassung:
      * Dieses Testklasse prüft alle Kernfunktionen des OfficialResultService:
@@ -159,6 +284,11 @@ class OfficialResultServiceTest {
      * 4. testGetResultsForRace: Abrufen aller Ergebnisse für ein Rennen
      * 5. testGetResultsForRaceEmpty: Abrufen bei leerem Ergebnis
      * 6. testDeleteResult: Löschen eines OfficialResult
+     * 7. testReplaceResultOrder: Ersetzen der Ergebnisreihenfolge (Bulk-Delete + Batch-Insert)
+     * 8. testReplaceResultOrderRejectsUnknownOrDuplicateDriver: Validierung vor dem Schreiben
+     * 9. testGetResultOrders: Namensreihenfolgen aller Rennen aus einer Abfrage
+     * 10. testResolveClassification: Klassifizierung nach Position, ohne DB-Zugriff
+     * 11. testResolveClassificationRejectsInvalidEntries: ungültige Klassifizierungen
      *
      * Die Tests verwenden Mockito-Mocks für das Repository und überprüfen:
      * - Korrekte Rückgabe der Objekte
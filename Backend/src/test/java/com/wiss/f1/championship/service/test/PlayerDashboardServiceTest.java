@@ -0,0 +1,201 @@
+package com.wiss.f1.championship.service.test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import com.wiss.f1.championship.dto.PlayerDashboardDTO;
+import com.wiss.f1.championship.dto.RaceResponseDTO;
+import com.wiss.f1.championship.dto.StandingRowDTO;
+import com.wiss.f1.championship.dto.TipResponseDTO;
+import com.wiss.f1.championship.entity.AppUser;
+import com.wiss.f1.championship.entity.RaceStatus;
+import com.wiss.f1.championship.entity.Role;
+import com.wiss.f1.championship.repository.UserStandingRepository;
+import com.wiss.f1.championship.service.LeaderboardService;
+import com.wiss.f1.championship.service.PlayerDashboardService;
+import com.wiss.f1.championship.service.RaceService;
+import com.wiss.f1.championship.service.TipService;
+
+/**
+ * Unit-Tests für PlayerDashboardService.
+ *
+ * Rennen und Tipps sind gemockt, das Leaderboard ist echt (mit gemocktem Repository).
+ *
+ * Testfälle:
+ * - Dashboard enthält Profil (Punkte/Rang aus dem Leaderboard), Rennen, Tipps, Position und Top-Spieler
+ * - Rennen und Tipps werden gleichzeitig geladen
+ * - Parallele DB-Lesezugriffe sind über alle Dashboards begrenzt; ohne Freigabe → 503-Fehler
+ * - Fehler eines Teils kommen unverpackt beim Aufrufer an
+ * - Ungültige Anzahl Nachbarn
+ */
+class PlayerDashboardServiceTest {
+
+    private RaceService raceService;
+    private TipService tipService;
+    private LeaderboardService leaderboardService;
+    private ExecutorService executor;
+    private PlayerDashboardService dashboardService;
+
+    private AppUser bob;
+    private RaceResponseDTO race;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        raceService = mock(RaceService.class);
+        tipService = mock(TipService.class);
+        UserStandingRepository standingRepository = mock(UserStandingRepository.class);
+        when(standingRepository.findLeaderboardRows()).thenReturn(List.of(
+                new StandingRowDTO(1L, "alice", "Alice", 15),
+                new StandingRowDTO(2L, "bob", "Bob", 9),
+                new StandingRowDTO(3L, "carol", "Carol", 2)));
+        leaderboardService = new LeaderboardService(standingRepository, mock(ApplicationEventPublisher.class));
+
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        dashboardService = new PlayerDashboardService(raceService, tipService, leaderboardService, executor,
+                2, Duration.ofSeconds(5));
+
+        bob = new AppUser("bob", "bob@test.com", "pw", Role.PLAYER, "Bob");
+        java.lang.reflect.Field idField = AppUser.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(bob, 2L);
+
+        race = new RaceResponseDTO(10L, "Bahrain GP", LocalDate.of(2025, 3, 2), "Sakhir", "Sunny", null,
+                RaceStatus.CLOSED, List.of("Max Verstappen"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testDashboardCombinesAllParts() {
+        TipResponseDTO tip = new TipResponseDTO(10L, List.of("Max Verstappen"), null);
+        when(raceService.getAllRaceResponses()).thenReturn(List.of(race));
+        when(tipService.getAllTipsForUser(bob)).thenReturn(List.of(tip));
+
+        PlayerDashboardDTO dashboard = dashboardService.getDashboard(bob, 1);
+
+        assertEquals("bob", dashboard.profile().getUsername());
+        assertEquals(9, dashboard.profile().getPoints());
+        assertEquals(2, dashboard.profile().getRank());
+        assertEquals(List.of(race), dashboard.races());
+        assertEquals(List.of(tip), dashboard.tips());
+        assertEquals(3, dashboard.position().getEntries().size());
+        assertEquals(3, dashboard.position().getTotalPlayers());
+        assertEquals("alice", dashboard.topPlayers().get(0).getUsername());
+    }
+
+    @Test
+    void testRacesAndTipsAreLoadedConcurrently() {
+        // Beide Teile warten, bis der jeweils andere ebenfalls läuft
+        CountDownLatch bothRunning = new CountDownLatch(2);
+        when(raceService.getAllRaceResponses()).thenAnswer(invocation -> {
+            bothRunning.countDown();
+            assertTrue(bothRunning.await(5, TimeUnit.SECONDS));
+            return List.of(race);
+        });
+        when(tipService.getAllTipsForUser(bob)).thenAnswer(invocation -> {
+            bothRunning.countDown();
+            assertTrue(bothRunning.await(5, TimeUnit.SECONDS));
+            return List.of();
+        });
+
+        PlayerDashboardDTO dashboard = dashboardService.getDashboard(bob, 2);
+
+        assertEquals(0, bothRunning.getCount());
+        assertEquals(1, dashboard.races().size());
+    }
+
+    @Test
+    void testParallelDbReadsAreBounded() throws Exception {
+        // Eine Freigabe für alle Dashboards: höchstens ein DB-Lesezugriff gleichzeitig
+        PlayerDashboardService bounded = new PlayerDashboardService(raceService, tipService, leaderboardService,
+                executor, 1, Duration.ofSeconds(5));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(raceService.getAllRaceResponses()).thenAnswer(invocation -> track(running, maxRunning, List.of(race)));
+        when(tipService.getAllTipsForUser(bob)).thenAnswer(invocation -> track(running, maxRunning, List.of()));
+
+        List<Future<PlayerDashboardDTO>> dashboards = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            dashboards.add(executor.submit(() -> bounded.getDashboard(bob, 1)));
+        }
+        for (Future<PlayerDashboardDTO> dashboard : dashboards) {
+            assertEquals(1, dashboard.get(10, TimeUnit.SECONDS).races().size());
+        }
+        assertEquals(1, maxRunning.get());
+    }
+
+    @Test
+    void testNoFreeDbReadFailsAfterTimeout() {
+        PlayerDashboardService bounded = new PlayerDashboardService(raceService, tipService, leaderboardService,
+                executor, 1, Duration.ofMillis(50));
+        // Rennen halten die einzige Freigabe länger, als die Tipps warten dürfen
+        when(raceService.getAllRaceResponses()).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            return List.of(race);
+        });
+        when(tipService.getAllTipsForUser(bob)).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            return List.of();
+        });
+
+        assertThrows(DataAccessResourceFailureException.class, () -> bounded.getDashboard(bob, 1));
+    }
+
+    // Zählt gleichzeitig laufende Lesezugriffe mit
+    private static <T> T track(AtomicInteger running, AtomicInteger maxRunning, T result) throws InterruptedException {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        Thread.sleep(20);
+        running.decrementAndGet();
+        return result;
+    }
+
+    @Test
+    void testFailureIsNotWrapped() {
+        DataAccessResourceFailureException failure = new DataAccessResourceFailureException("DB weg");
+        when(raceService.getAllRaceResponses()).thenThrow(failure);
+        when(tipService.getAllTipsForUser(bob)).thenReturn(List.of());
+
+        DataAccessResourceFailureException thrown = assertThrows(DataAccessResourceFailureException.class,
+                () -> dashboardService.getDashboard(bob, 2));
+        assertSame(failure, thrown);
+    }
+
+    @Test
+    void testInvalidNeighbours() {
+        assertThrows(IllegalArgumentException.class, () -> dashboardService.getDashboard(bob, -1));
+        assertThrows(IllegalArgumentException.class,
+                () -> dashboardService.getDashboard(bob, LeaderboardService.MAX_NEIGHBOURS + 1));
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * Diese Testklasse prüft den PlayerDashboardService: Das Dashboard vereint Profil, Rennen,
+ * Tipps, eigene Position und Top-Spieler; Rennen und Tipps laufen nachweislich parallel
+ * (jeder Teil wartet auf den anderen), die Zahl paralleler DB-Lesezugriffe ist begrenzt,
+ * Fehler werden unverpackt weitergereicht und ungültige Nachbar-Anzahlen abgelehnt.
+ */
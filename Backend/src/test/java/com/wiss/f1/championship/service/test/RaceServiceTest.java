@@ -3,37 +3,61 @@ package com.wiss.f1.championship.service.test;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.wiss.f1.championship.dto.OfficialResultDTO;
+import com.wiss.f1.championship.dto.RaceListingRowDTO;
+import com.wiss.f1.championship.dto.RaceResponseDTO;
+import com.wiss.f1.championship.entity.Driver;
+import com.wiss.f1.championship.entity.OfficialResult;
 import com.wiss.f1.championship.entity.Race;
 import com.wiss.f1.championship.entity.RaceStatus;
+import com.wiss.f1.championship.event.RaceChangedEvent;
+import com.wiss.f1.championship.exception.RaceNotFoundException;
 import com.wiss.f1.championship.repository.RaceRepository;
+import com.wiss.f1.championship.service.OfficialResultService;
 import com.wiss.f1.championship.service.RaceService;
+import com.wiss.f1.championship.service.StandingsService;
 
 
 class RaceServiceTest {
 
     private RaceRepository raceRepository;
+    private OfficialResultService officialResultService;
+    private StandingsService standingsService;
+    private ApplicationEventPublisher eventPublisher;
     private RaceService raceService;
 
     @BeforeEach
     void setUp() {
         // Mockito-Mock für das Repository erstellen, Service mit Mock initialisieren
         raceRepository = mock(RaceRepository.class);
-        raceService = new RaceService(raceRepository);
+        officialResultService = mock(OfficialResultService.class);
+        standingsService = mock(StandingsService.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        raceService = new RaceService(raceRepository, standingsService, officialResultService, eventPublisher);
     }
 
     @Test
@@ -88,6 +112,41 @@ class RaceServiceTest {
         assertEquals(RaceStatus.CLOSED, result.getStatus());
 
         verify(raceRepository, times(1)).save(any(Race.class));
+        // Neu gewertet wird im Hintergrund (ScoringJobService) nach dem UPDATED-Event
+        verify(eventPublisher, times(1)).publishEvent(
+                new RaceChangedEvent(1L, RaceStatus.CLOSED, RaceChangedEvent.Type.UPDATED));
+        verify(standingsService, never()).recomputeRace(1L);
+    }
+
+    @Test
+    void testCreateRaceIgnoresResultsOrder() {
+        // Fahrerliste aus dem Rennformular → keine OfficialResult-Zeilen
+        Race race = new Race("Bahrain GP", LocalDate.of(2024, 3, 2),
+                "Bahrain International Circuit", "Sunny", RaceStatus.OPEN);
+        race.setResultsOrder(List.of("Max Verstappen", "Lewis Hamilton"));
+        when(raceRepository.save(any(Race.class))).thenReturn(race);
+
+        raceService.createRace(race);
+
+        verify(officialResultService, never()).replaceResultOrder(any(), anyList());
+        verify(officialResultService, never()).replaceResults(any(), any());
+    }
+
+    @Test
+    void testUpdateRaceKeepsStoredResults() {
+        // Fahrerliste aus dem Rennformular → gespeicherte Ergebnisse bleiben und werden zurückgegeben
+        Race race = new Race("Bahrain GP", LocalDate.of(2024, 3, 2),
+                "Bahrain International Circuit", "Sunny", RaceStatus.TIPPABLE);
+        race.setId(1L);
+        race.setResultsOrder(List.of("Lewis Hamilton"));
+        when(raceRepository.save(any(Race.class))).thenReturn(race);
+        when(officialResultService.getResultOrder(1L)).thenReturn(List.of("Max Verstappen"));
+
+        Race result = raceService.updateRace(race);
+
+        assertEquals(List.of("Max Verstappen"), result.getResultsOrder());
+        verify(officialResultService, never()).replaceResultOrder(any(), anyList());
+        verify(officialResultService, never()).replaceResults(any(), any());
     }
 
     @Test
@@ -103,6 +162,8 @@ class RaceServiceTest {
 
         List<Race> races = Arrays.asList(race1, race2);
         when(raceRepository.findAll()).thenReturn(races);
+        // Ergebnisse aller Rennen kommen aus einer einzigen Abfrage
+        when(officialResultService.getResultOrders()).thenReturn(Map.of(1L, List.of("Max Verstappen")));
 
         List<Race> result = raceService.getAllRaces();
 
@@ -111,8 +172,11 @@ class RaceServiceTest {
         assertEquals(2, result.size());
         assertEquals("Bahrain GP", result.get(0).getName());
         assertEquals("Saudi Arabian GP", result.get(1).getName());
+        assertEquals(List.of("Max Verstappen"), result.get(0).getResultsOrder());
+        assertTrue(result.get(1).getResultsOrder().isEmpty());
 
         verify(raceRepository, times(1)).findAll();
+        verify(officialResultService, times(1)).getResultOrders();
     }
 
     @Test
@@ -146,6 +210,35 @@ class RaceServiceTest {
         verify(raceRepository, times(1)).findById(999L);
     }
 
+    @Test
+    void testGetAllRaceResponsesGroupsRows() {
+        // Eine Zeile pro Ergebnisposition; Rennen ohne Ergebnis mit driverName = null
+        LocalDate date = LocalDate.of(2024, 3, 2);
+        when(raceRepository.findRaceListingRows()).thenReturn(List.of(
+                new RaceListingRowDTO(1L, "Bahrain GP", date, "Sakhir", "Sunny", "soft", RaceStatus.CLOSED, "Max Verstappen"),
+                new RaceListingRowDTO(1L, "Bahrain GP", date, "Sakhir", "Sunny", "soft", RaceStatus.CLOSED, "Sergio Perez"),
+                new RaceListingRowDTO(2L, "Saudi Arabian GP", date.plusDays(7), "Jeddah", "Clear", null, RaceStatus.TIPPABLE, null)));
+
+        List<RaceResponseDTO> result = raceService.getAllRaceResponses();
+
+        assertEquals(2, result.size());
+        assertEquals("Bahrain GP", result.get(0).getName());
+        assertEquals("soft", result.get(0).getTyres());
+        assertEquals(List.of("Max Verstappen", "Sergio Perez"), result.get(0).getResultsOrder());
+        assertEquals(RaceStatus.TIPPABLE, result.get(1).getStatus());
+        assertTrue(result.get(1).getResultsOrder().isEmpty());
+        // Keine Entities, keine zweite Abfrage für die Ergebnisse
+        verify(raceRepository, never()).findAll();
+        verify(officialResultService, never()).getResultOrders();
+    }
+
+    @Test
+    void testGetRaceResponseByIdNotFound() {
+        when(raceRepository.findRaceListingRowsById(999L)).thenReturn(List.of());
+
+        assertFalse(raceService.getRaceResponseById(999L).isPresent());
+    }
+
     @Test
     void testDeleteRace() {
         // Testet Löschen eines Rennens nach ID
@@ -157,6 +250,99 @@ class RaceServiceTest {
         verify(raceRepository, times(1)).deleteById(1L);
     }
 
+    @Test
+    void testUpdateRaceResults() {
+        // Testet das Speichern der Ergebnisse: OfficialResult-Zeilen, Status CLOSED, CLOSED-Event
+        Race race = new Race("Bahrain GP", LocalDate.of(2024, 3, 2),
+                "Bahrain International Circuit", "Sunny", RaceStatus.TIPPABLE);
+        race.setId(1L);
+        List<String> order = List.of("Max Verstappen", "Lewis Hamilton");
+
+        when(raceRepository.findById(1L)).thenReturn(Optional.of(race));
+        when(raceRepository.save(any(Race.class))).thenReturn(race);
+        when(officialResultService.replaceResultOrder(race, order)).thenReturn(order);
+
+        Race result = raceService.updateRaceResults(1L, order);
+
+        assertEquals(RaceStatus.CLOSED, result.getStatus());
+        assertEquals(order, result.getResultsOrder());
+        verify(officialResultService, times(1)).replaceResultOrder(race, order);
+        // Neu gewertet wird im Hintergrund (ScoringJobService), nicht im Request
+        verify(eventPublisher, times(1)).publishEvent(
+                new RaceChangedEvent(1L, RaceStatus.CLOSED, RaceChangedEvent.Type.CLOSED));
+        verify(standingsService, never()).recomputeRace(1L);
+    }
+
+    @Test
+    void testUpdateRaceClassification() {
+        // Testet die komplette Klassifizierung: prüfen, ein Schreibvorgang, CLOSED, ein CLOSED-Event
+        Race race = new Race("Bahrain GP", LocalDate.of(2024, 3, 2),
+                "Bahrain International Circuit", "Sunny", RaceStatus.TIPPABLE);
+        race.setId(1L);
+        Driver max = new Driver("Max Verstappen", "Red Bull Racing");
+        SortedMap<Integer, Driver> byPosition = new TreeMap<>(Map.of(1, max));
+        List<OfficialResultDTO> classification = List.of(new OfficialResultDTO());
+        List<OfficialResult> rows = List.of(new OfficialResult(race, max, 1));
+
+        when(raceRepository.findById(1L)).thenReturn(Optional.of(race));
+        when(raceRepository.save(any(Race.class))).thenReturn(race);
+        when(officialResultService.resolveClassification(classification)).thenReturn(byPosition);
+        when(officialResultService.replaceResults(race, byPosition)).thenReturn(rows);
+
+        List<OfficialResult> result = raceService.updateRaceClassification(1L, classification);
+
+        assertEquals(rows, result);
+        assertEquals(RaceStatus.CLOSED, race.getStatus());
+        verify(officialResultService, times(1)).replaceResults(race, byPosition);
+        verify(eventPublisher, times(1)).publishEvent(
+                new RaceChangedEvent(1L, RaceStatus.CLOSED, RaceChangedEvent.Type.CLOSED));
+        verify(standingsService, never()).recomputeRace(1L);
+    }
+
+    @Test
+    void testUpdateRaceClassificationInvalid() {
+        // Ungültige Klassifizierung → nichts wird geschrieben, Rennen bleibt offen
+        Race race = new Race("Bahrain GP", LocalDate.of(2024, 3, 2),
+                "Bahrain International Circuit", "Sunny", RaceStatus.TIPPABLE);
+        race.setId(1L);
+
+        when(raceRepository.findById(1L)).thenReturn(Optional.of(race));
+        when(officialResultService.resolveClassification(anyList()))
+                .thenThrow(new IllegalArgumentException("Position mehrfach vergeben: 1"));
+
+        assertThrows(IllegalArgumentException.class, () -> raceService.updateRaceClassification(1L, List.of()));
+
+        assertEquals(RaceStatus.TIPPABLE, race.getStatus());
+        verify(officialResultService, never()).replaceResults(any(), any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void testUpdateRaceClassificationRaceNotFound() {
+        when(raceRepository.findById(999L)).thenReturn(Optional.empty());
+
+        assertThrows(RaceNotFoundException.class, () -> raceService.updateRaceClassification(999L, List.of()));
+        verify(officialResultService, never()).resolveClassification(anyList());
+    }
+
+    @Test
+    void testUpdateRaceResultsUnknownDriver() {
+        // Unbekannter Fahrer → Fehler, Rennen bleibt offen, kein Event
+        Race race = new Race("Bahrain GP", LocalDate.of(2024, 3, 2),
+                "Bahrain International Circuit", "Sunny", RaceStatus.TIPPABLE);
+        race.setId(1L);
+
+        when(raceRepository.findById(1L)).thenReturn(Optional.of(race));
+        when(officialResultService.replaceResultOrder(eq(race), anyList()))
+                .thenThrow(new IllegalArgumentException("Fahrer nicht gefunden: X"));
+
+        assertThrows(IllegalArgumentException.class, () -> raceService.updateRaceResults(1L, List.of("X")));
+
+        assertEquals(RaceStatus.TIPPABLE, race.getStatus());
+        verify(raceRepository, never()).save(any(Race.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
     /*
      * Zusammenfassung:
      * Diese Testklasse prüft alle Kernfunktionen des RaceService:
@@ -166,6 +352,16 @@ class RaceServiceTest {
      * 4. testGetRaceById: Abrufen eines existierenden Rennens nach ID
      * 5. testGetRaceByIdNotFound: Verhalten bei nicht existierender ID
      * 6. testDeleteRace: Löschen eines Rennens nach ID
+     * 7. testUpdateRaceResults: Ergebnisse als OfficialResult-Zeilen speichern, Status CLOSED,
+     *    Neuberechnung nur über das CLOSED-Event
+     * 8. testUpdateRaceResultsUnknownDriver: Unbekannter Fahrer ändert nichts
+     * 9. testUpdateRaceClassification: Klassifizierung speichern, ein CLOSED-Event
+     * 10. testUpdateRaceClassificationInvalid: Ungültige Klassifizierung ändert nichts
+     * 11. testUpdateRaceClassificationRaceNotFound: Unbekanntes Rennen → RaceNotFoundException
+     * 12. testGetAllRaceResponsesGroupsRows: Projektionszeilen → ein DTO pro Rennen mit Ergebnisreihenfolge
+     * 13. testGetRaceResponseByIdNotFound: Keine Zeilen → leeres Optional
+     * 14. testCreateRaceIgnoresResultsOrder: Rennformular schreibt keine Ergebnisse
+     * 15. testUpdateRaceKeepsStoredResults: Update lässt gespeicherte Ergebnisse unverändert
      *
      * Die Tests verwenden Mockito-Mocks für das Repository und überprüfen:
      * - Korrekte Rückgabe der Objekte
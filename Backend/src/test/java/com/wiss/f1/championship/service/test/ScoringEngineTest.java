@@ -0,0 +1,95 @@
+package com.wiss.f1.championship.service.test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.wiss.f1.championship.service.RaceResultTable;
+import com.wiss.f1.championship.service.ScoringEngine;
+
+/**
+ * Unit-Tests für ScoringEngine und RaceResultTable.
+ *
+ * Testfälle:
+ * - Primitive Bewertung (scoreTip) liefert dieselben Punkte wie die Map-Referenz
+ * - Fahrer außerhalb der Top 10 zählen für "falsche Position"
+ * - Sehr große DriverIds (Fallback ohne Bitset)
+ */
+class ScoringEngineTest {
+
+    private final ScoringEngine scoringEngine = new ScoringEngine();
+
+    @Test
+    void testKernelMatchesMapImplementation() {
+        Random random = new Random(42);
+
+        for (int run = 0; run < 5_000; run++) {
+            Map<Integer, Long> official = new HashMap<>();
+            int classified = 5 + random.nextInt(16);
+            for (int pos = 1; pos <= classified; pos++) {
+                official.put(pos, 1L + random.nextInt(25));
+            }
+
+            Map<Integer, Long> predicted = new HashMap<>();
+            long[] predictedArray = emptyTip();
+            for (int pos = 1; pos <= 10; pos++) {
+                if (random.nextInt(10) == 0) continue; // leere Position
+                long driverId = 1L + random.nextInt(25);
+                predicted.put(pos, driverId);
+                predictedArray[pos] = driverId;
+            }
+
+            assertEquals(
+                    scoringEngine.calculateRacePoints(predicted, official),
+                    scoringEngine.scoreTip(predictedArray, RaceResultTable.of(official)));
+        }
+    }
+
+    @Test
+    void testDriverOutsideTop10CountsAsWrongPosition() {
+        Map<Integer, Long> official = new HashMap<>();
+        for (int pos = 1; pos <= 12; pos++) {
+            official.put(pos, (long) pos);
+        }
+
+        long[] predicted = emptyTip();
+        predicted[1] = 12L;   // steht auf P12 im Ergebnis → 2 Punkte (Podium, falsche Position)
+        predicted[4] = 4L;    // exakt → 3 Punkte
+
+        assertEquals(5, scoringEngine.scoreTip(predicted, RaceResultTable.of(official)));
+    }
+
+    @Test
+    void testLargeDriverIdsWithoutBitset() {
+        long big = 1L << 40;
+        Map<Integer, Long> official = Map.of(1, big, 2, big + 1);
+        RaceResultTable table = RaceResultTable.of(official);
+
+        assertTrue(table.contains(big + 1));
+        assertFalse(table.contains(big + 2));
+
+        long[] predicted = emptyTip();
+        predicted[1] = big + 1;
+        predicted[2] = big + 1;
+        assertEquals(2 + 5, scoringEngine.scoreTip(predicted, table));
+    }
+
+    private long[] emptyTip() {
+        long[] predicted = new long[RaceResultTable.SCORED_POSITIONS + 1];
+        Arrays.fill(predicted, RaceResultTable.NO_DRIVER);
+        return predicted;
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * ScoringEngineTest stellt sicher, dass die allokationsfreie Bewertung über
+ * primitive Arrays exakt dieselben Punkte liefert wie die Map-basierte
+ * Referenz (calculateRacePoints), inkl. Fahrer jenseits von P10 und großen IDs.
+ */
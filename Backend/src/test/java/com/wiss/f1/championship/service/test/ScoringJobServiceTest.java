@@ -0,0 +1,225 @@
+package com.wiss.f1.championship.service.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.wiss.f1.championship.dto.ScoringJobDTO;
+import com.wiss.f1.championship.dto.StandingsRebuildDTO;
+import com.wiss.f1.championship.entity.RaceStatus;
+import com.wiss.f1.championship.event.RaceChangedEvent;
+import com.wiss.f1.championship.event.RaceScoredEvent;
+import com.wiss.f1.championship.event.ResultsChangedEvent;
+import com.wiss.f1.championship.event.TipsSavedEvent;
+import com.wiss.f1.championship.service.ScoringJobService;
+import com.wiss.f1.championship.service.StandingsService;
+
+/**
+ * Unit-Tests für ScoringJobService.
+ *
+ * Der Executor sammelt die Jobs nur ein; die Tests führen sie gezielt aus.
+ *
+ * Testfälle:
+ * - Schliessen eines Rennens reiht einen Job ein, der Lauf wertet und meldet RaceScoredEvent
+ * - Mehrfache Anforderungen vor dem Lauf ergeben genau einen Lauf
+ * - Korrektur während eines Laufs → genau ein weiterer Lauf
+ * - Fehler im Lauf → Status FAILED, kein RaceScoredEvent
+ * - UPDATED, DELETED und Tipps für geschlossene Rennen reihen Jobs ein, CREATED und Tipps
+ *   für offene Rennen nicht
+ * - Rebuild und Start-Rebuild (rebuildIfEmpty) warten auf einen laufenden Job
+ */
+class ScoringJobServiceTest {
+
+    private StandingsService standingsService;
+    private ApplicationEventPublisher eventPublisher;
+    private List<Runnable> queued;
+    private ScoringJobService scoringJobService;
+
+    @BeforeEach
+    void setUp() {
+        standingsService = mock(StandingsService.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        queued = new ArrayList<>();
+        scoringJobService = new ScoringJobService(standingsService, eventPublisher, queued::add);
+    }
+
+    // Führt alle eingereihten Jobs aus (auch solche, die währenddessen dazukommen)
+    private void runQueued() {
+        while (!queued.isEmpty()) {
+            queued.remove(0).run();
+        }
+    }
+
+    @Test
+    void testClosingRaceRunsJobInBackground() {
+        when(standingsService.recomputeRace(7L)).thenReturn(12);
+
+        scoringJobService.onRaceChanged(new RaceChangedEvent(7L, RaceStatus.CLOSED, RaceChangedEvent.Type.CLOSED));
+
+        // Noch nichts gewertet, nur eingereiht
+        assertEquals(ScoringJobDTO.Status.QUEUED, scoringJobService.getJob(7L).get().status());
+        verify(standingsService, never()).recomputeRace(any());
+
+        runQueued();
+
+        ScoringJobDTO job = scoringJobService.getJob(7L).get();
+        assertEquals(ScoringJobDTO.Status.DONE, job.status());
+        assertEquals(1, job.runs());
+        assertEquals(12, job.scoreRows());
+        assertNull(job.error());
+        verify(standingsService, times(1)).recomputeRace(7L);
+        verify(eventPublisher, times(1)).publishEvent(new RaceScoredEvent(7L, 12));
+    }
+
+    @Test
+    void testRepeatedRequestsAreCoalesced() {
+        scoringJobService.enqueue(7L);
+        scoringJobService.onResultsChanged(new ResultsChangedEvent(7L));
+        scoringJobService.enqueue(7L);
+
+        assertEquals(1, queued.size());
+        runQueued();
+
+        verify(standingsService, times(1)).recomputeRace(7L);
+        assertEquals(1, scoringJobService.getJob(7L).get().runs());
+    }
+
+    @Test
+    void testCorrectionDuringRunSchedulesOneMoreRun() {
+        // Während des ersten Laufs werden die Ergebnisse zweimal korrigiert
+        when(standingsService.recomputeRace(7L)).thenAnswer(invocation -> {
+            if (scoringJobService.getJob(7L).get().runs() == 1) {
+                scoringJobService.enqueue(7L);
+                scoringJobService.enqueue(7L);
+                assertEquals(ScoringJobDTO.Status.QUEUED, scoringJobService.getJob(7L).get().status());
+            }
+            return 3;
+        });
+
+        scoringJobService.enqueue(7L);
+        runQueued();
+
+        verify(standingsService, times(2)).recomputeRace(7L);
+        ScoringJobDTO job = scoringJobService.getJob(7L).get();
+        assertEquals(ScoringJobDTO.Status.DONE, job.status());
+        assertEquals(2, job.runs());
+    }
+
+    @Test
+    void testFailedRunIsReported() {
+        when(standingsService.recomputeRace(7L)).thenThrow(new IllegalStateException("DB weg"));
+
+        scoringJobService.enqueue(7L);
+        runQueued();
+
+        ScoringJobDTO job = scoringJobService.getJob(7L).get();
+        assertEquals(ScoringJobDTO.Status.FAILED, job.status());
+        assertEquals("DB weg", job.error());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+
+        // Erneutes Auslösen ist möglich
+        scoringJobService.enqueue(7L);
+        assertEquals(1, queued.size());
+    }
+
+    @Test
+    void testEventsThatChangeScoresEnqueueJobs() {
+        // Neues Rennen und Tipps für offene Rennen ändern keine Punkte
+        scoringJobService.onRaceChanged(new RaceChangedEvent(7L, RaceStatus.OPEN, RaceChangedEvent.Type.CREATED));
+        scoringJobService.onTipsSaved(new TipsSavedEvent(1L, 7L, RaceStatus.TIPPABLE));
+        assertTrue(queued.isEmpty());
+        assertFalse(scoringJobService.getJob(7L).isPresent());
+
+        // Geändertes Rennen (Status kann wechseln)
+        scoringJobService.onRaceChanged(new RaceChangedEvent(7L, RaceStatus.OPEN, RaceChangedEvent.Type.UPDATED));
+        runQueued();
+        // Tipp für ein geschlossenes Rennen
+        scoringJobService.onTipsSaved(new TipsSavedEvent(1L, 7L, RaceStatus.CLOSED));
+        runQueued();
+        // Gelöschtes Rennen → Saisonstände nachziehen
+        scoringJobService.onRaceChanged(new RaceChangedEvent(7L, null, RaceChangedEvent.Type.DELETED));
+        runQueued();
+
+        verify(standingsService, times(3)).recomputeRace(7L);
+        assertEquals(3, scoringJobService.getJob(7L).get().runs());
+    }
+
+    @Test
+    void testRebuildWaitsForRunningJob() throws Exception {
+        // Während ein Lauf rechnet, darf kein Rebuild dieselben Tabellen schreiben
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(standingsService.recomputeRace(7L)).thenAnswer(invocation -> {
+            running.countDown();
+            release.await();
+            return 0;
+        });
+        scoringJobService.enqueue(7L);
+        Thread job = Thread.ofVirtual().start(this::runQueued);
+        running.await();
+
+        CompletableFuture<StandingsRebuildDTO> rebuild = CompletableFuture.supplyAsync(scoringJobService::rebuildAll);
+        Thread.sleep(100);
+        assertFalse(rebuild.isDone());
+        verify(standingsService, never()).rebuildAll();
+
+        release.countDown();
+        job.join();
+        rebuild.get(2, TimeUnit.SECONDS);
+        verify(standingsService, times(1)).rebuildAll();
+    }
+
+    @Test
+    void testStartupRebuildWaitsForRunningJob() throws Exception {
+        // Ein früh eingereihter Job und der Start-Rebuild dürfen nicht gleichzeitig schreiben
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(standingsService.recomputeRace(7L)).thenAnswer(invocation -> {
+            running.countDown();
+            release.await();
+            return 0;
+        });
+        when(standingsService.rebuildIfEmpty()).thenReturn(true);
+        scoringJobService.enqueue(7L);
+        Thread job = Thread.ofVirtual().start(this::runQueued);
+        running.await();
+
+        CompletableFuture<Boolean> rebuild = CompletableFuture.supplyAsync(scoringJobService::rebuildIfEmpty);
+        Thread.sleep(100);
+        assertFalse(rebuild.isDone());
+        verify(standingsService, never()).rebuildIfEmpty();
+
+        release.countDown();
+        job.join();
+        assertTrue(rebuild.get(2, TimeUnit.SECONDS));
+        verify(standingsService, times(1)).rebuildIfEmpty();
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * Diese Testklasse prüft den ScoringJobService mit einem einsammelnden Executor:
+ * Jobs werden nach dem CLOSED-Event eingereiht und erst beim Ausführen gewertet,
+ * Anforderungen pro Rennen werden zusammengefasst, eine Korrektur während eines
+ * Laufs führt zu genau einem weiteren Lauf, Fehler sind im Status sichtbar und
+ * nur erfolgreiche Läufe veröffentlichen ein RaceScoredEvent. Alle Ereignisse, die
+ * Punkte ändern, laufen über die Warteschlange; ein Rebuild (auch der beim Start) wartet
+ * auf laufende Jobs.
+ */
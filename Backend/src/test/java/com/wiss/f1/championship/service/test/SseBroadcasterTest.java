@@ -0,0 +1,150 @@
+package com.wiss.f1.championship.service.test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.wiss.f1.championship.service.SseBroadcaster;
+
+/**
+ * Unit-Tests für SseBroadcaster.
+ *
+ * Der Executor sammelt die Sende-Läufe nur ein; die Tests führen sie gezielt aus.
+ *
+ * Testfälle:
+ * - Start-Event und Broadcasts kommen in Reihenfolge bei allen Abonnenten an
+ * - Mehrere Events vor dem Senden ergeben genau einen Sende-Lauf pro Abonnent
+ * - Volle Warteschlange (langsamer Client) → Verbindung wird beendet und gezählt
+ * - Fehler beim Senden (Client weg) → Abonnent wird entfernt
+ * - Maximale Anzahl Abonnenten wird eingehalten
+ */
+class SseBroadcasterTest {
+
+    private List<Runnable> queued;
+    private SseBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        queued = new ArrayList<>();
+        broadcaster = new SseBroadcaster("test", 2, 3, queued::add);
+    }
+
+    // Führt alle eingereihten Sende-Läufe aus
+    private void runQueued() {
+        while (!queued.isEmpty()) {
+            queued.remove(0).run();
+        }
+    }
+
+    private static Set<DataWithMediaType> event(String name) {
+        return SseBroadcaster.prepare(SseEmitter.event().name(name).data("{}"));
+    }
+
+    @Test
+    void testEventsReachAllSubscribersInOrder() {
+        Set<DataWithMediaType> initial = event("snapshot");
+        Set<DataWithMediaType> diff = event("diff");
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+
+        assertTrue(broadcaster.subscribe(first, initial));
+        assertTrue(broadcaster.subscribe(second, null));
+        runQueued();
+        broadcaster.broadcast(diff);
+        runQueued();
+
+        assertEquals(List.of(initial, diff), first.sent);
+        assertEquals(List.of(diff), second.sent);
+        assertEquals(2, broadcaster.size());
+    }
+
+    @Test
+    void testPendingEventsAreSentInOneRun() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(emitter, event("snapshot"));
+        broadcaster.broadcast(event("diff"));
+
+        assertEquals(1, queued.size());
+        runQueued();
+        assertEquals(2, emitter.sent.size());
+    }
+
+    @Test
+    void testSlowSubscriberIsDisconnected() {
+        RecordingEmitter slow = new RecordingEmitter();
+        broadcaster.subscribe(slow, event("snapshot"));
+
+        // Kapazität 2: das dritte ausstehende Event passt nicht mehr
+        broadcaster.broadcast(event("diff"));
+        broadcaster.broadcast(event("diff"));
+
+        assertTrue(slow.completed);
+        assertEquals(0, broadcaster.size());
+        assertEquals(1, broadcaster.slowDisconnects());
+
+        runQueued();
+        assertTrue(slow.sent.isEmpty());
+    }
+
+    @Test
+    void testFailedSendRemovesSubscriber() {
+        RecordingEmitter gone = new RecordingEmitter();
+        gone.failOnSend = true;
+        broadcaster.subscribe(gone, event("snapshot"));
+
+        runQueued();
+
+        assertTrue(gone.completed);
+        assertEquals(0, broadcaster.size());
+        assertEquals(0, broadcaster.slowDisconnects());
+    }
+
+    @Test
+    void testMaxSubscribers() {
+        assertTrue(broadcaster.subscribe(new RecordingEmitter(), null));
+        assertTrue(broadcaster.subscribe(new RecordingEmitter(), null));
+        assertTrue(broadcaster.subscribe(new RecordingEmitter(), null));
+        assertFalse(broadcaster.subscribe(new RecordingEmitter(), null));
+    }
+
+    /**
+     * SseEmitter ohne HTTP-Verbindung, merkt sich gesendete Events.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<Set<DataWithMediaType>> sent = new ArrayList<>();
+        private boolean failOnSend;
+        private boolean completed;
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            if (failOnSend) {
+                throw new IOException("Broken pipe");
+            }
+            sent.add(items);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * Diese Testklasse prüft den SseBroadcaster mit einem einsammelnden Executor:
+ * Events kommen in Reihenfolge bei allen Abonnenten an, ausstehende Events werden
+ * in einem Lauf gesendet, langsame Clients (volle Warteschlange) und getrennte
+ * Clients werden entfernt und die Anzahl Abonnenten ist begrenzt.
+ */
@@ -0,0 +1,199 @@
+package com.wiss.f1.championship.service.test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.wiss.f1.championship.dto.ResultRowDTO;
+import com.wiss.f1.championship.dto.StandingTotalDTO;
+import com.wiss.f1.championship.dto.StandingsRebuildDTO;
+import com.wiss.f1.championship.dto.TipRowDTO;
+import com.wiss.f1.championship.entity.Race;
+import com.wiss.f1.championship.entity.RaceScore;
+import com.wiss.f1.championship.entity.RaceStatus;
+import com.wiss.f1.championship.entity.UserStanding;
+import com.wiss.f1.championship.repository.AppUserRepository;
+import com.wiss.f1.championship.repository.OfficialResultRepository;
+import com.wiss.f1.championship.repository.RaceRepository;
+import com.wiss.f1.championship.repository.RaceScoreRepository;
+import com.wiss.f1.championship.repository.TipRepository;
+import com.wiss.f1.championship.repository.UserStandingRepository;
+import com.wiss.f1.championship.service.ScoringEngine;
+import com.wiss.f1.championship.service.StandingsService;
+
+/**
+ * Unit-Tests für StandingsService.
+ *
+ * Testfälle:
+ * - Punkteregeln (exakt, falsche Position, nicht im Ergebnis, Rennen ohne Ergebnis)
+ * - Neuberechnung eines einzelnen Rennens inkl. Saisonstände der betroffenen User
+ * - Nicht geschlossene Rennen haben keine Punkte
+ * - Gelöschtes Rennen: Saisonstände aller User werden nachgezogen
+ * - Vollständiger Rebuild mit konstanter Anzahl an Abfragen
+ */
+class StandingsServiceTest {
+
+    private RaceRepository raceRepository;
+    private TipRepository tipRepository;
+    private OfficialResultRepository officialResultRepository;
+    private RaceScoreRepository raceScoreRepository;
+    private UserStandingRepository userStandingRepository;
+    private StandingsService standingsService;
+
+    private Race closedRace;
+
+    @BeforeEach
+    void setUp() {
+        raceRepository = mock(RaceRepository.class);
+        tipRepository = mock(TipRepository.class);
+        officialResultRepository = mock(OfficialResultRepository.class);
+        raceScoreRepository = mock(RaceScoreRepository.class);
+        userStandingRepository = mock(UserStandingRepository.class);
+        standingsService = new StandingsService(raceRepository, mock(AppUserRepository.class), tipRepository,
+                officialResultRepository, raceScoreRepository, userStandingRepository, new ScoringEngine());
+
+        closedRace = new Race("Bahrain GP", LocalDate.of(2024, 3, 2),
+                "Bahrain International Circuit", "Sunny", RaceStatus.CLOSED);
+        closedRace.setId(10L);
+
+        // Rennen 10: P1 = Fahrer 100, P2 = 200, P3 = 300, P4 = 400
+        when(officialResultRepository.findResultRowsByRaceId(10L)).thenReturn(Arrays.asList(
+                new ResultRowDTO(10L, 1, 100L),
+                new ResultRowDTO(10L, 2, 200L),
+                new ResultRowDTO(10L, 3, 300L),
+                new ResultRowDTO(10L, 4, 400L)
+        ));
+        when(tipRepository.findTipRowsByRaceId(10L)).thenReturn(Arrays.asList(
+                // User 1: P1 exakt (5), P2 exakt (5), P4 falsche Position aber im Ergebnis (1)
+                new TipRowDTO(1L, 10L, 1, 100L),
+                new TipRowDTO(1L, 10L, 2, 200L),
+                new TipRowDTO(1L, 10L, 4, 300L),
+                // User 2: P1 falsche Position (2), P3 Fahrer nicht im Ergebnis (0)
+                new TipRowDTO(2L, 10L, 1, 200L),
+                new TipRowDTO(2L, 10L, 3, 999L)
+        ));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<RaceScore> captureSavedScores() {
+        ArgumentCaptor<List<RaceScore>> captor = ArgumentCaptor.forClass(List.class);
+        verify(raceScoreRepository).saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    void testRecomputeRaceScoresAndRefreshesTotals() {
+        // User 3 hatte vorher Punkte in diesem Rennen und muss ebenfalls aktualisiert werden
+        when(raceScoreRepository.findUserIdsByRaceId(10L)).thenReturn(new ArrayList<>(List.of(3L)));
+        when(raceRepository.findById(10L)).thenReturn(Optional.of(closedRace));
+        when(raceScoreRepository.sumPointsByUserIds(anyCollection())).thenReturn(Arrays.asList(
+                new StandingTotalDTO(1L, 11L, 1L),
+                new StandingTotalDTO(2L, 2L, 1L)
+        ));
+        UserStanding oldStanding = mock(UserStanding.class);
+        when(oldStanding.getUserId()).thenReturn(3L);
+        when(userStandingRepository.findAllById(any())).thenReturn(List.of(oldStanding));
+
+        standingsService.recomputeRace(10L);
+
+        verify(raceScoreRepository, times(1)).deleteByRaceId(10L);
+        List<RaceScore> scores = captureSavedScores();
+        assertEquals(2, scores.size());
+        assertEquals(11, scores.get(0).getPoints());
+        assertEquals(2, scores.get(1).getPoints());
+
+        // User 3 hat keine Punkte mehr → Stand wird entfernt
+        verify(userStandingRepository, times(1)).deleteAll(List.of(oldStanding));
+    }
+
+    @Test
+    void testRecomputeOpenRaceRemovesScores() {
+        Race openRace = new Race("Monaco GP", LocalDate.of(2024, 5, 26),
+                "Circuit de Monaco", "Sunny", RaceStatus.TIPPABLE);
+        openRace.setId(10L);
+        when(raceScoreRepository.findUserIdsByRaceId(10L)).thenReturn(new ArrayList<>(List.of(1L)));
+        when(raceRepository.findById(10L)).thenReturn(Optional.of(openRace));
+
+        standingsService.recomputeRace(10L);
+
+        verify(raceScoreRepository, times(1)).deleteByRaceId(10L);
+        verify(raceScoreRepository, never()).saveAll(any());
+        verify(tipRepository, never()).findTipRowsByRaceId(any());
+        verify(raceScoreRepository, times(1)).sumPointsByUserIds(List.of(1L));
+    }
+
+    @Test
+    void testRecomputeDeletedRaceRefreshesAllTotals() {
+        // Punkte hat removeRace schon entfernt; betroffen sein kann jeder User mit Stand
+        when(raceScoreRepository.findUserIdsByRaceId(10L)).thenReturn(new ArrayList<>());
+        when(raceRepository.findById(10L)).thenReturn(Optional.empty());
+        when(userStandingRepository.findAllUserIds()).thenReturn(List.of(1L, 2L));
+        when(raceScoreRepository.sumPointsByUserIds(anyCollection())).thenReturn(List.of(new StandingTotalDTO(1L, 4L, 1L)));
+        UserStanding onlyDeletedRace = mock(UserStanding.class);
+        when(onlyDeletedRace.getUserId()).thenReturn(2L);
+        when(userStandingRepository.findAllById(any())).thenReturn(List.of(onlyDeletedRace));
+
+        assertEquals(0, standingsService.recomputeRace(10L));
+
+        verify(raceScoreRepository, never()).saveAll(any());
+        // User 2 hatte nur im gelöschten Rennen Punkte
+        verify(userStandingRepository, times(1)).deleteAll(List.of(onlyDeletedRace));
+    }
+
+    @Test
+    void testRebuildAll() {
+        when(officialResultRepository.findClosedRaceResultRows()).thenReturn(Arrays.asList(
+                new ResultRowDTO(10L, 1, 100L),
+                new ResultRowDTO(20L, 1, 200L),
+                new ResultRowDTO(20L, 2, 100L)
+        ));
+        when(tipRepository.findClosedRaceTipRows()).thenReturn(Arrays.asList(
+                new TipRowDTO(1L, 10L, 1, 100L),  // exakt: 5
+                new TipRowDTO(1L, 20L, 1, 100L),  // falsche Position: 2
+                new TipRowDTO(2L, 30L, 1, 100L)   // Rennen ohne Ergebnis: keine Zeile
+        ));
+        when(raceScoreRepository.sumPointsForAllUsers()).thenReturn(List.of(new StandingTotalDTO(1L, 7L, 2L)));
+
+        StandingsRebuildDTO summary = standingsService.rebuildAll();
+
+        List<RaceScore> scores = captureSavedScores();
+        assertEquals(2, scores.size());
+        assertEquals(5, scores.get(0).getPoints());
+        assertEquals(2, scores.get(1).getPoints());
+        assertEquals(2, summary.getRacesScored());
+        assertEquals(2, summary.getScoreRows());
+        assertEquals(1, summary.getUsers());
+        assertTrue(summary.getDurationMs() >= 0);
+
+        verify(userStandingRepository, times(1)).deleteAllInBatch();
+        verify(raceScoreRepository, times(1)).deleteAllInBatch();
+        verify(officialResultRepository, never()).findByRaceId(any());
+        verify(tipRepository, never()).findByUserIdAndRaceId(any(), any());
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * StandingsServiceTest prüft die materialisierten Punktestände:
+ * - Punkteregeln (5/3 für exakte Treffer, 2/1 für falsche Position)
+ * - Neuberechnung eines Rennens und Nachziehen der betroffenen Saisonstände
+ * - Keine Punkte für nicht geschlossene Rennen
+ * - Rebuild aus zwei Bulk-Abfragen statt Abfragen pro User × Rennen
+ *
+ * Repositories werden mit Mockito gemockt, der ScoringEngine läuft real.
+ */
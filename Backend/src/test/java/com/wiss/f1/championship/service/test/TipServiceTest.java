@@ -0,0 +1,170 @@
+package com.wiss.f1.championship.service.test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.wiss.f1.championship.dto.TipResponseDTO;
+import com.wiss.f1.championship.entity.AppUser;
+import com.wiss.f1.championship.entity.Driver;
+import com.wiss.f1.championship.entity.Race;
+import com.wiss.f1.championship.entity.RaceStatus;
+import com.wiss.f1.championship.entity.Role;
+import com.wiss.f1.championship.entity.Tip;
+import com.wiss.f1.championship.event.TipsSavedEvent;
+import com.wiss.f1.championship.repository.DriverRepository;
+import com.wiss.f1.championship.repository.TipRepository;
+import com.wiss.f1.championship.service.DriverService;
+import com.wiss.f1.championship.service.TipService;
+
+/**
+ * Unit-Tests für TipService.
+ *
+ * Testfälle:
+ * - Speichern eines Tipps: Namen aus dem Fahrerverzeichnis, ein Bulk-Delete, ein Batch-Insert
+ * - Unbekannter Fahrer → IllegalArgumentException, nichts wird geschrieben
+ * - Batch für mehrere Rennen, ein TipsSavedEvent pro Rennen (Neuberechnung im ScoringJobService)
+ */
+class TipServiceTest {
+
+    private TipRepository tipRepository;
+    private DriverRepository driverRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private TipService tipService;
+
+    private AppUser player;
+    private Race openRace;
+    private Race closedRace;
+
+    // Hilfsmethode zum Setzen der privaten ID
+    private void setId(Object entity, Long id) {
+        try {
+            java.lang.reflect.Field idField = entity.getClass().getDeclaredField("id");
+            idField.setAccessible(true);
+            idField.set(entity, id);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private Driver driver(long id, String name) {
+        Driver driver = new Driver();
+        driver.setName(name);
+        setId(driver, id);
+        return driver;
+    }
+
+    @BeforeEach
+    void setUp() {
+        tipRepository = mock(TipRepository.class);
+        driverRepository = mock(DriverRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        tipService = new TipService(tipRepository, new DriverService(driverRepository, event -> { }), eventPublisher);
+
+        player = new AppUser("player1", "player1@test.com", "pw", Role.PLAYER);
+        setId(player, 1L);
+
+        openRace = new Race("Bahrain GP", LocalDate.of(2024, 3, 2),
+                "Bahrain International Circuit", "Sunny", RaceStatus.TIPPABLE);
+        openRace.setId(10L);
+        closedRace = new Race("Saudi Arabian GP", LocalDate.of(2024, 3, 9),
+                "Jeddah Corniche Circuit", "Clear", RaceStatus.CLOSED);
+        closedRace.setId(20L);
+
+        when(driverRepository.findAll()).thenReturn(Arrays.asList(
+                driver(100L, "Max Verstappen"),
+                driver(200L, "Lewis Hamilton"),
+                driver(300L, "Charles Leclerc")
+        ));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Tip> captureInsertedTips() {
+        ArgumentCaptor<List<Tip>> captor = ArgumentCaptor.forClass(List.class);
+        verify(tipRepository, times(1)).insertAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    void testSaveOrUpdateTipUsesBulkStatements() {
+        List<Tip> saved = tipService.saveOrUpdateTip(player, openRace,
+                Arrays.asList("Max Verstappen", "", "Lewis Hamilton"));
+
+        assertEquals(2, saved.size());
+        List<Tip> inserted = captureInsertedTips();
+        assertEquals(1, inserted.get(0).getPredictedPosition());
+        assertEquals(100L, inserted.get(0).getDriver().getId());
+        assertEquals(3, inserted.get(1).getPredictedPosition()); // leerer Eintrag wird übersprungen
+
+        verify(driverRepository, times(1)).findAll(); // Fahrerverzeichnis einmal geladen
+        verify(driverRepository, never()).findByName(any());
+        verify(tipRepository, times(1)).deleteByUserIdAndRaceIdIn(1L, List.of(10L));
+        verify(tipRepository, never()).deleteAll(anyList());
+    }
+
+    @Test
+    void testSaveOrUpdateTipWithUnknownDriver() {
+        assertThrows(IllegalArgumentException.class, () ->
+                tipService.saveOrUpdateTip(player, openRace, Arrays.asList("Max Verstappen", "Unbekannt")));
+
+        verify(tipRepository, never()).deleteByUserIdAndRaceIdIn(any(), any());
+        verify(tipRepository, never()).insertAll(any());
+    }
+
+    @Test
+    void testSaveOrUpdateTipsForSeveralRaces() {
+        Map<Race, List<String>> ordersByRace = new LinkedHashMap<>();
+        ordersByRace.put(openRace, Arrays.asList("Max Verstappen", "Lewis Hamilton"));
+        ordersByRace.put(closedRace, Arrays.asList("Charles Leclerc"));
+
+        List<TipResponseDTO> responses = tipService.saveOrUpdateTips(player, ordersByRace);
+
+        assertEquals(2, responses.size());
+        assertEquals(10L, responses.get(0).getRaceId());
+        assertEquals(Arrays.asList("Max Verstappen", "Lewis Hamilton"), responses.get(0).getOrder());
+        assertEquals(20L, responses.get(1).getRaceId());
+        assertEquals(Arrays.asList("Charles Leclerc"), responses.get(1).getOrder());
+
+        // Zeitpunkt aus den gespeicherten Tipps, nicht ein eigener
+        List<Tip> inserted = captureInsertedTips();
+        assertEquals(3, inserted.size());
+        assertEquals(inserted.get(0).getUpdatedAt(), responses.get(0).getUpdatedAt());
+        assertEquals(inserted.get(2).getUpdatedAt(), responses.get(1).getUpdatedAt());
+        verify(driverRepository, times(1)).findAll();
+        verify(tipRepository, times(1)).deleteByUserIdAndRaceIdIn(1L, new ArrayList<>(List.of(10L, 20L)));
+        // Neu gewertet wird im Hintergrund (ScoringJobService) anhand des Rennstatus im Event
+        verify(eventPublisher, times(1)).publishEvent(new TipsSavedEvent(1L, 10L, RaceStatus.TIPPABLE));
+        verify(eventPublisher, times(1)).publishEvent(new TipsSavedEvent(1L, 20L, RaceStatus.CLOSED));
+        verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+    }
+}
+
+/*
+ * Zusammenfassung:
+ * TipServiceTest prüft den Schreibpfad für Tipps:
+ * - Fahrernamen werden aus dem Fahrerverzeichnis aufgelöst (keine Abfrage pro Name)
+ * - Alte Tipps per Bulk-Delete, neue per Batch-Insert (keine Statements pro Zeile)
+ * - Unbekannte Fahrer brechen ab, bevor geschrieben wird
+ * - Batch über mehrere Rennen, ein TipsSavedEvent pro Rennen mit dessen Status
+ * - Antwort des Batches trägt den gespeicherten Zeitpunkt (updated_at)
+ *
+ * Repositories werden mit Mockito gemockt, der DriverService läuft real.
+ */
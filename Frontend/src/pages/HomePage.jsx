@@ -9,43 +9,80 @@
  *
  * Diese Seite ist öffentlich zugänglich und benötigt keine Authentifizierung.
  * Sie dient als Landing Page und Einstiegspunkt für neue und bestehende Benutzer.
+ *
+ * Geladen werden nur die nächsten 3 Rennen und die Anzahl pro Status; Filter,
+ * Sortierung und Zählung übernimmt das Backend.
  */
 import { useEffect, useMemo, useState } from "react";
 import { useNavigate } from "react-router-dom";
 import { getTrackVisual } from "../data/tracks";
-import { getAllRaces } from "../services/raceService.js";
+import {
+  getRaceCounts,
+  getUpcomingRaces,
+  subscribeRaceChanges,
+} from "../services/raceService.js";
 import { ApiError } from "../utils/api.js";
 import { getErrorMessage } from "../utils/errorHandler.js";
 import LoadingSpinner from "../components/common/LoadingSpinner.jsx";
 import ErrorMessage from "../components/common/ErrorMessage.jsx";
 
+/**
+ * fetchRaceOverview - Lädt die Daten der Startseite (zwei kleine Requests)
+ *
+ * - upcoming: die nächsten 3 nicht geschlossenen Rennen nach Datum
+ * - stats: Anzahl der Rennen nach Status
+ *   - total: Gesamtanzahl aller Rennen
+ *   - planned: Rennen im Status "open"
+ *   - tipping: Rennen im Status "voting" (Tippfenster offen)
+ *   - closed: Rennen im Status "closed" (abgeschlossen)
+ *
+ * @returns {Promise<Object>} { upcoming, stats }
+ */
+async function fetchRaceOverview() {
+  const [upcoming, counts] = await Promise.all([
+    getUpcomingRaces(3),
+    getRaceCounts(),
+  ]);
+  return {
+    upcoming,
+    stats: {
+      total: counts.total,
+      planned: counts.open,
+      tipping: counts.voting,
+      closed: counts.closed,
+    },
+  };
+}
+
+const EMPTY_STATS = { total: 0, planned: 0, tipping: 0, closed: 0 };
+
 function HomePage() {
   const navigate = useNavigate();
 
   /**
-   * State für Rennen und UI-Status
+   * State für Rennen, Kennzahlen und UI-Status
    */
-  const [races, setRaces] = useState([]);
+  const [upcomingRaces, setUpcomingRaces] = useState([]);
+  const [stats, setStats] = useState(EMPTY_STATS);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
 
   /**
-   * Effect: Lädt alle Rennen vom Backend beim ersten Rendern
-   *
-   * Die Rennen werden verwendet, um Statistiken zu berechnen und
-   * anstehende Events anzuzeigen.
+   * Effect: Lädt die nächsten Rennen und die Kennzahlen beim ersten Rendern
    */
   useEffect(() => {
     const fetchRaces = async () => {
       setLoading(true);
       setError(null);
       try {
-        const racesData = await getAllRaces();
-        setRaces(racesData);
+        const overview = await fetchRaceOverview();
+        setUpcomingRaces(overview.upcoming);
+        setStats(overview.stats);
       } catch (err) {
         console.error("Fehler beim Laden der Rennen:", err);
         setError(err);
-        setRaces([]);
+        setUpcomingRaces([]);
+        setStats(EMPTY_STATS);
       } finally {
         setLoading(false);
       }
@@ -55,28 +92,21 @@ function HomePage() {
   }, []);
 
   /**
-   * stats - Statistische Zusammenfassung aller Rennen
+   * Effect: Übernimmt Änderungen an Rennen live vom Backend
    *
-   * Berechnet die Anzahl der Rennen nach Status:
-   * - total: Gesamtanzahl aller Rennen
-   * - planned: Rennen im Status "open"
-   * - tipping: Rennen im Status "voting" (Tippfenster offen)
-   * - closed: Rennen im Status "closed" (abgeschlossen)
-   *
-   * Wird mit useMemo optimiert, um Neuberechnungen nur bei Änderungen
-   * der Rennen-Liste durchzuführen.
+   * Jede Änderung kann die nächsten Rennen und die Kennzahlen verschieben;
+   * beide sind klein und werden daher einfach neu geladen.
    */
-  const stats = useMemo(() => {
-    const planned = races.filter((race) => race.status === "open").length;
-    const tipping = races.filter((race) => race.status === "voting").length;
-    const closed = races.filter((race) => race.status === "closed").length;
-    return {
-      total: races.length,
-      planned,
-      tipping,
-      closed,
-    };
-  }, [races]);
+  useEffect(
+    () =>
+      subscribeRaceChanges(() => {
+        fetchRaceOverview().then((overview) => {
+          setUpcomingRaces(overview.upcoming);
+          setStats(overview.stats);
+        });
+      }),
+    []
+  );
 
   /**
    * Mapping-Tabellen für UI-Labels
@@ -97,42 +127,13 @@ function HomePage() {
   };
 
   /**
-   * upcomingRaces - Ermittelt die nächsten anstehenden Rennen
-   *
-   * Filtert alle nicht-geschlossenen Rennen, sortiert sie nach Datum
-   * (aufsteigend) und gibt die ersten 3 zurück.
-   *
-   * Wird mit useMemo optimiert.
-   */
-  const upcomingRaces = useMemo(() => {
-    const parseDate = (value) => (value ? new Date(value) : null);
-    return [...races]
-      .filter((race) => race.status !== "closed")
-      .sort((a, b) => {
-        const da = parseDate(a.date);
-        const db = parseDate(b.date);
-        if (!da && !db) return 0;
-        if (!da) return 1;
-        if (!db) return -1;
-        return da - db;
-      })
-      .slice(0, 3);
-  }, [races]);
-
-  /**
-   * Gefilterte Rennen-Listen nach Status
+   * votingRaces - Rennen mit offenem Tippfenster unter den nächsten Rennen
    *
    * Wird verwendet zur Darstellung in Info-Karten und CTA-Bereichen.
-   * Wird mit useMemo optimiert.
    */
   const votingRaces = useMemo(
-    () => races.filter((race) => race.status === "voting"),
-    [races]
-  );
-
-  const plannedRaces = useMemo(
-    () => races.filter((race) => race.status === "open"),
-    [races]
+    () => upcomingRaces.filter((race) => race.status === "voting"),
+    [upcomingRaces]
   );
 
   /**
@@ -390,9 +391,9 @@ function HomePage() {
           <p className="home-eyebrow">Kurz gesagt</p>
           <h3>Planung</h3>
           <p>
-            {plannedRaces.length === 0
+            {stats.planned === 0
               ? "Noch keine geplanten Rennen eingetragen."
-              : `${plannedRaces.length} Rennen in Planung, ${votingRaces.length} Voting offen.`}
+              : `${stats.planned} Rennen in Planung, ${stats.tipping} Voting offen.`}
           </p>
         </div>
         <div className="home-summary-card">
@@ -7,8 +7,8 @@
  * - Die Ergebnisse zu speichern (schließt das Rennen automatisch)
  * - Eine Zufallsreihenfolge zu generieren (für Tests)
  *
- * Beim Speichern werden sowohl die resultsOrder im Race aktualisiert als auch
- * die offiziellen Ergebnisse (OfficialResult) erstellt.
+ * Beim Speichern schreibt das Backend die offiziellen Ergebnisse (OfficialResult)
+ * in einem Aufruf; resultsOrder wird daraus abgeleitet.
  */
 import { useEffect, useState } from "react";
 import {
@@ -17,7 +17,6 @@ import {
   TEAM_CLASS_MAP,
 } from "../../data/drivers";
 import { getAllRaces, updateRaceResults } from "../../services/raceService.js";
-import { createResultsForRace } from "../../services/resultService.js";
 import { ApiError } from "../../utils/api.js";
 
 /**
@@ -175,9 +174,8 @@ function AdminOfficialResultsPage() {
   /**
    * handleSave - Speichert die offizielle Reihenfolge des ausgewählten Rennens
    *
-   * Speichert die Ergebnisse in zwei Schritten:
-   * 1. Aktualisiert die resultsOrder im Race-Objekt
-   * 2. Erstellt die offiziellen Ergebnisse (OfficialResult) für die Punkteberechnung
+   * Ein einziger Aufruf ersetzt die offiziellen Ergebnisse (OfficialResult),
+   * die auch der Punkteberechnung zugrunde liegen.
    *
    * Nach dem Speichern wird das Rennen automatisch auf "closed" gesetzt.
    */
@@ -200,12 +198,9 @@ function AdminOfficialResultsPage() {
     setMessage("");
 
     try {
-      // Schritt 1: Ergebnisse über API speichern (resultsOrder im Race)
+      // Ergebnisse über API speichern (ersetzt alle OfficialResults des Rennens)
       const updatedRace = await updateRaceResults(selectedId, resultsOrder);
 
-      // Schritt 2: Offizielle Ergebnisse (OfficialResult) erstellen für Punkteberechnung
-      await createResultsForRace(selectedId, resultsOrder, driversByName);
-
       // Lokalen State aktualisieren mit den neuen Daten vom Backend
       const next = races.map((race) =>
         String(race.id) === String(selectedId)
@@ -219,7 +214,7 @@ function AdminOfficialResultsPage() {
       setRaces(next);
 
       setMessage(
-        "Ergebnisse erfolgreich gespeichert. Rennen wurde automatisch geschlossen."
+        "Ergebnisse erfolgreich gespeichert. Rennen wurde automatisch geschlossen, die Punkte werden im Hintergrund berechnet."
       );
     } catch (err) {
       console.error("Fehler beim Speichern der Ergebnisse:", err);
@@ -4,19 +4,13 @@
  * Ermöglicht Administratoren:
  * - Neue Rennen zu erstellen (Strecke, Datum, Wetter, Reifen, Status)
  * - Bestehende Rennen zu bearbeiten
- * - Fahrer für das Rennen auszuwählen (Standard: alle Fahrer vorselektiert)
  * - Status des Rennens zu setzen (open, voting, closed)
  *
- * Beim Erstellen werden standardmäßig alle Fahrer ausgewählt.
  * Beim Bearbeiten werden die vorhandenen Daten geladen.
+ * Ergebnisse werden nicht hier, sondern auf der Ergebnis-Seite erfasst.
  */
 import { useEffect, useState } from "react";
 import { useNavigate, useParams } from "react-router-dom";
-import {
-  getStoredDrivers,
-  getDriverTeam,
-  TEAM_CLASS_MAP,
-} from "../../data/drivers";
 import { TRACK_OPTIONS } from "../../data/tracks";
 import {
   getRaceById,
@@ -27,20 +21,6 @@ import { ApiError } from "../../utils/api.js";
 import LoadingSpinner from "../../components/common/LoadingSpinner.jsx";
 import ErrorMessage from "../../components/common/ErrorMessage.jsx";
 
-/**
- * DRIVER_LIMIT - Maximale Anzahl von Fahrern pro Rennen
- */
-const DRIVER_LIMIT = 20;
-
-/**
- * TEAM_COLOR_CLASS - Gibt die CSS-Klasse für ein Team zurück
- *
- * @param {string} teamName - Name des Teams
- * @returns {string} CSS-Klasse für das Team
- */
-const TEAM_COLOR_CLASS = (teamName) =>
-  TEAM_CLASS_MAP[teamName] || "team-default";
-
 function AdminRaceFormPage() {
   const navigate = useNavigate();
   // Race-ID aus URL-Parametern (wenn vorhanden, ist es ein Edit-Modus)
@@ -56,12 +36,6 @@ function AdminRaceFormPage() {
   const [status, setStatus] = useState("");
   // Für Edit-Modus: ursprünglicher Status (wird beibehalten, wenn kein neuer Status ausgewählt wird)
   const [originalStatus, setOriginalStatus] = useState("");
-  // Liste der ausgewählten Fahrer (als Namen)
-  const [drivers, setDrivers] = useState([]);
-  // Liste aller verfügbaren Fahrer (für Auswahl)
-  const [driverOptions, setDriverOptions] = useState([]);
-  // Fehlermeldung für Fahrer-Auswahl (z.B. Limit überschritten)
-  const [driverError, setDriverError] = useState("");
   // Loading-State für Laden von Rennen-Daten (nur im Edit-Modus)
   const [loading, setLoading] = useState(false);
   // Saving-State für Speicher-Operationen
@@ -77,38 +51,6 @@ function AdminRaceFormPage() {
       ? track
       : null;
 
-  /**
-   * Effect: Lädt alle verfügbaren Fahrer vom Backend
-   *
-   * Wird beim ersten Rendern ausgeführt, um die Liste der verfügbaren
-   * Fahrer für die Auswahl zu laden.
-   */
-  useEffect(() => {
-    const loadDrivers = async () => {
-      try {
-        const drivers = await getStoredDrivers();
-        setDriverOptions(drivers);
-      } catch (error) {
-        console.error("Fehler beim Laden der Fahrer:", error);
-        setDriverOptions([]);
-      }
-    };
-    loadDrivers();
-  }, []);
-
-  /**
-   * Effect: Bei neuem Rennen alle Fahrer vorselektieren
-   *
-   * Im Create-Modus werden standardmäßig alle verfügbaren Fahrer
-   * vorselektiert. Der Benutzer kann dann einzelne Fahrer abwählen.
-   */
-  useEffect(() => {
-    if (!isEdit && driverOptions.length > 0 && drivers.length === 0) {
-      // eslint-disable-next-line react-hooks/set-state-in-effect
-      setDrivers(driverOptions.map((driver) => driver.name));
-    }
-  }, [driverOptions, isEdit, drivers.length]);
-
   /**
    * Effect: Bei Edit-Modus vorhandene Daten vom Backend laden
    *
@@ -135,7 +77,6 @@ function AdminRaceFormPage() {
         const existingStatus = existing.status || "";
         setStatus(existingStatus);
         setOriginalStatus(existingStatus); // Speichere ursprünglichen Status
-        setDrivers(existing.drivers || existing.resultsOrder || []);
       } catch (err) {
         console.error("Fehler beim Laden des Rennens:", err);
         setError(err);
@@ -148,32 +89,6 @@ function AdminRaceFormPage() {
     loadRaceData();
   }, [isEdit, raceId, navigate]);
 
-  /**
-   * toggleDriver - Fügt einen Fahrer hinzu oder entfernt ihn aus der Fahrer-Liste
-   *
-   * Wenn der Fahrer bereits ausgewählt ist, wird er entfernt.
-   * Wenn der Fahrer nicht ausgewählt ist, wird er hinzugefügt (falls Limit nicht überschritten).
-   *
-   * @param {string} driverName - Name des Fahrers
-   */
-  const toggleDriver = (driverName) => {
-    setDrivers((prev) => {
-      // Fahrer bereits ausgewählt → entfernen
-      if (prev.includes(driverName)) {
-        setDriverError("");
-        return prev.filter((d) => d !== driverName);
-      }
-      // Limit erreicht → Fehler anzeigen
-      if (prev.length >= DRIVER_LIMIT) {
-        setDriverError(`Maximal ${DRIVER_LIMIT} Fahrer wählbar.`);
-        return prev;
-      }
-      // Fahrer hinzufügen
-      setDriverError("");
-      return [...prev, driverName];
-    });
-  };
-
   /**
    * handleSubmit - Speichert das Rennen (Create oder Update) über API
    *
@@ -212,8 +127,6 @@ function AdminRaceFormPage() {
         weather: weather || "sunny",
         tyres: tyres || null,
         status: finalStatus,
-        // Fahrer werden als resultsOrder gespeichert
-        resultsOrder: drivers || [],
       };
 
       if (isEdit) {
@@ -247,8 +160,8 @@ function AdminRaceFormPage() {
             {isEdit ? "Renndaten aktualisieren" : "Neues Rennen erstellen"}
           </h1>
           <p className="admin-sub">
-            Kerninfos eintragen, Fahrerfeld bei Bedarf ausdünnen. Standardmäßig
-            sind alle Fahrer ausgewählt, du entfernst nur Abmeldungen.
+            Kerninfos eintragen. Die Ergebnisse erfasst du nach dem Rennen auf
+            der Ergebnis-Seite.
           </p>
         </div>
       </header>
@@ -356,70 +269,6 @@ function AdminRaceFormPage() {
           </div>
         </section>
 
-        <section className="race-form-section">
-          <div className="race-form-section-header">
-            <span className="race-form-bar" />
-            <div>
-              <p className="admin-eyebrow">Fahrerfeld</p>
-              <h2>Teilnehmende Fahrer</h2>
-            </div>
-            <div className="race-form-legend-row">
-              <div className="race-driver-legend" aria-hidden="true">
-                <div className="race-driver-legend-item">
-                  <span className="race-driver-legend-chip is-selected" />
-                  <span>Ausgewählt</span>
-                </div>
-                <div className="race-driver-legend-item">
-                  <span className="race-driver-legend-chip" />
-                  <span>Nicht ausgewählt</span>
-                </div>
-              </div>
-            </div>
-            <div className="race-form-counter">
-              {drivers.length}/{DRIVER_LIMIT}
-            </div>
-          </div>
-
-          {driverError && <p className="race-driver-error">{driverError}</p>}
-
-          <div className="race-driver-grid">
-            {driverOptions.map((driver) => {
-              const isSelected = drivers.includes(driver.name);
-              const teamClass = TEAM_COLOR_CLASS(
-                getDriverTeam(driver.name) || driver.team
-              );
-
-              return (
-                <label
-                  key={driver.name}
-                  className={`race-driver-card ${
-                    isSelected ? "is-selected" : "is-deselected"
-                  }`}
-                >
-                  <input
-                    type="checkbox"
-                    checked={isSelected}
-                    onChange={() => toggleDriver(driver.name)}
-                    className="race-driver-checkbox-input"
-                    aria-label={`${driver.name} ${
-                      isSelected ? "abwählen" : "hinzufügen"
-                    }`}
-                  />
-                  <span
-                    className={`race-driver-stripe ${teamClass}`}
-                    aria-hidden="true"
-                  />
-                  <span className="race-driver-check" aria-hidden="true" />
-                  <div className="race-driver-card-body">
-                    <span className="race-driver-name">{driver.name}</span>
-                    <span className="race-driver-team">{driver.team}</span>
-                  </div>
-                </label>
-              );
-            })}
-          </div>
-        </section>
-
         <div className="race-form-actions">
           <button type="submit" disabled={saving}>
             {saving ? "Speichern..." : isEdit ? "Aktualisieren" : "Speichern"}
@@ -10,11 +10,16 @@
  *
  * Alle Daten werden vom Backend geladen und in übersichtlichen Karten dargestellt.
  */
-import { useContext, useEffect, useMemo, useState } from "react";
+import { useContext, useEffect, useState } from "react";
 import { useNavigate } from "react-router-dom";
 import { AuthContext } from "../../contexts/AuthContext.js";
 import { getTrackVisual } from "../../data/tracks";
-import { getAllRaces } from "../../services/raceService.js";
+import {
+  getRaceCounts,
+  getRaces,
+  getUpcomingRaces,
+  subscribeRaceChanges,
+} from "../../services/raceService.js";
 
 /**
  * Mapping-Tabellen für die UI-Anzeige der Renn- und Wetterstatus-Werte
@@ -31,6 +36,28 @@ const weatherLabel = {
   rain: "Regen",
 };
 
+const EMPTY_STATS = { total: 0, open: 0, voting: 0, closed: 0 };
+
+/**
+ * fetchRaceOverview - Lädt die Renndaten des Dashboards (drei kleine Requests)
+ *
+ * - nextRace: das nächste nicht geschlossene Rennen (oder null)
+ * - votingRaces: Rennen im Voting-Status, nach Datum aufsteigend
+ * - stats: Anzahl der Rennen nach Status (total, open, voting, closed)
+ *
+ * Filter, Sortierung und Zählung übernimmt das Backend.
+ *
+ * @returns {Promise<Object>} { nextRace, votingRaces, stats }
+ */
+async function fetchRaceOverview() {
+  const [upcoming, votingRaces, stats] = await Promise.all([
+    getUpcomingRaces(1),
+    getRaces({ status: "voting", sort: "date" }),
+    getRaceCounts(),
+  ]);
+  return { nextRace: upcoming[0] || null, votingRaces, stats };
+}
+
 function PlayerDashboardPage() {
   /**
    * Zugriff auf aktuellen Benutzer aus dem globalen Auth-Kontext
@@ -40,9 +67,11 @@ function PlayerDashboardPage() {
   const navigate = useNavigate();
 
   /**
-   * State für Rennen und Loading-Status
+   * State für Rennen, Kennzahlen und Loading-Status
    */
-  const [races, setRaces] = useState([]);
+  const [nextRace, setNextRace] = useState(null);
+  const [votingRaces, setVotingRaces] = useState([]);
+  const [stats, setStats] = useState(EMPTY_STATS);
   const [racesLoading, setRacesLoading] = useState(true);
 
   /**
@@ -62,17 +91,25 @@ function PlayerDashboardPage() {
   };
 
   /**
-   * Effect: Lädt alle Rennen vom Backend beim ersten Rendern
+   * applyOverview - Übernimmt geladene Renndaten in den State
+   */
+  const applyOverview = (overview) => {
+    setNextRace(overview.nextRace);
+    setVotingRaces(overview.votingRaces);
+    setStats(overview.stats);
+  };
+
+  /**
+   * Effect: Lädt nächstes Rennen, Voting-Rennen und Kennzahlen beim ersten Rendern
    */
   useEffect(() => {
     const fetchRaces = async () => {
       setRacesLoading(true);
       try {
-        const racesData = await getAllRaces();
-        setRaces(racesData);
+        applyOverview(await fetchRaceOverview());
       } catch (error) {
         console.error("Fehler beim Laden der Rennen:", error);
-        setRaces([]);
+        applyOverview({ nextRace: null, votingRaces: [], stats: EMPTY_STATS });
       } finally {
         setRacesLoading(false);
       }
@@ -82,57 +119,19 @@ function PlayerDashboardPage() {
   }, []);
 
   /**
-   * stats - Berechnet Statistiken über alle Rennen
+   * Effect: Übernimmt Änderungen an Rennen live vom Backend
    *
-   * Wird mit useMemo optimiert, um Neuberechnungen nur bei Änderungen
-   * der Rennen-Liste durchzuführen.
+   * Jede Änderung kann das nächste Rennen, die Voting-Liste und die
+   * Kennzahlen verschieben; alle drei sind klein und werden neu geladen.
    */
-  const stats = useMemo(() => {
-    const open = races.filter((race) => race.status === "open").length;
-    const voting = races.filter((race) => race.status === "voting").length;
-    const closed = races.filter((race) => race.status === "closed").length;
-    return {
-      total: races.length,
-      open,
-      voting,
-      closed,
-    };
-  }, [races]);
-
-  /**
-   * Gefilterte Rennen-Listen nach Status
-   *
-   * Wird mit useMemo optimiert, um Neuberechnungen nur bei Änderungen
-   * der Rennen-Liste durchzuführen.
-   */
-  const votingRaces = useMemo(
-    () => races.filter((race) => race.status === "voting"),
-    [races]
-  );
-  const openRaces = useMemo(
-    () => races.filter((race) => race.status === "open"),
-    [races]
+  useEffect(
+    () =>
+      subscribeRaceChanges(() => {
+        fetchRaceOverview().then(applyOverview);
+      }),
+    []
   );
 
-  /**
-   * nextRace - Ermittelt das nächste anstehende Rennen
-   *
-   * Filtert alle nicht-geschlossenen Rennen und sortiert sie nach Datum.
-   * Gibt das Rennen mit dem frühesten Datum zurück.
-   */
-  const nextRace = useMemo(() => {
-    const toTimestamp = (value) => {
-      if (!value) return Number.POSITIVE_INFINITY;
-      const parsed = Date.parse(value);
-      return Number.isNaN(parsed) ? Number.POSITIVE_INFINITY : parsed;
-    };
-    return (
-      [...races]
-        .filter((race) => race.status !== "closed")
-        .sort((a, b) => toTimestamp(a.date) - toTimestamp(b.date))[0] || null
-    );
-  }, [races]);
-
   /**
    * Hilfsfunktionen zur formatierten Ausgabe von Datums- und Zeitwerten
    */
@@ -462,11 +461,11 @@ function PlayerDashboardPage() {
           <div className="player-grid-stats">
             <div className="player-stat-tile">
               <span>Geplante Rennen</span>
-              <strong>{openRaces.length}</strong>
+              <strong>{stats.open}</strong>
             </div>
             <div className="player-stat-tile">
               <span>Tippen aktiv</span>
-              <strong>{votingRaces.length}</strong>
+              <strong>{stats.voting}</strong>
             </div>
             <div className="player-stat-tile">
               <span>Abgeschlossen</span>
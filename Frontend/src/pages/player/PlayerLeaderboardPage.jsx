@@ -15,10 +15,12 @@ import { useNavigate } from "react-router-dom";
 import { AuthContext } from "../../contexts/AuthContext.js";
 import { TEAM_CLASS_MAP } from "../../data/drivers";
 import { getTrackVisual } from "../../data/tracks";
-import { loadPlayerProfile } from "../../utils/profile";
-import { loadPlayerTips } from "../../utils/tips";
-import { getAllRaces } from "../../services/raceService.js";
-import { getLeaderboard } from "../../services/leaderboardService.js";
+import {
+  getAllRaces,
+  subscribeRaceChanges,
+} from "../../services/raceService.js";
+import { subscribeLeaderboard } from "../../services/leaderboardService.js";
+import { getPlayerDashboard } from "../../services/dashboardService.js";
 
 /**
  * TEAM_COLOR_PALETTE - Farbzuordnung für Teams
@@ -181,33 +183,31 @@ function PlayerLeaderboardPage() {
   /**
    * Effect: Lädt alle benötigten Daten vom Backend
    *
-   * Lädt parallel:
+   * Ein einziger Request (GET /player/dashboard) liefert:
    * - Alle Rennen
    * - Spielerprofil
-   * - Gespeicherte Tipps (nur wenn User eingeloggt)
-   * - Leaderboard (Rangliste aller Spieler)
+   * - Gespeicherte Tipps
+   * - Top-Spieler und eigene Position im Leaderboard
+   *
+   * Die komplette Rangliste kommt danach über den Live-Stream.
    */
   useEffect(() => {
+    if (!user?.id) {
+      setLoading(false);
+      return;
+    }
+
     const fetchData = async () => {
       setLoading(true);
       try {
-        // Rennen vom Backend laden
-        const racesData = await getAllRaces();
-        setRaces(racesData);
-
-        // Profil vom Backend laden
-        const profileData = await loadPlayerProfile();
-        setProfile(profileData);
-
-        // Tipps vom Backend laden (nur wenn User eingeloggt ist)
-        if (user?.id) {
-          const tipsData = await loadPlayerTips(user.id);
-          setTips(tipsData);
-        }
-
-        // Leaderboard vom Backend laden
-        const leaderboardData = await getLeaderboard();
-        setLeaderboard(leaderboardData);
+        const dashboard = await getPlayerDashboard();
+        setRaces(dashboard.races);
+        setProfile(dashboard.profile);
+        setTips(dashboard.tips);
+        // Nicht überschreiben, falls der Live-Stream schon die ganze Liste geliefert hat
+        setLeaderboard((current) =>
+          current.length > 0 ? current : dashboard.leaderboard
+        );
       } catch (error) {
         console.error("Fehler beim Laden der Daten:", error);
         setRaces([]);
@@ -222,6 +222,27 @@ function PlayerLeaderboardPage() {
     fetchData();
   }, [user]);
 
+  /**
+   * Effect: Hält die Rangliste live aktuell
+   *
+   * Das Backend pusht nach jeder Punkteberechnung nur die geänderten
+   * Einträge (Server-Sent Events) statt regelmäßig die ganze Liste zu laden.
+   * Wird ein Rennen geschlossen, werden die Rennen für die Renn-Bewertungen
+   * neu geladen.
+   */
+  useEffect(() => {
+    const stopLeaderboard = subscribeLeaderboard(setLeaderboard);
+    const stopRaces = subscribeRaceChanges((change) => {
+      if (change.type === "CLOSED") {
+        getAllRaces().then(setRaces);
+      }
+    });
+    return () => {
+      stopLeaderboard();
+      stopRaces();
+    };
+  }, []);
+
   // Filtert nur vollständig geschlossene Rennen, die offizielle Ergebnisse besitzen
   const closedRaces = useMemo(
     () =>
@@ -15,6 +15,7 @@ import { AuthContext } from "../../contexts/AuthContext.js";
 import { getTrackVisual } from "../../data/tracks";
 import { loadPlayerTips } from "../../utils/tips";
 import { getAllRaces } from "../../services/raceService.js";
+import { getPlayerDashboard } from "../../services/dashboardService.js";
 
 /**
  * Übersetzungs-Tabellen für UI-Anzeige von Renn- und Wetterstatus
@@ -59,18 +60,22 @@ function PlayerRaceListPage() {
   /**
    * Effect: Lädt Rennen und gespeicherte Tipps vom Backend
    *
-   * Tipps werden nur geladen, wenn ein User eingeloggt ist.
+   * Eingeloggte Spieler: ein einziger Request (GET /player/dashboard) liefert
+   * Rennen und eigene Tipps. Admins haben kein Spieler-Dashboard und laden
+   * beides einzeln; ohne Login werden nur die Rennen geladen.
    */
   useEffect(() => {
     const fetchData = async () => {
       try {
-        const racesData = await getAllRaces();
-        setRaces(racesData);
-
-        // Tipps nur laden, wenn User eingeloggt ist
-        if (user?.id) {
-          const tipsData = await loadPlayerTips(user.id);
-          setTips(tipsData);
+        if (user?.id && user.role === "PLAYER") {
+          const dashboard = await getPlayerDashboard();
+          setRaces(dashboard.races);
+          setTips(dashboard.tips);
+        } else {
+          setRaces(await getAllRaces());
+          if (user?.id) {
+            setTips(await loadPlayerTips(user.id));
+          }
         }
       } catch (error) {
         console.error("Fehler beim Laden der Daten:", error);
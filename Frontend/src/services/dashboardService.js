@@ -0,0 +1,51 @@
+/**
+ * dashboardService - Lädt alle Daten der Spieler-Seiten in einem Request
+ *
+ * GET /player/dashboard liefert Profil, Rennen, eigene Tipps, die eigene
+ * Position mit Nachbarn und die Top-Spieler. Das Backend lädt die Teile
+ * parallel; das Frontend spart sich vier nacheinander ausgeführte Requests.
+ *
+ * Die Antwort wird mit denselben Mappern normalisiert wie die Einzel-Aufrufe
+ * (getAllRaces, loadPlayerProfile, loadPlayerTips).
+ *
+ * Verwendet von PlayerLeaderboardPage und PlayerRaceListPage.
+ */
+import api from "../utils/api.js";
+import { normalizeRacesFromBackend } from "../utils/raceMapper.js";
+import { normalizeUserFromBackend } from "../utils/userMapper.js";
+import { toTipsMap } from "../utils/tips.js";
+
+/**
+ * mergeLeaderboardWindow - Vereint Top-Spieler und eigenen Ausschnitt
+ *
+ * Doppelte Einträge (z.B. wenn man selbst in den Top-Spielern ist) werden
+ * nur einmal übernommen. Die komplette Rangliste folgt über den Live-Stream.
+ *
+ * @param {Array<Object>} topPlayers - Die ersten Spieler der Rangliste
+ * @param {Object|null} position - Eigene Position { entries: [...] }
+ * @returns {Array<Object>} LeaderboardDTOs sortiert nach Rang
+ */
+export function mergeLeaderboardWindow(topPlayers, position) {
+  const entries = new Map();
+  [...(topPlayers || []), ...(position?.entries || [])].forEach((entry) => {
+    entries.set(entry.username, entry);
+  });
+  return [...entries.values()].sort((a, b) => a.rank - b.rank);
+}
+
+/**
+ * getPlayerDashboard - Lädt alle Daten der Spieler-Seiten
+ *
+ * @param {number} neighbours - Anzahl Spieler vor und nach der eigenen Position (Standard: 2)
+ * @returns {Promise<Object>} { profile, races, tips, leaderboard } im Frontend-Format
+ * @throws {ApiError} Bei Backend-Fehlern
+ */
+export async function getPlayerDashboard(neighbours = 2) {
+  const dashboard = await api.get(`/player/dashboard?neighbours=${neighbours}`);
+  return {
+    profile: normalizeUserFromBackend(dashboard.profile),
+    races: normalizeRacesFromBackend(dashboard.races),
+    tips: toTipsMap(dashboard.tips),
+    leaderboard: mergeLeaderboardWindow(dashboard.topPlayers, dashboard.position),
+  };
+}
@@ -4,8 +4,16 @@
  * Stellt Funktionen zur Verfügung, um Ranglisten-Daten vom Backend zu laden.
  * Die Rangliste wird vom Backend berechnet und enthält bereits sortierte
  * Spieler mit ihren Punkten und Platzierungen.
+ *
+ * Das Backend liefert die Rangliste mit ETag. Mit cache: "no-cache" fragt der
+ * Browser bei jedem Aufruf mit If-None-Match nach; bei 304 Not Modified
+ * verwendet er die zwischengespeicherte Antwort, ohne die Liste erneut zu übertragen.
+ *
+ * Für Live-Ansichten gibt es subscribeLeaderboard(): Das Backend pusht dort nur
+ * geänderte Einträge (Server-Sent Events), statt dass die Liste gepollt wird.
  */
 import api from "../utils/api.js";
+import { openEventStream } from "./streamService.js";
 
 /**
  * getLeaderboard - Lädt die Leaderboard-Daten vom Backend
@@ -19,10 +27,89 @@ import api from "../utils/api.js";
  */
 export async function getLeaderboard() {
   try {
-    const leaderboard = await api.get("/leaderboard");
+    const leaderboard = await api.get("/leaderboard", { cache: "no-cache" });
     return Array.isArray(leaderboard) ? leaderboard : [];
   } catch (error) {
     console.error("Fehler beim Laden der Leaderboard:", error);
     return [];
   }
 }
+
+/**
+ * getMyLeaderboardPosition - Lädt die eigene Position mit Nachbarn
+ *
+ * Das Backend liest nur den Ausschnitt rund um den eigenen Rang,
+ * nicht die gesamte Rangliste.
+ *
+ * @param {number} neighbours - Anzahl Spieler davor und danach (Standard: 2)
+ * @returns {Promise<Object|null>} { rank, points, totalPlayers, entries } oder null bei Fehler
+ */
+export async function getMyLeaderboardPosition(neighbours = 2) {
+  try {
+    return await api.get(`/leaderboard/me?neighbours=${neighbours}`);
+  } catch (error) {
+    console.error("Fehler beim Laden der eigenen Position:", error);
+    return null;
+  }
+}
+
+/**
+ * getTopPlayers - Lädt nur die ersten N Spieler der Rangliste
+ *
+ * Für Widgets, die nicht die komplette Rangliste brauchen.
+ *
+ * @param {number} limit - Anzahl Spieler (Standard: 10)
+ * @param {string} ranking - "competition" (1-2-2-4) oder "dense" (1-2-2-3)
+ * @returns {Promise<Array<Object>>} Liste von LeaderboardDTOs, leeres Array bei Fehler
+ */
+export async function getTopPlayers(limit = 10, ranking = "competition") {
+  try {
+    const top = await api.get(
+      `/leaderboard?limit=${limit}&ranking=${ranking}`,
+      { cache: "no-cache" }
+    );
+    return Array.isArray(top) ? top : [];
+  } catch (error) {
+    console.error("Fehler beim Laden der Top-Spieler:", error);
+    return [];
+  }
+}
+
+/**
+ * subscribeLeaderboard - Hält die Rangliste per Live-Stream aktuell
+ *
+ * Das Backend sendet beim Verbinden den kompletten Stand ("snapshot") und
+ * danach nur geänderte Einträge ("diff"). Diffs mit einer Version, die bereits
+ * angewendet ist, werden übersprungen.
+ *
+ * @param {Function} onUpdate - Erhält nach jeder Änderung die komplette, sortierte Rangliste
+ * @returns {Function} Funktion zum Beenden des Streams
+ */
+export function subscribeLeaderboard(onUpdate) {
+  let entries = new Map();
+  let version = 0;
+
+  const publish = () => {
+    const sorted = [...entries.values()].sort(
+      (a, b) =>
+        a.rank - b.rank ||
+        String(a.displayName).localeCompare(String(b.displayName))
+    );
+    onUpdate(sorted);
+  };
+
+  return openEventStream("/leaderboard/stream", {
+    snapshot: (data) => {
+      entries = new Map(data.changed.map((entry) => [entry.username, entry]));
+      version = data.version;
+      publish();
+    },
+    diff: (data) => {
+      if (data.version <= version) return;
+      data.changed.forEach((entry) => entries.set(entry.username, entry));
+      data.removed.forEach((username) => entries.delete(username));
+      version = data.version;
+      publish();
+    },
+  });
+}
@@ -8,8 +8,16 @@
  *
  * Alle Funktionen verwenden Mapper-Funktionen, um Daten zwischen
  * Backend-Format (DTO) und Frontend-Format zu konvertieren.
+ *
+ * Statusänderungen (open → voting → closed) pusht das Backend über
+ * subscribeRaceChanges(), Seiten müssen die Rennliste dafür nicht neu laden.
+ *
+ * Seiten, die nur einen Ausschnitt brauchen (Startseite, Dashboard), laden
+ * gefiltert über getRaces(), getUpcomingRaces() und getRaceCounts(), statt
+ * alle Rennen zu holen und im Browser zu filtern.
  */
 import api from "../utils/api.js";
+import { openEventStream } from "./streamService.js";
 import {
   normalizeRacesFromBackend,
   normalizeRaceFromBackend,
@@ -35,6 +43,70 @@ export async function getAllRaces() {
   }
 }
 
+/**
+ * getRaces - Lädt gefilterte Rennen vom Backend (Filter und Sortierung serverseitig)
+ *
+ * @param {Object} options - Alle Angaben optional
+ * @param {string|Array<string>} options.status - z.B. "voting" oder ["open", "voting"]
+ * @param {string} options.from - frühestes Datum (YYYY-MM-DD, inklusive)
+ * @param {string} options.to - spätestes Datum (YYYY-MM-DD, inklusive)
+ * @param {string} options.sort - "date" (älteste zuerst) oder "-date" (neueste zuerst)
+ * @param {number} options.limit - maximale Anzahl Rennen (Standard im Backend: 20)
+ * @returns {Promise<Array<Object>>} Rennen (normalisiert), leeres Array bei Fehler
+ */
+export async function getRaces({ status, from, to, sort, limit } = {}) {
+  const params = new URLSearchParams();
+  if (status) {
+    params.set("status", Array.isArray(status) ? status.join(",") : status);
+  }
+  if (from) params.set("from", from);
+  if (to) params.set("to", to);
+  if (sort) params.set("sort", sort);
+  if (limit) params.set("limit", String(limit));
+
+  try {
+    const races = await api.get(`/races?${params}`);
+    return normalizeRacesFromBackend(races);
+  } catch (error) {
+    console.error("Fehler beim Laden der Rennen:", error);
+    return [];
+  }
+}
+
+/**
+ * getUpcomingRaces - Lädt die nächsten Rennen, die noch nicht geschlossen sind
+ *
+ * @param {number} limit - Anzahl Rennen (Standard: 3)
+ * @returns {Promise<Array<Object>>} Rennen nach Datum aufsteigend, leeres Array bei Fehler
+ */
+export async function getUpcomingRaces(limit = 3) {
+  try {
+    const races = await api.get(`/races/upcoming?limit=${limit}`);
+    return normalizeRacesFromBackend(races);
+  } catch (error) {
+    console.error("Fehler beim Laden der nächsten Rennen:", error);
+    return [];
+  }
+}
+
+/**
+ * getRaceCounts - Lädt die Anzahl Rennen pro Status
+ *
+ * @returns {Promise<Object>} { total, open, voting, closed }, bei Fehler alles 0
+ */
+export async function getRaceCounts() {
+  try {
+    const counts = (await api.get("/races/counts")) || {};
+    const open = Number(counts.open) || 0;
+    const voting = Number(counts.voting) || 0;
+    const closed = Number(counts.closed) || 0;
+    return { total: open + voting + closed, open, voting, closed };
+  } catch (error) {
+    console.error("Fehler beim Laden der Rennstatistik:", error);
+    return { total: 0, open: 0, voting: 0, closed: 0 };
+  }
+}
+
 /**
  * Lädt ein Rennen anhand der ID
  * @param {number|string} id - Die Rennen-ID
@@ -113,9 +185,9 @@ export async function deleteRace(id) {
  * Diese Funktion wird verwendet, wenn ein Admin die offiziellen Ergebnisse
  * einträgt. Das Rennen wird dabei automatisch auf "closed" gesetzt.
  *
- * Hinweis: Diese Funktion aktualisiert nur die resultsOrder im Race-Objekt.
- * Für die Erstellung der OfficialResult-Objekte (für Punkteberechnung)
- * siehe resultService.createResultsForRace().
+ * Das Backend speichert die Reihenfolge als offizielle Ergebnisse (OfficialResult),
+ * die auch für die Punkteberechnung verwendet werden. Ein separates Anlegen
+ * über resultService ist nicht nötig.
  *
  * @param {number|string} id - Die Rennen-ID
  * @param {Array<string>} resultsOrder - Array von Fahrernamen in Reihenfolge (Platz 1, 2, 3, ...)
@@ -138,3 +210,16 @@ export async function updateRaceResults(id, resultsOrder) {
     throw error;
   }
 }
+
+/**
+ * subscribeRaceChanges - Empfängt Änderungen an Rennen per Live-Stream
+ *
+ * Jedes Event enthält { raceId, status, type } mit type CREATED, UPDATED,
+ * CLOSED oder DELETED. Anwenden auf eine Liste: applyRaceChange() aus raceMapper.js.
+ *
+ * @param {Function} onChange - Wird pro Änderung aufgerufen
+ * @returns {Function} Funktion zum Beenden des Streams
+ */
+export function subscribeRaceChanges(onChange) {
+  return openEventStream("/races/stream", { race: onChange });
+}
@@ -69,16 +69,33 @@ export async function deleteResultsForRace(raceId) {
 }
 
 /**
- * createResultsForRace - Erstellt alle Ergebnisse für ein Rennen
+ * replaceResultsForRace - Ersetzt die komplette Klassifizierung eines Rennens
  *
- * Diese Funktion wird verwendet, wenn ein Admin die offiziellen Ergebnisse
- * einträgt. Sie:
- * 1. Löscht alle alten OfficialResult-Objekte für das Rennen
- * 2. Erstellt neue OfficialResult-Objekte basierend auf der Reihenfolge
+ * Schickt alle Ergebnisse in einem Aufruf (PUT /results/race/{raceId}).
+ * Das Backend prüft alles vor dem Speichern (eindeutige Positionen und Fahrer,
+ * bekannte Fahrer-IDs), schließt das Rennen und berechnet die Punkte einmal neu.
  *
- * Wichtig: Diese Funktion sollte zusammen mit raceService.updateRaceResults()
- * aufgerufen werden, um sowohl die resultsOrder im Race als auch die
- * OfficialResult-Objekte zu aktualisieren.
+ * @param {number|string} raceId - Die ID des Rennens
+ * @param {Array<{driverId: number, finalPosition: number}>} classification - Alle Ergebnisse
+ * @returns {Promise<Array<Object>>} Die gespeicherten Ergebnisse (OfficialResultDTOs)
+ * @throws {Error} Wirft einen Fehler, wenn das Speichern fehlschlägt
+ */
+export async function replaceResultsForRace(raceId, classification) {
+  try {
+    const results = await api.put(`/results/race/${raceId}`, classification);
+    return Array.isArray(results) ? results : [];
+  } catch (error) {
+    console.error("Fehler beim Speichern der Ergebnisse:", error);
+    throw error;
+  }
+}
+
+/**
+ * createResultsForRace - Erstellt alle Ergebnisse für ein Rennen
+ *
+ * Wandelt die Reihenfolge der Fahrernamen in eine Klassifizierung um und
+ * ersetzt damit alle OfficialResult-Objekte des Rennens in einem Aufruf
+ * (siehe replaceResultsForRace).
  *
  * @param {number|string} raceId - Die ID des Rennens
  * @param {Array<string>} resultsOrder - Array von Fahrernamen in Reihenfolge (Platz 1, 2, 3, ...)
@@ -92,33 +109,24 @@ export async function createResultsForRace(
   resultsOrder,
   driversByName
 ) {
-  try {
-    // Schritt 1: Alte Ergebnisse löschen (um Duplikate zu vermeiden)
-    await deleteResultsForRace(raceId);
-
-    // Schritt 2: Neue Ergebnisse erstellen
-    const results = [];
-    for (let i = 0; i < resultsOrder.length; i++) {
-      const driverName = resultsOrder[i];
-      const driver = driversByName[driverName];
-
-      // Validierung: Fahrer muss existieren und eine ID haben
-      if (!driver || !driver.id) {
-        console.warn(
-          `Fahrer ${driverName} nicht gefunden oder hat keine ID, überspringe...`
-        );
-        continue;
-      }
+  const classification = [];
+  resultsOrder.forEach((driverName) => {
+    const driver = driversByName[driverName];
 
-      // Position ist 1-basiert (Platz 1, 2, 3, ...)
-      const position = i + 1;
-      const result = await createResult(raceId, driver.id, position);
-      results.push(result);
+    // Validierung: Fahrer muss existieren und eine ID haben
+    if (!driver || !driver.id) {
+      console.warn(
+        `Fahrer ${driverName} nicht gefunden oder hat keine ID, überspringe...`
+      );
+      return;
     }
 
-    return results;
-  } catch (error) {
-    console.error("Fehler beim Erstellen der Ergebnisse:", error);
-    throw error;
-  }
+    // Position ist 1-basiert und lückenlos (Platz 1, 2, 3, ...)
+    classification.push({
+      driverId: Number(driver.id),
+      finalPosition: classification.length + 1,
+    });
+  });
+
+  return replaceResultsForRace(raceId, classification);
 }
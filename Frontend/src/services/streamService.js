@@ -0,0 +1,142 @@
+/**
+ * streamService - Empfang von Server-Sent Events (Live-Updates)
+ *
+ * Öffnet einen SSE-Stream des Backends über fetch statt EventSource, damit
+ * der JWT wie bei allen anderen Requests im Authorization-Header mitgeht.
+ * Die Antwort wird stückweise gelesen und in Events (event/data/id) zerlegt.
+ *
+ * Bricht die Verbindung ab (Timeout, Neustart, zu langsamer Client), wird
+ * automatisch mit wachsender Wartezeit neu verbunden. Das Backend schickt
+ * beim Verbinden wieder den aktuellen Stand.
+ */
+import { API_BASE_URL } from "../utils/api.js";
+import { getToken } from "../utils/tokenStorage.js";
+
+/**
+ * RECONNECT_DELAYS_MS - Wartezeiten vor erneutem Verbinden
+ *
+ * Nach einem Event wird wieder von vorne begonnen.
+ */
+const RECONNECT_DELAYS_MS = [1000, 2000, 5000, 10000, 30000];
+
+/**
+ * parseEvent - Zerlegt einen SSE-Block in Name, ID und Daten
+ *
+ * Kommentarzeilen (":ping") sind Heartbeats und werden ignoriert.
+ *
+ * @param {string} block - Text zwischen zwei Leerzeilen
+ * @returns {Object|null} { event, id, data } oder null bei reinem Heartbeat
+ */
+function parseEvent(block) {
+  let event = "message";
+  let id = null;
+  const data = [];
+
+  block.split("\n").forEach((line) => {
+    if (!line || line.startsWith(":")) return;
+    const separator = line.indexOf(":");
+    const field = separator === -1 ? line : line.slice(0, separator);
+    let value = separator === -1 ? "" : line.slice(separator + 1);
+    if (value.startsWith(" ")) value = value.slice(1);
+
+    if (field === "event") event = value;
+    else if (field === "id") id = value;
+    else if (field === "data") data.push(value);
+  });
+
+  return data.length === 0 ? null : { event, id, data: data.join("\n") };
+}
+
+/**
+ * openEventStream - Abonniert einen SSE-Endpunkt des Backends
+ *
+ * @param {string} endpoint - Endpoint ohne Base-URL (z.B. "/leaderboard/stream")
+ * @param {Object<string, Function>} handlers - Callback pro Event-Name, erhält die JSON-Daten
+ * @returns {Function} Funktion zum Beenden des Streams (z.B. im useEffect-Cleanup)
+ */
+export function openEventStream(endpoint, handlers) {
+  // Ohne Streaming-Unterstützung (z.B. in Tests) bleibt die Seite beim einmaligen Laden
+  if (typeof fetch !== "function" || typeof TextDecoder === "undefined") {
+    return () => {};
+  }
+
+  let controller = null;
+  let reconnectTimer = null;
+  let attempt = 0;
+  let stopped = false;
+
+  const scheduleReconnect = () => {
+    if (stopped) return;
+    const delay = RECONNECT_DELAYS_MS[Math.min(attempt, RECONNECT_DELAYS_MS.length - 1)];
+    attempt += 1;
+    reconnectTimer = setTimeout(connect, delay);
+  };
+
+  const dispatch = (block) => {
+    const parsed = parseEvent(block);
+    if (!parsed || !handlers[parsed.event]) return;
+    try {
+      handlers[parsed.event](JSON.parse(parsed.data));
+    } catch (error) {
+      console.error("Fehler beim Verarbeiten eines Live-Updates:", error);
+    }
+  };
+
+  async function connect() {
+    controller = new AbortController();
+    const token = getToken();
+    const headers = { Accept: "text/event-stream" };
+    if (token) {
+      headers.Authorization = `Bearer ${token}`;
+    }
+
+    try {
+      const response = await fetch(`${API_BASE_URL}${endpoint}`, {
+        headers,
+        signal: controller.signal,
+        cache: "no-store",
+      });
+
+      // Nicht angemeldet oder keine Berechtigung: nicht endlos neu verbinden
+      if (response.status === 401 || response.status === 403) {
+        stopped = true;
+        return;
+      }
+      if (!response.ok || !response.body) {
+        scheduleReconnect();
+        return;
+      }
+
+      const reader = response.body.getReader();
+      const decoder = new TextDecoder();
+      let buffer = "";
+
+      for (;;) {
+        const { value, done } = await reader.read();
+        if (done) break;
+        buffer += decoder.decode(value, { stream: true }).replace(/\r\n?/g, "\n");
+
+        let boundary = buffer.indexOf("\n\n");
+        while (boundary !== -1) {
+          attempt = 0;
+          dispatch(buffer.slice(0, boundary));
+          buffer = buffer.slice(boundary + 2);
+          boundary = buffer.indexOf("\n\n");
+        }
+      }
+      scheduleReconnect();
+    } catch (error) {
+      if (error?.name !== "AbortError") {
+        scheduleReconnect();
+      }
+    }
+  }
+
+  connect();
+
+  return () => {
+    stopped = true;
+    clearTimeout(reconnectTimer);
+    controller?.abort();
+  };
+}
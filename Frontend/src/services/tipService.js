@@ -3,7 +3,7 @@
  *
  * Stellt alle Funktionen zur Verfügung, um mit Spieler-Tipps zu arbeiten:
  * - Laden von Tipps (für ein Rennen oder alle Tipps eines Users)
- * - Erstellen/Aktualisieren von Tipps
+ * - Erstellen/Aktualisieren von Tipps (einzeln oder für mehrere Rennen auf einmal)
  *
  * Alle Funktionen verwenden Mapper-Funktionen, um Daten zwischen
  * Backend-Format (DTO) und Frontend-Format zu konvertieren.
@@ -84,6 +84,36 @@ export async function createOrUpdateTip(raceId, order) {
   }
 }
 
+/**
+ * createOrUpdateTips - Speichert Tipps für mehrere Rennen in einem Request
+ *
+ * Alle Tipps werden vorab validiert; das Backend speichert entweder alle
+ * oder keinen (eine Transaktion).
+ *
+ * @param {Array<{raceId: number|string, order: Array<string>}>} tips - Tipps pro Rennen
+ * @returns {Promise<Array>} Liste von TipResponseDTOs (normalisiert für Frontend)
+ * @throws {Error} Wirft einen Fehler bei Validierungsfehlern oder Backend-Fehlern
+ */
+export async function createOrUpdateTips(tips) {
+  try {
+    const tipRequests = tips.map(({ raceId, order }) => {
+      const validation = validateTip(raceId, order);
+      if (!validation.valid) {
+        throw new Error(validation.error);
+      }
+      return normalizeTipToBackend(raceId, order);
+    });
+
+    const response = await api.post("/tips/batch", tipRequests);
+    if (!Array.isArray(response)) return [];
+
+    return response.map(normalizeTipFromBackend).filter(Boolean);
+  } catch (error) {
+    console.error("Fehler beim Speichern mehrerer Tipps:", error);
+    throw error;
+  }
+}
+
 /**
  * Lädt alle Tipps eines Users
  * @param {number|string} userId - Die User-ID
@@ -54,9 +54,11 @@ export function normalizeRaceFromBackend(backendRace) {
  * Konvertiert ein Race-Objekt vom Frontend ins Backend-Format (RaceDTO):
  * - Konvertiert ID zu Number (falls vorhanden)
  * - Normalisiert Status zu Kleinbuchstaben
- * - Stellt sicher, dass resultsOrder ein Array ist
  * - Setzt optionale Felder auf null (statt undefined)
  *
+ * Ergebnisse gehören nicht dazu: Sie werden nur über updateRaceResults bzw.
+ * die Ergebnis-Endpunkte geschrieben, createRace/updateRace ignorieren sie.
+ *
  * @param {Object} frontendRace - Race-Objekt vom Frontend
  * @param {number|string} frontendRace.id - Rennen-ID (optional für neue Rennen)
  * @param {string} frontendRace.name - Rennenname
@@ -65,8 +67,6 @@ export function normalizeRaceFromBackend(backendRace) {
  * @param {string} frontendRace.weather - Wetter
  * @param {string} frontendRace.tyres - Reifen
  * @param {string} frontendRace.status - Status
- * @param {Array<string>} frontendRace.resultsOrder - Offizielle Reihenfolge
- * @param {Array<string>} frontendRace.drivers - Teilnehmende Fahrer (Fallback für resultsOrder)
  * @returns {Object|null} Normalisiertes RaceDTO für Backend oder null wenn Eingabe null
  */
 export function normalizeRaceToBackend(frontendRace) {
@@ -80,12 +80,6 @@ export function normalizeRaceToBackend(frontendRace) {
     weather: frontendRace.weather || "sunny",
     tyres: frontendRace.tyres || null,
     status: frontendRace.status?.toLowerCase() ?? "open",
-    // resultsOrder kann jetzt direkt mit gesendet werden (wenn vorhanden)
-    resultsOrder: Array.isArray(frontendRace.resultsOrder)
-      ? frontendRace.resultsOrder
-      : Array.isArray(frontendRace.drivers)
-      ? frontendRace.drivers
-      : null,
   };
 }
 
@@ -103,3 +97,33 @@ export function normalizeRacesFromBackend(backendRaces) {
   if (!Array.isArray(backendRaces)) return [];
   return backendRaces.map(normalizeRaceFromBackend).filter(Boolean);
 }
+
+/**
+ * applyRaceChange - Wendet eine Live-Änderung (subscribeRaceChanges) auf eine Rennliste an
+ *
+ * - UPDATED/CLOSED: nur der Status des Rennens wird ersetzt
+ * - DELETED: das Rennen wird entfernt
+ * - CREATED oder unbekanntes Rennen: Liste muss neu geladen werden
+ *
+ * @param {Array<Object>} races - Aktuelle (normalisierte) Rennliste
+ * @param {Object} change - { raceId, status, type } vom Backend
+ * @returns {Array<Object>|null} Neue Liste oder null, wenn neu geladen werden muss
+ */
+export function applyRaceChange(races, change) {
+  if (!change || !Array.isArray(races)) return null;
+
+  if (change.type === "DELETED") {
+    return races.filter((race) => race.id !== change.raceId);
+  }
+  if (
+    change.type === "CREATED" ||
+    !races.some((race) => race.id === change.raceId)
+  ) {
+    return null;
+  }
+  return races.map((race) =>
+    race.id === change.raceId
+      ? { ...race, status: change.status || race.status }
+      : race
+  );
+}
@@ -29,6 +29,31 @@ import {
 const cleanOrder = (order) =>
   Array.isArray(order) ? order.filter(Boolean).slice(0, 10) : [];
 
+/**
+ * toTipsMap - Wandelt TipResponseDTOs in eine Map pro Rennen um
+ *
+ * Format: { [raceId]: { order: [...], updatedAt: ... } }
+ * Wird von loadPlayerTips und vom Spieler-Dashboard verwendet.
+ *
+ * @param {Array<Object>} tips - TipResponseDTOs vom Backend
+ * @returns {Object<string, Object>} Map von Tipps (leer bei ungültiger Eingabe)
+ */
+export function toTipsMap(tips) {
+  const tipsMap = {};
+  if (!Array.isArray(tips)) {
+    return tipsMap;
+  }
+  tips.forEach((tip) => {
+    if (tip.raceId) {
+      tipsMap[tip.raceId] = {
+        order: cleanOrder(tip.order || []),
+        updatedAt: null, // Backend liefert kein updatedAt, könnte später hinzugefügt werden
+      };
+    }
+  });
+  return tipsMap;
+}
+
 /**
  * loadPlayerTips - Lädt alle Tipps eines Users vom Backend
  *
@@ -52,20 +77,7 @@ export async function loadPlayerTips(userId) {
 
   try {
     const tips = await getAllTipsForUser(userId);
-
-    // Konvertiere Array von TipResponseDTOs in das erwartete Format
-    // Format: { [raceId]: { order: [...], updatedAt: ... } }
-    const tipsMap = {};
-    tips.forEach((tip) => {
-      if (tip.raceId) {
-        tipsMap[tip.raceId] = {
-          order: cleanOrder(tip.order || []),
-          updatedAt: null, // Backend liefert kein updatedAt, könnte später hinzugefügt werden
-        };
-      }
-    });
-
-    return tipsMap;
+    return toTipsMap(tips);
   } catch (error) {
     console.error("Fehler beim Laden der Tipps:", error);
     return {};